@@ -0,0 +1,111 @@
+package uk.gov.hmcts.cmc.ccd.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import uk.gov.hmcts.cmc.ccd.config.CCDAdapterConfig;
+import uk.gov.hmcts.cmc.ccd.domain.CCDCase;
+import uk.gov.hmcts.cmc.ccd.mapper.AmountBreakDownMapper;
+import uk.gov.hmcts.cmc.ccd.mapper.CaseMapper;
+import uk.gov.hmcts.cmc.ccd.mapper.ClaimMapper;
+import uk.gov.hmcts.cmc.ccd.mapper.EvidenceMapper;
+import uk.gov.hmcts.cmc.ccd.mapper.TimelineMapper;
+import uk.gov.hmcts.cmc.ccd.sample.data.SampleCCDCaseSize;
+import uk.gov.hmcts.cmc.domain.models.Claim;
+import uk.gov.hmcts.cmc.domain.models.Timeline;
+import uk.gov.hmcts.cmc.domain.models.amount.AmountBreakDown;
+import uk.gov.hmcts.cmc.domain.models.evidence.Evidence;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of mapping cases between the CCD and the claim store models, run it through the jmh task
+ * so allocations per operation are reported alongside the timings. Besides the whole case, the sub-mappers
+ * whose cost grows with the size of the case are measured on their own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CaseMapperBenchmark {
+
+    @Param({"SMALL", "TYPICAL", "HUGE"})
+    public SampleCCDCaseSize size;
+
+    private AnnotationConfigApplicationContext context;
+    private CaseMapper caseMapper;
+    private ClaimMapper claimMapper;
+    private AmountBreakDownMapper amountBreakDownMapper;
+    private TimelineMapper timelineMapper;
+    private EvidenceMapper evidenceMapper;
+    private CCDCase ccdCase;
+    private Claim claim;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(CCDAdapterConfig.class);
+        caseMapper = context.getBean(CaseMapper.class);
+        claimMapper = context.getBean(ClaimMapper.class);
+        amountBreakDownMapper = context.getBean(AmountBreakDownMapper.class);
+        timelineMapper = context.getBean(TimelineMapper.class);
+        evidenceMapper = context.getBean(EvidenceMapper.class);
+        ccdCase = size.getCase();
+        claim = caseMapper.from(ccdCase);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CCDCase to() {
+        return caseMapper.to(claim);
+    }
+
+    @Benchmark
+    public Claim from() {
+        return caseMapper.from(ccdCase);
+    }
+
+    @Benchmark
+    public CCDCase claimMapperTo() {
+        CCDCase.CCDCaseBuilder builder = CCDCase.builder();
+        claimMapper.to(claim, builder);
+        return builder.build();
+    }
+
+    @Benchmark
+    public Claim claimMapperFrom() {
+        Claim.ClaimBuilder builder = Claim.builder();
+        claimMapper.from(ccdCase, builder);
+        return builder.build();
+    }
+
+    @Benchmark
+    public AmountBreakDown amountBreakDownFrom() {
+        return amountBreakDownMapper.from(ccdCase);
+    }
+
+    @Benchmark
+    public Timeline timelineFrom() {
+        return timelineMapper.from(ccdCase);
+    }
+
+    @Benchmark
+    public Evidence evidenceFrom() {
+        return evidenceMapper.from(ccdCase);
+    }
+}
@@ -0,0 +1,103 @@
+package uk.gov.hmcts.cmc.ccd.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import uk.gov.hmcts.cmc.ccd.config.CCDAdapterConfig;
+import uk.gov.hmcts.cmc.ccd.domain.CCDCollectionElement;
+import uk.gov.hmcts.cmc.ccd.domain.defendant.CCDRespondent;
+import uk.gov.hmcts.cmc.ccd.domain.defendant.statementofmeans.CCDStatementOfMeans;
+import uk.gov.hmcts.cmc.ccd.domain.directionsquestionnaire.CCDDirectionsQuestionnaire;
+import uk.gov.hmcts.cmc.ccd.mapper.DirectionsQuestionnaireMapper;
+import uk.gov.hmcts.cmc.ccd.mapper.defendant.ResponseMapper;
+import uk.gov.hmcts.cmc.ccd.mapper.defendant.statementofmeans.StatementOfMeansMapper;
+import uk.gov.hmcts.cmc.ccd.sample.data.SampleCCDDefendant;
+import uk.gov.hmcts.cmc.ccd.sample.data.SampleData;
+import uk.gov.hmcts.cmc.domain.models.Claim;
+import uk.gov.hmcts.cmc.domain.models.directionsquestionnaire.DirectionsQuestionnaire;
+import uk.gov.hmcts.cmc.domain.models.statementofmeans.StatementOfMeans;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the defendant response sub-mappers on their own, so the jmh task reports the time and allocations of
+ * each next to the whole case figures from {@link CaseMapperBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SubMapperBenchmark {
+
+    private AnnotationConfigApplicationContext context;
+    private ResponseMapper responseMapper;
+    private StatementOfMeansMapper statementOfMeansMapper;
+    private DirectionsQuestionnaireMapper directionsQuestionnaireMapper;
+
+    private CCDCollectionElement<CCDRespondent> respondent;
+    private CCDStatementOfMeans ccdStatementOfMeans;
+    private StatementOfMeans statementOfMeans;
+    private CCDDirectionsQuestionnaire ccdDirectionsQuestionnaire;
+    private DirectionsQuestionnaire directionsQuestionnaire;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(CCDAdapterConfig.class);
+        responseMapper = context.getBean(ResponseMapper.class);
+        statementOfMeansMapper = context.getBean(StatementOfMeansMapper.class);
+        directionsQuestionnaireMapper = context.getBean(DirectionsQuestionnaireMapper.class);
+
+        ccdDirectionsQuestionnaire = SampleData.getIndividualRespondentWithDQ().getDirectionsQuestionnaire();
+        respondent = CCDCollectionElement.<CCDRespondent>builder()
+            .value(SampleCCDDefendant.withPartAdmissionResponse()
+                .directionsQuestionnaire(ccdDirectionsQuestionnaire)
+                .build())
+            .build();
+        ccdStatementOfMeans = SampleData.getCCDStatementOfMeans();
+        statementOfMeans = statementOfMeansMapper.from(ccdStatementOfMeans);
+        directionsQuestionnaire = directionsQuestionnaireMapper.from(ccdDirectionsQuestionnaire);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Claim responseFrom() {
+        Claim.ClaimBuilder builder = Claim.builder();
+        responseMapper.from(builder, respondent);
+        return builder.build();
+    }
+
+    @Benchmark
+    public CCDStatementOfMeans statementOfMeansTo() {
+        return statementOfMeansMapper.to(statementOfMeans);
+    }
+
+    @Benchmark
+    public StatementOfMeans statementOfMeansFrom() {
+        return statementOfMeansMapper.from(ccdStatementOfMeans);
+    }
+
+    @Benchmark
+    public CCDDirectionsQuestionnaire directionsQuestionnaireTo() {
+        return directionsQuestionnaireMapper.to(directionsQuestionnaire);
+    }
+
+    @Benchmark
+    public DirectionsQuestionnaire directionsQuestionnaireFrom() {
+        return directionsQuestionnaireMapper.from(ccdDirectionsQuestionnaire);
+    }
+}
@@ -0,0 +1,92 @@
+package uk.gov.hmcts.cmc.ccd.mapper;
+
+import com.google.common.collect.ImmutableSet;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.cmc.ccd.domain.CCDApplicant;
+import uk.gov.hmcts.cmc.ccd.domain.CCDCase;
+import uk.gov.hmcts.cmc.ccd.domain.CCDCollectionElement;
+import uk.gov.hmcts.cmc.ccd.domain.CCDParty;
+import uk.gov.hmcts.cmc.ccd.domain.CCDYesNoOption;
+import uk.gov.hmcts.cmc.ccd.domain.ccj.CCDCountyCourtJudgment;
+import uk.gov.hmcts.cmc.ccd.domain.defendant.CCDRespondent;
+import uk.gov.hmcts.cmc.domain.models.ClaimState;
+import uk.gov.hmcts.cmc.domain.models.ClaimSummary;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import static uk.gov.hmcts.cmc.ccd.util.StreamUtil.asStream;
+
+/**
+ * Maps a case to a {@link ClaimSummary}. Only the fields listed in {@link #CASE_FIELDS},
+ * {@link #APPLICANT_FIELDS} and {@link #RESPONDENT_FIELDS} are read, so callers can leave the rest of the case
+ * out of searches and conversions.
+ */
+@Component
+public class ClaimSummaryMapper {
+
+    public static final Set<String> CASE_FIELDS = ImmutableSet.of(
+        "submitterId",
+        "externalId",
+        "previousServiceCaseReference",
+        "submittedOn",
+        "issuedOn",
+        "submitterEmail",
+        "applicants",
+        "respondents"
+    );
+
+    public static final Set<String> APPLICANT_FIELDS = ImmutableSet.of("partyName");
+
+    public static final Set<String> RESPONDENT_FIELDS = ImmutableSet.of(
+        "claimantProvidedPartyName",
+        "letterHolderId",
+        "defendantId",
+        "responseDeadline",
+        "partyDetail",
+        "responseMoreTimeNeededOption",
+        "responseSubmittedOn",
+        "countyCourtJudgmentRequest"
+    );
+
+    public ClaimSummary from(CCDCase ccdCase) {
+        ClaimSummary.ClaimSummaryBuilder builder = ClaimSummary.builder()
+            .id(ccdCase.getId())
+            .state(ccdCase.getState() != null ? ClaimState.fromValue(ccdCase.getState()) : null)
+            .submitterId(ccdCase.getSubmitterId())
+            .externalId(ccdCase.getExternalId())
+            .referenceNumber(ccdCase.getPreviousServiceCaseReference())
+            .createdAt(ccdCase.getSubmittedOn())
+            .issuedOn(ccdCase.getIssuedOn())
+            .submitterEmail(ccdCase.getSubmitterEmail());
+
+        firstValue(ccdCase.getApplicants())
+            .map(CCDApplicant::getPartyName)
+            .ifPresent(builder::claimantName);
+
+        firstValue(ccdCase.getRespondents())
+            .ifPresent(respondent -> builder
+                .defendantName(respondent.getClaimantProvidedPartyName())
+                .letterHolderId(respondent.getLetterHolderId())
+                .defendantId(respondent.getDefendantId())
+                .responseDeadline(respondent.getResponseDeadline())
+                .defendantEmail(Optional.ofNullable(respondent.getPartyDetail())
+                    .map(CCDParty::getEmailAddress).orElse(null))
+                .moreTimeRequested(Optional.ofNullable(respondent.getResponseMoreTimeNeededOption())
+                    .map(CCDYesNoOption::toBoolean).orElse(false))
+                .respondedAt(respondent.getResponseSubmittedOn())
+                .countyCourtJudgmentRequestedAt(Optional.ofNullable(respondent.getCountyCourtJudgmentRequest())
+                    .map(CCDCountyCourtJudgment::getRequestedDate).orElse(null)));
+
+        return builder.build();
+    }
+
+    private static <T> Optional<T> firstValue(List<CCDCollectionElement<T>> collection) {
+        return asStream(collection)
+            .map(CCDCollectionElement::getValue)
+            .filter(Objects::nonNull)
+            .findFirst();
+    }
+}
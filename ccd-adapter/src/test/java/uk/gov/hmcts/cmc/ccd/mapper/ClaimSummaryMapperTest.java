@@ -0,0 +1,71 @@
+package uk.gov.hmcts.cmc.ccd.mapper;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import uk.gov.hmcts.cmc.ccd.config.CCDAdapterConfig;
+import uk.gov.hmcts.cmc.ccd.domain.CCDApplicant;
+import uk.gov.hmcts.cmc.ccd.domain.CCDCase;
+import uk.gov.hmcts.cmc.ccd.domain.defendant.CCDRespondent;
+import uk.gov.hmcts.cmc.ccd.sample.data.SampleData;
+import uk.gov.hmcts.cmc.domain.models.ClaimState;
+import uk.gov.hmcts.cmc.domain.models.ClaimSummary;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+@SpringBootTest
+@ContextConfiguration(classes = CCDAdapterConfig.class)
+@RunWith(SpringJUnit4ClassRunner.class)
+public class ClaimSummaryMapperTest {
+
+    @Autowired
+    private ClaimSummaryMapper claimSummaryMapper;
+
+    @Test
+    public void shouldMapCitizenCaseToClaimSummary() {
+        //given
+        CCDCase ccdCase = SampleData.getCCDCitizenCase(SampleData.getAmountBreakDown());
+        CCDApplicant applicant = ccdCase.getApplicants().get(0).getValue();
+        CCDRespondent respondent = ccdCase.getRespondents().get(0).getValue();
+
+        //when
+        ClaimSummary claimSummary = claimSummaryMapper.from(ccdCase);
+
+        //then
+        assertEquals(ccdCase.getId(), claimSummary.getId());
+        assertEquals(ClaimState.fromValue(ccdCase.getState()), claimSummary.getState());
+        assertEquals(ccdCase.getSubmitterId(), claimSummary.getSubmitterId());
+        assertEquals(ccdCase.getExternalId(), claimSummary.getExternalId());
+        assertEquals(ccdCase.getPreviousServiceCaseReference(), claimSummary.getReferenceNumber());
+        assertEquals(ccdCase.getSubmitterEmail(), claimSummary.getSubmitterEmail());
+        assertEquals(ccdCase.getIssuedOn(), claimSummary.getIssuedOn());
+        assertEquals(applicant.getPartyName(), claimSummary.getClaimantName());
+        assertEquals(respondent.getClaimantProvidedPartyName(), claimSummary.getDefendantName());
+        assertEquals(respondent.getPartyDetail().getEmailAddress(), claimSummary.getDefendantEmail());
+        assertEquals(respondent.getResponseDeadline(), claimSummary.getResponseDeadline());
+        assertFalse(claimSummary.isMoreTimeRequested());
+    }
+
+    @Test
+    public void shouldMapCaseWithoutPartiesToClaimSummary() {
+        //given
+        CCDCase ccdCase = SampleData.getCCDCitizenCase(SampleData.getAmountBreakDown()).toBuilder()
+            .applicants(null)
+            .respondents(null)
+            .build();
+
+        //when
+        ClaimSummary claimSummary = claimSummaryMapper.from(ccdCase);
+
+        //then
+        assertEquals(ccdCase.getExternalId(), claimSummary.getExternalId());
+        assertNull(claimSummary.getClaimantName());
+        assertNull(claimSummary.getDefendantName());
+        assertNull(claimSummary.getCountyCourtJudgmentRequestedAt());
+    }
+}
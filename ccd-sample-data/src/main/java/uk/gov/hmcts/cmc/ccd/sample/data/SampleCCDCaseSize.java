@@ -0,0 +1,61 @@
+package uk.gov.hmcts.cmc.ccd.sample.data;
+
+import uk.gov.hmcts.cmc.ccd.domain.CCDAmountRow;
+import uk.gov.hmcts.cmc.ccd.domain.CCDCase;
+import uk.gov.hmcts.cmc.ccd.domain.CCDCollectionElement;
+import uk.gov.hmcts.cmc.ccd.domain.CCDTimelineEvent;
+import uk.gov.hmcts.cmc.ccd.domain.evidence.CCDEvidenceRow;
+
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static uk.gov.hmcts.cmc.ccd.domain.evidence.CCDEvidenceType.CORRESPONDENCE;
+
+/**
+ * Sample cases of increasing size, used to measure mapping cost.
+ */
+public enum SampleCCDCaseSize {
+
+    SMALL(SampleData::getCCDLegalCase),
+    TYPICAL(() -> SampleData.getCCDCitizenCaseWithRespondent(SampleData.getIndividualRespondentWithDQ())),
+    HUGE(SampleCCDCaseSize::hugeCase);
+
+    private static final int HUGE_COLLECTION_SIZE = 100;
+
+    private final Supplier<CCDCase> sample;
+
+    SampleCCDCaseSize(Supplier<CCDCase> sample) {
+        this.sample = sample;
+    }
+
+    public CCDCase getCase() {
+        return sample.get();
+    }
+
+    private static CCDCase hugeCase() {
+        return TYPICAL.getCase().toBuilder()
+            .amountBreakDown(collectionOf(index -> CCDAmountRow.builder()
+                .amount(String.valueOf(1000 + index))
+                .reason("payment " + index)
+                .build()))
+            .timeline(collectionOf(index -> CCDTimelineEvent.builder()
+                .date("day " + index)
+                .description("description of event " + index)
+                .build()))
+            .evidence(collectionOf(index -> CCDEvidenceRow.builder()
+                .type(CORRESPONDENCE)
+                .description("description of evidence " + index)
+                .build()))
+            .build();
+    }
+
+    private static <T> List<CCDCollectionElement<T>> collectionOf(IntFunction<T> element) {
+        return IntStream.range(0, HUGE_COLLECTION_SIZE)
+            .mapToObj(element)
+            .map(value -> CCDCollectionElement.<T>builder().value(value).build())
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,83 @@
+package uk.gov.hmcts.cmc.domain.models;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static uk.gov.hmcts.cmc.domain.utils.ToStringStyle.ourStyle;
+
+/**
+ * Read model with the handful of claim fields needed by lists and scheduled sweeps, without the claim data,
+ * response, statement of means or directions questionnaire carried by a full {@link Claim}.
+ */
+@Getter
+@EqualsAndHashCode
+public class ClaimSummary {
+
+    private final Long id;
+    private final String submitterId;
+    private final String letterHolderId;
+    private final String defendantId;
+    private final String externalId;
+    private final String referenceNumber;
+    private final ClaimState state;
+    private final String claimantName;
+    private final String defendantName;
+    private final String submitterEmail;
+    private final String defendantEmail;
+    private final LocalDateTime createdAt;
+    private final LocalDate issuedOn;
+    private final LocalDate responseDeadline;
+    private final boolean moreTimeRequested;
+    private final LocalDateTime respondedAt;
+    private final LocalDateTime countyCourtJudgmentRequestedAt;
+
+    @SuppressWarnings("squid:S00107") // Summary of a claim, each parameter is one of its fields
+    @Builder(toBuilder = true)
+    public ClaimSummary(
+        Long id,
+        String submitterId,
+        String letterHolderId,
+        String defendantId,
+        String externalId,
+        String referenceNumber,
+        ClaimState state,
+        String claimantName,
+        String defendantName,
+        String submitterEmail,
+        String defendantEmail,
+        LocalDateTime createdAt,
+        LocalDate issuedOn,
+        LocalDate responseDeadline,
+        boolean moreTimeRequested,
+        LocalDateTime respondedAt,
+        LocalDateTime countyCourtJudgmentRequestedAt
+    ) {
+        this.id = id;
+        this.submitterId = submitterId;
+        this.letterHolderId = letterHolderId;
+        this.defendantId = defendantId;
+        this.externalId = externalId;
+        this.referenceNumber = referenceNumber;
+        this.state = state;
+        this.claimantName = claimantName;
+        this.defendantName = defendantName;
+        this.submitterEmail = submitterEmail;
+        this.defendantEmail = defendantEmail;
+        this.createdAt = createdAt;
+        this.issuedOn = issuedOn;
+        this.responseDeadline = responseDeadline;
+        this.moreTimeRequested = moreTimeRequested;
+        this.respondedAt = respondedAt;
+        this.countyCourtJudgmentRequestedAt = countyCourtJudgmentRequestedAt;
+    }
+
+    @Override
+    public String toString() {
+        return ReflectionToStringBuilder.toString(this, ourStyle());
+    }
+}
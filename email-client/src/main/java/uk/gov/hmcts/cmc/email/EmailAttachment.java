@@ -5,6 +5,10 @@ import org.springframework.core.io.InputStreamSource;
 
 import static java.util.Objects.requireNonNull;
 
+/**
+ * An attachment read from its source each time an email is written. Attachments created from a byte array wrap
+ * the array rather than copying it, so one attachment can be added to any number of emails.
+ */
 public class EmailAttachment {
 
     private final InputStreamSource data;
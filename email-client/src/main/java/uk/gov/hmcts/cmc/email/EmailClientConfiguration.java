@@ -0,0 +1,45 @@
+package uk.gov.hmcts.cmc.email;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mail.MailProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Properties;
+
+/**
+ * Replaces the mail sender Spring Boot would configure from {@code spring.mail.*} with one which reuses its SMTP
+ * connections.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.mail", name = "host")
+@EnableConfigurationProperties(MailProperties.class)
+public class EmailClientConfiguration {
+
+    @Bean
+    public PooledJavaMailSender mailSender(
+        MailProperties properties,
+        @Value("${email.smtp.pool.max-idle:4}") int maxIdle,
+        @Value("${email.smtp.pool.idle-timeout-millis:30000}") long idleTimeoutMillis
+    ) {
+        PooledJavaMailSender sender = new PooledJavaMailSender(maxIdle, idleTimeoutMillis);
+        sender.setHost(properties.getHost());
+        if (properties.getPort() != null) {
+            sender.setPort(properties.getPort());
+        }
+        sender.setUsername(properties.getUsername());
+        sender.setPassword(properties.getPassword());
+        sender.setProtocol(properties.getProtocol());
+        if (properties.getDefaultEncoding() != null) {
+            sender.setDefaultEncoding(properties.getDefaultEncoding().name());
+        }
+        if (!properties.getProperties().isEmpty()) {
+            Properties javaMailProperties = new Properties();
+            javaMailProperties.putAll(properties.getProperties());
+            sender.setJavaMailProperties(javaMailProperties);
+        }
+        return sender;
+    }
+}
@@ -6,6 +6,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.retry.annotation.Backoff;
@@ -13,6 +14,9 @@ import org.springframework.retry.annotation.Recover;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import javax.mail.MessagingException;
 import javax.mail.internet.MimeMessage;
 
@@ -23,6 +27,7 @@ public class EmailService {
 
     public static final String NOTIFICATION_FAILURE = "Notification - failure";
     public static final String EMAIL_SUBJECT = "EmailSubject";
+    static final int BULK_SEND_ATTEMPTS = 3;
     private final Logger logger = LoggerFactory.getLogger(EmailService.class);
 
     private final TelemetryClient telemetryClient;
@@ -43,32 +48,82 @@ public class EmailService {
     @Retryable(value = EmailSendFailedException.class, backoff = @Backoff(delay = 100, maxDelay = 500))
     public void sendEmail(String from, EmailData emailData) {
         try {
-            MimeMessage message = sender.createMimeMessage();
-            MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(message, true);
-
-            mimeMessageHelper.setFrom(from);
-            mimeMessageHelper.setTo(emailData.getTo());
-            mimeMessageHelper.setSubject(emailData.getSubject());
-            mimeMessageHelper.setText(emailData.getMessage());
-            if (emailData.hasAttachments()) {
-                for (EmailAttachment emailAttachment : emailData.getAttachments()) {
-                    mimeMessageHelper.addAttachment(emailAttachment.getFilename(),
-                        emailAttachment.getData(),
-                        emailAttachment.getContentType());
-                }
-            }
-            sender.send(message);
+            sender.send(createMessage(from, emailData));
         } catch (MessagingException | MailException e) {
             throw new EmailSendFailedException(e);
         }
     }
 
+    /**
+     * Sends several emails over one connection to the mail server. Emails which fail are sent again, up to
+     * {@value #BULK_SEND_ATTEMPTS} attempts in all; those which still fail are reported as {@link #sendEmail}
+     * reports a failure, once every email has been attempted.
+     */
+    public void sendEmails(String from, List<EmailData> emails) {
+        Map<MimeMessage, EmailData> pending = new LinkedHashMap<>();
+        for (EmailData emailData : emails) {
+            try {
+                pending.put(createMessage(from, emailData), emailData);
+            } catch (MessagingException e) {
+                throw new EmailSendFailedException(e);
+            }
+        }
+
+        MailException failure = null;
+        for (int attempt = 1; attempt <= BULK_SEND_ATTEMPTS && !pending.isEmpty(); attempt++) {
+            try {
+                sender.send(pending.keySet().toArray(new MimeMessage[0]));
+                pending.clear();
+            } catch (MailSendException e) {
+                failure = e;
+                if (!e.getFailedMessages().isEmpty()) {
+                    pending.keySet().retainAll(e.getFailedMessages().keySet());
+                }
+            } catch (MailException e) {
+                failure = e;
+            }
+        }
+
+        if (!pending.isEmpty()) {
+            EmailSendFailedException exception = new EmailSendFailedException(failure);
+            pending.values().forEach(emailData -> trackFailure(exception, emailData));
+            if (asyncEventOperationEnabled) {
+                throw exception;
+            }
+        }
+    }
+
     @Recover
     public void logSendMessageWithAttachmentFailure(
         EmailSendFailedException exception,
         String from,
         EmailData emailData
     ) {
+        trackFailure(exception, emailData);
+        if (asyncEventOperationEnabled) {
+            throw exception;
+        }
+    }
+
+    private MimeMessage createMessage(String from, EmailData emailData) throws MessagingException {
+        MimeMessage message = sender.createMimeMessage();
+        MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(message, true);
+
+        mimeMessageHelper.setFrom(from);
+        mimeMessageHelper.setTo(emailData.getTo());
+        mimeMessageHelper.setSubject(emailData.getSubject());
+        mimeMessageHelper.setText(emailData.getMessage());
+        if (emailData.hasAttachments()) {
+            for (EmailAttachment emailAttachment : emailData.getAttachments()) {
+                mimeMessageHelper.addAttachment(emailAttachment.getFilename(),
+                    emailAttachment.getData(),
+                    emailAttachment.getContentType());
+            }
+        }
+        return message;
+    }
+
+    private void trackFailure(EmailSendFailedException exception, EmailData emailData) {
         String errorMessage = String.format(
             "sendEmail failure:  failed to send email with details: %s due to %s",
             emailData.toString(), exception.getMessage()
@@ -76,8 +131,5 @@ public class EmailService {
         logger.error(errorMessage, exception);
 
         telemetryClient.trackEvent(NOTIFICATION_FAILURE, singletonMap(EMAIL_SUBJECT, emailData.getSubject()), null);
-        if (asyncEventOperationEnabled) {
-            throw exception;
-        }
     }
 }
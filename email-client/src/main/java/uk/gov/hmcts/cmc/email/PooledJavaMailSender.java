@@ -0,0 +1,188 @@
+package uk.gov.hmcts.cmc.email;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import javax.mail.Address;
+import javax.mail.AuthenticationFailedException;
+import javax.mail.MessagingException;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+
+/**
+ * A {@link JavaMailSenderImpl} which keeps its SMTP connections open between sends rather than connecting for
+ * every call. A connection idle for longer than the idle timeout, or which no longer answers, is closed and
+ * replaced when next needed; at most {@code maxIdle} connections are kept open.
+ */
+public class PooledJavaMailSender extends JavaMailSenderImpl implements MeterBinder, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(PooledJavaMailSender.class);
+
+    private final BlockingDeque<PooledTransport> idle = new LinkedBlockingDeque<>();
+    private final int maxIdle;
+    private final long idleTimeoutMillis;
+
+    private Counter opened;
+    private Counter reused;
+    private Timer sent;
+    private Timer failed;
+
+    public PooledJavaMailSender(int maxIdle, long idleTimeoutMillis) {
+        this.maxIdle = maxIdle;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        opened = connectionCounter(registry, "opened");
+        reused = connectionCounter(registry, "reused");
+        Gauge.builder("email.smtp.connections.idle", idle, BlockingDeque::size)
+            .description("SMTP connections open and waiting to be reused")
+            .register(registry);
+        sent = sendTimer(registry, "sent");
+        failed = sendTimer(registry, "failed");
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) throws MailException {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+
+        Transport transport;
+        try {
+            transport = borrow();
+        } catch (AuthenticationFailedException ex) {
+            throw new MailAuthenticationException(ex);
+        } catch (Exception ex) {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                failedMessages.put(original(mimeMessages, originalMessages, i), ex);
+            }
+            throw new MailSendException("Mail server connection failed", ex, failedMessages);
+        }
+
+        for (int i = 0; i < mimeMessages.length; i++) {
+            MimeMessage mimeMessage = mimeMessages[i];
+            long start = System.nanoTime();
+            try {
+                prepare(mimeMessage);
+                Address[] addresses = mimeMessage.getAllRecipients();
+                transport.sendMessage(mimeMessage, addresses != null ? addresses : new Address[0]);
+                record(sent, start);
+            } catch (Exception ex) {
+                record(failed, start);
+                failedMessages.put(original(mimeMessages, originalMessages, i), ex);
+            }
+        }
+
+        release(transport);
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        PooledTransport pooled;
+        while ((pooled = idle.poll()) != null) {
+            close(pooled.transport);
+        }
+    }
+
+    private Transport borrow() throws MessagingException {
+        PooledTransport pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            if (System.currentTimeMillis() - pooled.releasedAt <= idleTimeoutMillis && pooled.transport.isConnected()) {
+                increment(reused);
+                return pooled.transport;
+            }
+            close(pooled.transport);
+        }
+
+        Transport transport = connectTransport();
+        increment(opened);
+        return transport;
+    }
+
+    private void release(Transport transport) {
+        if (!transport.isConnected() || idle.size() >= maxIdle) {
+            close(transport);
+            return;
+        }
+        idle.offerFirst(new PooledTransport(transport, System.currentTimeMillis()));
+    }
+
+    private static void prepare(MimeMessage mimeMessage) throws MessagingException {
+        if (mimeMessage.getSentDate() == null) {
+            mimeMessage.setSentDate(new Date());
+        }
+        String messageId = mimeMessage.getMessageID();
+        mimeMessage.saveChanges();
+        if (messageId != null) {
+            mimeMessage.setHeader("Message-ID", messageId);
+        }
+    }
+
+    private static Object original(MimeMessage[] mimeMessages, Object[] originalMessages, int index) {
+        return originalMessages != null ? originalMessages[index] : mimeMessages[index];
+    }
+
+    private static void close(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException ex) {
+            logger.debug("Failed to close SMTP connection", ex);
+        }
+    }
+
+    private static Counter connectionCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("email.smtp.connections")
+            .description("SMTP connections used to send emails, by whether they were opened or reused")
+            .tag("outcome", outcome)
+            .register(registry);
+    }
+
+    private static Timer sendTimer(MeterRegistry registry, String outcome) {
+        return Timer.builder("email.send")
+            .description("Time taken to send an email over an open SMTP connection")
+            .tag("outcome", outcome)
+            .register(registry);
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    private static void record(Timer timer, long start) {
+        if (timer != null) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static class PooledTransport {
+        private final Transport transport;
+        private final long releasedAt;
+
+        PooledTransport(Transport transport, long releasedAt) {
+            this.transport = transport;
+            this.releasedAt = releasedAt;
+        }
+    }
+}
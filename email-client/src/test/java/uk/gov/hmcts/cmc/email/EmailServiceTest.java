@@ -7,9 +7,11 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.springframework.test.context.ContextConfiguration;
 
+import java.util.Arrays;
 import java.util.Collections;
 import javax.mail.internet.MimeMessage;
 
@@ -18,6 +20,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.cmc.email.EmailService.EMAIL_SUBJECT;
@@ -95,6 +98,45 @@ public class EmailServiceTest {
         }
     }
 
+    @Test
+    public void sendEmailsShouldSendAllEmailsInOneCall() {
+        MimeMessage second = mock(MimeMessage.class);
+        when(javaMailSender.createMimeMessage()).thenReturn(mimeMessage, second);
+
+        emailService.sendEmails("no-reply@example.com",
+            Arrays.asList(SampleEmailData.getDefault(), SampleEmailData.getDefault()));
+
+        verify(javaMailSender).send(mimeMessage, second);
+    }
+
+    @Test
+    public void sendEmailsShouldOnlySendFailedEmailsAgain() {
+        MimeMessage second = mock(MimeMessage.class);
+        when(javaMailSender.createMimeMessage()).thenReturn(mimeMessage, second);
+        doThrow(new MailSendException(singletonMap(second, new RuntimeException("rejected"))))
+            .doNothing()
+            .when(javaMailSender).send(any(MimeMessage[].class));
+
+        emailService.sendEmails("no-reply@example.com",
+            Arrays.asList(SampleEmailData.getDefault(), SampleEmailData.getDefault()));
+
+        verify(javaMailSender).send(mimeMessage, second);
+        verify(javaMailSender).send(new MimeMessage[] {second});
+    }
+
+    @Test
+    public void sendEmailsShouldReportEmailsWhichStillFail() {
+        doThrow(new MailSendException(singletonMap(mimeMessage, new RuntimeException("rejected"))))
+            .when(javaMailSender).send(any(MimeMessage[].class));
+        EmailData emailData = SampleEmailData.getDefault();
+
+        emailService.sendEmails("no-reply@example.com", Collections.singletonList(emailData));
+
+        verify(javaMailSender, times(EmailService.BULK_SEND_ATTEMPTS)).send(new MimeMessage[] {mimeMessage});
+        verify(telemetryClient)
+            .trackEvent(NOTIFICATION_FAILURE, singletonMap(EMAIL_SUBJECT, emailData.getSubject()), null);
+    }
+
     public static class SampleEmailData {
 
         static EmailData getDefault() {
@@ -0,0 +1,107 @@
+package uk.gov.hmcts.cmc.email;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.mail.MailSendException;
+
+import javax.mail.MessagingException;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PooledJavaMailSenderTest {
+
+    @Mock
+    private Transport transport;
+    @Mock
+    private MimeMessage first;
+    @Mock
+    private MimeMessage second;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private int connections;
+
+    private PooledJavaMailSender sender;
+
+    @Before
+    public void setUp() {
+        sender = sender(30000);
+        sender.bindTo(meterRegistry);
+    }
+
+    @Test
+    public void shouldReuseConnectionBetweenSends() throws Exception {
+        when(transport.isConnected()).thenReturn(true);
+
+        sender.send(first, second);
+        sender.send(first);
+
+        assertThat(connections).isEqualTo(1);
+        assertThat(connectionCount("opened")).isEqualTo(1);
+        assertThat(connectionCount("reused")).isEqualTo(1);
+        assertThat(meterRegistry.get("email.send").tag("outcome", "sent").timer().count()).isEqualTo(3);
+        verify(transport, never()).close();
+    }
+
+    @Test
+    public void shouldReplaceConnectionIdleForTooLong() throws Exception {
+        sender = sender(-1);
+        when(transport.isConnected()).thenReturn(true);
+
+        sender.send(first);
+        sender.send(first);
+
+        assertThat(connections).isEqualTo(2);
+        verify(transport).close();
+    }
+
+    @Test
+    public void shouldReportFailedMessagesAndCarryOnSending() throws Exception {
+        when(transport.isConnected()).thenReturn(true);
+        doThrow(new MessagingException("rejected")).when(transport).sendMessage(eq(first), any());
+
+        assertThatThrownBy(() -> sender.send(first, second))
+            .isInstanceOfSatisfying(MailSendException.class,
+                e -> assertThat(e.getFailedMessages()).containsOnlyKeys(first));
+
+        verify(transport).sendMessage(eq(second), any());
+    }
+
+    @Test
+    public void shouldCloseAllConnectionsWhenDestroyed() throws Exception {
+        when(transport.isConnected()).thenReturn(true);
+        sender.send(first);
+
+        sender.destroy();
+
+        verify(transport).close();
+    }
+
+    private double connectionCount(String outcome) {
+        return meterRegistry.get("email.smtp.connections").tag("outcome", outcome).counter().count();
+    }
+
+    private PooledJavaMailSender sender(long idleTimeoutMillis) {
+        return new PooledJavaMailSender(2, idleTimeoutMillis) {
+            @Override
+            protected Transport connectTransport() {
+                connections++;
+                return transport;
+            }
+        };
+    }
+}
@@ -0,0 +1,11 @@
+package uk.gov.hmcts.cmc.scheduler.batch;
+
+import lombok.Value;
+
+@Value
+public class BatchCheckpoint {
+    private String lastKey;
+    private long processed;
+    private long failed;
+    private boolean completed;
+}
@@ -0,0 +1,65 @@
+package uk.gov.hmcts.cmc.scheduler.batch;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Stores the progress of the latest run of each batch job, one row per job.
+ */
+@Repository
+public class BatchCheckpointRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public BatchCheckpointRepository(TransactionAwareDataSourceProxy dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public Optional<BatchCheckpoint> find(String jobName, String runKey) {
+        List<BatchCheckpoint> checkpoints = jdbcTemplate.query(
+            "SELECT last_key, processed, failed, completed FROM batch_job_checkpoint "
+                + "WHERE job_name = ? AND run_key = ?",
+            (rs, rowNum) -> new BatchCheckpoint(
+                rs.getString("last_key"),
+                rs.getLong("processed"),
+                rs.getLong("failed"),
+                rs.getBoolean("completed")
+            ),
+            jobName, runKey
+        );
+        return checkpoints.stream().findFirst();
+    }
+
+    /**
+     * Starts a new run, replacing the checkpoint of any earlier run of the job.
+     */
+    public void start(String jobName, String runKey) {
+        jdbcTemplate.update("DELETE FROM batch_job_checkpoint WHERE job_name = ?", jobName);
+        jdbcTemplate.update(
+            "INSERT INTO batch_job_checkpoint (job_name, run_key) VALUES (?, ?)",
+            jobName, runKey
+        );
+    }
+
+    public void save(String jobName, String runKey, String lastKey, long processed, long failed) {
+        jdbcTemplate.update(
+            "UPDATE batch_job_checkpoint SET last_key = ?, processed = ?, failed = ?, updated_at = now() "
+                + "WHERE job_name = ? AND run_key = ?",
+            lastKey, processed, failed, jobName, runKey
+        );
+    }
+
+    public void complete(String jobName, String runKey) {
+        jdbcTemplate.update(
+            "UPDATE batch_job_checkpoint SET completed = TRUE, updated_at = now() "
+                + "WHERE job_name = ? AND run_key = ?",
+            jobName, runKey
+        );
+    }
+}
@@ -0,0 +1,30 @@
+package uk.gov.hmcts.cmc.scheduler.batch;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+import java.util.concurrent.Executor;
+
+/**
+ * A run of a batch job: {@code name} identifies the job and {@code runKey} the run, so that a run started again
+ * with the same key resumes after the last chunk it completed. Items are processed on {@code executor}, or on
+ * the pool shared by batch jobs when it is not set.
+ */
+@Value
+@Builder
+public class BatchJob<T> {
+    @NonNull
+    private String name;
+    @NonNull
+    private String runKey;
+    @NonNull
+    private PagedReader<T> reader;
+    @NonNull
+    private ItemProcessor<T> processor;
+    @Builder.Default
+    private int chunkSize = 100;
+    @Builder.Default
+    private int parallelism = 4;
+    private Executor executor;
+}
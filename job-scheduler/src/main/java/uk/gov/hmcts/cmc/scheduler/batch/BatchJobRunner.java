@@ -0,0 +1,142 @@
+package uk.gov.hmcts.cmc.scheduler.batch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.cmc.scheduler.exceptions.JobException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a batch job chunk by chunk: each page read is processed with up to {@code parallelism} items in flight,
+ * and the key of its last item is checkpointed once the whole chunk is done. Reading waits for a free slot, so
+ * a slow processor holds back the reader rather than queueing the working set in memory.
+ */
+@Service
+public class BatchJobRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchJobRunner.class);
+
+    private final BatchCheckpointRepository checkpointRepository;
+    private final MeterRegistry meterRegistry;
+    private final Executor executor;
+
+    @Autowired
+    public BatchJobRunner(
+        BatchCheckpointRepository checkpointRepository,
+        MeterRegistry meterRegistry,
+        @Qualifier("batchJobExecutor") Executor executor
+    ) {
+        this.checkpointRepository = checkpointRepository;
+        this.meterRegistry = meterRegistry;
+        this.executor = executor;
+    }
+
+    public <T> BatchRunResult<T> run(BatchJob<T> job) {
+        long start = System.nanoTime();
+        String name = job.getName();
+        String runKey = job.getRunKey();
+
+        BatchCheckpoint checkpoint = checkpointRepository.find(name, runKey)
+            .filter(existing -> !existing.isCompleted())
+            .orElse(null);
+        boolean resumed = checkpoint != null;
+        if (resumed) {
+            logger.info("Resuming batch job {} run {} after {}", name, runKey, checkpoint.getLastKey());
+        } else {
+            checkpointRepository.start(name, runKey);
+        }
+
+        String lastKey = resumed ? checkpoint.getLastKey() : null;
+        long processed = resumed ? checkpoint.getProcessed() : 0;
+        long failed = resumed ? checkpoint.getFailed() : 0;
+        List<T> failedItems = Collections.synchronizedList(new ArrayList<>());
+        Semaphore inFlight = new Semaphore(job.getParallelism());
+        Executor jobExecutor = job.getExecutor() != null ? job.getExecutor() : executor;
+
+        List<T> page;
+        do {
+            page = job.getReader().read(lastKey, job.getChunkSize());
+            if (page.isEmpty()) {
+                break;
+            }
+
+            List<CompletableFuture<Boolean>> chunk = new ArrayList<>(page.size());
+            for (T item : page) {
+                chunk.add(submit(job, item, jobExecutor, inFlight, failedItems));
+            }
+            long chunkFailures = chunk.stream().map(CompletableFuture::join).filter(ok -> !ok).count();
+
+            lastKey = job.getReader().keyOf(page.get(page.size() - 1));
+            processed += page.size();
+            failed += chunkFailures;
+            checkpointRepository.save(name, runKey, lastKey, processed, failed);
+            count(name, "processed", page.size() - chunkFailures);
+            count(name, "failed", chunkFailures);
+        } while (page.size() == job.getChunkSize());
+
+        checkpointRepository.complete(name, runKey);
+
+        long elapsedNanos = System.nanoTime() - start;
+        Timer.builder("batch.job.duration")
+            .description("Time taken by a batch job run")
+            .tag("job", name)
+            .register(meterRegistry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        BatchRunResult<T> result = new BatchRunResult<>(processed, failed, new ArrayList<>(failedItems), resumed,
+            Duration.ofNanos(elapsedNanos));
+        logger.info("Batch job {} run {} processed {} items, {} failed, in {} ms ({} items/s)",
+            name, runKey, processed, failed, result.getElapsed().toMillis(),
+            String.format("%.1f", result.itemsPerSecond()));
+        return result;
+    }
+
+    private <T> CompletableFuture<Boolean> submit(
+        BatchJob<T> job,
+        T item,
+        Executor jobExecutor,
+        Semaphore inFlight,
+        List<T> failedItems
+    ) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JobException("Interrupted while running batch job " + job.getName(), e);
+        }
+
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                job.getProcessor().process(item);
+                return true;
+            } catch (Exception e) {
+                logger.warn("Batch job {} failed to process {}", job.getName(), job.getReader().keyOf(item), e);
+                failedItems.add(item);
+                return false;
+            } finally {
+                inFlight.release();
+            }
+        }, jobExecutor);
+    }
+
+    private void count(String name, String outcome, long items) {
+        Counter.builder("batch.job.items")
+            .description("Items processed by batch jobs")
+            .tags("job", name, "outcome", outcome)
+            .register(meterRegistry)
+            .increment(items);
+    }
+}
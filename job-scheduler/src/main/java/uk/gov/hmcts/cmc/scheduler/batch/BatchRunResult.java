@@ -0,0 +1,24 @@
+package uk.gov.hmcts.cmc.scheduler.batch;
+
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Totals of a batch job run, including the chunks completed before it was resumed. Only the items which failed
+ * since the run was last started are listed.
+ */
+@Value
+public class BatchRunResult<T> {
+    private long processed;
+    private long failed;
+    private List<T> failedItems;
+    private boolean resumed;
+    private Duration elapsed;
+
+    public double itemsPerSecond() {
+        long millis = elapsed.toMillis();
+        return millis == 0 ? processed * 1000.0 : processed * 1000.0 / millis;
+    }
+}
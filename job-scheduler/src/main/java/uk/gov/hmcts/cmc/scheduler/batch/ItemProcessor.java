@@ -0,0 +1,10 @@
+package uk.gov.hmcts.cmc.scheduler.batch;
+
+/**
+ * Processes one item of a batch job. An item which cannot be processed throws, and is reported as failed.
+ */
+@FunctionalInterface
+public interface ItemProcessor<T> {
+
+    void process(T item) throws Exception;
+}
@@ -0,0 +1,20 @@
+package uk.gov.hmcts.cmc.scheduler.batch;
+
+import java.util.List;
+
+/**
+ * Reads the working set of a batch job one page at a time, in ascending order of each item's key.
+ *
+ * <p>Pages are read after the key of the last item processed rather than from an offset, so items which drop
+ * out of the working set once processed do not shift the next page.</p>
+ */
+public interface PagedReader<T> {
+
+    /**
+     * Reads up to {@code pageSize} items with a key greater than {@code afterKey}, or from the first item when
+     * {@code afterKey} is null.
+     */
+    List<T> read(String afterKey, int pageSize);
+
+    String keyOf(T item);
+}
@@ -0,0 +1,30 @@
+package uk.gov.hmcts.cmc.scheduler.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Items of batch jobs are processed on a bounded pool shared by every job; each run also limits how many of its
+ * own items are in flight.
+ */
+@Configuration
+public class BatchJobConfiguration {
+
+    @Bean(name = "batchJobExecutor")
+    public ThreadPoolTaskExecutor batchJobExecutor(
+        @Value("${scheduler.batch-jobs.threads:8}") int threads,
+        @Value("${scheduler.batch-jobs.queue-capacity:50}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("batch-job-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+}
@@ -1,15 +1,19 @@
 package uk.gov.hmcts.cmc.scheduler.config;
 
-import org.quartz.SchedulerException;
+import org.quartz.JobKey;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.cmc.scheduler.exceptions.JobException;
 import uk.gov.hmcts.cmc.scheduler.model.CronJob;
 import uk.gov.hmcts.cmc.scheduler.model.JobData;
 import uk.gov.hmcts.cmc.scheduler.services.JobService;
 
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import javax.annotation.PostConstruct;
 
 @Configuration
@@ -26,13 +30,13 @@ public class CronJobConfiguration {
         this.cronJobs = cronJobs;
     }
 
+    /**
+     * Replaces the cron jobs with the ones configured on this instance. Other instances in the cluster share
+     * the job store, so only the cron jobs group is cleared; jobs scheduled for individual claims are kept.
+     */
     @PostConstruct
     public void init() {
-        try {
-            jobService.clearJobs();
-        } catch (SchedulerException e) {
-            logger.error("Error clearing jobs", e);
-        }
+        Set<JobKey> scheduledJobs = new HashSet<>();
 
         for (CronJob cronJob : cronJobs) {
 
@@ -42,7 +46,19 @@ public class CronJobConfiguration {
                 .data(new HashMap<>())
                 .build();
 
-            jobService.scheduleJob(jobData, cronJob.getCronExpression());
+            JobKey jobKey = jobService.scheduleJob(jobData, cronJob.getCronExpression());
+            if (jobKey != null) {
+                scheduledJobs.add(jobKey);
+            }
+        }
+
+        try {
+            List<JobKey> staleJobs = jobService.removeStaleJobs(JobKey.DEFAULT_GROUP, scheduledJobs);
+            if (!staleJobs.isEmpty()) {
+                logger.info("Removed cron jobs no longer configured: {}", staleJobs);
+            }
+        } catch (JobException e) {
+            logger.error("Error removing stale cron jobs", e);
         }
     }
 }
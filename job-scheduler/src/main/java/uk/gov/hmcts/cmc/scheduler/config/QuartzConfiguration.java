@@ -12,6 +12,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.quartz.SchedulerFactoryBean;
 import org.springframework.scheduling.quartz.SpringBeanJobFactory;
 import org.springframework.transaction.PlatformTransactionManager;
+import uk.gov.hmcts.cmc.scheduler.monitoring.SchedulerMetrics;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -22,6 +23,8 @@ import java.util.Properties;
 @EnableScheduling
 public class QuartzConfiguration {
 
+    private static final String THREAD_COUNT = "org.quartz.threadPool.threadCount";
+
     @Autowired
     private ApplicationContext applicationContext;
 
@@ -39,10 +42,16 @@ public class QuartzConfiguration {
         return jobFactory;
     }
 
+    @Bean
+    public SchedulerMetrics schedulerMetrics() {
+        return new SchedulerMetrics(Integer.parseInt(quartzProperties.getOrDefault(THREAD_COUNT, "8")));
+    }
+
     @Bean
     public SchedulerFactoryBean schedulerFactoryBean(
         TransactionAwareDataSourceProxy transactionAwareDataSourceProxy,
-        PlatformTransactionManager transactionManager
+        PlatformTransactionManager transactionManager,
+        SchedulerMetrics schedulerMetrics
     ) {
         Properties properties = new Properties();
         properties.putAll(quartzProperties);
@@ -53,6 +62,8 @@ public class QuartzConfiguration {
         schedulerFactory.setQuartzProperties(properties);
         schedulerFactory.setJobFactory(springBeanJobFactory());
         schedulerFactory.setSchedulerName("CMC Job Scheduler");
+        schedulerFactory.setGlobalJobListeners(schedulerMetrics);
+        schedulerFactory.setGlobalTriggerListeners(schedulerMetrics);
 
         return schedulerFactory;
     }
@@ -0,0 +1,51 @@
+package uk.gov.hmcts.cmc.scheduler.model;
+
+import org.quartz.JobKey;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Outcome of each job in a batch operation, in the order the jobs were given, with the time the batch took.
+ */
+public class BatchJobResult {
+
+    public enum Outcome {
+        SCHEDULED,
+        RESCHEDULED,
+        DELETED,
+        NOT_FOUND,
+        FAILED
+    }
+
+    private final Map<JobKey, Outcome> outcomes;
+    private final Duration elapsed;
+
+    public BatchJobResult(Map<JobKey, Outcome> outcomes, Duration elapsed) {
+        this.outcomes = Collections.unmodifiableMap(new LinkedHashMap<>(outcomes));
+        this.elapsed = elapsed;
+    }
+
+    public Map<JobKey, Outcome> getOutcomes() {
+        return outcomes;
+    }
+
+    public Outcome getOutcome(JobKey jobKey) {
+        return outcomes.get(jobKey);
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    public long count(Outcome outcome) {
+        return outcomes.values().stream().filter(outcome::equals).count();
+    }
+
+    public double jobsPerSecond() {
+        long millis = elapsed.toMillis();
+        return millis == 0 ? outcomes.size() * 1000.0 : outcomes.size() * 1000.0 / millis;
+    }
+}
@@ -0,0 +1,98 @@
+package uk.gov.hmcts.cmc.scheduler.monitoring;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.SchedulerMetaData;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.cmc.scheduler.exceptions.JobException;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reports whether the scheduler on this instance is running, and lists the instances checked in to the cluster
+ * with the time each last checked in. An instance which has missed its check in is reported as stale; its
+ * jobs are recovered by the remaining instances.
+ *
+ * <p>A scheduler which is not running, or cannot be asked, is reported as unknown rather than down, so that it
+ * is visible in the details without taking the application's overall health down with it. The cluster is read
+ * from the job store at most once every {@code scheduler.health.nodes-cache-seconds}.</p>
+ */
+@Component
+public class SchedulerHealthIndicator implements HealthIndicator {
+
+    private static final String CLUSTER_NODES = "SELECT instance_name, last_checkin_time, checkin_interval "
+        + "FROM qrtz_scheduler_state WHERE sched_name = ? ORDER BY instance_name";
+
+    private final Scheduler scheduler;
+    private final JdbcTemplate jdbcTemplate;
+    private final Supplier<List<Map<String, Object>>> clusterNodes;
+
+    @Autowired
+    public SchedulerHealthIndicator(
+        Scheduler scheduler,
+        TransactionAwareDataSourceProxy dataSource,
+        @Value("${scheduler.health.nodes-cache-seconds:30}") long nodesCacheSeconds
+    ) {
+        this.scheduler = scheduler;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.clusterNodes = Suppliers.memoizeWithExpiration(this::readClusterNodes, nodesCacheSeconds,
+            TimeUnit.SECONDS);
+    }
+
+    @Override
+    public Health health() {
+        try {
+            SchedulerMetaData metaData = scheduler.getMetaData();
+            Health.Builder health = metaData.isStarted() && !metaData.isInStandbyMode() && !metaData.isShutdown()
+                ? Health.up()
+                : Health.unknown();
+
+            health.withDetail("instanceId", metaData.getSchedulerInstanceId())
+                .withDetail("started", metaData.isStarted())
+                .withDetail("clustered", metaData.isJobStoreClustered())
+                .withDetail("standby", metaData.isInStandbyMode())
+                .withDetail("shutdown", metaData.isShutdown())
+                .withDetail("threadPoolSize", metaData.getThreadPoolSize())
+                .withDetail("executingJobs", scheduler.getCurrentlyExecutingJobs().size())
+                .withDetail("jobsExecuted", metaData.getNumberOfJobsExecuted());
+
+            if (metaData.isJobStoreClustered()) {
+                health.withDetail("nodes", clusterNodes.get());
+            }
+            return health.build();
+        } catch (SchedulerException | JobException exc) {
+            return Health.unknown().withException(exc).build();
+        }
+    }
+
+    private List<Map<String, Object>> readClusterNodes() {
+        String schedulerName;
+        try {
+            schedulerName = scheduler.getSchedulerName();
+        } catch (SchedulerException exc) {
+            throw new JobException("Error while reading the scheduler name", exc);
+        }
+
+        long now = System.currentTimeMillis();
+        return jdbcTemplate.query(CLUSTER_NODES, (rs, rowNum) -> {
+            long lastCheckin = rs.getLong("last_checkin_time");
+            Map<String, Object> node = new LinkedHashMap<>();
+            node.put("instanceId", rs.getString("instance_name"));
+            node.put("lastCheckin", Instant.ofEpochMilli(lastCheckin).toString());
+            node.put("stale", now - lastCheckin > 2 * rs.getLong("checkin_interval"));
+            return node;
+        }, schedulerName);
+    }
+}
@@ -0,0 +1,121 @@
+package uk.gov.hmcts.cmc.scheduler.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.JobListener;
+import org.quartz.Trigger;
+import org.quartz.TriggerListener;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records how the scheduler on this instance is keeping up, as a global job and trigger listener: misfired
+ * triggers, the delay between a trigger's scheduled and actual fire time, the run time of each job class and
+ * how many of the worker threads are busy.
+ */
+public class SchedulerMetrics implements JobListener, TriggerListener, MeterBinder {
+
+    private static final String NAME = "schedulerMetrics";
+
+    private final int threadCount;
+    private final AtomicInteger executing = new AtomicInteger();
+    private MeterRegistry registry;
+
+    public SchedulerMetrics(int threadCount) {
+        this.threadCount = threadCount;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+        Gauge.builder("scheduler.threads.busy", executing, AtomicInteger::get)
+            .description("Scheduler worker threads running a job")
+            .register(registry);
+        Gauge.builder("scheduler.threads.max", () -> threadCount)
+            .description("Scheduler worker threads on this instance")
+            .register(registry);
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void triggerFired(Trigger trigger, JobExecutionContext context) {
+        if (registry == null || context.getScheduledFireTime() == null) {
+            return;
+        }
+        long latency = context.getFireTime().getTime() - context.getScheduledFireTime().getTime();
+        Timer.builder("scheduler.trigger.fire.latency")
+            .description("Delay between a trigger's scheduled fire time and the time it fired")
+            .tag("job", jobName(context))
+            .publishPercentileHistogram()
+            .register(registry)
+            .record(Math.max(latency, 0), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public boolean vetoJobExecution(Trigger trigger, JobExecutionContext context) {
+        return false;
+    }
+
+    @Override
+    public void triggerMisfired(Trigger trigger) {
+        if (registry == null) {
+            return;
+        }
+        Counter.builder("scheduler.trigger.misfires")
+            .description("Triggers which missed their fire time")
+            .tag("group", trigger.getJobKey().getGroup())
+            .register(registry)
+            .increment();
+    }
+
+    @Override
+    public void triggerComplete(
+        Trigger trigger,
+        JobExecutionContext context,
+        Trigger.CompletedExecutionInstruction triggerInstructionCode
+    ) {
+        // run time is recorded once the job has been executed
+    }
+
+    @Override
+    public void jobToBeExecuted(JobExecutionContext context) {
+        executing.incrementAndGet();
+    }
+
+    @Override
+    public void jobExecutionVetoed(JobExecutionContext context) {
+        // vetoed jobs are never counted as executing
+    }
+
+    @Override
+    public void jobWasExecuted(JobExecutionContext context, JobExecutionException jobException) {
+        executing.decrementAndGet();
+        if (registry == null) {
+            return;
+        }
+        Timer.builder("scheduler.job.execution")
+            .description("Time taken to run a job")
+            .tags("job", jobName(context), "outcome", jobException == null ? "success" : "failure")
+            .publishPercentileHistogram()
+            .register(registry)
+            .record(context.getJobRunTime(), TimeUnit.MILLISECONDS);
+    }
+
+    int executingJobs() {
+        return executing.get();
+    }
+
+    private static String jobName(JobExecutionContext context) {
+        return context.getJobDetail().getJobClass().getSimpleName();
+    }
+}
@@ -0,0 +1,212 @@
+package uk.gov.hmcts.cmc.scheduler.services;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.impl.matchers.GroupMatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.cmc.scheduler.exceptions.JobException;
+import uk.gov.hmcts.cmc.scheduler.model.BatchJobResult;
+import uk.gov.hmcts.cmc.scheduler.model.BatchJobResult.Outcome;
+import uk.gov.hmcts.cmc.scheduler.model.JobData;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+import static uk.gov.hmcts.cmc.scheduler.services.JobService.jobDetail;
+import static uk.gov.hmcts.cmc.scheduler.services.JobService.startTrigger;
+
+/**
+ * Schedules, reschedules and deletes many jobs at once for backfills.
+ *
+ * <p>Jobs are stored in chunks, each chunk in a single job store transaction. When a chunk fails its jobs are
+ * retried one at a time so that the result can tell which of them could not be stored.</p>
+ */
+@Service
+public class BatchJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchJobService.class);
+
+    private static final String SCHEDULE = "schedule";
+    private static final String RESCHEDULE = "reschedule";
+    private static final String DELETE = "delete";
+
+    private final Scheduler scheduler;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+
+    @Autowired
+    public BatchJobService(
+        Scheduler scheduler,
+        MeterRegistry meterRegistry,
+        @Value("${scheduler.batch.chunk-size:500}") int chunkSize
+    ) {
+        this.scheduler = scheduler;
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Schedules jobs which must not exist yet, each to start once at the given time.
+     */
+    public BatchJobResult scheduleJobs(Map<JobData, ZonedDateTime> jobs) {
+        return store(SCHEDULE, jobs, false, Outcome.SCHEDULED);
+    }
+
+    /**
+     * Schedules jobs to start once at the given time, replacing any existing job and trigger with the same key.
+     */
+    public BatchJobResult rescheduleJobs(Map<JobData, ZonedDateTime> jobs) {
+        return store(RESCHEDULE, jobs, true, Outcome.RESCHEDULED);
+    }
+
+    /**
+     * Deletes every job in a group, leaving jobs in every other group in place.
+     */
+    public BatchJobResult deleteGroup(String group) {
+        try {
+            return deleteJobs(scheduler.getJobKeys(GroupMatcher.jobGroupEquals(group)));
+        } catch (SchedulerException exc) {
+            throw new JobException("Error while listing jobs in group " + group, exc);
+        }
+    }
+
+    public BatchJobResult deleteJobs(Collection<JobKey> jobKeys) {
+        long start = System.nanoTime();
+        List<JobKey> keys = jobKeys.stream().distinct().collect(toList());
+        Map<JobKey, Outcome> outcomes = new LinkedHashMap<>();
+        keys.forEach(jobKey -> outcomes.put(jobKey, null));
+        Set<JobKey> existing = existingJobs(keys);
+
+        List<JobKey> toDelete = new ArrayList<>();
+        for (JobKey jobKey : keys) {
+            if (existing.contains(jobKey)) {
+                toDelete.add(jobKey);
+            } else {
+                outcomes.put(jobKey, Outcome.NOT_FOUND);
+            }
+        }
+
+        for (List<JobKey> chunk : Lists.partition(toDelete, chunkSize)) {
+            try {
+                scheduler.deleteJobs(chunk);
+                chunk.forEach(jobKey -> outcomes.put(jobKey, Outcome.DELETED));
+            } catch (SchedulerException exc) {
+                logger.warn("Error while deleting a chunk of {} jobs, deleting them one at a time", chunk.size(), exc);
+                chunk.forEach(jobKey -> outcomes.put(jobKey, deleteJob(jobKey)));
+            }
+        }
+
+        return complete(DELETE, outcomes, start);
+    }
+
+    private BatchJobResult store(
+        String operation,
+        Map<JobData, ZonedDateTime> jobs,
+        boolean replace,
+        Outcome success
+    ) {
+        long start = System.nanoTime();
+        Map<JobKey, Outcome> outcomes = new LinkedHashMap<>();
+
+        for (List<Map.Entry<JobData, ZonedDateTime>> chunk : Iterables.partition(jobs.entrySet(), chunkSize)) {
+            Map<JobDetail, Set<? extends Trigger>> triggersAndJobs = new LinkedHashMap<>();
+            chunk.forEach(job -> triggersAndJobs.put(
+                jobDetail(job.getKey()),
+                Collections.singleton(startTrigger(job.getKey(), job.getValue()))
+            ));
+
+            try {
+                scheduler.scheduleJobs(triggersAndJobs, replace);
+                triggersAndJobs.keySet().forEach(jobDetail -> outcomes.put(jobDetail.getKey(), success));
+            } catch (SchedulerException exc) {
+                logger.warn("Error while storing a chunk of {} jobs, storing them one at a time",
+                    triggersAndJobs.size(), exc);
+                triggersAndJobs.forEach((jobDetail, triggers) ->
+                    outcomes.put(jobDetail.getKey(), storeJob(jobDetail, triggers, replace, success)));
+            }
+        }
+
+        return complete(operation, outcomes, start);
+    }
+
+    private Outcome storeJob(JobDetail jobDetail, Set<? extends Trigger> triggers, boolean replace, Outcome success) {
+        try {
+            scheduler.scheduleJob(jobDetail, triggers, replace);
+            return success;
+        } catch (SchedulerException exc) {
+            logger.error("Error while storing job {}", jobDetail.getKey(), exc);
+            return Outcome.FAILED;
+        }
+    }
+
+    private Outcome deleteJob(JobKey jobKey) {
+        try {
+            return scheduler.deleteJob(jobKey) ? Outcome.DELETED : Outcome.NOT_FOUND;
+        } catch (SchedulerException exc) {
+            logger.error("Error while deleting job {}", jobKey, exc);
+            return Outcome.FAILED;
+        }
+    }
+
+    private Set<JobKey> existingJobs(Collection<JobKey> jobKeys) {
+        Set<JobKey> existing = new HashSet<>();
+        Map<String, List<JobKey>> byGroup = jobKeys.stream().collect(groupingBy(JobKey::getGroup, toList()));
+        for (Map.Entry<String, List<JobKey>> group : byGroup.entrySet()) {
+            try {
+                existing.addAll(scheduler.getJobKeys(GroupMatcher.jobGroupEquals(group.getKey())));
+            } catch (SchedulerException exc) {
+                logger.warn("Error while listing jobs in group {}, deleting them regardless", group.getKey(), exc);
+                existing.addAll(group.getValue());
+            }
+        }
+        return existing;
+    }
+
+    private BatchJobResult complete(String operation, Map<JobKey, Outcome> outcomes, long start) {
+        long elapsedNanos = System.nanoTime() - start;
+        Timer.builder("scheduler.batch.duration")
+            .description("Time taken by batch job store operations")
+            .tag("operation", operation)
+            .register(meterRegistry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        BatchJobResult result = new BatchJobResult(outcomes, Duration.ofNanos(elapsedNanos));
+        for (Outcome outcome : Outcome.values()) {
+            long count = result.count(outcome);
+            if (count > 0) {
+                Counter.builder("scheduler.batch.jobs")
+                    .description("Jobs processed by batch job store operations")
+                    .tags("operation", operation, "outcome", outcome.name().toLowerCase())
+                    .register(meterRegistry)
+                    .increment(count);
+            }
+        }
+
+        logger.info("Batch {} of {} jobs took {} ms ({} jobs/s)", operation, outcomes.size(),
+            result.getElapsed().toMillis(), String.format("%.1f", result.jobsPerSecond()));
+        return result;
+    }
+}
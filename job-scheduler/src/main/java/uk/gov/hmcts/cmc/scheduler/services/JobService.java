@@ -10,6 +10,7 @@ import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 import org.quartz.SimpleTrigger;
 import org.quartz.TriggerKey;
+import org.quartz.impl.matchers.GroupMatcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,7 +19,10 @@ import uk.gov.hmcts.cmc.scheduler.exceptions.JobException;
 import uk.gov.hmcts.cmc.scheduler.model.JobData;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 
 import static org.quartz.JobBuilder.newJob;
 import static org.quartz.SimpleScheduleBuilder.simpleSchedule;
@@ -39,23 +43,7 @@ public class JobService {
 
     public JobKey scheduleJob(JobData jobData, ZonedDateTime startDateTime) {
         try {
-            scheduler.scheduleJob(
-                newJob(jobData.getJobClass())
-                    .withIdentity(jobData.getId(), jobData.getGroup())
-                    .withDescription(jobData.getDescription())
-                    .usingJobData(new JobDataMap(jobData.getData()))
-                    .requestRecovery()
-                    .build(),
-                newTrigger()
-                    .startAt(Date.from(startDateTime.toInstant()))
-                    .withIdentity(jobData.getId(), jobData.getGroup())
-                    .withDescription(jobData.getDescription())
-                    .withSchedule(
-                        simpleSchedule()
-                            .withMisfireHandlingInstructionNowWithExistingCount()
-                    )
-                    .build()
-            );
+            scheduler.scheduleJob(jobDetail(jobData), startTrigger(jobData, startDateTime));
 
             return JobKey.jobKey(jobData.getId(), jobData.getGroup());
 
@@ -67,12 +55,7 @@ public class JobService {
     public JobKey scheduleJob(JobData jobData, String cronExpression) {
         try {
 
-            JobDetail jobDetail = newJob(jobData.getJobClass())
-                .withIdentity(jobData.getId(), jobData.getGroup())
-                .withDescription(jobData.getDescription())
-                .usingJobData(new JobDataMap(jobData.getData()))
-                .requestRecovery()
-                .build();
+            JobDetail jobDetail = jobDetail(jobData);
 
             if (scheduler.checkExists(jobDetail.getKey())) {
                 scheduler.deleteJob(jobDetail.getKey());
@@ -102,19 +85,30 @@ public class JobService {
         scheduler.clear();
     }
 
+    /**
+     * Deletes the jobs in a group other than the given ones, leaving jobs in every other group in place.
+     */
+    public List<JobKey> removeStaleJobs(String group, Collection<JobKey> currentJobs) {
+        try {
+            List<JobKey> staleJobs = new ArrayList<>(scheduler.getJobKeys(GroupMatcher.jobGroupEquals(group)));
+            staleJobs.removeAll(currentJobs);
+
+            if (!staleJobs.isEmpty()) {
+                scheduler.deleteJobs(staleJobs);
+            }
+
+            return staleJobs;
+
+        } catch (SchedulerException exc) {
+            throw new JobException("Error while removing stale jobs", exc);
+        }
+    }
+
     public JobKey rescheduleJob(JobData jobData, ZonedDateTime startDateTime) {
         try {
 
             TriggerKey triggerKey = triggerKey(jobData.getId(), jobData.getGroup());
-            SimpleTrigger newTrigger = newTrigger()
-                .startAt(Date.from(startDateTime.toInstant()))
-                .withIdentity(jobData.getId(), jobData.getGroup())
-                .withDescription(jobData.getDescription())
-                .withSchedule(
-                    simpleSchedule()
-                        .withMisfireHandlingInstructionNowWithExistingCount()
-                )
-                .build();
+            SimpleTrigger newTrigger = startTrigger(jobData, startDateTime);
 
             Date rescheduleJob = scheduler.rescheduleJob(triggerKey, newTrigger);
 
@@ -128,4 +122,25 @@ public class JobService {
             throw new JobException("Error while rescheduling a job", exc);
         }
     }
+
+    static JobDetail jobDetail(JobData jobData) {
+        return newJob(jobData.getJobClass())
+            .withIdentity(jobData.getId(), jobData.getGroup())
+            .withDescription(jobData.getDescription())
+            .usingJobData(new JobDataMap(jobData.getData()))
+            .requestRecovery()
+            .build();
+    }
+
+    static SimpleTrigger startTrigger(JobData jobData, ZonedDateTime startDateTime) {
+        return newTrigger()
+            .startAt(Date.from(startDateTime.toInstant()))
+            .withIdentity(jobData.getId(), jobData.getGroup())
+            .withDescription(jobData.getDescription())
+            .withSchedule(
+                simpleSchedule()
+                    .withMisfireHandlingInstructionNowWithExistingCount()
+            )
+            .build();
+    }
 }
@@ -0,0 +1,118 @@
+package uk.gov.hmcts.cmc.scheduler.batch;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BatchJobRunnerTest {
+
+    private static final String JOB = "job";
+    private static final String RUN = "2020-04-22";
+
+    @Mock
+    private BatchCheckpointRepository checkpointRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BatchJobRunner runner;
+    private final List<Integer> processed = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        runner = new BatchJobRunner(checkpointRepository, meterRegistry, Runnable::run);
+    }
+
+    @Test
+    public void shouldProcessEveryPageAndCheckpointEachChunk() {
+        BatchRunResult<Integer> result = runner.run(job(Arrays.asList(1, 2, 3, 4, 5), processed::add));
+
+        assertThat(processed).containsExactly(1, 2, 3, 4, 5);
+        assertThat(result.getProcessed()).isEqualTo(5);
+        assertThat(result.isResumed()).isFalse();
+        verify(checkpointRepository).start(JOB, RUN);
+        verify(checkpointRepository).save(JOB, RUN, "2", 2, 0);
+        verify(checkpointRepository).save(JOB, RUN, "4", 4, 0);
+        verify(checkpointRepository).save(JOB, RUN, "5", 5, 0);
+        verify(checkpointRepository).complete(JOB, RUN);
+        assertThat(meterRegistry.get("batch.job.duration").tag("job", JOB).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldResumeAfterLastCheckpointedChunk() {
+        when(checkpointRepository.find(JOB, RUN)).thenReturn(Optional.of(new BatchCheckpoint("2", 2, 0, false)));
+
+        BatchRunResult<Integer> result = runner.run(job(Arrays.asList(1, 2, 3, 4, 5), processed::add));
+
+        assertThat(processed).containsExactly(3, 4, 5);
+        assertThat(result.getProcessed()).isEqualTo(5);
+        assertThat(result.isResumed()).isTrue();
+        verify(checkpointRepository, never()).start(JOB, RUN);
+    }
+
+    @Test
+    public void shouldStartAgainWhenLastRunCompleted() {
+        when(checkpointRepository.find(JOB, RUN)).thenReturn(Optional.of(new BatchCheckpoint("5", 5, 0, true)));
+
+        runner.run(job(Arrays.asList(1, 2, 3), processed::add));
+
+        assertThat(processed).containsExactly(1, 2, 3);
+        verify(checkpointRepository).start(JOB, RUN);
+    }
+
+    @Test
+    public void shouldReportFailedItemsAndCarryOn() {
+        BatchRunResult<Integer> result = runner.run(job(Arrays.asList(1, 2, 3), item -> {
+            if (item == 2) {
+                throw new IllegalStateException("downstream unavailable");
+            }
+            processed.add(item);
+        }));
+
+        assertThat(processed).containsExactly(1, 3);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getFailedItems()).containsExactly(2);
+        assertThat(meterRegistry.get("batch.job.items").tags("job", JOB, "outcome", "failed").counter().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("batch.job.items").tags("job", JOB, "outcome", "processed").counter().count())
+            .isEqualTo(2);
+    }
+
+    private static BatchJob<Integer> job(List<Integer> items, ItemProcessor<Integer> processor) {
+        PagedReader<Integer> reader = new PagedReader<Integer>() {
+            @Override
+            public List<Integer> read(String afterKey, int pageSize) {
+                int after = afterKey == null ? 0 : Integer.parseInt(afterKey);
+                return items.stream().filter(item -> item > after).limit(pageSize).collect(Collectors.toList());
+            }
+
+            @Override
+            public String keyOf(Integer item) {
+                return String.valueOf(item);
+            }
+        };
+
+        return BatchJob.<Integer>builder()
+            .name(JOB)
+            .runKey(RUN)
+            .reader(reader)
+            .processor(processor)
+            .chunkSize(2)
+            .parallelism(2)
+            .build();
+    }
+}
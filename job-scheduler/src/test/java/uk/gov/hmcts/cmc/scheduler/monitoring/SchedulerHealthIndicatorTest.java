@@ -0,0 +1,67 @@
+package uk.gov.hmcts.cmc.scheduler.monitoring;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.SchedulerMetaData;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SchedulerHealthIndicatorTest {
+
+    @Mock
+    private Scheduler scheduler;
+    @Mock
+    private SchedulerMetaData metaData;
+    @Mock
+    private TransactionAwareDataSourceProxy dataSource;
+
+    private SchedulerHealthIndicator healthIndicator;
+
+    @Before
+    public void setUp() {
+        healthIndicator = new SchedulerHealthIndicator(scheduler, dataSource, 30);
+    }
+
+    @Test
+    public void shouldReportUpWhenRunning() throws SchedulerException {
+        givenScheduler(true, false);
+
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    public void shouldReportUnknownWithDetailsWhenInStandby() throws SchedulerException {
+        givenScheduler(true, true);
+
+        Health health = healthIndicator.health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.UNKNOWN);
+        assertThat(health.getDetails()).containsEntry("standby", true).containsEntry("started", true);
+    }
+
+    @Test
+    public void shouldReportUnknownWhenSchedulerCannotBeAsked() throws SchedulerException {
+        when(scheduler.getMetaData()).thenThrow(new SchedulerException("unavailable"));
+
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UNKNOWN);
+    }
+
+    private void givenScheduler(boolean started, boolean standby) throws SchedulerException {
+        when(scheduler.getMetaData()).thenReturn(metaData);
+        when(scheduler.getCurrentlyExecutingJobs()).thenReturn(Collections.emptyList());
+        when(metaData.isStarted()).thenReturn(started);
+        when(metaData.isInStandbyMode()).thenReturn(standby);
+    }
+}
@@ -0,0 +1,76 @@
+package uk.gov.hmcts.cmc.scheduler.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.JobKey;
+import org.quartz.Trigger;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.quartz.JobBuilder.newJob;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SchedulerMetricsTest {
+
+    @Mock
+    private JobExecutionContext context;
+    @Mock
+    private Trigger trigger;
+
+    private SimpleMeterRegistry registry;
+    private SchedulerMetrics metrics;
+
+    @Before
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new SchedulerMetrics(8);
+        metrics.bindTo(registry);
+    }
+
+    @Test
+    public void shouldRecordFireLatency() {
+        when(context.getJobDetail()).thenReturn(newJob(Job.class).withIdentity("job").build());
+        when(context.getScheduledFireTime()).thenReturn(new Date(1_000L));
+        when(context.getFireTime()).thenReturn(new Date(1_250L));
+
+        metrics.triggerFired(trigger, context);
+
+        assertThat(registry.get("scheduler.trigger.fire.latency").tag("job", "Job").timer()
+            .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(250);
+    }
+
+    @Test
+    public void shouldRecordExecutionAndBusyThreads() {
+        when(context.getJobDetail()).thenReturn(newJob(Job.class).withIdentity("job").build());
+        when(context.getJobRunTime()).thenReturn(40L);
+
+        metrics.jobToBeExecuted(context);
+        assertThat(registry.get("scheduler.threads.busy").gauge().value()).isEqualTo(1);
+
+        metrics.jobWasExecuted(context, new JobExecutionException("failed"));
+
+        assertThat(metrics.executingJobs()).isZero();
+        assertThat(registry.get("scheduler.job.execution").tags("job", "Job", "outcome", "failure").timer()
+            .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(40);
+    }
+
+    @Test
+    public void shouldCountMisfiresByGroup() {
+        when(trigger.getJobKey()).thenReturn(JobKey.jobKey("job", "Reminders"));
+
+        metrics.triggerMisfired(trigger);
+
+        assertThat(registry.get("scheduler.trigger.misfires").tag("group", "Reminders").counter().count())
+            .isEqualTo(1);
+    }
+}
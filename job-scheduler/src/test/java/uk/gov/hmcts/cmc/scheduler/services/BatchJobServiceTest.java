@@ -0,0 +1,138 @@
+package uk.gov.hmcts.cmc.scheduler.services;
+
+import com.google.common.collect.ImmutableSet;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.quartz.Job;
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.ObjectAlreadyExistsException;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import uk.gov.hmcts.cmc.scheduler.model.BatchJobResult;
+import uk.gov.hmcts.cmc.scheduler.model.BatchJobResult.Outcome;
+import uk.gov.hmcts.cmc.scheduler.model.JobData;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.quartz.impl.matchers.GroupMatcher.jobGroupEquals;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BatchJobServiceTest {
+
+    private static final String GROUP = "Reminders";
+    private static final ZonedDateTime START = LocalDate.now().atStartOfDay(ZoneOffset.UTC);
+
+    @Mock
+    private Scheduler scheduler;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BatchJobService batchJobService;
+
+    @Before
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        batchJobService = new BatchJobService(scheduler, meterRegistry, 2);
+    }
+
+    @Test
+    public void shouldScheduleJobsInChunks() throws SchedulerException {
+        BatchJobResult result = batchJobService.scheduleJobs(jobs("a", "b", "c"));
+
+        verify(scheduler).scheduleJobs(argThat(chunk -> chunk.size() == 2), eq(false));
+        verify(scheduler).scheduleJobs(argThat(chunk -> chunk.size() == 1), eq(false));
+        assertThat(result.getOutcomes().keySet())
+            .containsExactly(JobKey.jobKey("a", GROUP), JobKey.jobKey("b", GROUP), JobKey.jobKey("c", GROUP));
+        assertThat(result.count(Outcome.SCHEDULED)).isEqualTo(3);
+        assertThat(meterRegistry.get("scheduler.batch.jobs")
+            .tags("operation", "schedule", "outcome", "scheduled").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("scheduler.batch.duration")
+            .tag("operation", "schedule").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldReportFailedJobsWhenChunkCannotBeStored() throws SchedulerException {
+        doThrow(new ObjectAlreadyExistsException("exists")).when(scheduler).scheduleJobs(anyMap(), anyBoolean());
+        doThrow(new ObjectAlreadyExistsException("exists")).when(scheduler)
+            .scheduleJob(argThat((JobDetail jobDetail) -> jobDetail.getKey().getName().equals("b")),
+                anySet(), eq(false));
+
+        BatchJobResult result = batchJobService.scheduleJobs(jobs("a", "b"));
+
+        assertThat(result.getOutcome(JobKey.jobKey("a", GROUP))).isEqualTo(Outcome.SCHEDULED);
+        assertThat(result.getOutcome(JobKey.jobKey("b", GROUP))).isEqualTo(Outcome.FAILED);
+        verify(scheduler, times(2)).scheduleJob(argThat((JobDetail jobDetail) -> true), anySet(), eq(false));
+    }
+
+    @Test
+    public void shouldReplaceExistingJobsWhenRescheduling() throws SchedulerException {
+        BatchJobResult result = batchJobService.rescheduleJobs(jobs("a"));
+
+        verify(scheduler).scheduleJobs(anyMap(), eq(true));
+        assertThat(result.getOutcome(JobKey.jobKey("a", GROUP))).isEqualTo(Outcome.RESCHEDULED);
+    }
+
+    @Test
+    public void shouldDeleteOnlyExistingJobs() throws SchedulerException {
+        JobKey existing = JobKey.jobKey("a", GROUP);
+        JobKey missing = JobKey.jobKey("b", GROUP);
+        when(scheduler.getJobKeys(jobGroupEquals(GROUP))).thenReturn(ImmutableSet.of(existing));
+
+        BatchJobResult result = batchJobService.deleteJobs(Arrays.asList(missing, existing));
+
+        verify(scheduler).deleteJobs(Collections.singletonList(existing));
+        verify(scheduler, never()).deleteJob(missing);
+        assertThat(result.getOutcomes().keySet()).containsExactly(missing, existing);
+        assertThat(result.getOutcome(existing)).isEqualTo(Outcome.DELETED);
+        assertThat(result.getOutcome(missing)).isEqualTo(Outcome.NOT_FOUND);
+    }
+
+    @Test
+    public void shouldDeleteEveryJobInGroupInChunks() throws SchedulerException {
+        Set<JobKey> jobKeys = ImmutableSet.of(JobKey.jobKey("a", GROUP), JobKey.jobKey("b", GROUP),
+            JobKey.jobKey("c", GROUP));
+        when(scheduler.getJobKeys(jobGroupEquals(GROUP))).thenReturn(jobKeys);
+
+        BatchJobResult result = batchJobService.deleteGroup(GROUP);
+
+        verify(scheduler).deleteJobs(Arrays.asList(JobKey.jobKey("a", GROUP), JobKey.jobKey("b", GROUP)));
+        verify(scheduler).deleteJobs(Collections.singletonList(JobKey.jobKey("c", GROUP)));
+        assertThat(result.count(Outcome.DELETED)).isEqualTo(3);
+    }
+
+    private static Map<JobData, ZonedDateTime> jobs(String... ids) {
+        Map<JobData, ZonedDateTime> jobs = new LinkedHashMap<>();
+        for (String id : ids) {
+            jobs.put(JobData.builder()
+                .id(id)
+                .jobClass(Job.class)
+                .group(GROUP)
+                .description("Reminder " + id)
+                .data(Collections.emptyMap())
+                .build(), START);
+        }
+        return jobs;
+    }
+}
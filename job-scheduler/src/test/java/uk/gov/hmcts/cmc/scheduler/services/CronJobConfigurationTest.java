@@ -6,13 +6,18 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.quartz.JobExecutionContext;
+import org.quartz.JobKey;
 import uk.gov.hmcts.cmc.scheduler.config.CronJobConfiguration;
 import uk.gov.hmcts.cmc.scheduler.model.CronJob;
 
+import java.util.Collections;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public class CronJobConfigurationTest {
@@ -47,4 +52,15 @@ public class CronJobConfigurationTest {
 
         verify(jobService, times(2)).scheduleJob(any(), eq(cronExp));
     }
+
+    @Test
+    public void shouldOnlyRemoveStaleCronJobs() throws Exception {
+        JobKey jobKey = JobKey.jobKey("cronJob");
+        when(jobService.scheduleJob(any(), eq(cronExp))).thenReturn(jobKey);
+
+        cronJobConfiguration.init();
+
+        verify(jobService).removeStaleJobs(JobKey.DEFAULT_GROUP, Collections.singleton(jobKey));
+        verify(jobService, never()).clearJobs();
+    }
 }
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.cmc.scheduler.services;
 
+import com.google.common.collect.ImmutableSet;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -20,8 +21,11 @@ import uk.gov.hmcts.cmc.scheduler.model.JobData;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -32,6 +36,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.quartz.SimpleScheduleBuilder.simpleSchedule;
+import static org.quartz.impl.matchers.GroupMatcher.jobGroupEquals;
 import static org.quartz.TriggerBuilder.newTrigger;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -176,6 +181,19 @@ public class JobServiceTest {
 
     }
 
+    @Test
+    public void shouldRemoveStaleJobsInGroup() throws SchedulerException {
+        JobKey current = JobKey.jobKey("current");
+        JobKey stale = JobKey.jobKey("stale");
+        when(scheduler.getJobKeys(jobGroupEquals(JobKey.DEFAULT_GROUP))).thenReturn(ImmutableSet.of(current, stale));
+
+        List<JobKey> staleJobs = jobsService.removeStaleJobs(JobKey.DEFAULT_GROUP, Collections.singleton(current));
+
+        assertThat(staleJobs).containsExactly(stale);
+        verify(scheduler).deleteJobs(Arrays.asList(stale));
+        verify(scheduler, never()).clear();
+    }
+
     private JobData getJobData(String jobId, String group) {
         Map<String, Object> data = new HashMap<>();
         data.put("caseId", "234324332432432");
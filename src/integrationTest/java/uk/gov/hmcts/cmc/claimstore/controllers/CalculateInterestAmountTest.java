@@ -1,18 +1,25 @@
 package uk.gov.hmcts.cmc.claimstore.controllers;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.collect.ImmutableList;
 import org.junit.Test;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import uk.gov.hmcts.cmc.claimstore.BaseMockSpringTest;
+import uk.gov.hmcts.cmc.claimstore.controllers.dto.InterestCalculationRequest;
 import uk.gov.hmcts.cmc.domain.models.InterestAmount;
 import uk.gov.hmcts.cmc.email.EmailService;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 public class CalculateInterestAmountTest extends BaseMockSpringTest {
@@ -54,6 +61,58 @@ public class CalculateInterestAmountTest extends BaseMockSpringTest {
             .andExpect(status().isBadRequest());
     }
 
+    @Test
+    public void shouldCalculateBatchAmountsInRequestOrder() throws Exception {
+        MvcResult result = makeBatchRequest(ImmutableList.of(
+            calculation("2010-10-10", "2010-10-16", 30, 8000),
+            calculation("2010-10-10", "2010-10-10", 30, 8000),
+            calculation("2010-10-10", "2010-10-16", 30, 8000)
+        ))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        List<InterestAmount> amounts = jsonMappingHelper.fromJson(
+            result.getResponse().getContentAsString(),
+            new TypeReference<List<InterestAmount>>() {
+            }
+        );
+        assertThat(amounts).extracting(InterestAmount::getAmount)
+            .containsExactly(BigDecimal.valueOf(39.45), new BigDecimal("0.00"), BigDecimal.valueOf(39.45));
+    }
+
+    @Test
+    public void shouldReturnBadRequestWhenAnyBatchCalculationIsInvalid() throws Exception {
+        makeBatchRequest(ImmutableList.of(
+            calculation("2010-10-10", "2010-10-16", 30, 8000),
+            calculation("2010-10-10", "2010-10-16", 30, -1)
+        ))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void shouldReturnBadRequestWhenBatchIsEmpty() throws Exception {
+        makeBatchRequest(ImmutableList.of())
+            .andExpect(status().isBadRequest());
+    }
+
+    private static InterestCalculationRequest calculation(String fromDate, String toDate, double rate, double amount) {
+        return InterestCalculationRequest.builder()
+            .fromDate(LocalDate.parse(fromDate))
+            .toDate(LocalDate.parse(toDate))
+            .rate(BigDecimal.valueOf(rate))
+            .amount(BigDecimal.valueOf(amount))
+            .build();
+    }
+
+    private ResultActions makeBatchRequest(List<InterestCalculationRequest> calculations) throws Exception {
+        return webClient
+            .perform(
+                post("/interest/calculate-batch")
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .content(jsonMappingHelper.toJson(calculations))
+            );
+    }
+
     private ResultActions makeRequest(String fromDate, String toDate, double rate, double amount) throws Exception {
         return webClient
             .perform(
@@ -0,0 +1,119 @@
+package uk.gov.hmcts.cmc.claimstore.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import uk.gov.hmcts.cmc.ccd.config.CCDMapperConfig;
+import uk.gov.hmcts.cmc.ccd.domain.CCDCase;
+import uk.gov.hmcts.cmc.ccd.mapper.CaseMapper;
+import uk.gov.hmcts.cmc.ccd.mapper.ClaimSummaryMapper;
+import uk.gov.hmcts.cmc.ccd.sample.data.SampleCCDCaseSize;
+import uk.gov.hmcts.cmc.claimstore.processors.JsonMapper;
+import uk.gov.hmcts.cmc.claimstore.repositories.mapping.JsonMapperFactory;
+import uk.gov.hmcts.cmc.claimstore.services.WorkingDayIndicator;
+import uk.gov.hmcts.cmc.claimstore.services.bankholidays.NonWorkingDaysCollection;
+import uk.gov.hmcts.cmc.claimstore.services.bankholidays.PublicHolidaysCollection;
+import uk.gov.hmcts.cmc.claimstore.utils.CaseDetailsConverter;
+import uk.gov.hmcts.cmc.domain.models.Claim;
+import uk.gov.hmcts.cmc.domain.models.ClaimSummary;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the full conversion of CCD case details into a claim, as done on every CCD read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CaseDetailsConverterBenchmark {
+
+    @Param({"SMALL", "TYPICAL", "HUGE"})
+    public SampleCCDCaseSize size;
+
+    private AnnotationConfigApplicationContext context;
+    private CaseDetailsConverter caseDetailsConverter;
+    private CaseDetails caseDetails;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(CCDMapperConfig.class);
+        JsonMapper jsonMapper = JsonMapperFactory.create();
+        caseDetailsConverter = new CaseDetailsConverter(
+            context.getBean(CaseMapper.class),
+            context.getBean(ClaimSummaryMapper.class),
+            jsonMapper,
+            new WorkingDayIndicator(new NoPublicHolidays(), new NoNonWorkingDays()),
+            33
+        );
+
+        CCDCase ccdCase = size.getCase();
+        caseDetails = CaseDetails.builder()
+            .id(ccdCase.getId())
+            .state(ccdCase.getState())
+            .data((Map<String, Object>) jsonMapper.convertValue(ccdCase, Map.class))
+            .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Claim extractClaim() {
+        return caseDetailsConverter.extractClaim(caseDetails);
+    }
+
+    @Benchmark
+    public ClaimSummary extractClaimSummary() {
+        return caseDetailsConverter.extractClaimSummary(caseDetails);
+    }
+
+    @Benchmark
+    public CCDCase extractCCDCase() {
+        return caseDetailsConverter.extractCCDCase(caseDetails);
+    }
+
+    private static class NoPublicHolidays extends PublicHolidaysCollection {
+
+        NoPublicHolidays() {
+            super(null);
+        }
+
+        @Override
+        public Set<LocalDate> getPublicHolidays() {
+            return Collections.emptySet();
+        }
+    }
+
+    private static class NoNonWorkingDays extends NonWorkingDaysCollection {
+
+        NoNonWorkingDays() {
+            super(null);
+        }
+
+        @Override
+        public boolean contains(LocalDate date) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package uk.gov.hmcts.cmc.claimstore.benchmarks;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.cmc.ccd.domain.CCDCase;
+import uk.gov.hmcts.cmc.ccd.sample.data.SampleData;
+import uk.gov.hmcts.cmc.claimstore.config.JacksonConfiguration;
+import uk.gov.hmcts.cmc.domain.models.Claim;
+import uk.gov.hmcts.cmc.domain.models.sampledata.SampleClaim;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the shared, tuned mapper from {@link JacksonConfiguration} against the plain mapper configuration
+ * it replaced, on sample claim and CCD case payloads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ObjectMapperBenchmark {
+
+    @Param({"PLAIN", "TUNED"})
+    public String mapperType;
+
+    private ObjectMapper objectMapper;
+    private Claim claim;
+    private String claimJson;
+    private CCDCase ccdCase;
+    private String ccdCaseJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = "TUNED".equals(mapperType) ? new JacksonConfiguration().objectMapper() : plainObjectMapper();
+
+        claim = SampleClaim.getClaimWithFullDefenceNoMediation();
+        claimJson = objectMapper.writeValueAsString(claim);
+        ccdCase = SampleData.getCCDCitizenCaseWithRespondent(SampleData.getIndividualRespondentWithDQ());
+        ccdCaseJson = objectMapper.writeValueAsString(ccdCase);
+    }
+
+    @Benchmark
+    public String serializeClaim() throws IOException {
+        return objectMapper.writeValueAsString(claim);
+    }
+
+    @Benchmark
+    public Claim deserializeClaim() throws IOException {
+        return objectMapper.readValue(claimJson, Claim.class);
+    }
+
+    @Benchmark
+    public String serializeCCDCase() throws IOException {
+        return objectMapper.writeValueAsString(ccdCase);
+    }
+
+    @Benchmark
+    public CCDCase deserializeCCDCase() throws IOException {
+        return objectMapper.readValue(ccdCaseJson, CCDCase.class);
+    }
+
+    private static ObjectMapper plainObjectMapper() {
+        return new ObjectMapper()
+            .enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS)
+            .registerModule(new Jdk8Module())
+            .registerModule(new ParameterNamesModule(JsonCreator.Mode.PROPERTIES))
+            .registerModule(new JavaTimeModule()).disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .setSerializationInclusion(JsonInclude.Include.NON_EMPTY)
+            .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+    }
+}
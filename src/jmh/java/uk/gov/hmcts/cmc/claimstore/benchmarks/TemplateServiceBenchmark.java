@@ -0,0 +1,70 @@
+package uk.gov.hmcts.cmc.claimstore.benchmarks;
+
+import com.mitchellbosecke.pebble.PebbleEngine;
+import com.mitchellbosecke.pebble.error.PebbleException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.cmc.claimstore.config.PebbleConfiguration;
+import uk.gov.hmcts.cmc.claimstore.config.properties.templates.TemplateRegistry;
+import uk.gov.hmcts.cmc.claimstore.services.TemplateService;
+import uk.gov.hmcts.cmc.claimstore.services.staff.DefendantResponseStaffNotificationService;
+import uk.gov.hmcts.cmc.domain.models.sampledata.SampleClaim;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares evaluating the full defence staff email by parsing the template on every call, as the uncached engine
+ * did, against the compiled-template cache of {@link TemplateService}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemplateServiceBenchmark {
+
+    private static final String FULL_DEFENCE_BODY = "/staff/templates/email/fullDefence/body.txt";
+
+    private PebbleEngine pebbleEngine;
+    private TemplateService templateService;
+    private String template;
+    private Map<String, Object> values;
+
+    @Setup
+    public void setUp() {
+        TemplateRegistry templateRegistry = new TemplateRegistry(null, 0);
+        pebbleEngine = new PebbleConfiguration().pebbleEngine();
+        templateService = new TemplateService(pebbleEngine, templateRegistry, 100);
+        templateService.precompile();
+
+        template = templateRegistry.getString(FULL_DEFENCE_BODY);
+        values = DefendantResponseStaffNotificationService.wrapInMap(
+            SampleClaim.getWithDefaultResponse(), "defendant@example.com");
+    }
+
+    @Benchmark
+    public String parseOnEveryEvaluation() throws PebbleException, IOException {
+        try (Writer writer = new StringWriter()) {
+            pebbleEngine.getTemplate(template).evaluate(writer, values);
+            return writer.toString();
+        }
+    }
+
+    @Benchmark
+    public String evaluateCompiledTemplate() {
+        return templateService.evaluate(template, values);
+    }
+}
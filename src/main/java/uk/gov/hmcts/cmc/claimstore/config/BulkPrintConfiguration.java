@@ -0,0 +1,30 @@
+package uk.gov.hmcts.cmc.claimstore.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Documents in a bulk print pack are rendered side by side, bounded across all print jobs by this pool. When
+ * the pool is saturated the print job renders on its own thread instead of failing.
+ */
+@Configuration
+public class BulkPrintConfiguration {
+
+    @Bean(name = "bulkPrintRenderExecutor")
+    public ThreadPoolTaskExecutor bulkPrintRenderExecutor(
+        @Value("${send-letter.render.threads:4}") int threads,
+        @Value("${send-letter.render.queue-capacity:50}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("bulk-print-render-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+}
@@ -11,7 +11,10 @@ import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
 import org.springframework.transaction.PlatformTransactionManager;
 import uk.gov.hmcts.cmc.claimstore.config.db.OptionalContainerFactory;
+import uk.gov.hmcts.cmc.claimstore.repositories.CaseEventLedgerRepository;
+import uk.gov.hmcts.cmc.claimstore.repositories.NotificationQueueRepository;
 import uk.gov.hmcts.cmc.claimstore.repositories.ReferenceNumberRepository;
+import uk.gov.hmcts.cmc.claimstore.repositories.ResponseReminderRepository;
 import uk.gov.hmcts.cmc.claimstore.repositories.UserRolesRepository;
 
 import javax.sql.DataSource;
@@ -77,4 +80,19 @@ public class CmcDBConfiguration {
     public ReferenceNumberRepository referenceNumberRepository(DBI dbi) {
         return dbi.onDemand(ReferenceNumberRepository.class);
     }
+
+    @Bean
+    public ResponseReminderRepository responseReminderRepository(DBI dbi) {
+        return dbi.onDemand(ResponseReminderRepository.class);
+    }
+
+    @Bean
+    public CaseEventLedgerRepository caseEventLedgerRepository(DBI dbi) {
+        return dbi.onDemand(CaseEventLedgerRepository.class);
+    }
+
+    @Bean
+    public NotificationQueueRepository notificationQueueRepository(DBI dbi) {
+        return dbi.onDemand(NotificationQueueRepository.class);
+    }
 }
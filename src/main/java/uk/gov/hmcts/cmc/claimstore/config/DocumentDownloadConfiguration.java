@@ -0,0 +1,27 @@
+package uk.gov.hmcts.cmc.claimstore.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Documents are fetched from document management on a bounded pool, so that a slow fetch can be given up after
+ * {@code document_management.download.timeout-millis} while the body is still written on the request thread.
+ */
+@Configuration
+public class DocumentDownloadConfiguration {
+
+    @Bean(name = "documentDownloadExecutor")
+    public ThreadPoolTaskExecutor documentDownloadExecutor(
+        @Value("${document_management.download.threads:20}") int threads,
+        @Value("${document_management.download.queue-capacity:100}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("document-download-");
+        return executor;
+    }
+}
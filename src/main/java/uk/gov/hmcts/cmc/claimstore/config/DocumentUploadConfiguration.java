@@ -0,0 +1,30 @@
+package uk.gov.hmcts.cmc.claimstore.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Documents generated together for a claim are uploaded side by side from a bounded pool; once the queue is
+ * full the thread handling the claim uploads the next document itself.
+ */
+@Configuration
+public class DocumentUploadConfiguration {
+
+    @Bean(name = "documentUploadExecutor")
+    public ThreadPoolTaskExecutor documentUploadExecutor(
+        @Value("${document_management.upload.threads:10}") int threads,
+        @Value("${document_management.upload.queue-capacity:100}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("document-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+}
@@ -7,6 +7,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
 import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -15,14 +16,25 @@ import org.springframework.context.annotation.Primary;
 @Configuration
 public class JacksonConfiguration {
 
+    /**
+     * Single mapper instance shared by Spring beans and the non-Spring callers (JDBI mappers, tests), so that
+     * every caller benefits from the same serializer and deserializer caches.
+     */
+    private static final ObjectMapper SHARED_OBJECT_MAPPER = createObjectMapper();
+
     @Bean
     @Primary
     public ObjectMapper objectMapper() {
+        return SHARED_OBJECT_MAPPER;
+    }
+
+    private static ObjectMapper createObjectMapper() {
         return new ObjectMapper()
             .enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS)
             .registerModule(new Jdk8Module())
             .registerModule(new ParameterNamesModule(JsonCreator.Mode.PROPERTIES))
             .registerModule(new JavaTimeModule()).disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .registerModule(new AfterburnerModule())
             .setSerializationInclusion(JsonInclude.Include.NON_EMPTY)
             .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
     }
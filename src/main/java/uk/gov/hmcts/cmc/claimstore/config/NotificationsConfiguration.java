@@ -9,6 +9,7 @@ import uk.gov.hmcts.cmc.claimstore.config.properties.notifications.Notifications
 import uk.gov.service.notify.NotificationClient;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableRetry
@@ -22,6 +23,24 @@ public class NotificationsConfiguration {
         return executor;
     }
 
+    /**
+     * Queued notifications are sent from a bounded pool; once its queue is full the dispatcher sends the next
+     * notification itself, which holds back leasing more.
+     */
+    @Bean(name = "notificationDispatchExecutor")
+    public ThreadPoolTaskExecutor notificationDispatchExecutor(
+        @Value("${notifications.dispatch.threads:4}") int threads,
+        @Value("${notifications.dispatch.queue-capacity:50}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("notification-dispatch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
     @Bean
     public NotificationClient notificationClient(NotificationsProperties notificationsProperties) {
         return new NotificationClient(notificationsProperties.getGovNotifyApiKey());
@@ -0,0 +1,49 @@
+package uk.gov.hmcts.cmc.claimstore.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.cmc.ccd.domain.CCDCase;
+import uk.gov.hmcts.cmc.domain.models.Claim;
+import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+
+import java.util.List;
+import javax.annotation.PostConstruct;
+
+/**
+ * Resolves the serializers and deserializers of the hot path types at startup so the first requests
+ * after a deployment do not pay for bean introspection and accessor generation.
+ */
+@Component
+public class ObjectMapperWarmUp {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ObjectMapperWarmUp.class);
+
+    static final List<Class<?>> PRE_RESOLVED_TYPES = ImmutableList.of(
+        Claim.class,
+        CCDCase.class,
+        CallbackRequest.class,
+        CaseDetails.class
+    );
+
+    private final ObjectMapper objectMapper;
+
+    public ObjectMapperWarmUp(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void preResolve() {
+        long start = System.currentTimeMillis();
+        // readers and writers prefetch their root (de)serializers into the mapper's shared caches
+        PRE_RESOLVED_TYPES.forEach(type -> {
+            objectMapper.writerFor(type);
+            objectMapper.readerFor(type);
+        });
+        LOGGER.info("Pre-resolved JSON (de)serializers for {} types in {} ms",
+            PRE_RESOLVED_TYPES.size(), System.currentTimeMillis() - start);
+    }
+}
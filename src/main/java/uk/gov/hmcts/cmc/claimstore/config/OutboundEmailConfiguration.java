@@ -0,0 +1,30 @@
+package uk.gov.hmcts.cmc.claimstore.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Staff and RPA emails are assembled and sent from a bounded pool rather than on the thread handling the
+ * request; once the queue is full the publishing thread sends the next email itself.
+ */
+@Configuration
+public class OutboundEmailConfiguration {
+
+    @Bean(name = "outboundEmailExecutor")
+    public ThreadPoolTaskExecutor outboundEmailExecutor(
+        @Value("${outbound-email.threads:4}") int threads,
+        @Value("${outbound-email.queue-capacity:100}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("outbound-email-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+}
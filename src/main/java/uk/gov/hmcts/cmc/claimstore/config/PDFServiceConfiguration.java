@@ -3,10 +3,14 @@ package uk.gov.hmcts.cmc.claimstore.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.web.client.RestTemplate;
 import uk.gov.hmcts.cmc.claimstore.config.properties.pdf.PDFServiceProperties;
+import uk.gov.hmcts.cmc.claimstore.documents.PdfRenderingGateway;
 import uk.gov.hmcts.reform.pdf.service.client.PDFServiceClient;
 
+import java.util.Collections;
+
 @Configuration
 public class PDFServiceConfiguration {
 
@@ -14,10 +18,14 @@ public class PDFServiceConfiguration {
     public PDFServiceClient pdfServiceClient(
         RestTemplate restTemplate,
         ObjectMapper objectMapper,
-        PDFServiceProperties properties
+        PDFServiceProperties properties,
+        PdfRenderingGateway renderingGateway
     ) {
+        RestTemplate pdfRestTemplate = new RestTemplate(restTemplate.getRequestFactory());
+        pdfRestTemplate.setInterceptors(Collections.<ClientHttpRequestInterceptor>singletonList(renderingGateway));
+
         return PDFServiceClient.builder()
-            .restOperations(restTemplate)
+            .restOperations(pdfRestTemplate)
             .objectMapper(objectMapper)
             .build(properties.getUrl());
     }
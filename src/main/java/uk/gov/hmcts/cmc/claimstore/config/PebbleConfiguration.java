@@ -12,6 +12,7 @@ public class PebbleConfiguration {
     public PebbleEngine pebbleEngine() {
         return new PebbleEngine.Builder()
             .loader(new StringLoader())
+            // compiled templates are cached by TemplateService, keyed by content rather than by name
             .cacheActive(false)
             .strictVariables(true)
             .build();
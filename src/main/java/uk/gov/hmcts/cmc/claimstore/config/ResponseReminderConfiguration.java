@@ -0,0 +1,30 @@
+package uk.gov.hmcts.cmc.claimstore.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Chunks of the daily response reminder sweep are sent side by side from a bounded pool; once the queue is full
+ * the sweep thread sends the next chunk itself.
+ */
+@Configuration
+public class ResponseReminderConfiguration {
+
+    @Bean(name = "responseReminderExecutor")
+    public ThreadPoolTaskExecutor responseReminderExecutor(
+        @Value("${reminders.sweep.threads:4}") int threads,
+        @Value("${reminders.sweep.queue-capacity:20}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("response-reminder-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+}
@@ -0,0 +1,30 @@
+package uk.gov.hmcts.cmc.claimstore.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Claims picked up by scheduled state transitions are checked and transitioned on their own bounded pool, so a
+ * nightly run neither starves other batch jobs nor the common fork join pool.
+ */
+@Configuration
+public class StateTransitionConfiguration {
+
+    @Bean(name = "stateTransitionExecutor")
+    public ThreadPoolTaskExecutor stateTransitionExecutor(
+        @Value("${schedule.state-transition.threads:8}") int threads,
+        @Value("${schedule.state-transition.queue-capacity:50}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("state-transition-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+}
@@ -1,129 +1,134 @@
 package uk.gov.hmcts.cmc.claimstore.config.properties.emails;
 
 import org.springframework.stereotype.Component;
-
-import static uk.gov.hmcts.cmc.claimstore.utils.ResourceReader.readString;
+import uk.gov.hmcts.cmc.claimstore.config.properties.templates.TemplateRegistry;
 
 @Component
 public class StaffEmailTemplates {
 
+    private final TemplateRegistry templates;
+
+    public StaffEmailTemplates(TemplateRegistry templates) {
+        this.templates = templates;
+    }
+
     public String getClaimIssuedEmailBody() {
-        return readString("/staff/templates/email/claimIssued/body.txt");
+        return templates.getString("/staff/templates/email/claimIssued/body.txt");
     }
 
     public String getClaimIssuedEmailSubject() {
-        return readString("/staff/templates/email/claimIssued/subject.txt");
+        return templates.getString("/staff/templates/email/claimIssued/subject.txt");
     }
 
     public String getFullDefenceResponseEmailBody() {
-        return readString("/staff/templates/email/fullDefence/body.txt");
+        return templates.getString("/staff/templates/email/fullDefence/body.txt");
     }
 
     public String getFullDefenceResponseEmailSubject() {
-        return readString("/staff/templates/email/fullDefence/subject.txt");
+        return templates.getString("/staff/templates/email/fullDefence/subject.txt");
     }
 
     public String getDefendantAdmissionResponseEmailBody() {
-        return readString("/staff/templates/email/defendantAdmission/body.txt");
+        return templates.getString("/staff/templates/email/defendantAdmission/body.txt");
     }
 
     public String getDefendantAdmissionResponseEmailSubject() {
-        return readString("/staff/templates/email/defendantAdmission/subject.txt");
+        return templates.getString("/staff/templates/email/defendantAdmission/subject.txt");
     }
 
     public String getStatesPaidEmailBody() {
-        return readString("/staff/templates/email/statesPaid/body.txt");
+        return templates.getString("/staff/templates/email/statesPaid/body.txt");
     }
 
     public String getStatesPaidEmailSubject() {
-        return readString("/staff/templates/email/statesPaid/subject.txt");
+        return templates.getString("/staff/templates/email/statesPaid/subject.txt");
     }
 
     public String getCCJRequestSubmittedEmailBody() {
-        return readString("/staff/templates/email/ccjRequestSubmitted/body.txt");
+        return templates.getString("/staff/templates/email/ccjRequestSubmitted/body.txt");
     }
 
     public String getCCJRequestSubmittedEmailSubject() {
-        return readString("/staff/templates/email/ccjRequestSubmitted/subject.txt");
+        return templates.getString("/staff/templates/email/ccjRequestSubmitted/subject.txt");
     }
 
     public String getSettlementAgreementAcceptedEmailBody() {
-        return readString("/staff/templates/email/settlementAgreement/offerAccepted/body.txt");
+        return templates.getString("/staff/templates/email/settlementAgreement/offerAccepted/body.txt");
     }
 
     public String getSettlementAgreementAcceptedEmailSubject() {
-        return readString("/staff/templates/email/settlementAgreement/offerAccepted/subject.txt");
+        return templates.getString("/staff/templates/email/settlementAgreement/offerAccepted/subject.txt");
     }
 
     public String getSettlementAgreementRejectedEmailBody() {
-        return readString("/staff/templates/email/settlementAgreement/rejected/body.txt");
+        return templates.getString("/staff/templates/email/settlementAgreement/rejected/body.txt");
     }
 
     public String getSettlementAgreementRejectedEmailSubject() {
-        return readString("/staff/templates/email/settlementAgreement/rejected/subject.txt");
+        return templates.getString("/staff/templates/email/settlementAgreement/rejected/subject.txt");
     }
 
     public String getCountersignedSettlementEmailBody() {
-        return readString("/staff/templates/email/settlementAgreement/countersigned/body.txt");
+        return templates.getString("/staff/templates/email/settlementAgreement/countersigned/body.txt");
     }
 
     public String getCountersignedSettlementEmailSubject() {
-        return readString("/staff/templates/email/settlementAgreement/countersigned/subject.txt");
+        return templates.getString("/staff/templates/email/settlementAgreement/countersigned/subject.txt");
     }
 
     public String getBulkPrintEmailBody() {
-        return readString("/staff/templates/email/bulkPrintFailure/body.txt");
+        return templates.getString("/staff/templates/email/bulkPrintFailure/body.txt");
     }
 
     public String getBulkPrintEmailSubject() {
-        return readString("/staff/templates/email/bulkPrintFailure/subject.txt");
+        return templates.getString("/staff/templates/email/bulkPrintFailure/subject.txt");
     }
 
     public String getPaidInFullEmailBody() {
-        return readString("/staff/templates/email/paidInFull/body.txt");
+        return templates.getString("/staff/templates/email/paidInFull/body.txt");
     }
 
     public String getPaidInFullEmailSubject() {
-        return readString("/staff/templates/email/paidInFull/subject.txt");
+        return templates.getString("/staff/templates/email/paidInFull/subject.txt");
     }
 
     public String getReDeterminationRequestEmailBody() {
-        return readString("/staff/templates/email/redeterminationRequest/body.txt");
+        return templates.getString("/staff/templates/email/redeterminationRequest/body.txt");
     }
 
     public String getReDeterminationRequestEmailSubject() {
-        return readString("/staff/templates/email/redeterminationRequest/subject.txt");
+        return templates.getString("/staff/templates/email/redeterminationRequest/subject.txt");
     }
 
     public String getClaimantRejectOrganisationRepaymentPlanEmailBody() {
-        return readString("/staff/templates/email/claimantRejectOrganisationRepaymentPlan/body.txt");
+        return templates.getString("/staff/templates/email/claimantRejectOrganisationRepaymentPlan/body.txt");
     }
 
     public String getClaimantRejectOrganisationRepaymentPlanEmailSubject() {
-        return readString("/staff/templates/email/claimantRejectOrganisationRepaymentPlan/subject.txt");
+        return templates.getString("/staff/templates/email/claimantRejectOrganisationRepaymentPlan/subject.txt");
     }
 
     public String getClaimantRejectPartAdmissionEmailBody() {
-        return readString("/staff/templates/email/claimantResponse/rejection/partAdmission/body.txt");
+        return templates.getString("/staff/templates/email/claimantResponse/rejection/partAdmission/body.txt");
     }
 
     public String getClaimantRejectPartAdmissionEmailSubject() {
-        return readString("/staff/templates/email/claimantResponse/rejection/partAdmission/subject.txt");
+        return templates.getString("/staff/templates/email/claimantResponse/rejection/partAdmission/subject.txt");
     }
 
     public String getClaimantDirectionsHearingEmailSubject() {
-        return readString("/staff/templates/email/claimantResponse/rejection/directionsHearing/subject.txt");
+        return templates.getString("/staff/templates/email/claimantResponse/rejection/directionsHearing/subject.txt");
     }
 
     public String getClaimantDirectionsHearingEmailBody() {
-        return readString("/staff/templates/email/claimantResponse/rejection/directionsHearing/body.txt");
+        return templates.getString("/staff/templates/email/claimantResponse/rejection/directionsHearing/body.txt");
     }
 
     public String getScheduledStateTransitionEmailSubject() {
-        return readString("/staff/templates/email/scheduledStateTransition/subject.txt");
+        return templates.getString("/staff/templates/email/scheduledStateTransition/subject.txt");
     }
 
     public String getScheduledStateTransitionEmailBody() {
-        return readString("/staff/templates/email/scheduledStateTransition/body.txt");
+        return templates.getString("/staff/templates/email/scheduledStateTransition/body.txt");
     }
 }
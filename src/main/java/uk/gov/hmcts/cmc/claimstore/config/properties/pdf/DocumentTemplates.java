@@ -1,53 +1,73 @@
 package uk.gov.hmcts.cmc.claimstore.config.properties.pdf;
 
 import org.springframework.stereotype.Component;
-
-import static uk.gov.hmcts.cmc.claimstore.utils.ResourceReader.readBytes;
+import uk.gov.hmcts.cmc.claimstore.config.properties.templates.TemplateRegistry;
 
 @Component
 public class DocumentTemplates {
 
+    private static final String SEALED_CLAIM = "/staff/templates/document/sealedClaim.html";
+    private static final String DEFENDANT_PIN_LETTER = "/staff/templates/document/defendantPinLetter.html";
+
+    private final TemplateRegistry templates;
+
+    public DocumentTemplates(TemplateRegistry templates) {
+        this.templates = templates;
+    }
+
     public byte[] getDefendantResponseReceipt() {
-        return readBytes("/citizen/templates/document/defendantResponseReceipt.html");
+        return templates.getBytes("/citizen/templates/document/defendantResponseReceipt.html");
     }
 
     public byte[] getClaimantResponseReceipt() {
-        return readBytes("/citizen/templates/document/claimantResponseReceipt.html");
+        return templates.getBytes("/citizen/templates/document/claimantResponseReceipt.html");
     }
 
     public byte[] getClaimIssueReceipt() {
-        return readBytes("/citizen/templates/document/claimIssueReceipt.html");
+        return templates.getBytes("/citizen/templates/document/claimIssueReceipt.html");
     }
 
     public byte[] getReviewOrder() {
-        return readBytes("/citizen/templates/document/reviewOrder.html");
+        return templates.getBytes("/citizen/templates/document/reviewOrder.html");
     }
 
     public byte[] getSealedClaim() {
-        return readBytes("/staff/templates/document/sealedClaim.html");
+        return templates.getBytes(SEALED_CLAIM);
     }
 
     public byte[] getDefendantPinLetter() {
-        return readBytes("/staff/templates/document/defendantPinLetter.html");
+        return templates.getBytes(DEFENDANT_PIN_LETTER);
     }
 
     public byte[] getLegalSealedClaim() {
-        return readBytes("/staff/templates/document/legalSealedClaim.html");
+        return templates.getBytes("/staff/templates/document/legalSealedClaim.html");
     }
 
     public byte[] getCountyCourtJudgmentByRequest() {
-        return readBytes("/staff/templates/document/countyCourtJudgmentDetails.html");
+        return templates.getBytes("/staff/templates/document/countyCourtJudgmentDetails.html");
     }
 
     public byte[] getSettlementAgreement() {
-        return readBytes("/staff/templates/document/settlementAgreement.html");
+        return templates.getBytes("/staff/templates/document/settlementAgreement.html");
     }
 
     public byte[] getLegalOrderCoverSheet() {
-        return readBytes("/staff/templates/document/legalOrderCoverSheet.html");
+        return templates.getBytes("/staff/templates/document/legalOrderCoverSheet.html");
     }
 
     public byte[] getClaimantDirectionsQuestionnaire() {
-        return readBytes("/citizen/templates/document/claimantDirectionsQuestionnaire.html");
+        return templates.getBytes("/citizen/templates/document/claimantDirectionsQuestionnaire.html");
+    }
+
+    public String getSealedClaimHtml() {
+        return templates.getString(SEALED_CLAIM);
+    }
+
+    public String getDefendantPinLetterHtml() {
+        return templates.getString(DEFENDANT_PIN_LETTER);
+    }
+
+    public byte[] toBytes(String html) {
+        return templates.toBytes(html);
     }
 }
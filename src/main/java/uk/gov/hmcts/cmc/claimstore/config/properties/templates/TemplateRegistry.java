@@ -0,0 +1,281 @@
+package uk.gov.hmcts.cmc.claimstore.config.properties.templates;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import javax.annotation.PreDestroy;
+
+/**
+ * Holds every document and email template in memory so rendering never reads from the classpath.
+ *
+ * <p>Templates are loaded once, keyed by their classpath location (e.g.
+ * {@code /staff/templates/document/sealedClaim.html}). When {@code templates.override-directory} is set, files at
+ * the same relative location in that directory take precedence and are re-read every
+ * {@code templates.reload-interval-seconds}, so template fixes can be rolled out from a mounted volume.</p>
+ */
+@Component
+public class TemplateRegistry implements MeterBinder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TemplateRegistry.class);
+
+    static final List<String> TEMPLATE_LOCATIONS = ImmutableList.of(
+        "/citizen/templates/",
+        "/staff/templates/",
+        "/rpa/templates/"
+    );
+
+    private final Path overrideDirectory;
+    private final ScheduledExecutorService reloader;
+
+    private final AtomicLong reloads = new AtomicLong();
+    private volatile long loadTimeMillis;
+    private volatile Map<String, Template> templates;
+    private volatile Map<String, byte[]> bytesByString;
+
+    @Autowired
+    public TemplateRegistry(
+        @Value("${templates.override-directory:#{null}}") String overrideDirectory,
+        @Value("${templates.reload-interval-seconds:60}") long reloadIntervalSeconds
+    ) {
+        this.overrideDirectory = Optional.ofNullable(overrideDirectory)
+            .filter(directory -> !directory.isEmpty())
+            .map(Paths::get)
+            .orElse(null);
+
+        load();
+        LOGGER.info("Loaded {} templates ({} bytes) in {} ms", templates.size(), (long) totalBytes(), loadTimeMillis);
+
+        if (this.overrideDirectory != null && reloadIntervalSeconds > 0) {
+            reloader = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "template-reloader");
+                thread.setDaemon(true);
+                return thread;
+            });
+            reloader.scheduleWithFixedDelay(this::reload, reloadIntervalSeconds, reloadIntervalSeconds,
+                TimeUnit.SECONDS);
+        } else {
+            reloader = null;
+        }
+    }
+
+    /**
+     * Returns the template bytes, which are shared between callers and must not be modified.
+     */
+    public byte[] getBytes(String location) {
+        return get(location).getBytes();
+    }
+
+    public String getString(String location) {
+        return get(location).getString();
+    }
+
+    public String getChecksum(String location) {
+        return get(location).getChecksum();
+    }
+
+    /**
+     * Returns the bytes of a template handed out by {@link #getString(String)} without encoding it again,
+     * falling back to encoding for any other string.
+     */
+    public byte[] toBytes(String template) {
+        byte[] bytes = bytesByString.get(template);
+        return bytes != null ? bytes : template.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public Set<String> getLocations() {
+        return templates.keySet();
+    }
+
+    public int size() {
+        return templates.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("templates.loaded", this, TemplateRegistry::size)
+            .description("Number of document and email templates held in memory")
+            .register(registry);
+        Gauge.builder("templates.size", this, TemplateRegistry::totalBytes)
+            .description("Total size of the templates held in memory")
+            .baseUnit("bytes")
+            .register(registry);
+        TimeGauge.builder("templates.load.time", this, TimeUnit.MILLISECONDS, templates -> templates.loadTimeMillis)
+            .description("Time taken by the last template load")
+            .register(registry);
+        FunctionCounter.builder("templates.reloads", reloads, AtomicLong::get)
+            .description("Number of times templates changed in the override directory were reloaded")
+            .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (reloader != null) {
+            reloader.shutdownNow();
+        }
+    }
+
+    void reload() {
+        try {
+            Map<String, Template> previous = templates;
+            load();
+            if (!previous.equals(templates)) {
+                reloads.incrementAndGet();
+                LOGGER.info("Reloaded templates from {}", overrideDirectory);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to reload templates from {}, keeping the previous versions", overrideDirectory, e);
+        }
+    }
+
+    private Template get(String location) {
+        Template template = templates.get(location);
+        if (template == null) {
+            throw new IllegalStateException("Unable to read resource: " + location);
+        }
+        return template;
+    }
+
+    private double totalBytes() {
+        return templates.values().stream().mapToLong(template -> template.getBytes().length).sum();
+    }
+
+    private synchronized void load() {
+        long start = System.currentTimeMillis();
+        Map<String, Template> loaded = new TreeMap<>();
+
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        for (String location : TEMPLATE_LOCATIONS) {
+            for (Resource resource : resources(resolver, location)) {
+                String key = location + relativePath(resource, location);
+                loaded.put(key, new Template(read(resource)));
+            }
+        }
+
+        if (overrideDirectory != null) {
+            loaded.replaceAll((location, template) -> {
+                Path override = overrideDirectory.resolve(location.substring(1));
+                return Files.isRegularFile(override) ? new Template(read(override)) : template;
+            });
+        }
+
+        Map<String, byte[]> strings = new IdentityHashMap<>();
+        loaded.values().forEach(template -> strings.put(template.getString(), template.getBytes()));
+
+        templates = ImmutableMap.copyOf(loaded);
+        bytesByString = strings;
+        loadTimeMillis = System.currentTimeMillis() - start;
+    }
+
+    private static Resource[] resources(PathMatchingResourcePatternResolver resolver, String location) {
+        try {
+            return Stream.of(resolver.getResources("classpath*:" + location.substring(1) + "**/*"))
+                .filter(Resource::isReadable)
+                .toArray(Resource[]::new);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String relativePath(Resource resource, String location) {
+        try {
+            String url = resource.getURL().toString();
+            return url.substring(url.lastIndexOf(location) + location.length());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] read(Resource resource) {
+        try (InputStream inputStream = resource.getInputStream()) {
+            return IOUtils.toByteArray(inputStream);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read resource: " + resource, e);
+        }
+    }
+
+    private static byte[] read(Path path) {
+        try {
+            return Files.readAllBytes(path);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read template override: " + path, e);
+        }
+    }
+
+    static final class Template {
+
+        private final byte[] bytes;
+        private final String string;
+        private final String checksum;
+
+        Template(byte[] bytes) {
+            this.bytes = bytes;
+            this.string = new String(bytes, StandardCharsets.UTF_8);
+            this.checksum = sha256(bytes);
+        }
+
+        byte[] getBytes() {
+            return bytes;
+        }
+
+        String getString() {
+            return string;
+        }
+
+        String getChecksum() {
+            return checksum;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Template && checksum.equals(((Template) other).checksum);
+        }
+
+        @Override
+        public int hashCode() {
+            return checksum.hashCode();
+        }
+
+        private static String sha256(byte[] bytes) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+                return String.format("%064x", new BigInteger(1, digest));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
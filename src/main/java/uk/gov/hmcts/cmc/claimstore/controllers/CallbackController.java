@@ -15,12 +15,14 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import uk.gov.hmcts.cmc.claimstore.services.ccd.CallbackHandlerFactory;
+import uk.gov.hmcts.cmc.claimstore.services.ccd.CaseEventLedger;
 import uk.gov.hmcts.cmc.claimstore.services.ccd.callbacks.CallbackParams;
 import uk.gov.hmcts.cmc.claimstore.services.ccd.callbacks.CallbackType;
 import uk.gov.hmcts.cmc.claimstore.services.ccd.callbacks.CallbackVersion;
 import uk.gov.hmcts.cmc.claimstore.stereotypes.LogExecutionTime;
 import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
 import uk.gov.hmcts.reform.ccd.client.model.CallbackResponse;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 
 import java.util.Optional;
 import javax.validation.constraints.NotNull;
@@ -36,10 +38,12 @@ public class CallbackController {
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     private final CallbackHandlerFactory callbackHandlerFactory;
+    private final CaseEventLedger caseEventLedger;
 
     @Autowired
-    public CallbackController(CallbackHandlerFactory callbackHandlerFactory) {
+    public CallbackController(CallbackHandlerFactory callbackHandlerFactory, CaseEventLedger caseEventLedger) {
         this.callbackHandlerFactory = callbackHandlerFactory;
+        this.caseEventLedger = caseEventLedger;
     }
 
     @PostMapping(path = {"/{callback-type}", "{version}/{callback-type}"})
@@ -52,13 +56,19 @@ public class CallbackController {
         @PathVariable("version") Optional<String> version
     ) {
         logger.info("Received callback from CCD, eventId: {}", callback.getEventId());
+        CallbackType type = CallbackType.fromValue(callbackType);
         CallbackParams callbackParams = CallbackParams.builder()
             .request(callback)
-            .type(CallbackType.fromValue(callbackType))
+            .type(type)
             .params(ImmutableMap.of(CallbackParams.Params.BEARER_TOKEN, authorisation))
             .version(version.map(String::toUpperCase).map(CallbackVersion::valueOf).orElse(null))
             .build();
 
-        return callbackHandlerFactory.dispatch(callbackParams);
+        CallbackResponse response = callbackHandlerFactory.dispatch(callbackParams);
+        if (type == CallbackType.SUBMITTED) {
+            caseEventLedger.record(callback.getCaseDetails(), callback.getEventId(),
+                Optional.ofNullable(callback.getCaseDetailsBefore()).map(CaseDetails::getLastModified).orElse(null));
+        }
+        return response;
     }
 }
@@ -17,6 +17,7 @@ import uk.gov.hmcts.cmc.claimstore.exceptions.NotFoundException;
 import uk.gov.hmcts.cmc.claimstore.services.ClaimService;
 import uk.gov.hmcts.cmc.domain.models.Claim;
 import uk.gov.hmcts.cmc.domain.models.ClaimData;
+import uk.gov.hmcts.cmc.domain.models.ClaimSummary;
 import uk.gov.hmcts.cmc.domain.models.PaidInFull;
 import uk.gov.hmcts.cmc.domain.models.ReviewOrder;
 import uk.gov.hmcts.cmc.domain.models.ioc.CreatePaymentResponse;
@@ -50,6 +51,15 @@ public class ClaimController {
         return claimService.getClaimBySubmitterId(submitterId, authorisation);
     }
 
+    @GetMapping("/claimant/{submitterId}/summary")
+    @ApiOperation("Fetch summaries of user claims for given submitter id")
+    public List<ClaimSummary> getSummariesBySubmitterId(
+        @PathVariable("submitterId") String submitterId,
+        @RequestHeader(HttpHeaders.AUTHORIZATION) String authorisation
+    ) {
+        return claimService.getClaimSummariesBySubmitterId(submitterId, authorisation);
+    }
+
     @GetMapping("/letter/{letterHolderId}")
     @ApiOperation("Fetch user claim for given letter holder id")
     public Claim getByLetterHolderId(
@@ -93,6 +103,15 @@ public class ClaimController {
         return claimService.getClaimByDefendantId(defendantId, authorisation);
     }
 
+    @GetMapping("/defendant/{defendantId}/summary")
+    @ApiOperation("Fetch summaries of claims linked to given defendant id")
+    public List<ClaimSummary> getSummariesByDefendantId(
+        @PathVariable("defendantId") String defendantId,
+        @RequestHeader(HttpHeaders.AUTHORIZATION) String authorisation
+    ) {
+        return claimService.getClaimSummariesByDefendantId(defendantId, authorisation);
+    }
+
     @PostMapping(value = "/{submitterId}", consumes = MediaType.APPLICATION_JSON_VALUE)
     @ApiOperation("Creates a new claim")
     public Claim save(
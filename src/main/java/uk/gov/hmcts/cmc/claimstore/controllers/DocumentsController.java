@@ -6,18 +6,28 @@ import io.swagger.annotations.ApiParam;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.cmc.claimstore.exceptions.DocumentManagementException;
+import uk.gov.hmcts.cmc.claimstore.services.document.DocumentDownload;
 import uk.gov.hmcts.cmc.claimstore.services.document.DocumentsService;
 import uk.gov.hmcts.cmc.domain.models.ClaimDocumentType;
 
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.constraints.NotBlank;
 
 @Api
@@ -27,10 +37,18 @@ public class DocumentsController {
 
     private final Logger logger = LoggerFactory.getLogger(getClass());
     private final DocumentsService documentsService;
+    private final AsyncTaskExecutor downloadExecutor;
+    private final long downloadTimeoutMillis;
 
     @Autowired
-    public DocumentsController(DocumentsService documentsService) {
+    public DocumentsController(
+        DocumentsService documentsService,
+        @Qualifier("documentDownloadExecutor") AsyncTaskExecutor downloadExecutor,
+        @Value("${document_management.download.timeout-millis:120000}") long downloadTimeoutMillis
+    ) {
         this.documentsService = documentsService;
+        this.downloadExecutor = downloadExecutor;
+        this.downloadTimeoutMillis = downloadTimeoutMillis;
     }
 
     @ApiOperation("Returns a specific pdf for a given claim external id")
@@ -38,22 +56,75 @@ public class DocumentsController {
         value = "/{documentType}/{externalId}",
         produces = MediaType.APPLICATION_PDF_VALUE
     )
-    public ResponseEntity<ByteArrayResource> document(
+    public void document(
         @ApiParam("Claim document type")
         @PathVariable("documentType") @NotBlank String documentType,
         @ApiParam("Claim external id")
         @PathVariable("externalId") @NotBlank String externalId,
-        @RequestHeader(HttpHeaders.AUTHORIZATION) String authorisation
-    ) {
+        @RequestHeader(HttpHeaders.AUTHORIZATION) String authorisation,
+        @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+        HttpServletResponse response
+    ) throws IOException {
         ClaimDocumentType claimDocumentType = ClaimDocumentType.fromValue(documentType);
 
         logger.info("Received request to create/download pdf of type " + claimDocumentType.name());
 
-        byte[] pdfDocument = documentsService.generateDocument(externalId, claimDocumentType, authorisation);
+        try (DocumentDownload download = fetch(() -> documentsService.downloadDocument(
+            externalId,
+            claimDocumentType,
+            authorisation,
+            range,
+            ifNoneMatch
+        ))) {
+            write(download, response);
+        }
+    }
+
+    /**
+     * Fetches the document on the download pool, giving up after the download timeout. Only the fetch is
+     * bounded; copying the body to the client takes as long as the client needs.
+     */
+    private DocumentDownload fetch(Supplier<DocumentDownload> downloader) {
+        CompletableFuture<DocumentDownload> download = CompletableFuture.supplyAsync(downloader, downloadExecutor);
+        try {
+            return download.get(downloadTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // a download arriving after we have given up still holds a connection to document management
+            download.thenAccept(this::closeQuietly);
+            throw new DocumentManagementException("Timed out fetching document from document management", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DocumentManagementException("Interrupted fetching document from document management", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new DocumentManagementException("Unable to fetch document from document management", e.getCause());
+        }
+    }
+
+    private static void write(DocumentDownload download, HttpServletResponse response) throws IOException {
+        response.setStatus(download.getStatus().value());
+        download.getETag().ifPresent(eTag -> {
+            response.setHeader(HttpHeaders.ETAG, eTag);
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        });
+        download.getContentLength().ifPresent(response::setContentLengthLong);
+        download.getContentRange()
+            .ifPresent(contentRange -> response.setHeader(HttpHeaders.CONTENT_RANGE, contentRange));
+
+        if (download.hasBody()) {
+            response.setContentType(MediaType.APPLICATION_PDF_VALUE);
+            download.writeTo(response.getOutputStream());
+        }
+    }
 
-        return ResponseEntity
-            .ok()
-            .contentLength(pdfDocument.length)
-            .body(new ByteArrayResource(pdfDocument));
+    private void closeQuietly(DocumentDownload download) {
+        try {
+            download.close();
+        } catch (IOException e) {
+            logger.debug("Unable to close abandoned document download", e);
+        }
     }
 }
@@ -5,15 +5,20 @@ import io.swagger.annotations.ApiOperation;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.cmc.claimstore.controllers.dto.InterestCalculationRequest;
 import uk.gov.hmcts.cmc.domain.amount.TotalAmountCalculator;
 import uk.gov.hmcts.cmc.domain.exceptions.BadRequestException;
 import uk.gov.hmcts.cmc.domain.models.InterestAmount;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 @Api
 @RestController
@@ -22,6 +27,8 @@ import java.time.LocalDate;
     produces = MediaType.APPLICATION_JSON_VALUE)
 public class InterestRatesController {
 
+    static final int MAX_BATCH_SIZE = 500;
+
     @GetMapping("/calculate")
     @ApiOperation("Calculates the interest amount accrued between provided dates")
     public InterestAmount calculateInterest(
@@ -36,4 +43,33 @@ public class InterestRatesController {
             throw new BadRequestException(e.getMessage(), e);
         }
     }
+
+    @PostMapping(path = "/calculate-batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ApiOperation("Calculates the interest amounts accrued for each of the provided calculations, in request order")
+    public List<InterestAmount> calculateInterestBatch(
+        @RequestBody List<InterestCalculationRequest> calculations
+    ) {
+        if (calculations == null || calculations.isEmpty()) {
+            throw new BadRequestException("At least one interest calculation is required");
+        }
+        if (calculations.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("No more than " + MAX_BATCH_SIZE + " interest calculations are allowed");
+        }
+
+        List<InterestAmount> amounts = new ArrayList<>(calculations.size());
+        for (int index = 0; index < calculations.size(); index++) {
+            InterestCalculationRequest calculation = calculations.get(index);
+            try {
+                amounts.add(new InterestAmount(TotalAmountCalculator.calculateInterest(
+                    calculation.getAmount(),
+                    calculation.getRate(),
+                    calculation.getFromDate(),
+                    calculation.getToDate()
+                )));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new BadRequestException("Invalid interest calculation at index " + index, e);
+            }
+        }
+        return amounts;
+    }
 }
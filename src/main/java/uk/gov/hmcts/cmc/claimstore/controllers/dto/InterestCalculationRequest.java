@@ -0,0 +1,35 @@
+package uk.gov.hmcts.cmc.claimstore.controllers.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import uk.gov.hmcts.cmc.domain.utils.ToStringStyle;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@EqualsAndHashCode
+@Getter
+public class InterestCalculationRequest {
+
+    private final LocalDate fromDate;
+    private final LocalDate toDate;
+    private final BigDecimal rate;
+    private final BigDecimal amount;
+
+    @Builder
+    @JsonCreator
+    public InterestCalculationRequest(LocalDate fromDate, LocalDate toDate, BigDecimal rate, BigDecimal amount) {
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+        this.rate = rate;
+        this.amount = amount;
+    }
+
+    @Override
+    public String toString() {
+        return ReflectionToStringBuilder.toString(this, ToStringStyle.ourStyle());
+    }
+}
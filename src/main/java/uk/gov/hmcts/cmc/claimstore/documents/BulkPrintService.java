@@ -3,12 +3,14 @@ package uk.gov.hmcts.cmc.claimstore.documents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Recover;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.cmc.claimstore.appinsights.AppInsights;
+import uk.gov.hmcts.cmc.claimstore.config.properties.templates.TemplateRegistry;
 import uk.gov.hmcts.cmc.claimstore.documents.bulkprint.Printable;
 import uk.gov.hmcts.cmc.claimstore.services.staff.BulkPrintStaffNotificationService;
 import uk.gov.hmcts.cmc.claimstore.stereotypes.LogExecutionTime;
@@ -26,6 +28,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
@@ -53,6 +58,8 @@ public class BulkPrintService implements PrintService {
     private final AppInsights appInsights;
     private final BulkPrintStaffNotificationService bulkPrintStaffNotificationService;
     private final PDFServiceClient pdfServiceClient;
+    private final TemplateRegistry templateRegistry;
+    private final Executor renderExecutor;
 
     @Autowired
     public BulkPrintService(
@@ -60,13 +67,17 @@ public class BulkPrintService implements PrintService {
         AuthTokenGenerator authTokenGenerator,
         BulkPrintStaffNotificationService bulkPrintStaffNotificationService,
         AppInsights appInsights,
-        PDFServiceClient pdfServiceClient
+        PDFServiceClient pdfServiceClient,
+        TemplateRegistry templateRegistry,
+        @Qualifier("bulkPrintRenderExecutor") Executor renderExecutor
     ) {
         this.sendLetterApi = sendLetterApi;
         this.authTokenGenerator = authTokenGenerator;
         this.appInsights = appInsights;
         this.bulkPrintStaffNotificationService = bulkPrintStaffNotificationService;
         this.pdfServiceClient = pdfServiceClient;
+        this.templateRegistry = templateRegistry;
+        this.renderExecutor = renderExecutor;
     }
 
     @LogExecutionTime
@@ -127,11 +138,7 @@ public class BulkPrintService implements PrintService {
             info = "General Letter {} created for letter type {} claim reference {}";
         }
 
-        List<String> docs = documents.stream()
-            .filter(Objects::nonNull)
-            .map(Printable::getDocument)
-            .map(this::readDocuments)
-            .collect(Collectors.toList());
+        List<String> docs = renderDocuments(documents);
 
         SendLetterResponse sendLetterResponse = sendLetterApi.sendLetter(
             authTokenGenerator.generate(),
@@ -149,6 +156,32 @@ public class BulkPrintService implements PrintService {
         );
     }
 
+    /**
+     * Renders the pack's documents side by side on the bounded render executor, keeping them in pack order.
+     * Each PDF is Base64 encoded on the thread that rendered it so the raw bytes can be released straight away.
+     */
+    private List<String> renderDocuments(List<Printable> documents) {
+        List<CompletableFuture<String>> renders = documents.stream()
+            .filter(Objects::nonNull)
+            .map(Printable::getDocument)
+            .map(document -> document.values.isEmpty()
+                ? CompletableFuture.completedFuture(document.template)
+                : CompletableFuture.supplyAsync(() -> readDocuments(document), renderExecutor))
+            .collect(Collectors.toList());
+
+        try {
+            return renders.stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+        } catch (CompletionException ex) {
+            renders.forEach(render -> render.cancel(false));
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+
     private String readDocuments(Document document) {
         if (document.values.isEmpty()) {
             // This scenario is only valid for direction order or general letter (generated by DOCMOSIS)
@@ -156,7 +189,7 @@ public class BulkPrintService implements PrintService {
             return document.template;
         }
 
-        byte[] html = pdfServiceClient.generateFromHtml(document.template.getBytes(), document.values);
+        byte[] html = pdfServiceClient.generateFromHtml(templateRegistry.toBytes(document.template), document.values);
         return Base64.getEncoder().encodeToString(html);
     }
 
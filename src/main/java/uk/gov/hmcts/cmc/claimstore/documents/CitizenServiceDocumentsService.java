@@ -26,13 +26,17 @@ public class CitizenServiceDocumentsService {
     }
 
     public Document sealedClaimDocument(Claim claim) {
-        return new Document(new String(documentTemplates.getSealedClaim()), claimContentProvider.createContent(claim));
+        return new Document(documentTemplates.getSealedClaimHtml(), claimContentProvider.createContent(claim));
     }
 
     public Document pinLetterDocument(Claim claim, String defendantPin) {
         return new Document(
-            new String(documentTemplates.getDefendantPinLetter()),
+            documentTemplates.getDefendantPinLetterHtml(),
             letterContentProvider.createContent(claim, defendantPin)
         );
     }
+
+    public byte[] templateBytes(Document document) {
+        return documentTemplates.toBytes(document.template);
+    }
 }
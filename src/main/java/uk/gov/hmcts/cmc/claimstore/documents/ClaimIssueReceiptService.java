@@ -5,7 +5,6 @@ import org.springframework.stereotype.Service;
 import uk.gov.hmcts.cmc.claimstore.config.properties.pdf.DocumentTemplates;
 import uk.gov.hmcts.cmc.claimstore.documents.output.PDF;
 import uk.gov.hmcts.cmc.domain.models.Claim;
-import uk.gov.hmcts.reform.pdf.service.client.PDFServiceClient;
 
 import static java.util.Objects.requireNonNull;
 import static uk.gov.hmcts.cmc.claimstore.utils.DocumentNameUtils.buildClaimIssueReceiptFileBaseName;
@@ -15,26 +14,33 @@ import static uk.gov.hmcts.cmc.domain.models.ClaimDocumentType.CLAIM_ISSUE_RECEI
 public class ClaimIssueReceiptService implements PdfService {
 
     private final DocumentTemplates documentTemplates;
-    private final PDFServiceClient pdfServiceClient;
+    private final PdfCache pdfCache;
     private final ClaimContentProvider claimContentProvider;
+    private final GeneratedDocumentMemo documentMemo;
 
     @Autowired
     public ClaimIssueReceiptService(
         DocumentTemplates documentTemplates,
-        PDFServiceClient pdfServiceClient,
-        ClaimContentProvider claimContentProvider
+        PdfCache pdfCache,
+        ClaimContentProvider claimContentProvider,
+        GeneratedDocumentMemo documentMemo
     ) {
         this.documentTemplates = documentTemplates;
-        this.pdfServiceClient = pdfServiceClient;
+        this.pdfCache = pdfCache;
         this.claimContentProvider = claimContentProvider;
+        this.documentMemo = documentMemo;
     }
 
     public PDF createPdf(Claim claim) {
         requireNonNull(claim);
 
+        return documentMemo.getOrGenerate(claim, CLAIM_ISSUE_RECEIPT, () -> generatePdf(claim));
+    }
+
+    private PDF generatePdf(Claim claim) {
         return new PDF(
             buildClaimIssueReceiptFileBaseName(claim.getReferenceNumber()),
-            pdfServiceClient.generateFromHtml(
+            pdfCache.generateFromHtml(CLAIM_ISSUE_RECEIPT,
                 documentTemplates.getClaimIssueReceipt(),
                 claimContentProvider.createContent(claim)),
             CLAIM_ISSUE_RECEIPT
@@ -7,7 +7,6 @@ import uk.gov.hmcts.cmc.claimstore.documents.output.PDF;
 import uk.gov.hmcts.cmc.claimstore.services.staff.content.countycourtjudgment.ContentProvider;
 import uk.gov.hmcts.cmc.domain.models.Claim;
 import uk.gov.hmcts.cmc.domain.models.ClaimDocumentType;
-import uk.gov.hmcts.reform.pdf.service.client.PDFServiceClient;
 
 import static java.util.Objects.requireNonNull;
 import static uk.gov.hmcts.cmc.claimstore.utils.DocumentNameUtils.buildRequestForJudgementFileBaseName;
@@ -16,28 +15,35 @@ import static uk.gov.hmcts.cmc.claimstore.utils.DocumentNameUtils.buildRequestFo
 public class CountyCourtJudgmentPdfService implements PdfService {
 
     private final DocumentTemplates documentTemplates;
-    private final PDFServiceClient pdfServiceClient;
+    private final PdfCache pdfCache;
     private final ContentProvider contentProvider;
+    private final GeneratedDocumentMemo documentMemo;
 
     @Autowired
     public CountyCourtJudgmentPdfService(
         DocumentTemplates documentTemplates,
-        PDFServiceClient pdfServiceClient,
-        ContentProvider contentProvider
+        PdfCache pdfCache,
+        ContentProvider contentProvider,
+        GeneratedDocumentMemo documentMemo
     ) {
         this.documentTemplates = documentTemplates;
-        this.pdfServiceClient = pdfServiceClient;
+        this.pdfCache = pdfCache;
         this.contentProvider = contentProvider;
+        this.documentMemo = documentMemo;
     }
 
     @Override
     public PDF createPdf(Claim claim) {
         requireNonNull(claim);
 
+        return documentMemo.getOrGenerate(claim, ClaimDocumentType.CCJ_REQUEST, () -> generatePdf(claim));
+    }
+
+    private PDF generatePdf(Claim claim) {
         return new PDF(
             buildRequestForJudgementFileBaseName(claim.getReferenceNumber(),
                 claim.getClaimData().getDefendant().getName()),
-            pdfServiceClient.generateFromHtml(
+            pdfCache.generateFromHtml(ClaimDocumentType.CCJ_REQUEST,
                 documentTemplates.getCountyCourtJudgmentByRequest(),
                 contentProvider.createContent(claim)),
             ClaimDocumentType.CCJ_REQUEST
@@ -8,7 +8,6 @@ import uk.gov.hmcts.cmc.claimstore.documents.content.DefendantResponseContentPro
 import uk.gov.hmcts.cmc.claimstore.documents.output.PDF;
 import uk.gov.hmcts.cmc.claimstore.exceptions.NotFoundException;
 import uk.gov.hmcts.cmc.domain.models.Claim;
-import uk.gov.hmcts.reform.pdf.service.client.PDFServiceClient;
 
 import static java.util.Objects.requireNonNull;
 import static uk.gov.hmcts.cmc.claimstore.utils.DocumentNameUtils.buildResponseFileBaseName;
@@ -19,17 +18,20 @@ public class DefendantResponseReceiptService implements PdfService {
 
     private final DefendantResponseContentProvider contentProvider;
     private final DocumentTemplates documentTemplates;
-    private final PDFServiceClient pdfServiceClient;
+    private final PdfCache pdfCache;
+    private final GeneratedDocumentMemo documentMemo;
 
     @Autowired
     public DefendantResponseReceiptService(
         DefendantResponseContentProvider contentProvider,
         DocumentTemplates documentTemplates,
-        PDFServiceClient pdfServiceClient
+        PdfCache pdfCache,
+        GeneratedDocumentMemo documentMemo
     ) {
         this.contentProvider = contentProvider;
         this.documentTemplates = documentTemplates;
-        this.pdfServiceClient = pdfServiceClient;
+        this.pdfCache = pdfCache;
+        this.documentMemo = documentMemo;
     }
 
     public PDF createPdf(Claim claim) {
@@ -37,15 +39,15 @@ public class DefendantResponseReceiptService implements PdfService {
         if (!claim.getResponse().isPresent() && null == claim.getRespondedAt()) {
             throw new NotFoundException("Defendant response does not exist for this claim");
         }
-        return new PDF(
+        return documentMemo.getOrGenerate(claim, DEFENDANT_RESPONSE_RECEIPT, () -> new PDF(
             buildResponseFileBaseName(claim.getReferenceNumber()),
             createHtml(claim),
-            DEFENDANT_RESPONSE_RECEIPT);
+            DEFENDANT_RESPONSE_RECEIPT));
     }
 
     @VisibleForTesting
     public byte[] createHtml(Claim claim) {
-        return pdfServiceClient.generateFromHtml(
+        return pdfCache.generateFromHtml(DEFENDANT_RESPONSE_RECEIPT,
         documentTemplates.getDefendantResponseReceipt(),
         contentProvider.createContent(claim));
     }
@@ -0,0 +1,149 @@
+package uk.gov.hmcts.cmc.claimstore.documents;
+
+import com.google.common.base.Suppliers;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.cmc.claimstore.documents.output.PDF;
+import uk.gov.hmcts.cmc.claimstore.services.UserService;
+import uk.gov.hmcts.cmc.claimstore.services.document.DocumentManagementService;
+import uk.gov.hmcts.cmc.domain.models.Claim;
+import uk.gov.hmcts.cmc.domain.models.ClaimDocument;
+import uk.gov.hmcts.cmc.domain.models.ClaimDocumentType;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Serves the documents already stored against a claim, so that every step of the claim issue pipeline, and any
+ * retry or support endpoint that repeats it, reuses the copy in document management rather than rendering it
+ * again.
+ *
+ * <p>Sealed claims and claim issue receipts never change once the claim is issued, so their stored copies are
+ * always reused. Defendant response receipts, county court judgment requests and settlement agreements are
+ * reused only when the stored copy was created no earlier than the claim last changed what they show: the
+ * response, the judgment request or its redetermination, and the settlement being reached. Stored copies of
+ * other documents are never reused. Documents not reused are rendered by the given generator, which goes
+ * through the {@link PdfCache}; that is the only copy of the rendered bytes held in memory.</p>
+ */
+@Component
+public class GeneratedDocumentMemo implements MeterBinder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GeneratedDocumentMemo.class);
+    private static final long CASEWORKER_TOKEN_MINUTES = 30;
+
+    private final DocumentManagementService documentManagementService;
+    private final Supplier<String> caseworkerAuthorisation;
+    private final boolean enabled;
+
+    private final AtomicLong storedHits = new AtomicLong();
+    private final AtomicLong renders = new AtomicLong();
+
+    @Autowired
+    public GeneratedDocumentMemo(
+        DocumentManagementService documentManagementService,
+        UserService userService,
+        @Value("${document-memo.enabled:true}") boolean enabled
+    ) {
+        this.documentManagementService = documentManagementService;
+        this.caseworkerAuthorisation = Suppliers.memoizeWithExpiration(
+            () -> userService.authenticateAnonymousCaseWorker().getAuthorisation(),
+            CASEWORKER_TOKEN_MINUTES, TimeUnit.MINUTES)::get;
+        this.enabled = enabled;
+    }
+
+    public PDF getOrGenerate(Claim claim, ClaimDocumentType type, Supplier<PDF> generator) {
+        if (!enabled) {
+            return generator.get();
+        }
+
+        PDF pdf = downloadStored(claim, type);
+        if (pdf != null) {
+            storedHits.incrementAndGet();
+            return pdf;
+        }
+
+        renders.incrementAndGet();
+        return generator.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!enabled) {
+            return;
+        }
+        FunctionCounter.builder("document.memo.requests", storedHits, AtomicLong::get)
+            .description("Claim documents requested from the memo")
+            .tags("source", "document-management")
+            .register(registry);
+        FunctionCounter.builder("document.memo.requests", renders, AtomicLong::get)
+            .description("Claim documents requested from the memo")
+            .tags("source", "generated")
+            .register(registry);
+        FunctionCounter.builder("document.memo.renders.avoided", this, GeneratedDocumentMemo::rendersAvoided)
+            .description("Claim documents served without rendering them again")
+            .register(registry);
+    }
+
+    long rendersAvoided() {
+        return storedHits.get();
+    }
+
+    private PDF downloadStored(Claim claim, ClaimDocumentType type) {
+        ClaimDocument claimDocument = claim.getClaimDocument(type).orElse(null);
+        if (claimDocument == null || !isCurrent(claim, claimDocument, type)) {
+            return null;
+        }
+
+        try {
+            byte[] bytes = documentManagementService.downloadDocument(caseworkerAuthorisation.get(), claimDocument);
+            if (bytes == null) {
+                return null;
+            }
+            return new PDF(baseName(claimDocument.getDocumentName()), bytes, type);
+        } catch (Exception ex) {
+            LOGGER.info("Unable to reuse stored {} for claim {}, generating it again",
+                type, claim.getReferenceNumber(), ex);
+            return null;
+        }
+    }
+
+    /**
+     * Tells whether a stored copy of a document still shows the claim as it is now.
+     */
+    private static boolean isCurrent(Claim claim, ClaimDocument stored, ClaimDocumentType type) {
+        switch (type) {
+            case SEALED_CLAIM:
+            case CLAIM_ISSUE_RECEIPT:
+                return true;
+            case DEFENDANT_RESPONSE_RECEIPT:
+                return createdSince(stored, claim.getRespondedAt());
+            case CCJ_REQUEST:
+                return createdSince(stored, claim.getCountyCourtJudgmentRequestedAt())
+                    && claim.getReDeterminationRequestedAt().map(at -> createdSince(stored, at)).orElse(true);
+            case SETTLEMENT_AGREEMENT:
+                return createdSince(stored, claim.getSettlementReachedAt());
+            default:
+                return false;
+        }
+    }
+
+    private static boolean createdSince(ClaimDocument stored, LocalDateTime changedAt) {
+        return changedAt != null
+            && stored.getCreatedDatetime() != null
+            && !stored.getCreatedDatetime().isBefore(changedAt);
+    }
+
+    private static String baseName(String documentName) {
+        return documentName.endsWith(PDF.EXTENSION)
+            ? documentName.substring(0, documentName.length() - PDF.EXTENSION.length())
+            : documentName;
+    }
+}
@@ -0,0 +1,313 @@
+package uk.gov.hmcts.cmc.claimstore.documents;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.commons.io.output.NullOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.cmc.domain.models.ClaimDocumentType;
+import uk.gov.hmcts.reform.pdf.service.client.PDFServiceClient;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import javax.annotation.PreDestroy;
+
+/**
+ * Content-addressed cache of generated PDFs sitting in front of the {@link PDFServiceClient}.
+ *
+ * <p>A PDF is keyed by a SHA-256 of its document type, the template bytes (so an updated template is a new
+ * version) and the content provider output serialised with sorted map keys. Entries are held in memory up to
+ * {@code pdf-cache.max-memory-bytes}; entries evicted for size spill to {@code pdf-cache.directory} up to
+ * {@code pdf-cache.max-disk-bytes}, least recently used first. Content that cannot be serialised is rendered
+ * without caching.</p>
+ */
+@Component
+public class PdfCache implements MeterBinder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PdfCache.class);
+
+    private static final String EXTENSION = ".pdf";
+
+    private final PDFServiceClient pdfServiceClient;
+    private final ObjectWriter contentWriter;
+    private final Cache<String, byte[]> memory;
+    private final Path directory;
+    private final long maxDiskBytes;
+
+    private final Map<String, Long> disk = new LinkedHashMap<>(16, 0.75f, true);
+    private long diskBytes;
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+
+    @Autowired
+    public PdfCache(
+        PDFServiceClient pdfServiceClient,
+        ObjectMapper objectMapper,
+        @Value("${pdf-cache.enabled:true}") boolean enabled,
+        @Value("${pdf-cache.max-memory-bytes:33554432}") long maxMemoryBytes,
+        @Value("${pdf-cache.max-disk-bytes:268435456}") long maxDiskBytes,
+        @Value("${pdf-cache.directory:#{null}}") String directory
+    ) {
+        this.pdfServiceClient = pdfServiceClient;
+        if (!enabled) {
+            this.contentWriter = null;
+            this.memory = null;
+            this.directory = null;
+            this.maxDiskBytes = 0;
+            return;
+        }
+
+        // empty values and beans without properties must not collapse distinct content onto the same key
+        this.contentWriter = objectMapper.copy()
+            .setSerializationInclusion(JsonInclude.Include.ALWAYS)
+            .enable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+            .writer()
+            .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+        // a single segment keeps the byte bound and least recently used order exact across all entries
+        this.memory = CacheBuilder.newBuilder()
+            .concurrencyLevel(1)
+            .maximumWeight(maxMemoryBytes)
+            .<String, byte[]>weigher((key, pdf) -> pdf.length)
+            .removalListener(this::spill)
+            .build();
+        this.maxDiskBytes = maxDiskBytes;
+        this.directory = maxDiskBytes > 0 ? createDirectory(directory) : null;
+    }
+
+    public byte[] generateFromHtml(ClaimDocumentType type, byte[] template, Map<String, Object> values) {
+        if (memory == null) {
+            return pdfServiceClient.generateFromHtml(template, values);
+        }
+
+        String key = key(type, template, values).orElse(null);
+        if (key == null) {
+            return pdfServiceClient.generateFromHtml(template, values);
+        }
+
+        byte[] pdf = memory.getIfPresent(key);
+        if (pdf != null) {
+            hit(memoryHits, pdf);
+            return pdf;
+        }
+
+        pdf = readFromDisk(key);
+        if (pdf != null) {
+            hit(diskHits, pdf);
+            memory.put(key, pdf);
+            return pdf;
+        }
+
+        misses.incrementAndGet();
+        pdf = pdfServiceClient.generateFromHtml(template, values);
+        memory.put(key, pdf);
+        return pdf;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (memory == null) {
+            return;
+        }
+        FunctionCounter.builder("pdf.cache.requests", memoryHits, AtomicLong::get)
+            .description("PDFs requested from the cache")
+            .tags("result", "hit", "tier", "memory")
+            .register(registry);
+        FunctionCounter.builder("pdf.cache.requests", diskHits, AtomicLong::get)
+            .description("PDFs requested from the cache")
+            .tags("result", "hit", "tier", "disk")
+            .register(registry);
+        FunctionCounter.builder("pdf.cache.requests", misses, AtomicLong::get)
+            .description("PDFs requested from the cache")
+            .tags("result", "miss", "tier", "none")
+            .register(registry);
+        FunctionCounter.builder("pdf.cache.bytes.saved", bytesSaved, AtomicLong::get)
+            .description("Bytes of PDFs served from the cache instead of the PDF service")
+            .baseUnit("bytes")
+            .register(registry);
+        Gauge.builder("pdf.cache.hit.ratio", this, PdfCache::hitRatio)
+            .description("Share of PDF requests served without calling the PDF service")
+            .register(registry);
+        Gauge.builder("pdf.cache.size", this, PdfCache::memoryBytes)
+            .description("Size of the PDFs held by the cache")
+            .tags("tier", "memory")
+            .baseUnit("bytes")
+            .register(registry);
+        Gauge.builder("pdf.cache.size", this, PdfCache::diskBytes)
+            .description("Size of the PDFs held by the cache")
+            .tags("tier", "disk")
+            .baseUnit("bytes")
+            .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (directory != null) {
+            clear(directory);
+        }
+    }
+
+    double hitRatio() {
+        long hits = memoryHits.get() + diskHits.get();
+        long total = hits + misses.get();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    long getBytesSaved() {
+        return bytesSaved.get();
+    }
+
+    synchronized long diskBytes() {
+        return diskBytes;
+    }
+
+    private long memoryBytes() {
+        return memory.asMap().values().stream().mapToLong(pdf -> pdf.length).sum();
+    }
+
+    private void hit(AtomicLong counter, byte[] pdf) {
+        counter.incrementAndGet();
+        bytesSaved.addAndGet(pdf.length);
+    }
+
+    private Optional<String> key(ClaimDocumentType type, byte[] template, Map<String, Object> values) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(type.name().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(template);
+            digest.update((byte) 0);
+            contentWriter.writeValue(new DigestOutputStream(NullOutputStream.NULL_OUTPUT_STREAM, digest), values);
+            return Optional.of(String.format("%064x", new BigInteger(1, digest.digest())));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Unable to compute cache key for {}, rendering without the cache", type, e);
+            return Optional.empty();
+        }
+    }
+
+    private void spill(RemovalNotification<String, byte[]> notification) {
+        if (directory == null || notification.getCause() != RemovalCause.SIZE) {
+            return;
+        }
+        String key = notification.getKey();
+        byte[] pdf = notification.getValue();
+        if (pdf.length > maxDiskBytes) {
+            return;
+        }
+
+        synchronized (this) {
+            if (disk.containsKey(key)) {
+                return;
+            }
+            try {
+                Path temporary = Files.createTempFile(directory, key, ".tmp");
+                Files.write(temporary, pdf);
+                Files.move(temporary, file(key), StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                LOGGER.warn("Unable to spill cached PDF {} to {}", key, directory, e);
+                return;
+            }
+            disk.put(key, (long) pdf.length);
+            diskBytes += pdf.length;
+            trimDisk();
+        }
+    }
+
+    private byte[] readFromDisk(String key) {
+        if (directory == null) {
+            return null;
+        }
+        synchronized (this) {
+            // the lookup also marks the entry as recently used
+            if (disk.get(key) == null) {
+                return null;
+            }
+        }
+
+        // files are written whole and moved into place, so they can be read without holding the index
+        try {
+            return Files.readAllBytes(file(key));
+        } catch (IOException e) {
+            LOGGER.warn("Unable to read cached PDF {} from {}", key, directory, e);
+            synchronized (this) {
+                Long size = disk.remove(key);
+                if (size != null) {
+                    diskBytes -= size;
+                }
+            }
+            return null;
+        }
+    }
+
+    private void trimDisk() {
+        Iterator<Map.Entry<String, Long>> eldest = disk.entrySet().iterator();
+        while (diskBytes > maxDiskBytes && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            try {
+                Files.deleteIfExists(file(entry.getKey()));
+            } catch (IOException e) {
+                LOGGER.warn("Unable to delete cached PDF {} from {}", entry.getKey(), directory, e);
+            }
+            diskBytes -= entry.getValue();
+            eldest.remove();
+        }
+    }
+
+    private Path file(String key) {
+        return directory.resolve(key + EXTENSION);
+    }
+
+    private static Path createDirectory(String directory) {
+        try {
+            Path path = directory == null || directory.isEmpty()
+                ? Files.createTempDirectory("pdf-cache")
+                : Files.createDirectories(Paths.get(directory));
+            clear(path);
+            LOGGER.info("Spilling cached PDFs to {}", path);
+            return path;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void clear(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(EXTENSION))
+                .forEach(file -> file.toFile().delete());
+        } catch (IOException e) {
+            LOGGER.warn("Unable to clear cached PDFs from {}", directory, e);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package uk.gov.hmcts.cmc.claimstore.documents;
+
+import com.google.common.hash.Hashing;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.AbstractClientHttpResponse;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sits in front of the PDF service on the {@code PDFServiceClient}'s HTTP client, so every caller shares it.
+ *
+ * <p>Identical render requests (same endpoint, and so the same template and values, in the same request body)
+ * made while one is already in flight wait for that render rather than sending another. Renders sent to the
+ * service are limited to {@code pdf-service.max-concurrent-renders}, handed out in arrival order. A render that
+ * cannot get a slot within {@code pdf-service.max-queue-wait-millis} fails with an {@link IOException} rather than
+ * holding its caller's thread any longer. Requests other than renders, such as the health check, pass straight
+ * through.</p>
+ */
+@Component
+public class PdfRenderingGateway implements ClientHttpRequestInterceptor, MeterBinder {
+
+    private final Semaphore permits;
+    private final long maxQueueWaitMillis;
+    private final ConcurrentMap<String, CompletableFuture<RenderedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private volatile Timer queueWait;
+    private volatile Timer renderTime;
+
+    public PdfRenderingGateway(
+        @Value("${pdf-service.max-concurrent-renders:8}") int maxConcurrentRenders,
+        @Value("${pdf-service.max-queue-wait-millis:30000}") long maxQueueWaitMillis
+    ) {
+        this.permits = new Semaphore(maxConcurrentRenders, true);
+        this.maxQueueWaitMillis = maxQueueWaitMillis;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(
+        HttpRequest request,
+        byte[] body,
+        ClientHttpRequestExecution execution
+    ) throws IOException {
+        if (request.getMethod() != HttpMethod.POST) {
+            return execution.execute(request, body);
+        }
+
+        String key = request.getURI() + ":" + Hashing.sha256().hashBytes(body);
+        CompletableFuture<RenderedResponse> render = new CompletableFuture<>();
+        CompletableFuture<RenderedResponse> existing = inFlight.putIfAbsent(key, render);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return await(existing).toResponse();
+        }
+
+        try {
+            RenderedResponse response = render(request, body, execution);
+            render.complete(response);
+            return response.toResponse();
+        } catch (IOException | RuntimeException ex) {
+            render.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, render);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        queueWait = Timer.builder("pdf.render.queue.wait")
+            .description("Time render requests waited for a free slot on the PDF service")
+            .publishPercentileHistogram()
+            .register(registry);
+        renderTime = Timer.builder("pdf.render.time")
+            .description("Time taken by the PDF service to render a document")
+            .publishPercentileHistogram()
+            .register(registry);
+        FunctionCounter.builder("pdf.render.coalesced", coalesced, AtomicLong::get)
+            .description("Render requests served by an identical render already in flight")
+            .register(registry);
+        FunctionCounter.builder("pdf.render.rejected", rejected, AtomicLong::get)
+            .description("Render requests that gave up waiting for a free slot on the PDF service")
+            .register(registry);
+        Gauge.builder("pdf.render.waiting", permits, Semaphore::getQueueLength)
+            .description("Render requests waiting for a free slot on the PDF service")
+            .register(registry);
+    }
+
+    long coalescedRequests() {
+        return coalesced.get();
+    }
+
+    long rejectedRequests() {
+        return rejected.get();
+    }
+
+    private RenderedResponse render(
+        HttpRequest request,
+        byte[] body,
+        ClientHttpRequestExecution execution
+    ) throws IOException {
+        long queued = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxQueueWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting to render with the PDF service");
+        }
+
+        long started = System.nanoTime();
+        record(queueWait, started - queued);
+        if (!acquired) {
+            rejected.incrementAndGet();
+            throw new IOException("No free slot on the PDF service after " + maxQueueWaitMillis + "ms");
+        }
+        try (ClientHttpResponse response = execution.execute(request, body)) {
+            return new RenderedResponse(response.getRawStatusCode(), response.getStatusText(),
+                response.getHeaders(), StreamUtils.copyToByteArray(response.getBody()));
+        } finally {
+            permits.release();
+            record(renderTime, System.nanoTime() - started);
+        }
+    }
+
+    private static RenderedResponse await(CompletableFuture<RenderedResponse> render) throws IOException {
+        try {
+            return render.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for an identical render from the PDF service");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof IOException) {
+                throw (IOException) ex.getCause();
+            }
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new IOException(ex.getCause());
+        }
+    }
+
+    private static void record(Timer timer, long nanos) {
+        if (timer != null) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static class RenderedResponse {
+        private final int statusCode;
+        private final String statusText;
+        private final HttpHeaders headers;
+        private final byte[] body;
+
+        RenderedResponse(int statusCode, String statusText, HttpHeaders headers, byte[] body) {
+            this.statusCode = statusCode;
+            this.statusText = statusText;
+            this.headers = HttpHeaders.readOnlyHttpHeaders(headers);
+            this.body = body;
+        }
+
+        ClientHttpResponse toResponse() {
+            return new AbstractClientHttpResponse() {
+                @Override
+                public int getRawStatusCode() {
+                    return statusCode;
+                }
+
+                @Override
+                public String getStatusText() {
+                    return statusText;
+                }
+
+                @Override
+                public HttpHeaders getHeaders() {
+                    return headers;
+                }
+
+                @Override
+                public InputStream getBody() {
+                    return new ByteArrayInputStream(body);
+                }
+
+                @Override
+                public void close() {
+                    // nothing to release, the body is held in memory
+                }
+            };
+        }
+    }
+}
@@ -6,7 +6,6 @@ import uk.gov.hmcts.cmc.claimstore.config.properties.pdf.DocumentTemplates;
 import uk.gov.hmcts.cmc.claimstore.documents.content.ReviewOrderContentProvider;
 import uk.gov.hmcts.cmc.claimstore.documents.output.PDF;
 import uk.gov.hmcts.cmc.domain.models.Claim;
-import uk.gov.hmcts.reform.pdf.service.client.PDFServiceClient;
 
 import static java.util.Objects.requireNonNull;
 import static uk.gov.hmcts.cmc.claimstore.utils.DocumentNameUtils.buildReviewOrderFileBaseName;
@@ -16,17 +15,17 @@ import static uk.gov.hmcts.cmc.domain.models.ClaimDocumentType.REVIEW_ORDER;
 public class ReviewOrderService implements PdfService {
 
     private final DocumentTemplates documentTemplates;
-    private final PDFServiceClient pdfServiceClient;
+    private final PdfCache pdfCache;
     private final ReviewOrderContentProvider contentProvider;
 
     @Autowired
     public ReviewOrderService(
         DocumentTemplates documentTemplates,
-        PDFServiceClient pdfServiceClient,
+        PdfCache pdfCache,
         ReviewOrderContentProvider contentProvider
     ) {
         this.documentTemplates = documentTemplates;
-        this.pdfServiceClient = pdfServiceClient;
+        this.pdfCache = pdfCache;
         this.contentProvider = contentProvider;
     }
 
@@ -35,7 +34,7 @@ public class ReviewOrderService implements PdfService {
 
         return new PDF(
             buildReviewOrderFileBaseName(claim.getReferenceNumber()),
-            pdfServiceClient.generateFromHtml(
+            pdfCache.generateFromHtml(REVIEW_ORDER,
                 documentTemplates.getReviewOrder(),
                 contentProvider.createContent(claim)),
             REVIEW_ORDER
@@ -7,7 +7,6 @@ import uk.gov.hmcts.cmc.claimstore.documents.content.LegalSealedClaimContentProv
 import uk.gov.hmcts.cmc.claimstore.documents.output.PDF;
 import uk.gov.hmcts.cmc.claimstore.stereotypes.LogExecutionTime;
 import uk.gov.hmcts.cmc.domain.models.Claim;
-import uk.gov.hmcts.reform.pdf.service.client.PDFServiceClient;
 import uk.gov.hmcts.reform.sendletter.api.Document;
 
 import static java.util.Objects.requireNonNull;
@@ -18,35 +17,44 @@ import static uk.gov.hmcts.cmc.domain.models.ClaimDocumentType.SEALED_CLAIM;
 public class SealedClaimPdfService implements PdfService {
 
     private final DocumentTemplates documentTemplates;
-    private final PDFServiceClient pdfServiceClient;
+    private final PdfCache pdfCache;
     private final LegalSealedClaimContentProvider legalSealedClaimContentProvider;
     private final CitizenServiceDocumentsService citizenServiceDocumentsService;
+    private final GeneratedDocumentMemo documentMemo;
 
     @Autowired
     public SealedClaimPdfService(
         DocumentTemplates documentTemplates,
-        PDFServiceClient pdfServiceClient,
+        PdfCache pdfCache,
         LegalSealedClaimContentProvider legalSealedClaimContentProvider,
-        CitizenServiceDocumentsService citizenServiceDocumentsService
+        CitizenServiceDocumentsService citizenServiceDocumentsService,
+        GeneratedDocumentMemo documentMemo
     ) {
         this.documentTemplates = documentTemplates;
-        this.pdfServiceClient = pdfServiceClient;
+        this.pdfCache = pdfCache;
         this.legalSealedClaimContentProvider = legalSealedClaimContentProvider;
         this.citizenServiceDocumentsService = citizenServiceDocumentsService;
+        this.documentMemo = documentMemo;
     }
 
     @LogExecutionTime
     public PDF createPdf(Claim claim) {
         requireNonNull(claim);
+        return documentMemo.getOrGenerate(claim, SEALED_CLAIM, () -> generatePdf(claim));
+    }
+
+    private PDF generatePdf(Claim claim) {
         byte[] content;
 
         if (claim.getClaimData().isClaimantRepresented()) {
-            content = pdfServiceClient.generateFromHtml(
+            content = pdfCache.generateFromHtml(SEALED_CLAIM,
                 documentTemplates.getLegalSealedClaim(),
                 legalSealedClaimContentProvider.createContent(claim));
         } else {
             Document document = citizenServiceDocumentsService.sealedClaimDocument(claim);
-            content = pdfServiceClient.generateFromHtml(document.template.getBytes(), document.values);
+            content = pdfCache.generateFromHtml(SEALED_CLAIM,
+                citizenServiceDocumentsService.templateBytes(document),
+                document.values);
         }
         return new PDF(
             buildSealedClaimFileBaseName(claim.getReferenceNumber()),
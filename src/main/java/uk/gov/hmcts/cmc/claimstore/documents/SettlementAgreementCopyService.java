@@ -7,7 +7,6 @@ import uk.gov.hmcts.cmc.claimstore.documents.content.settlementagreement.Settlem
 import uk.gov.hmcts.cmc.claimstore.documents.output.PDF;
 import uk.gov.hmcts.cmc.claimstore.exceptions.NotFoundException;
 import uk.gov.hmcts.cmc.domain.models.Claim;
-import uk.gov.hmcts.reform.pdf.service.client.PDFServiceClient;
 
 import static java.util.Objects.requireNonNull;
 import static uk.gov.hmcts.cmc.claimstore.utils.DocumentNameUtils.buildSettlementReachedFileBaseName;
@@ -18,17 +17,20 @@ public class SettlementAgreementCopyService implements PdfService {
 
     private final SettlementAgreementPDFContentProvider contentProvider;
     private final DocumentTemplates documentTemplates;
-    private final PDFServiceClient pdfServiceClient;
+    private final PdfCache pdfCache;
+    private final GeneratedDocumentMemo documentMemo;
 
     @Autowired
     public SettlementAgreementCopyService(
         SettlementAgreementPDFContentProvider contentProvider,
         DocumentTemplates documentTemplates,
-        PDFServiceClient pdfServiceClient
+        PdfCache pdfCache,
+        GeneratedDocumentMemo documentMemo
     ) {
         this.contentProvider = contentProvider;
         this.documentTemplates = documentTemplates;
-        this.pdfServiceClient = pdfServiceClient;
+        this.pdfCache = pdfCache;
+        this.documentMemo = documentMemo;
     }
 
     public PDF createPdf(Claim claim) {
@@ -36,10 +38,14 @@ public class SettlementAgreementCopyService implements PdfService {
         if (!claim.getSettlement().isPresent() && null == claim.getSettlementReachedAt()) {
             throw new NotFoundException("Settlement Agreement does not exist for this claim");
         }
+        return documentMemo.getOrGenerate(claim, SETTLEMENT_AGREEMENT, () -> generatePdf(claim));
+    }
+
+    private PDF generatePdf(Claim claim) {
         byte[] settlementAgreement = documentTemplates.getSettlementAgreement();
         return new PDF(
             buildSettlementReachedFileBaseName(claim.getReferenceNumber()),
-            pdfServiceClient.generateFromHtml(
+            pdfCache.generateFromHtml(SETTLEMENT_AGREEMENT,
             settlementAgreement,
             contentProvider.createContent(claim)),
             SETTLEMENT_AGREEMENT);
@@ -3,12 +3,12 @@ package uk.gov.hmcts.cmc.claimstore.documents.questionnaire;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.cmc.claimstore.config.properties.pdf.DocumentTemplates;
+import uk.gov.hmcts.cmc.claimstore.documents.PdfCache;
 import uk.gov.hmcts.cmc.claimstore.documents.PdfService;
 import uk.gov.hmcts.cmc.claimstore.documents.content.directionsquestionnaire.ClaimantDirectionsQuestionnaireContentProvider;
 import uk.gov.hmcts.cmc.claimstore.documents.output.PDF;
 import uk.gov.hmcts.cmc.domain.models.Claim;
 import uk.gov.hmcts.cmc.domain.models.claimantresponse.ResponseRejection;
-import uk.gov.hmcts.reform.pdf.service.client.PDFServiceClient;
 
 import static java.util.Objects.requireNonNull;
 import static uk.gov.hmcts.cmc.claimstore.utils.DocumentNameUtils.buildClaimantHearingFileBaseName;
@@ -18,15 +18,15 @@ import static uk.gov.hmcts.cmc.domain.models.ClaimDocumentType.CLAIMANT_DIRECTIO
 public class ClaimantDirectionsQuestionnairePdfService implements PdfService {
 
     private final DocumentTemplates documentTemplates;
-    private final PDFServiceClient pdfServiceClient;
+    private final PdfCache pdfCache;
     private final ClaimantDirectionsQuestionnaireContentProvider contentProvider;
 
     @Autowired
     public ClaimantDirectionsQuestionnairePdfService(DocumentTemplates documentTemplates,
-                                                     PDFServiceClient pdfServiceClient,
+                                                     PdfCache pdfCache,
                                                      ClaimantDirectionsQuestionnaireContentProvider contentProvider) {
         this.documentTemplates = documentTemplates;
-        this.pdfServiceClient = pdfServiceClient;
+        this.pdfCache = pdfCache;
         this.contentProvider = contentProvider;
     }
 
@@ -45,7 +45,8 @@ public class ClaimantDirectionsQuestionnairePdfService implements PdfService {
         }
 
         return new PDF(buildClaimantHearingFileBaseName(claim.getReferenceNumber()),
-            pdfServiceClient.generateFromHtml(documentTemplates.getClaimantDirectionsQuestionnaire(),
+            pdfCache.generateFromHtml(CLAIMANT_DIRECTIONS_QUESTIONNAIRE,
+                documentTemplates.getClaimantDirectionsQuestionnaire(),
                 contentProvider.createContent(claim)),
             CLAIMANT_DIRECTIONS_QUESTIONNAIRE);
     }
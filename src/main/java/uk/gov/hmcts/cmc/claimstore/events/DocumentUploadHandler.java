@@ -1,7 +1,5 @@
 package uk.gov.hmcts.cmc.claimstore.events;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
@@ -32,7 +30,6 @@ import static uk.gov.hmcts.cmc.domain.models.ClaimDocumentType.SEALED_CLAIM;
 @Component
 public class DocumentUploadHandler {
 
-    private static final Logger logger = LoggerFactory.getLogger(DocumentUploadHandler.class);
     private static final String CLAIM_MUST_NOT_BE_NULL = "Claim must not be null";
 
     private final DocumentsService documentService;
@@ -138,15 +135,6 @@ public class DocumentUploadHandler {
     }
 
     public Claim uploadToDocumentManagement(Claim claim, String authorisation, List<PDF> documents) {
-        Claim updatedClaim = claim;
-        for (PDF document : documents) {
-            try {
-                updatedClaim = documentService.uploadToDocumentManagement(document, authorisation, updatedClaim);
-            } catch (Exception ex) {
-                logger.warn(String.format("unable to upload document %s into document management",
-                    document.getFilename()), ex);
-            }
-        }
-        return updatedClaim;
+        return documentService.uploadAllToDocumentManagement(documents, authorisation, claim);
     }
 }
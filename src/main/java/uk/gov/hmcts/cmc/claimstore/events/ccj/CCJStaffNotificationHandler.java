@@ -3,6 +3,7 @@ package uk.gov.hmcts.cmc.claimstore.events.ccj;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.cmc.claimstore.services.staff.CCJStaffNotificationService;
 import uk.gov.hmcts.cmc.claimstore.services.staff.InterlocutoryJudgmentStaffNotificationService;
@@ -26,6 +27,7 @@ public class CCJStaffNotificationHandler {
         this.staffEmailsEnabled = staffEmailsEnabled;
     }
 
+    @Async("outboundEmailExecutor")
     @EventListener
     public void onDefaultJudgmentRequestSubmitted(CountyCourtJudgmentEvent event) {
         if (staffEmailsEnabled) {
@@ -33,12 +35,14 @@ public class CCJStaffNotificationHandler {
         }
     }
 
+    @Async("outboundEmailExecutor")
     @EventListener
     public void onRedeterminationRequest(ReDeterminationEvent event) {
         this.ccjStaffNotificationService
             .notifyStaffCCJReDeterminationRequest(event.getClaim(), event.getSubmitterName());
     }
 
+    @Async("outboundEmailExecutor")
     @EventListener
     public void onInterlocutoryJudgmentEvent(InterlocutoryJudgmentEvent event) {
         this.interlocutoryJudgmentStaffNotificationService.notifyStaffInterlocutoryJudgmentSubmitted(event.getClaim());
@@ -48,7 +48,8 @@ public class DocumentGenerator {
 
         PDF sealedClaim = sealedClaimPdfService.createPdf(event.getClaim());
         PDF defendantLetter = new PDF(buildDefendantLetterFileBaseName(event.getClaim().getReferenceNumber()),
-            pdfServiceClient.generateFromHtml(defendantLetterDoc.template.getBytes(), defendantLetterDoc.values),
+            pdfServiceClient.generateFromHtml(
+                citizenServiceDocumentsService.templateBytes(defendantLetterDoc), defendantLetterDoc.values),
             DEFENDANT_PIN_LETTER);
         publisher.publishEvent(new DocumentGeneratedEvent(event.getClaim(), event.getAuthorisation(),
             sealedClaim, defendantLetter));
@@ -3,6 +3,8 @@ package uk.gov.hmcts.cmc.claimstore.events.claim;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.cmc.claimstore.documents.CitizenServiceDocumentsService;
 import uk.gov.hmcts.cmc.claimstore.documents.ClaimIssueReceiptService;
+import uk.gov.hmcts.cmc.claimstore.documents.GeneratedDocumentMemo;
+import uk.gov.hmcts.cmc.claimstore.documents.PdfCache;
 import uk.gov.hmcts.cmc.claimstore.documents.SealedClaimPdfService;
 import uk.gov.hmcts.cmc.claimstore.documents.output.PDF;
 import uk.gov.hmcts.cmc.claimstore.idam.models.GeneratePinResponse;
@@ -29,6 +31,8 @@ public class DocumentOrchestrationService {
     private final ClaimIssueReceiptService claimIssueReceiptService;
     private final ClaimService claimService;
     private final UserService userService;
+    private final GeneratedDocumentMemo documentMemo;
+    private final PdfCache pdfCache;
 
     public DocumentOrchestrationService(
         CitizenServiceDocumentsService citizenServiceDocumentsService,
@@ -36,7 +40,9 @@ public class DocumentOrchestrationService {
         PDFServiceClient pdfServiceClient,
         ClaimIssueReceiptService claimIssueReceiptService,
         ClaimService claimService,
-        UserService userService
+        UserService userService,
+        GeneratedDocumentMemo documentMemo,
+        PdfCache pdfCache
     ) {
         this.citizenServiceDocumentsService = citizenServiceDocumentsService;
         this.sealedClaimPdfService = sealedClaimPdfService;
@@ -44,6 +50,8 @@ public class DocumentOrchestrationService {
         this.claimIssueReceiptService = claimIssueReceiptService;
         this.claimService = claimService;
         this.userService = userService;
+        this.documentMemo = documentMemo;
+        this.pdfCache = pdfCache;
     }
 
     public GeneratedDocuments generateForCitizen(Claim claim, String authorisation) {
@@ -56,7 +64,8 @@ public class DocumentOrchestrationService {
         Document defendantPinLetterDoc = citizenServiceDocumentsService.pinLetterDocument(claim, pin);
 
         PDF defendantPinLetter = new PDF(buildDefendantLetterFileBaseName(claim.getReferenceNumber()),
-            pdfServiceClient.generateFromHtml(defendantPinLetterDoc.template.getBytes(), defendantPinLetterDoc.values),
+            pdfServiceClient.generateFromHtml(
+                citizenServiceDocumentsService.templateBytes(defendantPinLetterDoc), defendantPinLetterDoc.values),
             DEFENDANT_PIN_LETTER);
 
         String letterHolderId = pinResponse.map(GeneratePinResponse::getUserId)
@@ -82,12 +91,12 @@ public class DocumentOrchestrationService {
     }
 
     private PDF getClaimPdf(Claim claim, Document sealedClaimDoc) {
-        return new PDF(buildSealedClaimFileBaseName(
+        return documentMemo.getOrGenerate(claim, SEALED_CLAIM, () -> new PDF(buildSealedClaimFileBaseName(
             claim.getReferenceNumber()),
-            pdfServiceClient.generateFromHtml(
-                sealedClaimDoc.template.getBytes(), sealedClaimDoc.values),
+            pdfCache.generateFromHtml(SEALED_CLAIM,
+                citizenServiceDocumentsService.templateBytes(sealedClaimDoc), sealedClaimDoc.values),
             SEALED_CLAIM
-        );
+        ));
     }
 
     public PDF getClaimIssueReceiptPdf(Claim claim) {
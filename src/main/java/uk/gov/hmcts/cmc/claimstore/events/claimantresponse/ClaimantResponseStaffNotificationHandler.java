@@ -2,6 +2,7 @@ package uk.gov.hmcts.cmc.claimstore.events.claimantresponse;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.cmc.claimstore.events.ccj.CCJStaffNotificationHandler;
 import uk.gov.hmcts.cmc.claimstore.events.ccj.InterlocutoryJudgmentEvent;
@@ -42,6 +43,7 @@ public class ClaimantResponseStaffNotificationHandler {
         this.ccjStaffNotificationHandler = ccjStaffNotificationHandler;
     }
 
+    @Async("outboundEmailExecutor")
     @EventListener
     public void onClaimantResponse(ClaimantResponseEvent event) {
         Claim claim = event.getClaim();
@@ -64,6 +66,7 @@ public class ClaimantResponseStaffNotificationHandler {
         }
     }
 
+    @Async("outboundEmailExecutor")
     @EventListener
     public void notifyStaffWithClaimantsIntentionToProceed(ClaimantResponseEvent event) {
         ClaimantResponse claimantResponse = event.getClaim().getClaimantResponse()
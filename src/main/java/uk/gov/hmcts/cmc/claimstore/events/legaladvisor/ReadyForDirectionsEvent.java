@@ -0,0 +1,9 @@
+package uk.gov.hmcts.cmc.claimstore.events.legaladvisor;
+
+import lombok.Value;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+
+@Value
+public class ReadyForDirectionsEvent {
+    private final CaseDetails caseDetails;
+}
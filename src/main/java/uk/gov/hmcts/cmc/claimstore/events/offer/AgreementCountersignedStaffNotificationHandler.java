@@ -3,6 +3,7 @@ package uk.gov.hmcts.cmc.claimstore.events.offer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.cmc.claimstore.services.staff.SettlementReachedStaffNotificationService;
 
@@ -20,6 +21,7 @@ public class AgreementCountersignedStaffNotificationHandler {
         this.staffEmailsEnabled = staffEmailsEnabled;
     }
 
+    @Async("outboundEmailExecutor")
     @EventListener
     public void onAgreementCountersigned(AgreementCountersignedEvent event) {
         if (staffEmailsEnabled) {
@@ -2,6 +2,7 @@ package uk.gov.hmcts.cmc.claimstore.events.paidinfull;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.cmc.claimstore.services.staff.PaidInFullStaffNotificationService;
 
@@ -15,6 +16,7 @@ public class PaidInFullStaffNotificationHandler {
         this.paidInFullStaffNotificationService = paidInFullStaffNotificationService;
     }
 
+    @Async("outboundEmailExecutor")
     @EventListener
     public void onPaidInFullEvent(PaidInFullEvent event) {
         this.paidInFullStaffNotificationService.notifyPaidInFull(event.getClaim());
@@ -2,6 +2,7 @@ package uk.gov.hmcts.cmc.claimstore.events.response;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.cmc.claimstore.services.staff.DefendantResponseStaffNotificationService;
 import uk.gov.hmcts.cmc.domain.models.Claim;
@@ -17,6 +18,7 @@ public class DefendantResponseStaffNotificationHandler {
         this.defendantResponseStaffNotificationService = defendantResponseStaffNotificationService;
     }
 
+    @Async("outboundEmailExecutor")
     @EventListener
     public void onDefendantResponseSubmitted(DefendantResponseEvent event) {
         Claim claim = event.getClaim();
@@ -16,10 +16,22 @@ public class NotificationEmailJob implements Job {
     @Autowired
     private ResponseNeededNotificationService responseNeededNotificationService;
 
+    @Autowired
+    private ReminderJobMetrics reminderJobMetrics;
+
     @Override
     public void execute(JobExecutionContext context) {
         JobDetail jobDetail = context.getJobDetail();
-        responseNeededNotificationService.sendMail(jobDetail);
+        reminderJobMetrics.fired(context.getFireTime());
+
+        long start = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            responseNeededNotificationService.sendMail(jobDetail);
+            succeeded = true;
+        } finally {
+            reminderJobMetrics.completed(start, succeeded);
+        }
         logger.debug("Completed job work for id {}", jobDetail.getKey().getName());
     }
 }
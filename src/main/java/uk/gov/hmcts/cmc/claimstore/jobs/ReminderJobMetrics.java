@@ -0,0 +1,86 @@
+package uk.gov.hmcts.cmc.claimstore.jobs;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how the reminder jobs fired by Quartz spread over their window and how long each takes. How late each
+ * job fires against its trigger is recorded by the scheduler as {@code scheduler.trigger.fire.latency}.
+ *
+ * <p>Each reminder looks the claim up in CCD and queues the email with the notification dispatcher, which sends
+ * it through GOV.UK Notify within its own rate limit. The jobs are not paced here, as that would hold Quartz
+ * threads for other jobs while leaving the rate across instances unbounded anyway.</p>
+ */
+@Component
+public class ReminderJobMetrics implements MeterBinder {
+
+    private static final LocalTime WINDOW_START = LocalTime.of(8, 0);
+
+    private final Duration window;
+
+    private Counter fired;
+    private Timer fireOffset;
+    private Timer queued;
+    private Timer failed;
+
+    public ReminderJobMetrics(@Value("${reminders.jobs.spread-minutes:120}") int spreadMinutes) {
+        this.window = Duration.ofMinutes(Math.max(spreadMinutes, 1));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        fired = Counter.builder("reminders.jobs.fired")
+            .description("Reminder jobs fired by the scheduler")
+            .register(registry);
+        fireOffset = Timer.builder("reminders.jobs.fire.offset")
+            .description("Time after 08:00 UTC at which a reminder job ran, showing how jobs spread over the window")
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofSeconds(1))
+            .maximumExpectedValue(window)
+            .register(registry);
+        queued = jobTimer(registry, "queued");
+        failed = jobTimer(registry, "failed");
+    }
+
+    /**
+     * Records a reminder job firing, and where in the reminder window it ran.
+     */
+    public void fired(Date fireTime) {
+        if (fired != null) {
+            fired.increment();
+        }
+        if (fireTime != null && fireOffset != null) {
+            Instant firedAt = fireTime.toInstant();
+            Instant windowStart = firedAt.atOffset(ZoneOffset.UTC).with(WINDOW_START).toInstant();
+            fireOffset.record(Math.max(0, Duration.between(windowStart, firedAt).toMillis()), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Records how long a reminder job took to look up its claim and queue the reminder.
+     */
+    public void completed(long startNanos, boolean succeeded) {
+        Timer timer = succeeded ? queued : failed;
+        if (timer != null) {
+            timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Timer jobTimer(MeterRegistry registry, String outcome) {
+        return Timer.builder("reminders.jobs.duration")
+            .description("Time taken by a reminder job to look up its claim and queue the reminder")
+            .tag("outcome", outcome)
+            .register(registry);
+    }
+}
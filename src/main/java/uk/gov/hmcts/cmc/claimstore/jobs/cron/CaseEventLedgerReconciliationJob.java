@@ -0,0 +1,89 @@
+package uk.gov.hmcts.cmc.claimstore.jobs.cron;
+
+import lombok.Getter;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.cmc.claimstore.idam.models.User;
+import uk.gov.hmcts.cmc.claimstore.repositories.CaseSearchApi;
+import uk.gov.hmcts.cmc.claimstore.repositories.CaseSearchReaders;
+import uk.gov.hmcts.cmc.claimstore.services.UserService;
+import uk.gov.hmcts.cmc.claimstore.services.ccd.CaseEventLedger;
+import uk.gov.hmcts.cmc.scheduler.batch.BatchJob;
+import uk.gov.hmcts.cmc.scheduler.batch.BatchJobRunner;
+import uk.gov.hmcts.cmc.scheduler.batch.BatchRunResult;
+import uk.gov.hmcts.cmc.scheduler.model.CronJob;
+
+import java.time.LocalDate;
+
+/**
+ * Copies the event history of every case modified since yesterday into the case event ledger, picking up
+ * events made in CCD which we were not called back about.
+ */
+@Component
+@Getter
+@DisallowConcurrentExecution
+public class CaseEventLedgerReconciliationJob implements CronJob {
+
+    Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private CaseSearchApi caseSearchApi;
+
+    private UserService userService;
+
+    private CaseEventLedger caseEventLedger;
+
+    private BatchJobRunner batchJobRunner;
+
+    @Value("${schedule.case-event-ledger.reconciliation:0 0 1 ? * * *}")
+    private String cronExpression;
+
+    @Override
+    public void execute(JobExecutionContext jobExecutionContext) throws JobExecutionException {
+        try {
+            User anonymousCaseWorker = userService.authenticateAnonymousCaseWorker();
+            LocalDate modifiedSince = LocalDate.now().minusDays(1);
+            BatchRunResult<Long> result = batchJobRunner.run(BatchJob.<Long>builder()
+                .name(getClass().getSimpleName())
+                .runKey(modifiedSince.toString())
+                .reader(CaseSearchReaders.caseIds(caseSearchApi, anonymousCaseWorker,
+                    QueryBuilders.rangeQuery("last_modified").gte(modifiedSince)))
+                .processor(caseId -> caseEventLedger.reconcile(anonymousCaseWorker, caseId))
+                .build());
+            logger.info("Reconciled {} cases modified since {} with the case event ledger",
+                result.getProcessed(), modifiedSince);
+            if (result.getFailed() > 0) {
+                logger.warn("{} cases modified since {} not reconciled with the case event ledger",
+                    result.getFailed(), modifiedSince);
+            }
+        } catch (Exception e) {
+            throw new JobExecutionException(e);
+        }
+    }
+
+    @Autowired
+    public void setCaseSearchApi(CaseSearchApi caseSearchApi) {
+        this.caseSearchApi = caseSearchApi;
+    }
+
+    @Autowired
+    public void setUserService(UserService userService) {
+        this.userService = userService;
+    }
+
+    @Autowired
+    public void setCaseEventLedger(CaseEventLedger caseEventLedger) {
+        this.caseEventLedger = caseEventLedger;
+    }
+
+    @Autowired
+    public void setBatchJobRunner(BatchJobRunner batchJobRunner) {
+        this.batchJobRunner = batchJobRunner;
+    }
+}
@@ -11,13 +11,16 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.cmc.claimstore.idam.models.User;
 import uk.gov.hmcts.cmc.claimstore.repositories.CaseSearchApi;
+import uk.gov.hmcts.cmc.claimstore.repositories.CaseSearchReaders;
 import uk.gov.hmcts.cmc.claimstore.services.UserService;
 import uk.gov.hmcts.cmc.claimstore.services.notifications.CCJNotificationService;
-import uk.gov.hmcts.cmc.domain.models.Claim;
+import uk.gov.hmcts.cmc.domain.models.ClaimSummary;
+import uk.gov.hmcts.cmc.scheduler.batch.BatchJob;
+import uk.gov.hmcts.cmc.scheduler.batch.BatchJobRunner;
+import uk.gov.hmcts.cmc.scheduler.batch.BatchRunResult;
 import uk.gov.hmcts.cmc.scheduler.model.CronJob;
 
 import java.time.LocalDate;
-import java.util.List;
 
 @Component
 @Getter
@@ -35,6 +38,8 @@ public class NotifyClaimantDefaultCCJJob implements CronJob {
 
     private CCJNotificationService ccjNotificationService;
 
+    private BatchJobRunner batchJobRunner;
+
     @Value("${ccjClaimantNotify.schedule:0 0 8 ? * * *}")
     private String cronExpression;
 
@@ -42,9 +47,18 @@ public class NotifyClaimantDefaultCCJJob implements CronJob {
     public void execute(JobExecutionContext jobExecutionContext) throws JobExecutionException {
         try {
             User anonymousCaseWorker = userService.authenticateAnonymousCaseWorker();
-            List<Claim> claimsWithCCJ = caseSearchApi.getClaimsWithDefaultCCJ(anonymousCaseWorker,
-                LocalDate.now().minusDays(claimantCCJReminderDays));
-            claimsWithCCJ.forEach(claim -> ccjNotificationService.notifyClaimantAboutCCJReminder(claim));
+            LocalDate ccjRequestedDate = LocalDate.now().minusDays(claimantCCJReminderDays);
+            BatchRunResult<ClaimSummary> result = batchJobRunner.run(BatchJob.<ClaimSummary>builder()
+                .name(getClass().getSimpleName())
+                .runKey(ccjRequestedDate.toString())
+                .reader(CaseSearchReaders.claimSummariesWithDefaultCCJ(caseSearchApi, anonymousCaseWorker,
+                    ccjRequestedDate))
+                .processor(ccjNotificationService::notifyClaimantAboutCCJReminder)
+                .build());
+            if (result.getFailed() > 0) {
+                logger.warn("{} claimants not reminded about their CCJ requested on {}",
+                    result.getFailed(), ccjRequestedDate);
+            }
         } catch (Exception e) {
             throw new JobExecutionException(e);
         }
@@ -64,4 +78,9 @@ public class NotifyClaimantDefaultCCJJob implements CronJob {
     public void setCcjNotificationService(CCJNotificationService ccjNotificationService) {
         this.ccjNotificationService = ccjNotificationService;
     }
+
+    @Autowired
+    public void setBatchJobRunner(BatchJobRunner batchJobRunner) {
+        this.batchJobRunner = batchJobRunner;
+    }
 }
@@ -0,0 +1,36 @@
+package uk.gov.hmcts.cmc.claimstore.jobs.cron;
+
+import lombok.Getter;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.cmc.claimstore.services.notifications.ResponseReminderService;
+import uk.gov.hmcts.cmc.scheduler.model.CronJob;
+
+@Component
+@Getter
+@DisallowConcurrentExecution
+public class ResponseReminderJob implements CronJob {
+
+    private ResponseReminderService responseReminderService;
+
+    @Value("${reminders.sweep.schedule:0 0 8 ? * * *}")
+    private String cronExpression;
+
+    @Override
+    public void execute(JobExecutionContext jobExecutionContext) throws JobExecutionException {
+        try {
+            responseReminderService.sendDueReminders();
+        } catch (Exception e) {
+            throw new JobExecutionException(e);
+        }
+    }
+
+    @Autowired
+    public void setResponseReminderService(ResponseReminderService responseReminderService) {
+        this.responseReminderService = responseReminderService;
+    }
+}
@@ -16,6 +16,7 @@ import uk.gov.hmcts.cmc.claimstore.services.ccd.CoreCaseDataService;
 import uk.gov.hmcts.cmc.claimstore.utils.CaseDetailsConverter;
 import uk.gov.hmcts.cmc.domain.models.Claim;
 import uk.gov.hmcts.cmc.domain.models.ClaimState;
+import uk.gov.hmcts.cmc.domain.models.ClaimSummary;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.ccd.client.CaseAccessApi;
 import uk.gov.hmcts.reform.ccd.client.CoreCaseDataApi;
@@ -87,6 +88,17 @@ public class CCDCaseApi {
             .collect(Collectors.toList());
     }
 
+    public List<ClaimSummary> getSummariesBySubmitterId(String submitterId, String authorisation) {
+        User user = userService.getUser(authorisation);
+
+        return extractClaimSummaries(asStream(searchAll(user, ImmutableMap.of()))
+            .filter(isAwaitingCitizenState.negate())
+            .collect(Collectors.toList()))
+            .stream()
+            .filter(summary -> submitterId.equals(summary.getSubmitterId()))
+            .collect(Collectors.toList());
+    }
+
     public Optional<Claim> getByReferenceNumber(String referenceNumber, String authorisation) {
         return getCaseBy(authorisation, ImmutableMap.of("case.previousServiceCaseReference", referenceNumber));
     }
@@ -107,6 +119,18 @@ public class CCDCaseApi {
             .collect(Collectors.toList());
     }
 
+    public List<ClaimSummary> getSummariesByDefendantId(String id, String authorisation) {
+        User user = userService.getUser(authorisation);
+
+        return extractClaimSummaries(asStream(searchAll(user, ImmutableMap.of()))
+            .filter(isCreatedState.negate())
+            .filter(isAwaitingCitizenState.negate())
+            .collect(Collectors.toList()))
+            .stream()
+            .filter(summary -> id.equals(summary.getDefendantId()))
+            .collect(Collectors.toList());
+    }
+
     public List<Claim> getBySubmitterEmail(String submitterEmail, String authorisation) {
         User user = userService.getUser(authorisation);
         return getAllCasesBy(user, ImmutableMap.of("case.submitterEmail", submitterEmail));
@@ -407,4 +431,10 @@ public class CCDCaseApi {
             .map(ccdCaseDataToClaim::extractClaim)
             .collect(Collectors.toList());
     }
+
+    private List<ClaimSummary> extractClaimSummaries(List<CaseDetails> result) {
+        return asStream(result)
+            .map(ccdCaseDataToClaim::extractClaimSummary)
+            .collect(Collectors.toList());
+    }
 }
@@ -13,6 +13,7 @@ import uk.gov.hmcts.cmc.domain.models.ClaimDocumentCollection;
 import uk.gov.hmcts.cmc.domain.models.ClaimDocumentType;
 import uk.gov.hmcts.cmc.domain.models.ClaimState;
 import uk.gov.hmcts.cmc.domain.models.ClaimSubmissionOperationIndicators;
+import uk.gov.hmcts.cmc.domain.models.ClaimSummary;
 import uk.gov.hmcts.cmc.domain.models.CountyCourtJudgment;
 import uk.gov.hmcts.cmc.domain.models.PaidInFull;
 import uk.gov.hmcts.cmc.domain.models.ReDetermination;
@@ -52,6 +53,11 @@ public class CCDCaseRepository implements CaseRepository {
         return ccdCaseApi.getBySubmitterId(submitterId, authorisation);
     }
 
+    @Override
+    public List<ClaimSummary> getSummariesBySubmitterId(String submitterId, String authorisation) {
+        return ccdCaseApi.getSummariesBySubmitterId(submitterId, authorisation);
+    }
+
     @Override
     @LogExecutionTime
     public Optional<Claim> getClaimByExternalId(String externalId, User user) {
@@ -78,6 +84,11 @@ public class CCDCaseRepository implements CaseRepository {
         return ccdCaseApi.getByDefendantId(id, authorisation);
     }
 
+    @Override
+    public List<ClaimSummary> getSummariesByDefendantId(String id, String authorisation) {
+        return ccdCaseApi.getSummariesByDefendantId(id, authorisation);
+    }
+
     @Override
     public List<Claim> getByClaimantEmail(String email, String authorisation) {
         return ccdCaseApi.getBySubmitterEmail(email, authorisation);
@@ -5,26 +5,49 @@ import org.elasticsearch.index.query.QueryBuilders;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 import uk.gov.hmcts.cmc.ccd.domain.CCDYesNoOption;
+import uk.gov.hmcts.cmc.ccd.mapper.ClaimSummaryMapper;
 import uk.gov.hmcts.cmc.claimstore.idam.models.User;
 import uk.gov.hmcts.cmc.claimstore.repositories.elastic.Query;
 import uk.gov.hmcts.cmc.claimstore.services.UserService;
 import uk.gov.hmcts.cmc.claimstore.utils.CaseDetailsConverter;
 import uk.gov.hmcts.cmc.claimstore.utils.DateUtils;
 import uk.gov.hmcts.cmc.domain.models.Claim;
+import uk.gov.hmcts.cmc.domain.models.ClaimState;
+import uk.gov.hmcts.cmc.domain.models.ClaimSummary;
 import uk.gov.hmcts.cmc.domain.models.CountyCourtJudgmentType;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.ccd.client.CoreCaseDataApi;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static uk.gov.hmcts.cmc.claimstore.repositories.CCDCaseApi.CASE_TYPE_ID;
 
 @Repository("searchRepository")
 public class CCDElasticSearchRepository implements CaseSearchApi {
 
+    private static final String APPLICANTS = "applicants";
+    private static final String RESPONDENTS = "respondents";
+    private static final int AWAITING_RESPONSE_PAGE_SIZE = 500;
+    private static final String CASE_ID = "reference";
+
+    // the parties are collections, so only the nested fields the summary reads are requested for them
+    private static final List<String> CLAIM_SUMMARY_SOURCE_FIELDS = Stream.of(
+        Stream.of("reference", "state"),
+        ClaimSummaryMapper.CASE_FIELDS.stream()
+            .filter(field -> !APPLICANTS.equals(field) && !RESPONDENTS.equals(field))
+            .map(field -> "data." + field),
+        ClaimSummaryMapper.APPLICANT_FIELDS.stream().map(field -> "data." + APPLICANTS + ".value." + field),
+        ClaimSummaryMapper.RESPONDENT_FIELDS.stream().map(field -> "data." + RESPONDENTS + ".value." + field)
+    ).flatMap(Function.identity()).collect(Collectors.toList());
+
     private final CoreCaseDataApi coreCaseDataApi;
     private final AuthTokenGenerator authTokenGenerator;
     private final UserService userService;
@@ -59,20 +82,48 @@ public class CCDElasticSearchRepository implements CaseSearchApi {
 
     }
 
-    public List<Claim> getClaimsWithDefaultCCJ(User user, LocalDate ccjRequestedDate) {
-
-        Query mediationQuery = new Query(
-            QueryBuilders.boolQuery()
-                .must(QueryBuilders.matchQuery(
-                    "data.respondents.value.countyCourtJudgmentRequest.type",
-                    CountyCourtJudgmentType.DEFAULT.name()))
-                .must(QueryBuilders.rangeQuery("data.respondents.value.countyCourtJudgmentRequest.requestedDate")
-                    .from(DateUtils.startOfDay(ccjRequestedDate), true)
-                    .to(DateUtils.endOfDay(ccjRequestedDate), true)), 1000
-        );
+    public List<ClaimSummary> getClaimSummariesWithDefaultCCJ(User user, LocalDate ccjRequestedDate) {
+        return getClaimSummaries(user, defaultCCJRequestedOn(ccjRequestedDate));
+    }
 
-        return searchClaimsWith(user, mediationQuery);
+    @Override
+    public List<ClaimSummary> getClaimSummariesWithDefaultCCJAfter(
+        User user,
+        LocalDate ccjRequestedDate,
+        Long afterCaseId,
+        int pageSize
+    ) {
+        return search(user, new Query(after(defaultCCJRequestedOn(ccjRequestedDate), afterCaseId), pageSize,
+            CLAIM_SUMMARY_SOURCE_FIELDS, 0, CASE_ID))
+            .map(ccdCaseDetailsConverter::extractClaimSummary)
+            .collect(Collectors.toList());
+    }
 
+    /**
+     * Returns every open claim linked to a defendant which has not been responded to and whose response is due
+     * between the given dates inclusive, reading as many pages as needed in case reference order.
+     */
+    @Override
+    public List<Claim> getClaimsAwaitingResponse(User user, LocalDate deadlineFrom, LocalDate deadlineTo) {
+        QueryBuilder awaitingResponse = QueryBuilders.boolQuery()
+            .must(QueryBuilders.termQuery("state", ClaimState.OPEN.getValue()))
+            .must(QueryBuilders.rangeQuery("data.respondents.value.responseDeadline")
+                .from(deadlineFrom.toString(), true)
+                .to(deadlineTo.toString(), true))
+            .must(QueryBuilders.existsQuery("data.respondents.value.defendantId"))
+            .mustNot(QueryBuilders.existsQuery("data.respondents.value.responseSubmittedOn"));
+
+        List<Claim> claims = new ArrayList<>();
+        Long lastCaseId = null;
+        List<CaseDetails> page;
+        do {
+            page = getCasesAfter(user, awaitingResponse, lastCaseId, AWAITING_RESPONSE_PAGE_SIZE);
+            page.stream().map(ccdCaseDetailsConverter::extractClaim).forEach(claims::add);
+            if (!page.isEmpty()) {
+                lastCaseId = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == AWAITING_RESPONSE_PAGE_SIZE);
+        return claims;
     }
 
     @Override
@@ -80,7 +131,54 @@ public class CCDElasticSearchRepository implements CaseSearchApi {
         return searchClaimsWith(user, new Query(queryBuilder, 1000));
     }
 
+    @Override
+    public List<Long> getCaseIdsAfter(User user, QueryBuilder queryBuilder, Long afterCaseId, int pageSize) {
+        return search(user,
+            new Query(after(queryBuilder, afterCaseId), pageSize, Collections.singletonList(CASE_ID), 0, CASE_ID))
+            .map(CaseDetails::getId)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<CaseDetails> getCasesAfter(User user, QueryBuilder queryBuilder, Long afterCaseId, int pageSize) {
+        return search(user,
+            new Query(after(queryBuilder, afterCaseId), pageSize, Collections.emptyList(), 0, CASE_ID))
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<ClaimSummary> getClaimSummaries(User user, QueryBuilder queryBuilder) {
+        return search(user, new Query(queryBuilder, 1000, CLAIM_SUMMARY_SOURCE_FIELDS))
+            .map(ccdCaseDetailsConverter::extractClaimSummary)
+            .collect(Collectors.toList());
+    }
+
+    private static QueryBuilder defaultCCJRequestedOn(LocalDate ccjRequestedDate) {
+        return QueryBuilders.boolQuery()
+            .must(QueryBuilders.matchQuery(
+                "data.respondents.value.countyCourtJudgmentRequest.type",
+                CountyCourtJudgmentType.DEFAULT.name()))
+            .must(QueryBuilders.rangeQuery("data.respondents.value.countyCourtJudgmentRequest.requestedDate")
+                .from(DateUtils.startOfDay(ccjRequestedDate), true)
+                .to(DateUtils.endOfDay(ccjRequestedDate), true));
+    }
+
+    private static QueryBuilder after(QueryBuilder queryBuilder, Long afterCaseId) {
+        if (afterCaseId == null) {
+            return queryBuilder;
+        }
+        return QueryBuilders.boolQuery()
+            .must(queryBuilder)
+            .must(QueryBuilders.rangeQuery(CASE_ID).gt(afterCaseId));
+    }
+
     private List<Claim> searchClaimsWith(User user, Query query) {
+        return search(user, query)
+            .map(ccdCaseDetailsConverter::extractClaim)
+            .collect(Collectors.toList());
+    }
+
+    private Stream<CaseDetails> search(User user, Query query) {
         String serviceAuthToken = this.authTokenGenerator.generate();
 
         SearchResult searchResult = coreCaseDataApi.searchCases(
@@ -90,9 +188,6 @@ public class CCDElasticSearchRepository implements CaseSearchApi {
             query.toString()
         );
 
-        return searchResult.getCases()
-            .stream()
-            .map(ccdCaseDetailsConverter::extractClaim)
-            .collect(Collectors.toList());
+        return searchResult.getCases().stream();
     }
 }
@@ -0,0 +1,105 @@
+package uk.gov.hmcts.cmc.claimstore.repositories;
+
+import org.skife.jdbi.v2.sqlobject.Bind;
+import org.skife.jdbi.v2.sqlobject.SqlQuery;
+import org.skife.jdbi.v2.sqlobject.SqlUpdate;
+import org.skife.jdbi.v2.sqlobject.Transaction;
+import uk.gov.hmcts.reform.ccd.client.model.CaseEventDetail;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Append-only record of the CCD events on each case, kept so that the event history of a case can be read
+ * without calling CCD. A case's history is complete once it has been reconciled with CCD.
+ */
+public abstract class CaseEventLedgerRepository {
+
+    @SqlUpdate("INSERT INTO case_event_ledger ( "
+        + "case_id, "
+        + "event_id, "
+        + "created_at"
+        + ") "
+        + "VALUES ("
+        + ":caseId, "
+        + ":eventId, "
+        + ":createdAt"
+        + ") "
+        + "ON CONFLICT DO NOTHING")
+    public abstract int recordEvent(
+        @Bind("caseId") Long caseId,
+        @Bind("eventId") String eventId,
+        @Bind("createdAt") LocalDateTime createdAt
+    );
+
+    /**
+     * Forgets the events of a case along with its reconciliation, so that it is read from CCD until reconciled.
+     */
+    @SqlUpdate("WITH unreconciled AS ("
+        + "DELETE FROM case_event_ledger_reconciliation WHERE case_id = :caseId"
+        + ") "
+        + "DELETE FROM case_event_ledger WHERE case_id = :caseId")
+    public abstract void clearCase(@Bind("caseId") Long caseId);
+
+    /**
+     * Marks a case as reconciled with its history as CCD held it at the given time, in CCD's time zone.
+     */
+    @SqlUpdate("INSERT INTO case_event_ledger_reconciliation (case_id, reconciled_at) "
+        + "VALUES (:caseId, :reconciledAt) "
+        + "ON CONFLICT (case_id) DO UPDATE SET reconciled_at = :reconciledAt")
+    public abstract void markReconciled(@Bind("caseId") Long caseId, @Bind("reconciledAt") LocalDateTime reconciledAt);
+
+    /**
+     * Moves a case's reconciliation forward to the given time, as long as it was reconciled up to the time the
+     * case was last modified before then, returning 0 when it was not.
+     */
+    @SqlUpdate("UPDATE case_event_ledger_reconciliation "
+        + "SET reconciled_at = GREATEST(reconciled_at, :reconciledAt) "
+        + "WHERE case_id = :caseId "
+        + "AND reconciled_at >= :previousLastModified")
+    public abstract int advanceReconciled(
+        @Bind("caseId") Long caseId,
+        @Bind("previousLastModified") LocalDateTime previousLastModified,
+        @Bind("reconciledAt") LocalDateTime reconciledAt
+    );
+
+    /**
+     * Returns the events of a reconciled case, latest first, or none when the case has not been reconciled or
+     * was modified after its reconciliation.
+     */
+    @SqlQuery("SELECT ledger.event_id FROM case_event_ledger ledger "
+        + "WHERE ledger.case_id = :caseId "
+        + "AND EXISTS (SELECT 1 FROM case_event_ledger_reconciliation reconciled "
+        + "WHERE reconciled.case_id = :caseId "
+        + "AND reconciled.reconciled_at >= :lastModified) "
+        + "ORDER BY ledger.created_at DESC, ledger.id DESC")
+    public abstract List<String> getReconciledEventIds(
+        @Bind("caseId") Long caseId,
+        @Bind("lastModified") LocalDateTime lastModified
+    );
+
+    /**
+     * Records an event on a case and, when the case's history was complete up to the time it was last modified
+     * before the event, keeps it complete up to the event. A case whose history had gaps is left to be reconciled
+     * with CCD.
+     */
+    @Transaction
+    public void recordLatestEvent(Long caseId, String eventId, LocalDateTime createdAt,
+                                  LocalDateTime previousLastModified) {
+        recordEvent(caseId, eventId, createdAt);
+        if (previousLastModified != null) {
+            advanceReconciled(caseId, previousLastModified, createdAt);
+        }
+    }
+
+    /**
+     * Replaces the history of a case with the given events and marks it reconciled at the given time, all or
+     * nothing, so that a failure part way through never leaves a partial history marked as complete.
+     */
+    @Transaction
+    public void replaceCase(Long caseId, List<CaseEventDetail> events, LocalDateTime reconciledAt) {
+        clearCase(caseId);
+        events.forEach(event -> recordEvent(caseId, event.getId(), event.getCreatedDate()));
+        markReconciled(caseId, reconciledAt);
+    }
+}
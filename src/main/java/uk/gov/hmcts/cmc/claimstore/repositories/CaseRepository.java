@@ -6,6 +6,7 @@ import uk.gov.hmcts.cmc.domain.models.Claim;
 import uk.gov.hmcts.cmc.domain.models.ClaimDocumentCollection;
 import uk.gov.hmcts.cmc.domain.models.ClaimDocumentType;
 import uk.gov.hmcts.cmc.domain.models.ClaimState;
+import uk.gov.hmcts.cmc.domain.models.ClaimSummary;
 import uk.gov.hmcts.cmc.domain.models.ClaimSubmissionOperationIndicators;
 import uk.gov.hmcts.cmc.domain.models.CountyCourtJudgment;
 import uk.gov.hmcts.cmc.domain.models.PaidInFull;
@@ -22,6 +23,8 @@ import java.util.Optional;
 public interface CaseRepository {
     List<Claim> getBySubmitterId(String submitterId, String authorisation);
 
+    List<ClaimSummary> getSummariesBySubmitterId(String submitterId, String authorisation);
+
     Optional<Claim> getClaimByExternalId(String externalId, User user);
 
     Optional<Claim> getByClaimReferenceNumber(String claimReferenceNumber, String authorisation);
@@ -50,6 +53,8 @@ public interface CaseRepository {
 
     List<Claim> getByDefendantId(String id, String authorisation);
 
+    List<ClaimSummary> getSummariesByDefendantId(String id, String authorisation);
+
     List<Claim> getByClaimantEmail(String email, String authorisation);
 
     List<Claim> getByDefendantEmail(String email, String authorisation);
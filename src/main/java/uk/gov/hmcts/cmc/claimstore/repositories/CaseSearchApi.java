@@ -3,6 +3,8 @@ package uk.gov.hmcts.cmc.claimstore.repositories;
 import org.elasticsearch.index.query.QueryBuilder;
 import uk.gov.hmcts.cmc.claimstore.idam.models.User;
 import uk.gov.hmcts.cmc.domain.models.Claim;
+import uk.gov.hmcts.cmc.domain.models.ClaimSummary;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -13,5 +15,28 @@ public interface CaseSearchApi {
 
     List<Claim> getClaims(User user, QueryBuilder queryBuilder);
 
-    List<Claim> getClaimsWithDefaultCCJ(User user, LocalDate ccjRequestedDate);
+    List<ClaimSummary> getClaimSummaries(User user, QueryBuilder queryBuilder);
+
+    List<ClaimSummary> getClaimSummariesWithDefaultCCJ(User user, LocalDate ccjRequestedDate);
+
+    /**
+     * Returns a page of the ids of the cases matching the query in ascending order, starting after the given
+     * case id, or from the first case when it is null. None of the case data is fetched.
+     */
+    List<Long> getCaseIdsAfter(User user, QueryBuilder queryBuilder, Long afterCaseId, int pageSize);
+
+    /**
+     * Returns a page of the cases matching the query as CCD holds them, along with metadata such as when each
+     * was last modified, in ascending order of case id, starting after the given case id.
+     */
+    List<CaseDetails> getCasesAfter(User user, QueryBuilder queryBuilder, Long afterCaseId, int pageSize);
+
+    List<ClaimSummary> getClaimSummariesWithDefaultCCJAfter(
+        User user,
+        LocalDate ccjRequestedDate,
+        Long afterCaseId,
+        int pageSize
+    );
+
+    List<Claim> getClaimsAwaitingResponse(User user, LocalDate deadlineFrom, LocalDate deadlineTo);
 }
@@ -0,0 +1,71 @@
+package uk.gov.hmcts.cmc.claimstore.repositories;
+
+import org.elasticsearch.index.query.QueryBuilder;
+import uk.gov.hmcts.cmc.claimstore.idam.models.User;
+import uk.gov.hmcts.cmc.domain.models.ClaimSummary;
+import uk.gov.hmcts.cmc.scheduler.batch.PagedReader;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Readers paging through CCD search results for batch jobs, keyed by case id.
+ */
+public final class CaseSearchReaders {
+
+    private CaseSearchReaders() {
+        // Utility class, no instances
+    }
+
+    public static PagedReader<Long> caseIds(CaseSearchApi caseSearchApi, User user, QueryBuilder queryBuilder) {
+        return new PagedReader<Long>() {
+            @Override
+            public List<Long> read(String afterKey, int pageSize) {
+                return caseSearchApi.getCaseIdsAfter(user, queryBuilder, caseId(afterKey), pageSize);
+            }
+
+            @Override
+            public String keyOf(Long caseId) {
+                return String.valueOf(caseId);
+            }
+        };
+    }
+
+    public static PagedReader<CaseDetails> cases(CaseSearchApi caseSearchApi, User user, QueryBuilder queryBuilder) {
+        return new PagedReader<CaseDetails>() {
+            @Override
+            public List<CaseDetails> read(String afterKey, int pageSize) {
+                return caseSearchApi.getCasesAfter(user, queryBuilder, caseId(afterKey), pageSize);
+            }
+
+            @Override
+            public String keyOf(CaseDetails caseDetails) {
+                return String.valueOf(caseDetails.getId());
+            }
+        };
+    }
+
+    public static PagedReader<ClaimSummary> claimSummariesWithDefaultCCJ(
+        CaseSearchApi caseSearchApi,
+        User user,
+        LocalDate ccjRequestedDate
+    ) {
+        return new PagedReader<ClaimSummary>() {
+            @Override
+            public List<ClaimSummary> read(String afterKey, int pageSize) {
+                return caseSearchApi.getClaimSummariesWithDefaultCCJAfter(user, ccjRequestedDate, caseId(afterKey),
+                    pageSize);
+            }
+
+            @Override
+            public String keyOf(ClaimSummary claimSummary) {
+                return String.valueOf(claimSummary.getId());
+            }
+        };
+    }
+
+    private static Long caseId(String key) {
+        return key == null ? null : Long.valueOf(key);
+    }
+}
@@ -0,0 +1,70 @@
+package uk.gov.hmcts.cmc.claimstore.repositories;
+
+import org.skife.jdbi.v2.sqlobject.Bind;
+import org.skife.jdbi.v2.sqlobject.SqlQuery;
+import org.skife.jdbi.v2.sqlobject.SqlUpdate;
+import org.skife.jdbi.v2.sqlobject.customizers.RegisterMapper;
+import uk.gov.hmcts.cmc.claimstore.repositories.mapping.QueuedNotificationMapper;
+import uk.gov.hmcts.cmc.claimstore.services.notifications.dispatch.QueuedNotification;
+
+import java.util.List;
+
+/**
+ * Durable queue of GOV.UK Notify emails waiting to be sent. Notifications are leased to one instance at a time;
+ * a lease which runs out, because the instance holding it died, makes the notification available again.
+ */
+@RegisterMapper(QueuedNotificationMapper.class)
+public interface NotificationQueueRepository {
+
+    @SqlUpdate("INSERT INTO notification_queue ( "
+        + "template_id, "
+        + "recipient, "
+        + "parameters, "
+        + "reference"
+        + ") "
+        + "VALUES ("
+        + ":templateId, "
+        + ":recipient, "
+        + ":parameters::JSONB, "
+        + ":reference"
+        + ")")
+    void enqueue(
+        @Bind("templateId") String templateId,
+        @Bind("recipient") String recipient,
+        @Bind("parameters") String parameters,
+        @Bind("reference") String reference
+    );
+
+    /**
+     * Leases up to the given number of notifications due to be sent, oldest first, counting the attempt.
+     */
+    @SqlQuery("UPDATE notification_queue SET "
+        + "status = 'SENDING', "
+        + "attempts = attempts + 1, "
+        + "next_attempt_at = now() + :leaseSeconds * INTERVAL '1 second' "
+        + "WHERE id IN ("
+        + "SELECT id FROM notification_queue "
+        + "WHERE status IN ('PENDING', 'SENDING') AND next_attempt_at <= now() "
+        + "ORDER BY next_attempt_at "
+        + "LIMIT :limit "
+        + "FOR UPDATE SKIP LOCKED"
+        + ") "
+        + "RETURNING id, template_id, recipient, parameters, reference, attempts")
+    List<QueuedNotification> lease(@Bind("limit") int limit, @Bind("leaseSeconds") long leaseSeconds);
+
+    @SqlUpdate("DELETE FROM notification_queue WHERE id = :id")
+    void remove(@Bind("id") long id);
+
+    @SqlUpdate("UPDATE notification_queue SET "
+        + "status = 'PENDING', "
+        + "next_attempt_at = now() + :delaySeconds * INTERVAL '1 second', "
+        + "last_error = :error "
+        + "WHERE id = :id")
+    void retryLater(@Bind("id") long id, @Bind("delaySeconds") long delaySeconds, @Bind("error") String error);
+
+    @SqlUpdate("UPDATE notification_queue SET status = 'DEAD', last_error = :error WHERE id = :id")
+    void deadLetter(@Bind("id") long id, @Bind("error") String error);
+
+    @SqlQuery("SELECT count(*) FROM notification_queue WHERE status = :status")
+    long countByStatus(@Bind("status") String status);
+}
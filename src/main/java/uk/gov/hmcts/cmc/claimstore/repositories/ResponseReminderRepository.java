@@ -0,0 +1,63 @@
+package uk.gov.hmcts.cmc.claimstore.repositories;
+
+import org.skife.jdbi.v2.sqlobject.Bind;
+import org.skife.jdbi.v2.sqlobject.SqlQuery;
+import org.skife.jdbi.v2.sqlobject.SqlUpdate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Records the response reminders sent for each claim, so a reminder is sent once for a given response deadline
+ * however many times the daily sweep runs.
+ */
+public interface ResponseReminderRepository {
+
+    /**
+     * Records the day reminders were first sent by the sweep, unless a previous sweep already has.
+     */
+    @SqlUpdate("INSERT INTO response_reminder_sweep (started_on) "
+        + "SELECT :today WHERE NOT EXISTS (SELECT 1 FROM response_reminder_sweep)")
+    void recordFirstSweep(@Bind("today") LocalDate today);
+
+    @SqlQuery("SELECT CAST(:today AS DATE) - MIN(started_on) FROM response_reminder_sweep")
+    Integer getDaysSinceFirstSweep(@Bind("today") LocalDate today);
+
+    @SqlQuery("SELECT external_id FROM response_reminder "
+        + "WHERE days_before_deadline = :daysBeforeDeadline "
+        + "AND response_deadline BETWEEN :deadlineFrom AND :deadlineTo")
+    List<String> getRemindedExternalIds(
+        @Bind("daysBeforeDeadline") int daysBeforeDeadline,
+        @Bind("deadlineFrom") LocalDate deadlineFrom,
+        @Bind("deadlineTo") LocalDate deadlineTo
+    );
+
+    /**
+     * Records a reminder as sent, returning 0 when it had already been recorded.
+     */
+    @SqlUpdate("INSERT INTO response_reminder ( "
+        + "external_id, "
+        + "response_deadline, "
+        + "days_before_deadline"
+        + ") "
+        + "VALUES ("
+        + ":externalId, "
+        + ":responseDeadline, "
+        + ":daysBeforeDeadline"
+        + ") "
+        + "ON CONFLICT DO NOTHING")
+    int recordReminder(
+        @Bind("externalId") String externalId,
+        @Bind("responseDeadline") LocalDate responseDeadline,
+        @Bind("daysBeforeDeadline") int daysBeforeDeadline
+    );
+
+    @SqlUpdate("DELETE FROM response_reminder WHERE external_id = :externalId "
+        + "AND response_deadline = :responseDeadline "
+        + "AND days_before_deadline = :daysBeforeDeadline")
+    void removeReminder(
+        @Bind("externalId") String externalId,
+        @Bind("responseDeadline") LocalDate responseDeadline,
+        @Bind("daysBeforeDeadline") int daysBeforeDeadline
+    );
+}
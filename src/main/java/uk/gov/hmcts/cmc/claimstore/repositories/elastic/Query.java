@@ -2,28 +2,75 @@ package uk.gov.hmcts.cmc.claimstore.repositories.elastic;
 
 import org.elasticsearch.index.query.QueryBuilder;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 public class Query {
 
     private final QueryBuilder queryBuilder;
     private final int pageSize;
+    private final List<String> sourceFields;
+    private final int startIndex;
+    private final String sortField;
 
     public Query(QueryBuilder queryBuilder, int pageSize) {
+        this(queryBuilder, pageSize, Collections.emptyList());
+    }
+
+    /**
+     * Creates a query returning only the given source fields of each case, all fields are returned when empty.
+     */
+    public Query(QueryBuilder queryBuilder, int pageSize, List<String> sourceFields) {
+        this(queryBuilder, pageSize, sourceFields, 0);
+    }
+
+    /**
+     * Creates a query for the page of results starting at the given index.
+     */
+    public Query(QueryBuilder queryBuilder, int pageSize, List<String> sourceFields, int startIndex) {
+        this(queryBuilder, pageSize, sourceFields, startIndex, null);
+    }
+
+    /**
+     * Creates a query for the page of results starting at the given index, in ascending order of the given field.
+     */
+    public Query(QueryBuilder queryBuilder, int pageSize, List<String> sourceFields, int startIndex,
+                 String sortField) {
         Objects.requireNonNull(queryBuilder, "QueryBuilder cannot be null in search");
+        Objects.requireNonNull(sourceFields, "Source fields cannot be null in search");
         if (pageSize <= 0) {
             throw new IllegalArgumentException("Page size cant be less than 1");
         }
+        if (startIndex < 0) {
+            throw new IllegalArgumentException("Start index cant be less than 0");
+        }
         this.queryBuilder = queryBuilder;
         this.pageSize = pageSize;
+        this.sourceFields = sourceFields;
+        this.startIndex = startIndex;
+        this.sortField = sortField;
     }
 
     @Override
     public String toString() {
         return "{"
             + "\"size\": " + pageSize + ","
+            + (startIndex > 0 ? "\"from\": " + startIndex + "," : "")
+            + sourceFilter()
+            + (sortField != null ? "\"sort\": [{\"" + sortField + "\": \"asc\"}]," : "")
             + "\"query\": "
             + queryBuilder.toString()
             + '}';
     }
+
+    private String sourceFilter() {
+        if (sourceFields.isEmpty()) {
+            return "";
+        }
+        return sourceFields.stream()
+            .map(field -> '"' + field + '"')
+            .collect(Collectors.joining(",", "\"_source\": [", "],"));
+    }
 }
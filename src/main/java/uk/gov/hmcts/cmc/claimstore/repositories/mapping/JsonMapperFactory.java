@@ -5,11 +5,13 @@ import uk.gov.hmcts.cmc.claimstore.processors.JsonMapper;
 
 public final class JsonMapperFactory {
 
+    private static final JsonMapper SHARED_JSON_MAPPER = new JsonMapper(new JacksonConfiguration().objectMapper());
+
     private JsonMapperFactory() {
         // Utility class
     }
 
     public static JsonMapper create() {
-        return new JsonMapper(new JacksonConfiguration().objectMapper());
+        return SHARED_JSON_MAPPER;
     }
 }
@@ -0,0 +1,29 @@
+package uk.gov.hmcts.cmc.claimstore.repositories.mapping;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.skife.jdbi.v2.StatementContext;
+import org.skife.jdbi.v2.tweak.ResultSetMapper;
+import uk.gov.hmcts.cmc.claimstore.processors.JsonMapper;
+import uk.gov.hmcts.cmc.claimstore.services.notifications.dispatch.QueuedNotification;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+
+public class QueuedNotificationMapper implements ResultSetMapper<QueuedNotification> {
+
+    private final JsonMapper jsonMapper = JsonMapperFactory.create();
+
+    @Override
+    public QueuedNotification map(int index, ResultSet result, StatementContext ctx) throws SQLException {
+        return new QueuedNotification(
+            result.getLong("id"),
+            result.getString("template_id"),
+            result.getString("recipient"),
+            jsonMapper.fromJson(result.getString("parameters"), new TypeReference<Map<String, String>>() {
+            }),
+            result.getString("reference"),
+            result.getInt("attempts")
+        );
+    }
+}
@@ -2,7 +2,6 @@ package uk.gov.hmcts.cmc.claimstore.rpa;
 
 import com.google.common.collect.Lists;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.cmc.claimstore.documents.DefendantResponseReceiptService;
 import uk.gov.hmcts.cmc.claimstore.documents.output.PDF;
@@ -40,7 +39,6 @@ public class DefenceResponseNotificationService {
         this.defendantResponseReceiptService = defendantResponseReceiptService;
     }
 
-    @EventListener
     public void notifyRobotics(DefendantResponseEvent event) {
         requireNonNull(event);
         EmailData emailData = prepareEmailData(event.getClaim());
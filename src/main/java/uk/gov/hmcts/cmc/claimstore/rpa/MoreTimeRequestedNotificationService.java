@@ -1,7 +1,6 @@
 package uk.gov.hmcts.cmc.claimstore.rpa;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.cmc.claimstore.events.response.MoreTimeRequestedEvent;
 import uk.gov.hmcts.cmc.claimstore.rpa.config.EmailProperties;
@@ -35,7 +34,6 @@ public class MoreTimeRequestedNotificationService {
         this.jsonMapper = jsonMapper;
     }
 
-    @EventListener
     public void notifyRobotics(MoreTimeRequestedEvent event) {
         requireNonNull(event);
 
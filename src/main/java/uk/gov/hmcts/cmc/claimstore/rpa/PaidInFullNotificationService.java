@@ -2,7 +2,6 @@ package uk.gov.hmcts.cmc.claimstore.rpa;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.cmc.claimstore.events.claimantresponse.ClaimantResponseEvent;
 import uk.gov.hmcts.cmc.claimstore.events.paidinfull.PaidInFullEvent;
@@ -46,7 +45,6 @@ public class PaidInFullNotificationService {
         this.staffEmailsEnabled = staffEmailsEnabled;
     }
 
-    @EventListener
     public void notifyRobotics(PaidInFullEvent event) {
         requireNonNull(event);
 
@@ -54,7 +52,6 @@ public class PaidInFullNotificationService {
         emailService.sendEmail(emailProperties.getSender(), emailData);
     }
 
-    @EventListener
     public void notifyRobotics(ClaimantResponseEvent event) {
         requireNonNull(event);
         if (!staffEmailsEnabled) {
@@ -2,7 +2,6 @@ package uk.gov.hmcts.cmc.claimstore.rpa;
 
 import com.google.common.collect.Lists;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.cmc.claimstore.documents.CountyCourtJudgmentPdfService;
 import uk.gov.hmcts.cmc.claimstore.documents.output.PDF;
@@ -41,7 +40,6 @@ public class RequestForJudgmentNotificationService {
         this.countyCourtJudgmentPdfService = countyCourtJudgmentPdfService;
     }
 
-    @EventListener
     public void notifyRobotics(CountyCourtJudgmentEvent event) {
         requireNonNull(event);
         CountyCourtJudgmentType countyCourtJudgmentType = event.getClaim().getCountyCourtJudgment().getCcjType();
@@ -0,0 +1,68 @@
+package uk.gov.hmcts.cmc.claimstore.rpa;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.cmc.claimstore.events.ccj.CountyCourtJudgmentEvent;
+import uk.gov.hmcts.cmc.claimstore.events.claimantresponse.ClaimantResponseEvent;
+import uk.gov.hmcts.cmc.claimstore.events.paidinfull.PaidInFullEvent;
+import uk.gov.hmcts.cmc.claimstore.events.response.DefendantResponseEvent;
+import uk.gov.hmcts.cmc.claimstore.events.response.MoreTimeRequestedEvent;
+
+/**
+ * Sends RPA emails for events raised by citizens from the outbound email pool, so the user's request does not
+ * wait for their attachments to be generated and sent. Support endpoints resending these emails call the
+ * notification services directly, so they can still report the outcome for each claim.
+ */
+@Component
+public class RpaEventNotificationHandler {
+
+    private final MoreTimeRequestedNotificationService moreTimeRequestedNotificationService;
+    private final DefenceResponseNotificationService defenceResponseNotificationService;
+    private final RequestForJudgmentNotificationService requestForJudgmentNotificationService;
+    private final PaidInFullNotificationService paidInFullNotificationService;
+
+    @Autowired
+    public RpaEventNotificationHandler(
+        MoreTimeRequestedNotificationService moreTimeRequestedNotificationService,
+        DefenceResponseNotificationService defenceResponseNotificationService,
+        RequestForJudgmentNotificationService requestForJudgmentNotificationService,
+        PaidInFullNotificationService paidInFullNotificationService
+    ) {
+        this.moreTimeRequestedNotificationService = moreTimeRequestedNotificationService;
+        this.defenceResponseNotificationService = defenceResponseNotificationService;
+        this.requestForJudgmentNotificationService = requestForJudgmentNotificationService;
+        this.paidInFullNotificationService = paidInFullNotificationService;
+    }
+
+    @Async("outboundEmailExecutor")
+    @EventListener
+    public void onMoreTimeRequested(MoreTimeRequestedEvent event) {
+        moreTimeRequestedNotificationService.notifyRobotics(event);
+    }
+
+    @Async("outboundEmailExecutor")
+    @EventListener
+    public void onDefendantResponse(DefendantResponseEvent event) {
+        defenceResponseNotificationService.notifyRobotics(event);
+    }
+
+    @Async("outboundEmailExecutor")
+    @EventListener
+    public void onCountyCourtJudgment(CountyCourtJudgmentEvent event) {
+        requestForJudgmentNotificationService.notifyRobotics(event);
+    }
+
+    @Async("outboundEmailExecutor")
+    @EventListener
+    public void onPaidInFull(PaidInFullEvent event) {
+        paidInFullNotificationService.notifyRobotics(event);
+    }
+
+    @Async("outboundEmailExecutor")
+    @EventListener
+    public void onClaimantResponse(ClaimantResponseEvent event) {
+        paidInFullNotificationService.notifyRobotics(event);
+    }
+}
@@ -1,17 +1,22 @@
 package uk.gov.hmcts.cmc.claimstore.rpa.email;
 
 import org.springframework.stereotype.Component;
-
-import static uk.gov.hmcts.cmc.claimstore.utils.ResourceReader.readString;
+import uk.gov.hmcts.cmc.claimstore.config.properties.templates.TemplateRegistry;
 
 @Component("rpa/email-templates")
 public class EmailTemplates {
 
+    private final TemplateRegistry templates;
+
+    public EmailTemplates(TemplateRegistry templates) {
+        this.templates = templates;
+    }
+
     public String getClaimIssuedEmailSubject() {
-        return readString("/rpa/templates/email/claimIssued/subject.txt");
+        return templates.getString("/rpa/templates/email/claimIssued/subject.txt");
     }
 
     public String getClaimIssuedEmailBody() {
-        return readString("/rpa/templates/email/claimIssued/body.txt");
+        return templates.getString("/rpa/templates/email/claimIssued/body.txt");
     }
 }
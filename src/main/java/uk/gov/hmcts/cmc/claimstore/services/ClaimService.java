@@ -23,6 +23,7 @@ import uk.gov.hmcts.cmc.domain.models.ClaimDocumentCollection;
 import uk.gov.hmcts.cmc.domain.models.ClaimDocumentType;
 import uk.gov.hmcts.cmc.domain.models.ClaimState;
 import uk.gov.hmcts.cmc.domain.models.ClaimSubmissionOperationIndicators;
+import uk.gov.hmcts.cmc.domain.models.ClaimSummary;
 import uk.gov.hmcts.cmc.domain.models.CountyCourtJudgment;
 import uk.gov.hmcts.cmc.domain.models.PaidInFull;
 import uk.gov.hmcts.cmc.domain.models.Payment;
@@ -96,6 +97,11 @@ public class ClaimService {
         return caseRepository.getBySubmitterId(submitterId, authorisation);
     }
 
+    public List<ClaimSummary> getClaimSummariesBySubmitterId(String submitterId, String authorisation) {
+        claimAuthorisationRule.assertUserIdMatchesAuthorisation(submitterId, authorisation);
+        return caseRepository.getSummariesBySubmitterId(submitterId, authorisation);
+    }
+
     public Claim getClaimByLetterHolderId(String id, String authorisation) {
         Claim claim = caseRepository
             .getByLetterHolderId(id, authorisation)
@@ -163,6 +169,12 @@ public class ClaimService {
         return caseRepository.getByDefendantId(id, authorisation);
     }
 
+    public List<ClaimSummary> getClaimSummariesByDefendantId(String id, String authorisation) {
+        claimAuthorisationRule.assertUserIdMatchesAuthorisation(id, authorisation);
+
+        return caseRepository.getSummariesByDefendantId(id, authorisation);
+    }
+
     public List<Claim> getClaimByClaimantEmail(String email, String authorisation) {
         return caseRepository.getByClaimantEmail(email, authorisation);
     }
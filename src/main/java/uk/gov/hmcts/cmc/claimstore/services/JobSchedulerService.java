@@ -1,46 +1,93 @@
 package uk.gov.hmcts.cmc.claimstore.services;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.Hashing;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.cmc.claimstore.jobs.NotificationEmailJob;
 import uk.gov.hmcts.cmc.domain.models.Claim;
+import uk.gov.hmcts.cmc.scheduler.exceptions.JobException;
+import uk.gov.hmcts.cmc.scheduler.model.BatchJobResult;
 import uk.gov.hmcts.cmc.scheduler.model.JobData;
+import uk.gov.hmcts.cmc.scheduler.services.BatchJobService;
 import uk.gov.hmcts.cmc.scheduler.services.JobService;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class JobSchedulerService {
 
     private static final Logger logger = LoggerFactory.getLogger(JobSchedulerService.class);
+    private static final String REMINDERS_GROUP = "Reminders";
 
     private final JobService jobService;
+    private final BatchJobService batchJobService;
     private final int firstReminderDay;
     private final int lastReminderDay;
     private final boolean enabled;
-
+    private final boolean sweepEnabled;
+    private final long spreadSeconds;
+
+    /**
+     * Reminders are sent by the daily {@code ResponseReminderService} sweep unless {@code reminders.sweep.enabled}
+     * is switched off, in which case a reminder job is scheduled for each claim as before.
+     *
+     * <p>Reminder jobs are spread over the {@code reminders.jobs.spread-minutes} after 08:00 rather than all
+     * firing at once. Each claim keeps the same offset into that window, so rescheduling its reminders does not
+     * move them around within the day.</p>
+     */
     public JobSchedulerService(
         JobService jobService,
+        BatchJobService batchJobService,
         @Value("${dateCalculations.firstResponseReminderDay}") int firstReminderDay,
         @Value("${dateCalculations.lastResponseReminderDay}") int lastReminderDay,
-        @Value("${feature_toggles.reminderEmails}") boolean enabled
+        @Value("${feature_toggles.reminderEmails}") boolean enabled,
+        @Value("${reminders.sweep.enabled:true}") boolean sweepEnabled,
+        @Value("${reminders.jobs.spread-minutes:120}") int spreadMinutes
     ) {
         this.jobService = jobService;
+        this.batchJobService = batchJobService;
         this.firstReminderDay = firstReminderDay;
         this.lastReminderDay = lastReminderDay;
         this.enabled = enabled;
+        this.sweepEnabled = sweepEnabled;
+        this.spreadSeconds = TimeUnit.MINUTES.toSeconds(spreadMinutes);
+    }
+
+    /**
+     * Deletes the reminder jobs scheduled for individual claims while the sweep is sending reminders, so that
+     * jobs left from before it was switched on do not send the same reminders again.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void removeReminderJobsReplacedBySweep() {
+        if (!enabled || !sweepEnabled) {
+            return;
+        }
+
+        try {
+            BatchJobResult result = batchJobService.deleteGroup(REMINDERS_GROUP);
+            if (!result.getOutcomes().isEmpty()) {
+                logger.info("Removed {} reminder jobs replaced by the daily sweep, {} failed",
+                    result.count(BatchJobResult.Outcome.DELETED), result.count(BatchJobResult.Outcome.FAILED));
+            }
+        } catch (JobException e) {
+            logger.error("Error removing reminder jobs replaced by the daily sweep", e);
+        }
     }
 
     public void scheduleEmailNotificationsForDefendantResponse(Claim claim) {
         LocalDate responseDeadline = claim.getResponseDeadline();
-        ZonedDateTime firstReminderDate = calculateReminderDate(responseDeadline, firstReminderDay);
-        ZonedDateTime lastReminderDate = calculateReminderDate(responseDeadline, lastReminderDay);
+        ZonedDateTime firstReminderDate = calculateReminderDate(claim, responseDeadline, firstReminderDay);
+        ZonedDateTime lastReminderDate = calculateReminderDate(claim, responseDeadline, lastReminderDay);
 
         if (!enabled) {
             logger.debug("Reminder emails disabled. Skipping reminders for claim {} at {} and {}",
@@ -48,6 +95,10 @@ public class JobSchedulerService {
             return;
         }
 
+        if (sweepEnabled) {
+            return;
+        }
+
         Map<String, Object> notificationData = ImmutableMap.of("caseReference", claim.getReferenceNumber());
 
         jobService.scheduleJob(
@@ -66,8 +117,8 @@ public class JobSchedulerService {
         Claim claim,
         LocalDate responseDeadline
     ) {
-        ZonedDateTime firstReminderDate = calculateReminderDate(responseDeadline, firstReminderDay);
-        ZonedDateTime lastReminderDate = calculateReminderDate(responseDeadline, lastReminderDay);
+        ZonedDateTime firstReminderDate = calculateReminderDate(claim, responseDeadline, firstReminderDay);
+        ZonedDateTime lastReminderDate = calculateReminderDate(claim, responseDeadline, lastReminderDay);
 
         if (!enabled) {
             logger.debug("Reminder emails disabled. Skipping rescheduled reminders for claim {} at {} and {}",
@@ -75,6 +126,10 @@ public class JobSchedulerService {
             return;
         }
 
+        if (sweepEnabled) {
+            return;
+        }
+
         Map<String, Object> notificationData = ImmutableMap.of("caseReference", claim.getReferenceNumber());
 
         jobService.rescheduleJob(
@@ -104,14 +159,23 @@ public class JobSchedulerService {
 
         return JobData.builder()
             .id(jobId)
-            .group("Reminders")
+            .group(REMINDERS_GROUP)
             .description(description)
             .jobClass(NotificationEmailJob.class)
             .data(data).build();
     }
 
-    private static ZonedDateTime calculateReminderDate(LocalDate responseDeadline, int reminderDays) {
-        return responseDeadline.minusDays(reminderDays).atTime(8, 0).atZone(ZoneOffset.UTC);
+    private ZonedDateTime calculateReminderDate(Claim claim, LocalDate responseDeadline, int reminderDays) {
+        return responseDeadline.minusDays(reminderDays).atTime(8, 0).atZone(ZoneOffset.UTC)
+            .plusSeconds(reminderOffsetSeconds(claim));
+    }
+
+    private long reminderOffsetSeconds(Claim claim) {
+        if (spreadSeconds <= 0) {
+            return 0;
+        }
+        long hash = Hashing.murmur3_32().hashString(claim.getExternalId(), StandardCharsets.UTF_8).asInt();
+        return Math.floorMod(hash, spreadSeconds);
     }
 
 }
@@ -1,9 +1,13 @@
 package uk.gov.hmcts.cmc.claimstore.services;
 
 import com.google.common.base.CaseFormat;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.cmc.ccd.domain.CaseEvent;
@@ -13,26 +17,29 @@ import uk.gov.hmcts.cmc.claimstore.documents.content.ScheduledStateTransitionCon
 import uk.gov.hmcts.cmc.claimstore.idam.models.User;
 import uk.gov.hmcts.cmc.claimstore.repositories.CaseRepository;
 import uk.gov.hmcts.cmc.claimstore.repositories.CaseSearchApi;
+import uk.gov.hmcts.cmc.claimstore.repositories.CaseSearchReaders;
+import uk.gov.hmcts.cmc.claimstore.services.ccd.CaseEventLedger;
 import uk.gov.hmcts.cmc.claimstore.services.staff.models.EmailContent;
 import uk.gov.hmcts.cmc.claimstore.services.statetransition.StateTransition;
 import uk.gov.hmcts.cmc.claimstore.services.statetransition.StateTransitions;
+import uk.gov.hmcts.cmc.claimstore.utils.CaseDetailsConverter;
 import uk.gov.hmcts.cmc.domain.models.Claim;
 import uk.gov.hmcts.cmc.email.EmailData;
 import uk.gov.hmcts.cmc.email.EmailService;
-import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
-import uk.gov.hmcts.reform.ccd.client.CaseEventsApi;
-import uk.gov.hmcts.reform.ccd.client.model.CaseEventDetail;
+import uk.gov.hmcts.cmc.scheduler.batch.BatchJob;
+import uk.gov.hmcts.cmc.scheduler.batch.BatchJobRunner;
+import uk.gov.hmcts.cmc.scheduler.batch.BatchRunResult;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import javax.annotation.PostConstruct;
 
@@ -49,6 +56,8 @@ public class ScheduledStateTransitionService {
 
     private final CaseSearchApi caseSearchApi;
 
+    private final CaseDetailsConverter caseDetailsConverter;
+
     private final UserService userService;
 
     private final CaseRepository caseRepository;
@@ -63,13 +72,25 @@ public class ScheduledStateTransitionService {
 
     private final Environment environment;
 
-    private final CaseEventsApi caseEventsApi;
+    private final CaseEventLedger caseEventLedger;
+
+    private final BatchJobRunner batchJobRunner;
+
+    private final int chunkSize;
+
+    private final int parallelism;
 
-    private final AuthTokenGenerator authTokenGenerator;
+    private final Executor executor;
 
+    private final Semaphore submissions;
+
+    private final MeterRegistry meterRegistry;
+
+    @SuppressWarnings("squid:S00107")
     public ScheduledStateTransitionService(
         WorkingDayIndicator workingDayIndicator,
         CaseSearchApi caseSearchApi,
+        CaseDetailsConverter caseDetailsConverter,
         UserService userService,
         AppInsights appInsights,
         CaseRepository caseRepository,
@@ -77,11 +98,17 @@ public class ScheduledStateTransitionService {
         EmailService emailService,
         StaffEmailProperties emailProperties,
         Environment environment,
-        CaseEventsApi caseEventsApi,
-        AuthTokenGenerator authTokenGenerator
+        CaseEventLedger caseEventLedger,
+        BatchJobRunner batchJobRunner,
+        @Value("${schedule.state-transition.chunk-size:100}") int chunkSize,
+        @Value("${schedule.state-transition.parallelism:4}") int parallelism,
+        @Qualifier("stateTransitionExecutor") Executor executor,
+        @Value("${schedule.state-transition.max-concurrent-submissions:2}") int maxConcurrentSubmissions,
+        MeterRegistry meterRegistry
     ) {
         this.workingDayIndicator = workingDayIndicator;
         this.caseSearchApi = caseSearchApi;
+        this.caseDetailsConverter = caseDetailsConverter;
         this.userService = userService;
         this.caseRepository = caseRepository;
         this.appInsights = appInsights;
@@ -89,8 +116,13 @@ public class ScheduledStateTransitionService {
         this.emailService = emailService;
         this.emailProperties = emailProperties;
         this.environment = environment;
-        this.caseEventsApi = caseEventsApi;
-        this.authTokenGenerator = authTokenGenerator;
+        this.caseEventLedger = caseEventLedger;
+        this.batchJobRunner = batchJobRunner;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.executor = executor;
+        this.submissions = new Semaphore(maxConcurrentSubmissions, true);
+        this.meterRegistry = meterRegistry;
     }
 
     @PostConstruct
@@ -110,43 +142,72 @@ public class ScheduledStateTransitionService {
     public void transitionClaims(LocalDateTime runDateTime, User user, StateTransition stateTransition) {
         StateTransitionCalculator stateTransitionCalculator = getStateTransitionCalculator(stateTransition);
         LocalDate responseDate = stateTransitionCalculator.calculateDateFromDeadline(runDateTime);
-
-        Set<Claim> claims = new HashSet<>(caseSearchApi.getClaims(user,
-            stateTransition.getQuery().apply(responseDate)));
-
-        if (!stateTransition.getTriggerEvents().isEmpty()) {
-            claims = filterClaimsByEvents(user, stateTransition, claims);
+        AtomicLong transitioned = new AtomicLong();
+        AtomicLong skipped = new AtomicLong();
+
+        BatchRunResult<CaseDetails> result = batchJobRunner.run(BatchJob.<CaseDetails>builder()
+            .name(stateTransition.name())
+            .runKey(responseDate.toString())
+            .reader(CaseSearchReaders.cases(caseSearchApi, user, stateTransition.getQuery().apply(responseDate)))
+            .processor(caseDetails -> {
+                if (transitionClaim(user, caseDetails, stateTransition)) {
+                    transitioned.incrementAndGet();
+                } else {
+                    skipped.incrementAndGet();
+                }
+            })
+            .chunkSize(chunkSize)
+            .parallelism(parallelism)
+            .executor(executor)
+            .build());
+
+        // totals carried over from before a resume are left out, so every outcome covers this attempt only
+        List<CaseDetails> failed = result.getFailedItems();
+        logger.info("{} run for {}: {} transitioned, {} skipped, {} failed in {} ms", stateTransition.name(),
+            responseDate, transitioned, skipped, failed.size(), result.getElapsed().toMillis());
+        count(stateTransition, "transitioned", transitioned.get());
+        count(stateTransition, "skipped", skipped.get());
+        count(stateTransition, "failed", failed.size());
+
+        if (!failed.isEmpty()) {
+            sendFailedNotification(failed.stream().map(caseDetailsConverter::extractClaim).collect(Collectors.toList()),
+                stateTransition.getCaseEvent());
         }
+    }
 
-        Collection<Claim> failedClaims = claims.stream()
-            .map(claim -> updateClaim(user, claim, stateTransition))
-            .filter(Optional::isPresent)
-            .map(Optional::get)
-            .collect(Collectors.toList());
+    /**
+     * Checks the claim's event history when the transition depends on it, then submits the case event. Event
+     * history checks run as wide as the run's parallelism; case events are submitted at most
+     * {@code max-concurrent-submissions} at a time, so checked claims wait their turn rather than pile onto CCD.
+     */
+    private boolean transitionClaim(User user, CaseDetails caseDetails, StateTransition stateTransition) {
+        if (!stateTransition.getTriggerEvents().isEmpty() && !filterClaims(user, stateTransition, caseDetails)) {
+            return false;
+        }
 
-        if (!failedClaims.isEmpty()) {
-            sendFailedNotification(failedClaims, stateTransition.getCaseEvent());
+        Claim claim = caseDetailsConverter.extractClaim(caseDetails);
+        submissions.acquireUninterruptibly();
+        try {
+            updateClaim(user, claim, stateTransition);
+            return true;
+        } finally {
+            submissions.release();
         }
     }
 
-    private Set<Claim> filterClaimsByEvents(User user, StateTransition stateTransition, Set<Claim> claims) {
-        return claims.parallelStream()
-            .filter(claim -> filterClaims(user, stateTransition, claim))
-            .collect(Collectors.toSet());
+    private void count(StateTransition stateTransition, String outcome, long claims) {
+        Counter.builder("state.transition.claims")
+            .description("Claims considered by scheduled state transitions")
+            .tags("transition", stateTransition.name(), "outcome", outcome)
+            .register(meterRegistry)
+            .increment(claims);
     }
 
-    private boolean filterClaims(User user, StateTransition stateTransition, Claim claim) {
-        String serviceAuthorization = authTokenGenerator.generate();
-
-        List<CaseEventDetail> caseEventDetails = caseEventsApi.findEventDetailsForCase(user.getAuthorisation(),
-            serviceAuthorization, user.getUserDetails().getId(),
-            ScheduledStateTransitionService.JURISDICTION_ID,
-            ScheduledStateTransitionService.CASE_TYPE_ID, claim.getCcdCaseId().toString());
-
-        caseEventDetails.sort(Comparator.comparing(CaseEventDetail::getCreatedDate).reversed());
-
-        for (CaseEventDetail caseEventDetail : caseEventDetails) {
-            CaseEvent event = CaseEvent.fromValue(caseEventDetail.getId());
+    private boolean filterClaims(User user, StateTransition stateTransition, CaseDetails caseDetails) {
+        List<String> eventIds = caseEventLedger.getEventIdsLatestFirst(user, caseDetails.getId(),
+            caseDetails.getLastModified());
+        for (String eventId : eventIds) {
+            CaseEvent event = CaseEvent.fromValue(eventId);
 
             //Some events do not affect the state transition
             if (stateTransition.getIgnoredEvents().contains(event)) {
@@ -158,17 +219,15 @@ public class ScheduledStateTransitionService {
         return false;
     }
 
-    private Optional<Claim> updateClaim(User user, Claim claim, StateTransition stateTransition) {
+    private void updateClaim(User user, Claim claim, StateTransition stateTransition) {
         try {
             caseRepository.saveCaseEvent(user.getAuthorisation(), claim, stateTransition.getCaseEvent());
             appInsights.trackEvent(stateTransition.getAppInsightsEvent(), REFERENCE_NUMBER, claim.getReferenceNumber());
-
-            return Optional.empty();
         } catch (Exception e) {
             logger.error(String.format("Error whilst transitioning claim %s vis caseEvent %s",
                 claim.getReferenceNumber(), stateTransition.getCaseEvent().getValue()), e);
             appInsights.trackException(e);
-            return Optional.of(claim);
+            throw e;
         }
     }
 
@@ -1,38 +1,97 @@
 package uk.gov.hmcts.cmc.claimstore.services;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.mitchellbosecke.pebble.PebbleEngine;
 import com.mitchellbosecke.pebble.error.PebbleException;
 import com.mitchellbosecke.pebble.template.PebbleTemplate;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import uk.gov.hmcts.cmc.claimstore.config.properties.templates.TemplateRegistry;
 import uk.gov.hmcts.cmc.claimstore.exceptions.TemplateException;
 
 import java.io.IOException;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import javax.annotation.PostConstruct;
 
 import static org.apache.commons.lang3.Validate.notNull;
 
+/**
+ * Evaluates Pebble templates, keeping the compiled form of each template text in a bounded cache so a template
+ * is lexed and parsed once rather than on every email. The cache key is the template text itself: templates
+ * come from the {@link TemplateRegistry} as shared strings, whose hash is computed once and compared by
+ * reference first, and a reloaded template with new content simply compiles to a new entry.
+ */
 @Service
-public class TemplateService {
+public class TemplateService implements MeterBinder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TemplateService.class);
+
+    static final String EMAIL_TEMPLATES = "/templates/email/";
+    static final int DEFAULT_CACHE_SIZE = 100;
 
     private final PebbleEngine pebbleEngine;
+    private final TemplateRegistry templateRegistry;
+    private final Cache<String, PebbleTemplate> compiledTemplates;
 
     @Autowired
-    public TemplateService(PebbleEngine pebbleEngine) {
+    public TemplateService(
+        PebbleEngine pebbleEngine,
+        TemplateRegistry templateRegistry,
+        @Value("${templates.compiled-cache-size:" + DEFAULT_CACHE_SIZE + "}") int cacheSize
+    ) {
         this.pebbleEngine = pebbleEngine;
+        this.templateRegistry = templateRegistry;
+        this.compiledTemplates = CacheBuilder.newBuilder()
+            .maximumSize(cacheSize)
+            .recordStats()
+            .build();
+    }
+
+    @PostConstruct
+    public void precompile() {
+        long start = System.currentTimeMillis();
+        templateRegistry.getLocations().stream()
+            .filter(location -> location.contains(EMAIL_TEMPLATES))
+            .map(templateRegistry::getString)
+            .filter(template -> !template.isEmpty())
+            .forEach(this::compile);
+        LOGGER.info("Pre-compiled {} email templates in {} ms",
+            compiledTemplates.size(), System.currentTimeMillis() - start);
     }
 
     public String evaluate(String template, Map<String, Object> values) {
         notNull(template);
         notNull(values);
         try (Writer writer = new StringWriter()) {
-            PebbleTemplate pebbleTemplate = pebbleEngine.getTemplate(template);
+            PebbleTemplate pebbleTemplate = compile(template);
             pebbleTemplate.evaluate(writer, values);
             return writer.toString();
         } catch (PebbleException | IOException e) {
             throw new TemplateException(e);
         }
     }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        GuavaCacheMetrics.monitor(registry, compiledTemplates, "pebble.templates");
+    }
+
+    private PebbleTemplate compile(String template) {
+        try {
+            return compiledTemplates.get(template, () -> pebbleEngine.getTemplate(template));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throw new TemplateException(e.getCause());
+        }
+    }
 }
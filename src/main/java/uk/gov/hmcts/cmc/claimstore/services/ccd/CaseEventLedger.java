@@ -0,0 +1,121 @@
+package uk.gov.hmcts.cmc.claimstore.services.ccd;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.cmc.claimstore.idam.models.User;
+import uk.gov.hmcts.cmc.claimstore.repositories.CaseEventLedgerRepository;
+import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.ccd.client.CaseEventsApi;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.ccd.client.model.CaseEventDetail;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static uk.gov.hmcts.cmc.claimstore.repositories.CCDCaseApi.CASE_TYPE_ID;
+import static uk.gov.hmcts.cmc.claimstore.repositories.CCDCaseApi.JURISDICTION_ID;
+
+/**
+ * Keeps a local copy of the event history of each case, so that it can be read with one indexed query rather
+ * than a call to CCD.
+ *
+ * <p>Events are recorded as we submit them and as CCD reports them through submitted callbacks. A case's history
+ * is only read from the ledger once it has been reconciled with CCD, which copies the full history across, and
+ * while the case has not been modified since; otherwise it is read from CCD and reconciled on the way. Recording
+ * an event keeps a reconciled case up to date only when the ledger already held the case's history up to the
+ * time it was last modified before the event, so an event made in CCD without a callback to us sends the case
+ * back to CCD rather than being skipped over. The nightly reconciliation of recently modified cases catches
+ * those up as well.</p>
+ */
+@Service
+public class CaseEventLedger {
+
+    private static final Logger logger = LoggerFactory.getLogger(CaseEventLedger.class);
+
+    private final CaseEventLedgerRepository repository;
+    private final CaseEventsApi caseEventsApi;
+    private final AuthTokenGenerator authTokenGenerator;
+    private final Clock clock;
+
+    @Autowired
+    public CaseEventLedger(
+        CaseEventLedgerRepository repository,
+        CaseEventsApi caseEventsApi,
+        AuthTokenGenerator authTokenGenerator,
+        Clock clock
+    ) {
+        this.repository = repository;
+        this.caseEventsApi = caseEventsApi;
+        this.authTokenGenerator = authTokenGenerator;
+        this.clock = clock;
+    }
+
+    /**
+     * Records an event which has been submitted to CCD, given the time the case was last modified before it, if
+     * known. Failing to record it does not fail the caller; the case is brought up to date by the next
+     * reconciliation.
+     */
+    public void record(CaseDetails caseDetails, String eventId, LocalDateTime previousLastModified) {
+        if (caseDetails == null || caseDetails.getId() == null || eventId == null) {
+            return;
+        }
+
+        LocalDateTime createdAt = caseDetails.getLastModified() != null
+            ? caseDetails.getLastModified()
+            : LocalDateTime.now(clock.withZone(ZoneOffset.UTC));
+        try {
+            repository.recordLatestEvent(caseDetails.getId(), eventId, createdAt, previousLastModified);
+        } catch (Exception e) {
+            logger.error("Unable to record event {} on case {} in the case event ledger",
+                eventId, caseDetails.getId(), e);
+        }
+    }
+
+    /**
+     * Returns the ids of the events on a case last modified at the given time, latest first.
+     */
+    public List<String> getEventIdsLatestFirst(User user, Long caseId, LocalDateTime lastModified) {
+        if (lastModified != null) {
+            List<String> eventIds = repository.getReconciledEventIds(caseId, lastModified);
+            if (!eventIds.isEmpty()) {
+                return eventIds;
+            }
+        }
+        return reconcile(user, caseId);
+    }
+
+    /**
+     * Replaces the event history of a case in the ledger with the one held by CCD, returning the ids of its events
+     * latest first. Events we recorded ourselves carry our own timestamp rather than CCD's, so they are dropped
+     * rather than merged.
+     */
+    public List<String> reconcile(User user, Long caseId) {
+        LocalDateTime reconciledAt = LocalDateTime.now(clock.withZone(ZoneOffset.UTC));
+        List<CaseEventDetail> caseEventDetails = new ArrayList<>(caseEventsApi.findEventDetailsForCase(
+            user.getAuthorisation(),
+            authTokenGenerator.generate(),
+            user.getUserDetails().getId(),
+            JURISDICTION_ID,
+            CASE_TYPE_ID,
+            caseId.toString()
+        ));
+        caseEventDetails.sort(Comparator.comparing(CaseEventDetail::getCreatedDate).reversed());
+
+        try {
+            repository.replaceCase(caseId, caseEventDetails, reconciledAt);
+        } catch (Exception e) {
+            logger.error("Unable to reconcile case {} in the case event ledger", caseId, e);
+        }
+
+        return caseEventDetails.stream()
+            .map(CaseEventDetail::getId)
+            .collect(Collectors.toList());
+    }
+}
@@ -7,11 +7,13 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.cmc.ccd.domain.CCDCase;
 import uk.gov.hmcts.cmc.ccd.domain.CaseEvent;
 import uk.gov.hmcts.cmc.ccd.mapper.CaseEventMapper;
 import uk.gov.hmcts.cmc.ccd.mapper.CaseMapper;
+import uk.gov.hmcts.cmc.claimstore.events.legaladvisor.ReadyForDirectionsEvent;
 import uk.gov.hmcts.cmc.claimstore.exceptions.ConflictException;
 import uk.gov.hmcts.cmc.claimstore.exceptions.CoreCaseDataStoreException;
 import uk.gov.hmcts.cmc.claimstore.idam.models.User;
@@ -65,6 +67,8 @@ import static uk.gov.hmcts.cmc.claimstore.repositories.CCDCaseApi.CASE_TYPE_ID;
 import static uk.gov.hmcts.cmc.claimstore.repositories.CCDCaseApi.JURISDICTION_ID;
 import static uk.gov.hmcts.cmc.domain.models.ClaimDocumentType.CLAIM_ISSUE_RECEIPT;
 import static uk.gov.hmcts.cmc.domain.models.ClaimDocumentType.SEALED_CLAIM;
+import static uk.gov.hmcts.cmc.domain.models.ClaimState.READY_FOR_JUDGE_DIRECTIONS;
+import static uk.gov.hmcts.cmc.domain.models.ClaimState.READY_FOR_LEGAL_ADVISOR_DIRECTIONS;
 import static uk.gov.hmcts.cmc.domain.models.response.YesNoOption.YES;
 import static uk.gov.hmcts.cmc.domain.utils.LocalDateTimeFactory.nowInUTC;
 
@@ -100,6 +104,8 @@ public class CoreCaseDataService {
     private final WorkingDayIndicator workingDayIndicator;
     private final int intentionToProceedDeadlineDays;
     private final DirectionsQuestionnaireService directionsQuestionnaireService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CaseEventLedger caseEventLedger;
 
     @SuppressWarnings("squid:S00107") // All parameters are required here
     @Autowired
@@ -115,7 +121,9 @@ public class CoreCaseDataService {
         @Value("#{new Integer('${dateCalculations.stayClaimDeadlineInDays}')}")
             Integer intentionToProceedDeadlineDays,
         WorkingDayIndicator workingDayIndicator,
-        DirectionsQuestionnaireService directionsQuestionnaireService
+        DirectionsQuestionnaireService directionsQuestionnaireService,
+        ApplicationEventPublisher eventPublisher,
+        CaseEventLedger caseEventLedger
     ) {
         this.caseMapper = caseMapper;
         this.userService = userService;
@@ -128,6 +136,8 @@ public class CoreCaseDataService {
         this.workingDayIndicator = workingDayIndicator;
         this.intentionToProceedDeadlineDays = intentionToProceedDeadlineDays;
         this.directionsQuestionnaireService = directionsQuestionnaireService;
+        this.eventPublisher = eventPublisher;
+        this.caseEventLedger = caseEventLedger;
     }
 
     @LogExecutionTime
@@ -181,6 +191,7 @@ public class CoreCaseDataService {
                 caseDataContent,
                 user.isRepresented()
             );
+            caseEventLedger.record(caseDetails, eventRequestData.getEventId(), null);
 
             if (!user.isRepresented() && StringUtils.isNotBlank(claim.getLetterHolderId())) {
                 ccdCreateCaseService.grantAccessToCase(caseDetails.getId().toString(), claim.getLetterHolderId());
@@ -237,6 +248,7 @@ public class CoreCaseDataService {
                 caseDataContent,
                 false
             );
+            caseEventLedger.record(caseDetails, eventRequestData.getEventId(), null);
 
             return caseDetailsConverter.extractClaim(caseDetails);
 
@@ -280,7 +292,8 @@ public class CoreCaseDataService {
                 eventRequestData,
                 caseDataContent,
                 caseId,
-                isRepresented(userDetails)
+                isRepresented(userDetails),
+                startEventResponse
             );
 
             jobSchedulerService.rescheduleEmailNotificationsForDefendantResponse(claim, newResponseDeadline);
@@ -325,7 +338,8 @@ public class CoreCaseDataService {
                 eventRequestData,
                 caseDataContent,
                 caseId,
-                isRepresented(userDetails)
+                isRepresented(userDetails),
+                startEventResponse
             );
 
         } catch (Exception exception) {
@@ -388,7 +402,8 @@ public class CoreCaseDataService {
                 eventRequestData,
                 caseDataContent,
                 caseId,
-                isRepresented(userDetails)
+                isRepresented(userDetails),
+                startEventResponse
             );
             return caseDetailsConverter.extractClaim(caseDetails);
         } catch (Exception exception) {
@@ -454,7 +469,8 @@ public class CoreCaseDataService {
                 eventRequestData,
                 caseDataContent,
                 caseId,
-                isRepresented(userDetails)
+                isRepresented(userDetails),
+                startEventResponse
             );
         } catch (Exception exception) {
             throw new CoreCaseDataStoreException(
@@ -513,7 +529,8 @@ public class CoreCaseDataService {
                 eventRequestData,
                 caseDataContent,
                 caseId,
-                isRepresented(userDetails)
+                isRepresented(userDetails),
+                startEventResponse
                 )
             );
         } catch (Exception exception) {
@@ -563,7 +580,8 @@ public class CoreCaseDataService {
                 eventRequestData,
                 caseDataContent,
                 caseId,
-                isRepresented(userDetails)
+                isRepresented(userDetails),
+                startEventResponse
             );
         } catch (Exception exception) {
             throw new CoreCaseDataStoreException(
@@ -606,7 +624,8 @@ public class CoreCaseDataService {
                 eventRequestData,
                 caseDataContent,
                 caseId,
-                isRepresented(userDetails)
+                isRepresented(userDetails),
+                startEventResponse
             );
         } catch (Exception exception) {
             throw new CoreCaseDataStoreException(
@@ -646,7 +665,8 @@ public class CoreCaseDataService {
                 eventRequestData,
                 caseDataContent,
                 caseId,
-                isRepresented(userDetails)
+                isRepresented(userDetails),
+                startEventResponse
             );
         } catch (Exception exception) {
             throw new CoreCaseDataStoreException(
@@ -689,7 +709,8 @@ public class CoreCaseDataService {
                 eventRequestData,
                 caseDataContent,
                 caseId,
-                isRepresented(userDetails)
+                isRepresented(userDetails),
+                startEventResponse
             );
         } catch (Exception exception) {
             throw new CoreCaseDataStoreException(
@@ -766,7 +787,7 @@ public class CoreCaseDataService {
                 .build();
 
             return submitUpdate(authorisation, eventRequestData, caseDataContent, caseId,
-                isRepresented(userDetails));
+                isRepresented(userDetails), startEventResponse);
         } catch (Exception exception) {
             throw new CoreCaseDataStoreException(
                 String.format(
@@ -812,10 +833,12 @@ public class CoreCaseDataService {
         EventRequestData eventRequestData,
         CaseDataContent caseDataContent,
         Long caseId,
-        boolean isRepresented
+        boolean isRepresented,
+        StartEventResponse startEventResponse
     ) {
+        CaseDetails caseDetails;
         if (isRepresented) {
-            return coreCaseDataApi.submitEventForCaseWorker(
+            caseDetails = coreCaseDataApi.submitEventForCaseWorker(
                 authorisation,
                 authTokenGenerator.generate(),
                 eventRequestData.getUserId(),
@@ -826,7 +849,7 @@ public class CoreCaseDataService {
                 caseDataContent
             );
         } else {
-            return coreCaseDataApi.submitEventForCitizen(
+            caseDetails = coreCaseDataApi.submitEventForCitizen(
                 authorisation,
                 authTokenGenerator.generate(),
                 eventRequestData.getUserId(),
@@ -837,6 +860,9 @@ public class CoreCaseDataService {
                 caseDataContent
             );
         }
+        caseEventLedger.record(caseDetails, eventRequestData.getEventId(),
+            Optional.ofNullable(startEventResponse.getCaseDetails()).map(CaseDetails::getLastModified).orElse(null));
+        return caseDetails;
     }
 
     public void saveDirectionsQuestionnaireDeadline(Long caseId, LocalDate dqDeadline, String authorisation) {
@@ -862,7 +888,8 @@ public class CoreCaseDataService {
                 eventRequestData,
                 caseDataContent,
                 caseId,
-                isRepresented(userDetails)
+                isRepresented(userDetails),
+                startEventResponse
             );
         } catch (Exception exception) {
             throw new CoreCaseDataStoreException(
@@ -918,7 +945,8 @@ public class CoreCaseDataService {
                 eventRequestData,
                 caseDataContent,
                 caseId,
-                isRepresented(userDetails)
+                isRepresented(userDetails),
+                startEventResponse
             );
         } catch (Exception exception) {
             throw new CoreCaseDataStoreException(
@@ -954,7 +982,8 @@ public class CoreCaseDataService {
                 eventRequestData,
                 caseDataContent,
                 caseId,
-                isRepresented(userDetails)
+                isRepresented(userDetails),
+                startEventResponse
             );
         } catch (Exception exception) {
             throw new CoreCaseDataStoreException(
@@ -997,7 +1026,8 @@ public class CoreCaseDataService {
                 eventRequestData,
                 caseDataContent,
                 caseId,
-                isRepresented(userDetails)
+                isRepresented(userDetails),
+                startEventResponse
             );
 
             return caseDetailsConverter.extractClaim(caseDetails);
@@ -1040,7 +1070,8 @@ public class CoreCaseDataService {
                 eventRequestData,
                 caseDataContent,
                 caseId,
-                isRepresented(userDetails)
+                isRepresented(userDetails),
+                startEventResponse
             );
 
             ccdCreateCaseService.grantAccessToCase(caseId.toString(), letterHolderId);
@@ -1084,7 +1115,8 @@ public class CoreCaseDataService {
                 eventRequestData,
                 caseDataContent,
                 caseId,
-                isRepresented(userDetails)
+                isRepresented(userDetails),
+                startEventResponse
             );
             return caseDetailsConverter.extractClaim(caseDetails);
         } catch (Exception exception) {
@@ -1119,7 +1151,8 @@ public class CoreCaseDataService {
                 eventRequestData,
                 caseDataContent,
                 claim.getId(),
-                isRepresented(userDetails)
+                isRepresented(userDetails),
+                startEventResponse
             );
             return caseDetailsConverter.extractClaim(caseDetails);
         } catch (FeignException.UnprocessableEntity unprocessableEntity) {
@@ -1156,8 +1189,18 @@ public class CoreCaseDataService {
             eventRequestData,
             caseDataContent,
             caseId,
-            isRepresented(userDetails)
+            isRepresented(userDetails),
+            startEventResponse
         );
+        publishIfReadyForDirections(caseDetails);
         return caseDetailsConverter.extractClaim(caseDetails);
     }
+
+    private void publishIfReadyForDirections(CaseDetails caseDetails) {
+        String state = caseDetails.getState();
+        if (READY_FOR_LEGAL_ADVISOR_DIRECTIONS.getValue().equals(state)
+            || READY_FOR_JUDGE_DIRECTIONS.getValue().equals(state)) {
+            eventPublisher.publishEvent(new ReadyForDirectionsEvent(caseDetails));
+        }
+    }
 }
@@ -0,0 +1,144 @@
+package uk.gov.hmcts.cmc.claimstore.services.ccd.callbacks.legaladvisor;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.cmc.ccd.domain.CCDCase;
+import uk.gov.hmcts.cmc.ccd.domain.CCDDocument;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the order fields prepopulated for a case waiting for directions, and the last draft order generated for
+ * it, against the version of the case they were built from.
+ *
+ * <p>An entry is only used while the case's last modified timestamp is unchanged. Prepopulated fields carry
+ * date based deadlines so they are also only used on the day they were computed. A draft order is only reused
+ * for the same order fields and the same user, as doc assembly signs the order with the user's details, and on
+ * the day it was rendered, as the order is dated when it is rendered.</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "doc_assembly", name = "url")
+public class DraftOrderCache {
+
+    private final Clock clock;
+    private final Cache<Long, CaseEntry> cases;
+
+    @Autowired
+    public DraftOrderCache(
+        Clock clock,
+        @Value("${draft-order-cache.enabled:true}") boolean enabled,
+        @Value("${draft-order-cache.max-cases:1000}") long maxCases,
+        @Value("${draft-order-cache.expire-after-hours:24}") long expireAfterHours
+    ) {
+        this.clock = clock;
+        this.cases = enabled
+            ? CacheBuilder.newBuilder()
+                .maximumSize(maxCases)
+                .expireAfterWrite(expireAfterHours, TimeUnit.HOURS)
+                .build()
+            : null;
+    }
+
+    public Optional<Map<String, Object>> getPrepopulated(CaseDetails caseDetails, String variant) {
+        return entry(caseDetails)
+            .map(entry -> entry.prepopulated.get(variant))
+            .filter(prepopulated -> prepopulated.computedOn.equals(LocalDate.now(clock)))
+            .map(prepopulated -> new HashMap<>(prepopulated.data));
+    }
+
+    public void putPrepopulated(CaseDetails caseDetails, String variant, Map<String, Object> data) {
+        entryForUpdate(caseDetails).ifPresent(entry ->
+            entry.prepopulated.put(variant, new Prepopulated(LocalDate.now(clock), new HashMap<>(data))));
+    }
+
+    public Optional<CCDDocument> getDraftOrder(CaseDetails caseDetails, CCDCase ccdCase, String authorisation) {
+        return entry(caseDetails)
+            .map(entry -> entry.draftOrder)
+            .filter(draftOrder -> draftOrder.renderedOn.equals(LocalDate.now(clock))
+                && draftOrder.ccdCase.equals(ccdCase)
+                && draftOrder.user.equals(hash(authorisation)))
+            .map(draftOrder -> draftOrder.document);
+    }
+
+    public void putDraftOrder(CaseDetails caseDetails, CCDCase ccdCase, String authorisation, CCDDocument document) {
+        entryForUpdate(caseDetails).ifPresent(entry ->
+            entry.draftOrder = new DraftOrder(LocalDate.now(clock), ccdCase, hash(authorisation), document));
+    }
+
+    private Optional<CaseEntry> entry(CaseDetails caseDetails) {
+        if (cases == null || caseDetails.getId() == null || caseDetails.getLastModified() == null) {
+            return Optional.empty();
+        }
+
+        CaseEntry entry = cases.getIfPresent(caseDetails.getId());
+        if (entry != null && !entry.lastModified.equals(caseDetails.getLastModified())) {
+            cases.invalidate(caseDetails.getId());
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entry);
+    }
+
+    private Optional<CaseEntry> entryForUpdate(CaseDetails caseDetails) {
+        if (cases == null || caseDetails.getId() == null || caseDetails.getLastModified() == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(cases.asMap().compute(caseDetails.getId(), (id, entry) ->
+            entry != null && entry.lastModified.equals(caseDetails.getLastModified())
+                ? entry
+                : new CaseEntry(caseDetails.getLastModified())));
+    }
+
+    private static String hash(String authorisation) {
+        return Hashing.sha256().hashString(Objects.toString(authorisation), StandardCharsets.UTF_8).toString();
+    }
+
+    private static class CaseEntry {
+        private final LocalDateTime lastModified;
+        private final Map<String, Prepopulated> prepopulated = new ConcurrentHashMap<>();
+        private volatile DraftOrder draftOrder;
+
+        CaseEntry(LocalDateTime lastModified) {
+            this.lastModified = lastModified;
+        }
+    }
+
+    private static class Prepopulated {
+        private final LocalDate computedOn;
+        private final Map<String, Object> data;
+
+        Prepopulated(LocalDate computedOn, Map<String, Object> data) {
+            this.computedOn = computedOn;
+            this.data = data;
+        }
+    }
+
+    private static class DraftOrder {
+        private final LocalDate renderedOn;
+        private final CCDCase ccdCase;
+        private final String user;
+        private final CCDDocument document;
+
+        DraftOrder(LocalDate renderedOn, CCDCase ccdCase, String user, CCDDocument document) {
+            this.renderedOn = renderedOn;
+            this.ccdCase = ccdCase;
+            this.user = user;
+            this.document = document;
+        }
+    }
+}
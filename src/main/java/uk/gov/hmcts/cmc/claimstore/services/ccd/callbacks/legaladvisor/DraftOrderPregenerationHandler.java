@@ -0,0 +1,32 @@
+package uk.gov.hmcts.cmc.claimstore.services.ccd.callbacks.legaladvisor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.cmc.claimstore.events.legaladvisor.ReadyForDirectionsEvent;
+
+@Component
+@ConditionalOnProperty(prefix = "doc_assembly", name = "url")
+public class DraftOrderPregenerationHandler {
+    private static final Logger logger = LoggerFactory.getLogger(DraftOrderPregenerationHandler.class);
+
+    private final OrderCreator orderCreator;
+
+    public DraftOrderPregenerationHandler(OrderCreator orderCreator) {
+        this.orderCreator = orderCreator;
+    }
+
+    @Async("threadPoolTaskExecutor")
+    @EventListener
+    public void pregenerateOrder(ReadyForDirectionsEvent event) {
+        try {
+            orderCreator.pregenerate(event.getCaseDetails());
+        } catch (Exception ex) {
+            logger.warn("Unable to pre-generate order fields for case {}, they will be computed on demand",
+                event.getCaseDetails().getId(), ex);
+        }
+    }
+}
@@ -20,6 +20,7 @@ import uk.gov.hmcts.cmc.claimstore.services.DirectionsQuestionnaireService;
 import uk.gov.hmcts.cmc.claimstore.services.LegalOrderGenerationDeadlinesCalculator;
 import uk.gov.hmcts.cmc.claimstore.services.ccd.DocAssemblyService;
 import uk.gov.hmcts.cmc.claimstore.services.ccd.callbacks.CallbackParams;
+import uk.gov.hmcts.cmc.claimstore.services.ccd.callbacks.CallbackType;
 import uk.gov.hmcts.cmc.claimstore.services.ccd.callbacks.CallbackVersion;
 import uk.gov.hmcts.cmc.claimstore.services.ccd.callbacks.rules.GenerateOrderRule;
 import uk.gov.hmcts.cmc.claimstore.services.ccd.legaladvisor.HearingCourt;
@@ -30,6 +31,7 @@ import uk.gov.hmcts.cmc.domain.models.Claim;
 import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse;
 import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
 import uk.gov.hmcts.reform.ccd.client.model.CallbackResponse;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.docassembly.domain.DocAssemblyResponse;
 
 import java.time.LocalDate;
@@ -44,9 +46,13 @@ import java.util.stream.Stream;
 
 import static uk.gov.hmcts.cmc.ccd.domain.CCDYesNoOption.NO;
 import static uk.gov.hmcts.cmc.ccd.domain.CCDYesNoOption.YES;
+import static uk.gov.hmcts.cmc.ccd.domain.CaseEvent.DRAW_JUDGES_ORDER;
+import static uk.gov.hmcts.cmc.ccd.domain.CaseEvent.GENERATE_ORDER;
 import static uk.gov.hmcts.cmc.ccd.domain.legaladvisor.CCDDirectionPartyType.BOTH;
 import static uk.gov.hmcts.cmc.ccd.domain.legaladvisor.CCDOrderDirectionType.DOCUMENTS;
 import static uk.gov.hmcts.cmc.ccd.domain.legaladvisor.CCDOrderDirectionType.EYEWITNESS;
+import static uk.gov.hmcts.cmc.domain.models.ClaimState.READY_FOR_JUDGE_DIRECTIONS;
+import static uk.gov.hmcts.cmc.domain.models.ClaimState.READY_FOR_LEGAL_ADVISOR_DIRECTIONS;
 
 @Service
 @ConditionalOnProperty(prefix = "doc_assembly", name = "url")
@@ -81,6 +87,7 @@ public class OrderCreator {
     private final GenerateOrderRule generateOrderRule;
     private final DirectionsQuestionnaireService directionsQuestionnaireService;
     private final PilotCourtService pilotCourtService;
+    private final DraftOrderCache draftOrderCache;
 
     public OrderCreator(
         LegalOrderGenerationDeadlinesCalculator legalOrderGenerationDeadlinesCalculator,
@@ -88,7 +95,8 @@ public class OrderCreator {
         DocAssemblyService docAssemblyService,
         GenerateOrderRule generateOrderRule,
         DirectionsQuestionnaireService directionsQuestionnaireService,
-        PilotCourtService pilotCourtService
+        PilotCourtService pilotCourtService,
+        DraftOrderCache draftOrderCache
     ) {
         this.legalOrderGenerationDeadlinesCalculator = legalOrderGenerationDeadlinesCalculator;
         this.caseDetailsConverter = caseDetailsConverter;
@@ -96,11 +104,55 @@ public class OrderCreator {
         this.generateOrderRule = generateOrderRule;
         this.directionsQuestionnaireService = directionsQuestionnaireService;
         this.pilotCourtService = pilotCourtService;
+        this.draftOrderCache = draftOrderCache;
+    }
+
+    /**
+     * Computes the prepopulated order fields for a case which has just become ready for directions, so the
+     * legal advisor or judge opening it does not wait for them.
+     */
+    public void pregenerate(CaseDetails caseDetails) {
+        if (READY_FOR_LEGAL_ADVISOR_DIRECTIONS.getValue().equals(caseDetails.getState())) {
+            prepopulateOrder(pregenerationParams(caseDetails, GENERATE_ORDER, CallbackVersion.V_1));
+            prepopulateOrder(pregenerationParams(caseDetails, GENERATE_ORDER, CallbackVersion.V_2));
+        } else if (READY_FOR_JUDGE_DIRECTIONS.getValue().equals(caseDetails.getState())) {
+            prepopulateOrder(pregenerationParams(caseDetails, DRAW_JUDGES_ORDER, CallbackVersion.V_2));
+        }
+    }
+
+    private static CallbackParams pregenerationParams(
+        CaseDetails caseDetails,
+        CaseEvent caseEvent,
+        CallbackVersion version
+    ) {
+        return CallbackParams.builder()
+            .type(CallbackType.ABOUT_TO_START)
+            .request(CallbackRequest.builder().eventId(caseEvent.getValue()).caseDetails(caseDetails).build())
+            .version(version)
+            .build();
     }
 
     public CallbackResponse prepopulateOrder(CallbackParams callbackParams) {
         logger.info("Order creator: pre populating order fields");
         CallbackRequest callbackRequest = callbackParams.getRequest();
+        CaseDetails caseDetails = callbackRequest.getCaseDetails();
+        String variant = getPilot(callbackParams) + ":" + hasExpertsAtCaseLevel(callbackParams);
+
+        Map<String, Object> data = draftOrderCache.getPrepopulated(caseDetails, variant)
+            .orElseGet(() -> {
+                Map<String, Object> computed = computePrepopulatedData(callbackParams);
+                draftOrderCache.putPrepopulated(caseDetails, variant, computed);
+                return computed;
+            });
+
+        return AboutToStartOrSubmitCallbackResponse
+            .builder()
+            .data(data)
+            .build();
+    }
+
+    private Map<String, Object> computePrepopulatedData(CallbackParams callbackParams) {
+        CallbackRequest callbackRequest = callbackParams.getRequest();
 
         Claim claim = caseDetailsConverter.extractClaim(callbackRequest.getCaseDetails());
         CCDCase ccdCase = caseDetailsConverter.extractCCDCase(callbackRequest.getCaseDetails());
@@ -145,10 +197,7 @@ public class OrderCreator {
             }
         }
 
-        return AboutToStartOrSubmitCallbackResponse
-            .builder()
-            .data(data)
-            .build();
+        return data;
     }
 
     private static <T> T chooseItem(T value, T defaultValue) {
@@ -183,15 +232,20 @@ public class OrderCreator {
         }
 
         String authorisation = callbackParams.getParams().get(CallbackParams.Params.BEARER_TOKEN).toString();
-        DocAssemblyResponse docAssemblyResponse = docAssemblyService.createOrder(ccdCase, authorisation);
-        logger.info("Order creator: received response from doc assembly");
+        CaseDetails caseDetails = callbackRequest.getCaseDetails();
+        CCDDocument draftOrder = draftOrderCache.getDraftOrder(caseDetails, ccdCase, authorisation).orElse(null);
+        if (draftOrder != null) {
+            logger.info("Order creator: reusing draft order generated for the same order fields");
+        } else {
+            DocAssemblyResponse docAssemblyResponse = docAssemblyService.createOrder(ccdCase, authorisation);
+            logger.info("Order creator: received response from doc assembly");
+            draftOrder = CCDDocument.builder().documentUrl(docAssemblyResponse.getRenditionOutputLocation()).build();
+            draftOrderCache.putDraftOrder(caseDetails, ccdCase, authorisation, draftOrder);
+        }
 
         return AboutToStartOrSubmitCallbackResponse
             .builder()
-            .data(ImmutableMap.of(
-                DRAFT_ORDER_DOC,
-                CCDDocument.builder().documentUrl(docAssemblyResponse.getRenditionOutputLocation()).build()
-            ))
+            .data(ImmutableMap.of(DRAFT_ORDER_DOC, draftOrder))
             .build();
     }
 
@@ -0,0 +1,31 @@
+package uk.gov.hmcts.cmc.claimstore.services.document;
+
+import feign.Response;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+
+/**
+ * Downloads document binaries from document management without decoding them, so the body can be streamed
+ * from the connection. Callers must close the returned {@link Response}.
+ */
+@FeignClient(name = "document-management-binary-api", url = "${document_management.url}")
+public interface DocumentBinaryApi {
+
+    String SERVICE_AUTHORIZATION = "ServiceAuthorization";
+    String USER_ROLES = "user-roles";
+    String USER_ID = "user-id";
+
+    @RequestMapping(method = RequestMethod.GET, value = "{binaryPath}")
+    Response downloadBinary(
+        @RequestHeader(HttpHeaders.AUTHORIZATION) String authorisation,
+        @RequestHeader(SERVICE_AUTHORIZATION) String serviceAuthorisation,
+        @RequestHeader(USER_ROLES) String userRoles,
+        @RequestHeader(USER_ID) String userId,
+        @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+        @PathVariable("binaryPath") String binaryPath
+    );
+}
@@ -0,0 +1,94 @@
+package uk.gov.hmcts.cmc.claimstore.services.document;
+
+import org.apache.commons.io.IOUtils;
+import org.springframework.http.HttpStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Optional;
+
+/**
+ * A document ready to be written to a response: either an open stream from document management, possibly a
+ * byte range of the document, or a freshly generated PDF. The body is copied through a fixed size buffer.
+ * A download must be closed whether or not its body is written, as the stream holds a pooled connection to
+ * document management.
+ */
+public final class DocumentDownload implements Closeable {
+
+    static final int BUFFER_SIZE = 8 * 1024;
+
+    private final HttpStatus status;
+    private final String eTag;
+    private final Long contentLength;
+    private final String contentRange;
+    private final InputStream body;
+
+    private DocumentDownload(
+        HttpStatus status,
+        String eTag,
+        Long contentLength,
+        String contentRange,
+        InputStream body
+    ) {
+        this.status = status;
+        this.eTag = eTag;
+        this.contentLength = contentLength;
+        this.contentRange = contentRange;
+        this.body = body;
+    }
+
+    public static DocumentDownload of(byte[] document) {
+        return new DocumentDownload(HttpStatus.OK, null, (long) document.length, null,
+            new ByteArrayInputStream(document));
+    }
+
+    static DocumentDownload stream(HttpStatus status, Long contentLength, String contentRange, InputStream body) {
+        return new DocumentDownload(status, null, contentLength, contentRange, body);
+    }
+
+    static DocumentDownload rangeNotSatisfiable(String contentRange) {
+        return new DocumentDownload(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, null, null, contentRange, null);
+    }
+
+    static DocumentDownload notModified(String eTag) {
+        return new DocumentDownload(HttpStatus.NOT_MODIFIED, eTag, null, null, null);
+    }
+
+    DocumentDownload withETag(String eTag) {
+        return new DocumentDownload(status, eTag, contentLength, contentRange, body);
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public Optional<String> getETag() {
+        return Optional.ofNullable(eTag);
+    }
+
+    public Optional<Long> getContentLength() {
+        return Optional.ofNullable(contentLength);
+    }
+
+    public Optional<String> getContentRange() {
+        return Optional.ofNullable(contentRange);
+    }
+
+    public boolean hasBody() {
+        return body != null;
+    }
+
+    public void writeTo(OutputStream outputStream) throws IOException {
+        IOUtils.copy(body, outputStream, BUFFER_SIZE);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (body != null) {
+            body.close();
+        }
+    }
+}
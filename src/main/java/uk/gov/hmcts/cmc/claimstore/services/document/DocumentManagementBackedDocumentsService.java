@@ -1,5 +1,7 @@
 package uk.gov.hmcts.cmc.claimstore.services.document;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.cmc.claimstore.documents.ClaimIssueReceiptService;
@@ -19,7 +21,12 @@ import uk.gov.hmcts.cmc.domain.models.ClaimDocument;
 import uk.gov.hmcts.cmc.domain.models.ClaimDocumentCollection;
 import uk.gov.hmcts.cmc.domain.models.ClaimDocumentType;
 
+import java.net.URI;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static uk.gov.hmcts.cmc.domain.models.ClaimDocumentType.MEDIATION_AGREEMENT;
 import static uk.gov.hmcts.cmc.domain.models.ClaimDocumentType.ORDER_DIRECTIONS;
@@ -28,6 +35,8 @@ import static uk.gov.hmcts.cmc.domain.models.ClaimDocumentType.ORDER_SANCTIONS;
 @Service("documentsService")
 public class DocumentManagementBackedDocumentsService implements DocumentsService {
 
+    private static final Logger logger = LoggerFactory.getLogger(DocumentManagementBackedDocumentsService.class);
+
     private final ClaimService claimService;
     private final DocumentManagementService documentManagementService;
     private final SealedClaimPdfService sealedClaimPdfService;
@@ -93,10 +102,81 @@ public class DocumentManagementBackedDocumentsService implements DocumentsServic
         return processRequest(claim, authorisation, claimDocumentType);
     }
 
+    /**
+     * Streams a stored document from document management, answering {@code If-None-Match} from the document
+     * identity without contacting document management. Claim journey documents which are not stored, or cannot
+     * be downloaded, are generated as for {@link #generateDocument(String, ClaimDocumentType, String)}.
+     */
+    @Override
+    public DocumentDownload downloadDocument(
+        String externalId,
+        ClaimDocumentType claimDocumentType,
+        String authorisation,
+        String range,
+        String ifNoneMatch
+    ) {
+        User user = userService.getUser(authorisation);
+
+        Claim claim = claimService.getClaimByExternalId(externalId, user);
+        ClaimDocumentsAccessRule.assertDocumentCanBeAccessedByUser(claim, claimDocumentType, user);
+
+        Optional<ClaimDocument> claimDocument = claim.getClaimDocument(claimDocumentType);
+        if (isOrderDocument(claimDocumentType)) {
+            return claimDocument
+                .map(document -> streamDocument(document, authorisation, range, ifNoneMatch))
+                .orElseThrow(() -> new IllegalArgumentException("Document is not available for download."));
+        }
+
+        try {
+            if (claimDocument.isPresent()) {
+                return streamDocument(claimDocument.get(), authorisation, range, ifNoneMatch);
+            }
+            return DocumentDownload.of(generateNewDocument(claim, authorisation, claimDocumentType));
+        } catch (Exception ex) {
+            return DocumentDownload.of(getService(claimDocumentType).createPdf(claim).getBytes());
+        }
+    }
+
+    private DocumentDownload streamDocument(
+        ClaimDocument claimDocument,
+        String authorisation,
+        String range,
+        String ifNoneMatch
+    ) {
+        String eTag = eTag(claimDocument);
+        if (eTag != null && matches(ifNoneMatch, eTag)) {
+            return DocumentDownload.notModified(eTag);
+        }
+        return documentManagementService.streamDocument(authorisation, claimDocument, range).withETag(eTag);
+    }
+
+    /**
+     * Stored documents are immutable, so the document management id identifies the content.
+     */
+    private static String eTag(ClaimDocument claimDocument) {
+        return Optional.ofNullable(claimDocument.getDocumentManagementUrl())
+            .map(URI::getPath)
+            .map(path -> path.substring(path.lastIndexOf('/') + 1))
+            .filter(id -> !id.isEmpty())
+            .map(id -> "\"" + id + "\"")
+            .orElse(null);
+    }
+
+    private static boolean matches(String ifNoneMatch, String eTag) {
+        return ifNoneMatch != null && Stream.of(ifNoneMatch.split(","))
+            .map(String::trim)
+            .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+            .anyMatch(tag -> tag.equals("*") || tag.equals(eTag));
+    }
+
+    private static boolean isOrderDocument(ClaimDocumentType claimDocumentType) {
+        return claimDocumentType == ORDER_DIRECTIONS || claimDocumentType == ORDER_SANCTIONS
+            || claimDocumentType == MEDIATION_AGREEMENT;
+    }
+
     private byte[] processRequest(Claim claim, String authorisation, ClaimDocumentType claimDocumentType) {
 
-        if (claimDocumentType == ORDER_DIRECTIONS || claimDocumentType == ORDER_SANCTIONS
-            || claimDocumentType == MEDIATION_AGREEMENT) {
+        if (isOrderDocument(claimDocumentType)) {
             return getOrderDocuments(claim, authorisation, claimDocumentType);
         } else {
             return getClaimJourneyDocuments(claim, authorisation, claimDocumentType);
@@ -141,6 +221,37 @@ public class DocumentManagementBackedDocumentsService implements DocumentsServic
             document.getClaimDocumentType());
     }
 
+    /**
+     * Uploads the documents concurrently and records each one on the claim as it completes, in document order.
+     * A document that cannot be uploaded is logged and left off the claim without affecting the others.
+     */
+    public Claim uploadAllToDocumentManagement(List<PDF> documents, String authorisation, Claim claim) {
+        List<CompletableFuture<ClaimDocument>> uploads;
+        try {
+            uploads = documentManagementService.uploadDocuments(authorisation, documents);
+        } catch (Exception ex) {
+            logger.warn(String.format("unable to upload documents %s into document management",
+                documents.stream().map(PDF::getFilename).collect(Collectors.joining(", "))), ex);
+            return claim;
+        }
+
+        Claim updatedClaim = claim;
+        for (int i = 0; i < documents.size(); i++) {
+            PDF document = documents.get(i);
+            try {
+                ClaimDocument claimDocument = uploads.get(i).join();
+                updatedClaim = claimService.saveClaimDocuments(authorisation,
+                    updatedClaim.getId(),
+                    getClaimDocumentCollection(updatedClaim, claimDocument),
+                    document.getClaimDocumentType());
+            } catch (Exception ex) {
+                logger.warn(String.format("unable to upload document %s into document management",
+                    document.getFilename()), ex);
+            }
+        }
+        return updatedClaim;
+    }
+
     private ClaimDocumentCollection getClaimDocumentCollection(Claim claim, ClaimDocument claimDocument) {
         ClaimDocumentCollection claimDocumentCollection = claim.getClaimDocumentCollection()
             .orElse(new ClaimDocumentCollection());
@@ -1,17 +1,24 @@
 package uk.gov.hmcts.cmc.claimstore.services.document;
 
+import feign.FeignException;
+import feign.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Recover;
 import org.springframework.retry.annotation.Retryable;
+import org.springframework.retry.backoff.FixedBackOffPolicy;
+import org.springframework.retry.policy.SimpleRetryPolicy;
+import org.springframework.retry.support.RetryTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 import uk.gov.hmcts.cmc.claimstore.appinsights.AppInsights;
 import uk.gov.hmcts.cmc.claimstore.documents.output.PDF;
 import uk.gov.hmcts.cmc.claimstore.exceptions.DocumentManagementException;
@@ -22,16 +29,20 @@ import uk.gov.hmcts.cmc.domain.utils.LocalDateTimeFactory;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.document.DocumentDownloadClientApi;
 import uk.gov.hmcts.reform.document.DocumentMetadataDownloadClientApi;
-import uk.gov.hmcts.reform.document.DocumentUploadClientApi;
 import uk.gov.hmcts.reform.document.domain.Classification;
 import uk.gov.hmcts.reform.document.domain.Document;
 import uk.gov.hmcts.reform.document.domain.UploadResponse;
-import uk.gov.hmcts.reform.document.utils.InMemoryMultipartFile;
 
 import java.net.URI;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
-import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static uk.gov.hmcts.cmc.claimstore.appinsights.AppInsights.DOCUMENT_NAME;
 import static uk.gov.hmcts.cmc.claimstore.appinsights.AppInsightsEvent.DOCUMENT_MANAGEMENT_DOWNLOAD_FAILURE;
 import static uk.gov.hmcts.cmc.claimstore.appinsights.AppInsightsEvent.DOCUMENT_MANAGEMENT_UPLOAD_FAILURE;
@@ -40,73 +51,101 @@ import static uk.gov.hmcts.cmc.claimstore.appinsights.AppInsightsEvent.DOCUMENT_
 public class DocumentManagementService {
 
     private final Logger logger = LoggerFactory.getLogger(DocumentManagementService.class);
-    private static final String FILES_NAME = "files";
     private static final String OCMC = "OCMC";
+    private static final int UPLOAD_ATTEMPTS = 3;
 
     private final DocumentMetadataDownloadClientApi documentMetadataDownloadClient;
     private final DocumentDownloadClientApi documentDownloadClient;
-    private final DocumentUploadClientApi documentUploadClient;
+    private final DocumentUploadClient documentUploadClient;
+    private final DocumentBinaryApi documentBinaryApi;
     private final AuthTokenGenerator authTokenGenerator;
     private final UserService userService;
     private final AppInsights appInsights;
     private final List<String> userRoles;
+    private final Executor uploadExecutor;
+    private final RetryTemplate uploadRetryTemplate = uploadRetryTemplate();
 
     @Autowired
     public DocumentManagementService(
         DocumentMetadataDownloadClientApi documentMetadataDownloadApi,
         DocumentDownloadClientApi documentDownloadClientApi,
-        DocumentUploadClientApi documentUploadClientApi,
+        DocumentUploadClient documentUploadClient,
+        DocumentBinaryApi documentBinaryApi,
         AuthTokenGenerator authTokenGenerator,
         UserService userService,
         AppInsights appInsights,
-        @Value("${document_management.userRoles}") List<String> userRoles
+        @Value("${document_management.userRoles}") List<String> userRoles,
+        @Qualifier("documentUploadExecutor") Executor uploadExecutor
     ) {
         this.documentMetadataDownloadClient = documentMetadataDownloadApi;
         this.documentDownloadClient = documentDownloadClientApi;
-        this.documentUploadClient = documentUploadClientApi;
+        this.documentUploadClient = documentUploadClient;
+        this.documentBinaryApi = documentBinaryApi;
         this.authTokenGenerator = authTokenGenerator;
         this.userService = userService;
         this.appInsights = appInsights;
         this.userRoles = userRoles;
+        this.uploadExecutor = uploadExecutor;
     }
 
     @Retryable(value = {DocumentManagementException.class}, backoff = @Backoff(delay = 200))
     public ClaimDocument uploadDocument(String authorisation, PDF pdf) {
-        String originalFileName = pdf.getFilename();
         try {
-            MultipartFile file
-                = new InMemoryMultipartFile(FILES_NAME, originalFileName, PDF.CONTENT_TYPE, pdf.getBytes());
-
             UserDetails userDetails = userService.getUserDetails(authorisation);
-            UploadResponse response = documentUploadClient.upload(
-                authorisation,
-                authTokenGenerator.generate(),
-                userDetails.getId(),
-                userRoles,
-                Classification.RESTRICTED,
-                singletonList(file)
-            );
+            return upload(authorisation, authTokenGenerator.generate(), userDetails.getId(), pdf);
+        } catch (DocumentManagementException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new DocumentManagementException(String.format("Unable to upload document %s to document management.",
+                pdf.getFilename()), ex);
+        }
+    }
 
-            Document document = response.getEmbedded().getDocuments().stream()
-                .findFirst()
-                .orElseThrow(() ->
-                    new DocumentManagementException("Document management failed uploading file" + originalFileName));
+    /**
+     * Uploads the documents concurrently, each retried on its own so that one failing file neither holds back
+     * nor repeats the others. The returned futures are in the same order as the documents; if the uploads
+     * cannot be started at all, each of them is completed with the failure rather than it being thrown.
+     */
+    public List<CompletableFuture<ClaimDocument>> uploadDocuments(String authorisation, List<PDF> pdfs) {
+        UserDetails userDetails;
+        String serviceAuthorisation;
+        try {
+            userDetails = userService.getUserDetails(authorisation);
+            serviceAuthorisation = authTokenGenerator.generate();
+        } catch (Exception ex) {
+            return pdfs.stream()
+                .map(pdf -> failedUpload(ex))
+                .collect(Collectors.toList());
+        }
 
-            return ClaimDocument.builder()
-                .documentManagementUrl(URI.create(document.links.self.href))
-                .documentManagementBinaryUrl(URI.create(document.links.binary.href))
-                .documentName(originalFileName)
-                .documentType(pdf.getClaimDocumentType())
-                .createdDatetime(LocalDateTimeFactory.nowInUTC())
-                .size(document.size)
-                .createdBy(OCMC)
-                .build();
+        return pdfs.stream()
+            .map(pdf -> uploadAsync(authorisation, serviceAuthorisation, userDetails.getId(), pdf))
+            .collect(Collectors.toList());
+    }
+
+    private CompletableFuture<ClaimDocument> uploadAsync(
+        String authorisation,
+        String serviceAuthorisation,
+        String userId,
+        PDF pdf
+    ) {
+        try {
+            return CompletableFuture.supplyAsync(() -> uploadRetryTemplate.execute(
+                context -> upload(authorisation, serviceAuthorisation, userId, pdf),
+                context -> logUploadDocumentFailure(
+                    (DocumentManagementException) context.getLastThrowable(), authorisation, pdf)
+            ), uploadExecutor);
         } catch (Exception ex) {
-            throw new DocumentManagementException(String.format("Unable to upload document %s to document management.",
-                originalFileName), ex);
+            return failedUpload(ex);
         }
     }
 
+    private static CompletableFuture<ClaimDocument> failedUpload(Exception exception) {
+        CompletableFuture<ClaimDocument> upload = new CompletableFuture<>();
+        upload.completeExceptionally(exception);
+        return upload;
+    }
+
     @Recover
     public ClaimDocument logUploadDocumentFailure(
         DocumentManagementException exception,
@@ -119,26 +158,26 @@ public class DocumentManagementService {
         throw exception;
     }
 
+    /**
+     * Downloads the binary from the URL stored on the claim document, looking it up from the document metadata
+     * only when no URL is stored or document management no longer serves it.
+     */
     @Retryable(value = DocumentManagementException.class, backoff = @Backoff(delay = 200))
     public byte[] downloadDocument(String authorisation, ClaimDocument claimDocument) {
         try {
             UserDetails userDetails = userService.getUserDetails(authorisation);
+            String serviceAuthorisation = authTokenGenerator.generate();
             String userRoles = String.join(",", this.userRoles);
-            Document documentMetadata = documentMetadataDownloadClient.getDocumentMetadata(
-                authorisation,
-                authTokenGenerator.generate(),
-                userRoles,
-                userDetails.getId(),
-                claimDocument.getDocumentManagementUrl().getPath()
-            );
-
-            ResponseEntity<Resource> responseEntity = documentDownloadClient.downloadBinary(
-                authorisation,
-                authTokenGenerator.generate(),
-                userRoles,
-                userDetails.getId(),
-                URI.create(documentMetadata.links.binary.href).getPath()
-            );
+            ResponseEntity<Resource> responseEntity = storedBinaryPath(claimDocument)
+                .map(binaryPath -> downloadStoredBinary(
+                    authorisation, serviceAuthorisation, userRoles, userDetails.getId(), binaryPath))
+                .orElseGet(() -> documentDownloadClient.downloadBinary(
+                    authorisation,
+                    serviceAuthorisation,
+                    userRoles,
+                    userDetails.getId(),
+                    binaryPath(authorisation, serviceAuthorisation, userRoles, userDetails.getId(), claimDocument)
+                ));
 
             ByteArrayResource resource = (ByteArrayResource) responseEntity.getBody();
             //noinspection ConstantConditions let the NPE be thrown
@@ -156,9 +195,180 @@ public class DocumentManagementService {
         String authorisation,
         ClaimDocument claimDocument
     ) {
+        trackDownloadFailure(exception, claimDocument);
+        throw exception;
+    }
+
+    /**
+     * Opens the document binary without buffering it, passing any {@code Range} header through to document
+     * management. The returned download holds an open connection until it is written.
+     */
+    @Retryable(value = DocumentManagementException.class, backoff = @Backoff(delay = 200))
+    public DocumentDownload streamDocument(String authorisation, ClaimDocument claimDocument, String range) {
+        Response response = null;
+        try {
+            UserDetails userDetails = userService.getUserDetails(authorisation);
+            String serviceAuthorisation = authTokenGenerator.generate();
+            String userRoles = String.join(",", this.userRoles);
+            response = storedBinaryPath(claimDocument)
+                .map(binaryPath -> streamStoredBinary(
+                    authorisation, serviceAuthorisation, userRoles, userDetails.getId(), range, binaryPath))
+                .orElseGet(() -> documentBinaryApi.downloadBinary(
+                    authorisation,
+                    serviceAuthorisation,
+                    userRoles,
+                    userDetails.getId(),
+                    range,
+                    binaryPath(authorisation, serviceAuthorisation, userRoles, userDetails.getId(), claimDocument)
+                ));
+
+            HttpStatus status = HttpStatus.valueOf(response.status());
+            if (status == HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE) {
+                response.close();
+                return DocumentDownload.rangeNotSatisfiable(header(response, HttpHeaders.CONTENT_RANGE).orElse(null));
+            }
+            if ((status != HttpStatus.OK && status != HttpStatus.PARTIAL_CONTENT) || response.body() == null) {
+                throw new DocumentManagementException("Document management responded with " + status);
+            }
+
+            return DocumentDownload.stream(
+                status,
+                header(response, HttpHeaders.CONTENT_LENGTH).map(Long::valueOf).orElse(null),
+                header(response, HttpHeaders.CONTENT_RANGE).orElse(null),
+                response.body().asInputStream()
+            );
+        } catch (Exception ex) {
+            if (response != null) {
+                response.close();
+            }
+            throw new DocumentManagementException(
+                String.format("Unable to download document %s from document management.",
+                    claimDocument.getDocumentName()), ex);
+        }
+    }
+
+    @Recover
+    public DocumentDownload logStreamDocumentFailure(
+        DocumentManagementException exception,
+        String authorisation,
+        ClaimDocument claimDocument,
+        String range
+    ) {
+        trackDownloadFailure(exception, claimDocument);
+        throw exception;
+    }
+
+    private ClaimDocument upload(String authorisation, String serviceAuthorisation, String userId, PDF pdf) {
+        String originalFileName = pdf.getFilename();
+        try {
+            UploadResponse response = documentUploadClient.upload(
+                authorisation,
+                serviceAuthorisation,
+                userId,
+                userRoles,
+                Classification.RESTRICTED,
+                pdf
+            );
+
+            Document document = response.getEmbedded().getDocuments().stream()
+                .findFirst()
+                .orElseThrow(() ->
+                    new DocumentManagementException("Document management failed uploading file" + originalFileName));
+
+            return ClaimDocument.builder()
+                .documentManagementUrl(URI.create(document.links.self.href))
+                .documentManagementBinaryUrl(URI.create(document.links.binary.href))
+                .documentName(originalFileName)
+                .documentType(pdf.getClaimDocumentType())
+                .createdDatetime(LocalDateTimeFactory.nowInUTC())
+                .size(document.size)
+                .createdBy(OCMC)
+                .build();
+        } catch (Exception ex) {
+            throw new DocumentManagementException(String.format("Unable to upload document %s to document management.",
+                originalFileName), ex);
+        }
+    }
+
+    private static RetryTemplate uploadRetryTemplate() {
+        FixedBackOffPolicy backOffPolicy = new FixedBackOffPolicy();
+        backOffPolicy.setBackOffPeriod(200);
+
+        RetryTemplate retryTemplate = new RetryTemplate();
+        retryTemplate.setRetryPolicy(
+            new SimpleRetryPolicy(UPLOAD_ATTEMPTS, singletonMap(DocumentManagementException.class, true)));
+        retryTemplate.setBackOffPolicy(backOffPolicy);
+        return retryTemplate;
+    }
+
+    private void trackDownloadFailure(DocumentManagementException exception, ClaimDocument claimDocument) {
         String filename = claimDocument.getDocumentName() + ".pdf";
         logger.warn(exception.getMessage() + " " + exception.getCause(), exception);
         appInsights.trackEvent(DOCUMENT_MANAGEMENT_DOWNLOAD_FAILURE, DOCUMENT_NAME, filename);
-        throw exception;
+    }
+
+    private ResponseEntity<Resource> downloadStoredBinary(
+        String authorisation,
+        String serviceAuthorisation,
+        String userRoles,
+        String userId,
+        String binaryPath
+    ) {
+        try {
+            return documentDownloadClient.downloadBinary(
+                authorisation, serviceAuthorisation, userRoles, userId, binaryPath);
+        } catch (FeignException.NotFound ex) {
+            logger.info("Stored binary {} not found, looking it up from the document metadata", binaryPath);
+            return null;
+        }
+    }
+
+    private Response streamStoredBinary(
+        String authorisation,
+        String serviceAuthorisation,
+        String userRoles,
+        String userId,
+        String range,
+        String binaryPath
+    ) {
+        Response response = documentBinaryApi.downloadBinary(
+            authorisation, serviceAuthorisation, userRoles, userId, range, binaryPath);
+        if (response.status() == HttpStatus.NOT_FOUND.value()) {
+            response.close();
+            logger.info("Stored binary {} not found, looking it up from the document metadata", binaryPath);
+            return null;
+        }
+        return response;
+    }
+
+    private String binaryPath(
+        String authorisation,
+        String serviceAuthorisation,
+        String userRoles,
+        String userId,
+        ClaimDocument claimDocument
+    ) {
+        Document documentMetadata = documentMetadataDownloadClient.getDocumentMetadata(
+            authorisation,
+            serviceAuthorisation,
+            userRoles,
+            userId,
+            claimDocument.getDocumentManagementUrl().getPath()
+        );
+        return URI.create(documentMetadata.links.binary.href).getPath();
+    }
+
+    private static Optional<String> storedBinaryPath(ClaimDocument claimDocument) {
+        return Optional.ofNullable(claimDocument.getDocumentManagementBinaryUrl())
+            .map(URI::getPath)
+            .filter(path -> !path.isEmpty());
+    }
+
+    private static Optional<String> header(Response response, String name) {
+        return response.headers().entrySet().stream()
+            .filter(header -> header.getKey().equalsIgnoreCase(name))
+            .map(Map.Entry::getValue)
+            .flatMap(Collection::stream)
+            .findFirst();
     }
 }
@@ -0,0 +1,80 @@
+package uk.gov.hmcts.cmc.claimstore.services.document;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestTemplate;
+import uk.gov.hmcts.cmc.claimstore.documents.output.PDF;
+import uk.gov.hmcts.reform.document.domain.Classification;
+import uk.gov.hmcts.reform.document.domain.UploadResponse;
+
+import java.util.List;
+
+/**
+ * Uploads documents to document management as a multipart request written directly from the PDF bytes.
+ *
+ * <p>The Feign based {@code DocumentUploadClientApi} wraps each file in an in-memory multipart file and then
+ * encodes the whole request body into another array before sending it.</p>
+ */
+@Component
+public class DocumentUploadClient {
+
+    static final String FILES = "files";
+    static final String CLASSIFICATION = "classification";
+
+    private final RestTemplate restTemplate;
+    private final String documentsUrl;
+
+    @Autowired
+    public DocumentUploadClient(
+        @Qualifier("streamingRestTemplate") RestTemplate restTemplate,
+        @Value("${document_management.url}") String documentManagementUrl
+    ) {
+        this.restTemplate = restTemplate;
+        this.documentsUrl = documentManagementUrl + "/documents";
+    }
+
+    public UploadResponse upload(
+        String authorisation,
+        String serviceAuthorisation,
+        String userId,
+        List<String> userRoles,
+        Classification classification,
+        PDF pdf
+    ) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.AUTHORIZATION, authorisation);
+        headers.set(DocumentBinaryApi.SERVICE_AUTHORIZATION, serviceAuthorisation);
+        headers.set(DocumentBinaryApi.USER_ID, userId);
+        headers.set(DocumentBinaryApi.USER_ROLES, String.join(",", userRoles));
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add(CLASSIFICATION, classification.name());
+        body.add(FILES, file(pdf));
+
+        return restTemplate.postForObject(documentsUrl, new HttpEntity<>(body, headers), UploadResponse.class);
+    }
+
+    private static HttpEntity<Resource> file(PDF pdf) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(PDF.CONTENT_TYPE));
+        headers.setContentDispositionFormData(FILES, pdf.getFilename());
+
+        Resource content = new ByteArrayResource(pdf.getBytes()) {
+            @Override
+            public String getFilename() {
+                return pdf.getFilename();
+            }
+        };
+        return new HttpEntity<>(content, headers);
+    }
+}
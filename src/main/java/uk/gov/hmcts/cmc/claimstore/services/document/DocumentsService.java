@@ -4,8 +4,20 @@ import uk.gov.hmcts.cmc.claimstore.documents.output.PDF;
 import uk.gov.hmcts.cmc.domain.models.Claim;
 import uk.gov.hmcts.cmc.domain.models.ClaimDocumentType;
 
+import java.util.List;
+
 public interface DocumentsService {
     byte[] generateDocument(String externalId, ClaimDocumentType claimDocumentType, String authorisation);
 
+    DocumentDownload downloadDocument(
+        String externalId,
+        ClaimDocumentType claimDocumentType,
+        String authorisation,
+        String range,
+        String ifNoneMatch
+    );
+
     Claim uploadToDocumentManagement(PDF document, String authorisation, Claim claim);
+
+    Claim uploadAllToDocumentManagement(List<PDF> documents, String authorisation, Claim claim);
 }
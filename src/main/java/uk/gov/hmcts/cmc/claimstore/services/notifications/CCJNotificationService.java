@@ -5,7 +5,9 @@ import org.springframework.stereotype.Service;
 import uk.gov.hmcts.cmc.claimstore.config.properties.notifications.NotificationsProperties;
 import uk.gov.hmcts.cmc.claimstore.utils.Formatting;
 import uk.gov.hmcts.cmc.domain.models.Claim;
+import uk.gov.hmcts.cmc.domain.models.ClaimSummary;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -29,8 +31,13 @@ public class CCJNotificationService {
         this.notificationsProperties = notificationsProperties;
     }
 
-    public void notifyClaimantAboutCCJReminder(Claim claim) {
-        Map<String, String> parameters = aggregateParams(claim);
+    public void notifyClaimantAboutCCJReminder(ClaimSummary claim) {
+        Map<String, String> parameters = aggregateParams(
+            claim.getClaimantName(),
+            claim.getDefendantName(),
+            claim.getReferenceNumber(),
+            claim.getCountyCourtJudgmentRequestedAt()
+        );
         notificationService.sendMail(
             claim.getSubmitterEmail(),
             notificationsProperties.getTemplates().getEmail().getClaimantCCJReminder(),
@@ -70,12 +77,26 @@ public class CCJNotificationService {
     }
 
     private Map<String, String> aggregateParams(Claim claim) {
+        return aggregateParams(
+            claim.getClaimData().getClaimant().getName(),
+            claim.getClaimData().getDefendant().getName(),
+            claim.getReferenceNumber(),
+            claim.getCountyCourtJudgmentRequestedAt()
+        );
+    }
+
+    private Map<String, String> aggregateParams(
+        String claimantName,
+        String defendantName,
+        String referenceNumber,
+        LocalDateTime ccjRequestedAt
+    ) {
         Map<String, String> parameters = new HashMap<>();
-        parameters.put(CLAIMANT_NAME, claim.getClaimData().getClaimant().getName());
-        parameters.put(DEFENDANT_NAME, claim.getClaimData().getDefendant().getName());
+        parameters.put(CLAIMANT_NAME, claimantName);
+        parameters.put(DEFENDANT_NAME, defendantName);
         parameters.put(FRONTEND_BASE_URL, notificationsProperties.getFrontendBaseUrl());
-        parameters.put(CLAIM_REFERENCE_NUMBER, claim.getReferenceNumber());
-        parameters.put("ccjRequestedDate", Formatting.formatDate(claim.getCountyCourtJudgmentRequestedAt()));
+        parameters.put(CLAIM_REFERENCE_NUMBER, referenceNumber);
+        parameters.put("ccjRequestedDate", Formatting.formatDate(ccjRequestedAt));
         return parameters;
     }
 }
@@ -9,6 +9,7 @@ import org.springframework.retry.annotation.Recover;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.cmc.claimstore.appinsights.AppInsights;
+import uk.gov.hmcts.cmc.claimstore.services.notifications.dispatch.NotificationQueue;
 import uk.gov.hmcts.cmc.claimstore.stereotypes.LogExecutionTime;
 import uk.gov.hmcts.cmc.domain.exceptions.NotificationException;
 import uk.gov.service.notify.NotificationClient;
@@ -27,16 +28,23 @@ public class NotificationService {
 
     private final NotificationClient notificationClient;
     private final AppInsights appInsights;
+    private final NotificationQueue notificationQueue;
 
     @Autowired
     public NotificationService(
         NotificationClient notificationClient,
-        AppInsights appInsights
+        AppInsights appInsights,
+        NotificationQueue notificationQueue
     ) {
         this.notificationClient = notificationClient;
         this.appInsights = appInsights;
+        this.notificationQueue = notificationQueue;
     }
 
+    /**
+     * Queues an email to be sent by the notification dispatcher, or sends it straight away when dispatch is
+     * disabled.
+     */
     @LogExecutionTime
     @Retryable(value = NotificationException.class, backoff = @Backoff(delay = 200))
     public void sendMail(
@@ -45,6 +53,10 @@ public class NotificationService {
         Map<String, String> parameters,
         String reference
     ) {
+        if (notificationQueue.offer(emailTemplate, targetEmail, parameters, reference)) {
+            return;
+        }
+
         try {
             notificationClient.sendEmail(emailTemplate, targetEmail, parameters, reference);
         } catch (NotificationClientException e) {
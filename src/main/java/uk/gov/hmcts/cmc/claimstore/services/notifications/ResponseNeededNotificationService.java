@@ -19,8 +19,6 @@ import uk.gov.hmcts.cmc.claimstore.services.ClaimService;
 import uk.gov.hmcts.cmc.claimstore.utils.Formatting;
 import uk.gov.hmcts.cmc.domain.exceptions.NotificationException;
 import uk.gov.hmcts.cmc.domain.models.Claim;
-import uk.gov.service.notify.NotificationClient;
-import uk.gov.service.notify.NotificationClientException;
 
 import java.util.Map;
 
@@ -38,18 +36,18 @@ public class ResponseNeededNotificationService {
 
     private final Logger logger = LoggerFactory.getLogger(ResponseNeededNotificationService.class);
 
-    private final NotificationClient notificationClient;
+    private final NotificationService notificationService;
     private final NotificationsProperties notificationsProperties;
     private final AppInsights appInsights;
     private final ClaimService claimService;
 
     @Autowired
     public ResponseNeededNotificationService(
-        NotificationClient notificationClient,
+        NotificationService notificationService,
         NotificationsProperties notificationsProperties,
         AppInsights appInsights,
         ClaimService claimService) {
-        this.notificationClient = notificationClient;
+        this.notificationService = notificationService;
         this.notificationsProperties = notificationsProperties;
         this.appInsights = appInsights;
         this.claimService = claimService;
@@ -61,24 +59,15 @@ public class ResponseNeededNotificationService {
         String caseReference = (String) jobData.get("caseReference");
 
         claimService.getClaimByReferenceAnonymous(caseReference)
-            .ifPresent(claim -> {
-                if (claim.getRespondedAt() == null) {
-                    if (claim.getDefendantEmail() == null) {
-                        logger.warn(LOG_TEMPLATE, caseReference, "missing defendant email address");
-                    } else {
-                        try {
-                            notificationClient.sendEmail(
-                                getEmailTemplates().getDefendantResponseNeeded(),
-                                claim.getDefendantEmail(),
-                                aggregateParams(claim),
-                                caseReference
-                            );
-                        } catch (NotificationClientException e) {
-                            throw new NotificationException(e);
-                        }
-                    }
-                }
-            });
+            .ifPresent(this::notifyDefendant);
+    }
+
+    /**
+     * Sends the response needed reminder for a claim found by the daily reminder sweep. Failures are left to the
+     * sweep, which tries the claim again on its next run; {@link NotificationService} already retries the send.
+     */
+    public void sendReminder(Claim claim) {
+        notifyDefendant(claim);
     }
 
     @Recover
@@ -93,6 +82,25 @@ public class ResponseNeededNotificationService {
         appInsights.trackEvent(AppInsightsEvent.SCHEDULER_JOB_FAILED, REFERENCE_NUMBER, caseReference);
     }
 
+    private void notifyDefendant(Claim claim) {
+        if (claim.getRespondedAt() != null) {
+            return;
+        }
+
+        String caseReference = claim.getReferenceNumber();
+        if (claim.getDefendantEmail() == null) {
+            logger.warn(LOG_TEMPLATE, caseReference, "missing defendant email address");
+            return;
+        }
+
+        notificationService.sendMail(
+            claim.getDefendantEmail(),
+            getEmailTemplates().getDefendantResponseNeeded(),
+            aggregateParams(claim),
+            caseReference
+        );
+    }
+
     private Map<String, String> aggregateParams(Claim claim) {
         String defendantName = claim.getClaimData().getDefendant().getName();
         String claimantName = claim.getClaimData().getClaimant().getName();
@@ -0,0 +1,158 @@
+package uk.gov.hmcts.cmc.claimstore.services.notifications;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.RateLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.cmc.claimstore.idam.models.User;
+import uk.gov.hmcts.cmc.claimstore.repositories.CaseSearchApi;
+import uk.gov.hmcts.cmc.claimstore.repositories.ResponseReminderRepository;
+import uk.gov.hmcts.cmc.claimstore.services.UserService;
+import uk.gov.hmcts.cmc.domain.models.Claim;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Sends the defendant response reminders due today in one sweep rather than from a scheduled job per claim.
+ *
+ * <p>Claims whose response is due in {@code dateCalculations.firstResponseReminderDay} or
+ * {@code dateCalculations.lastResponseReminderDay} days are read from CCD in bulk, then reminded in chunks sent
+ * side by side, at no more than {@code reminders.sweep.emails-per-second} overall. Each reminder is recorded
+ * before it is sent, so a reminder already sent for a claim's response deadline is not sent again when the
+ * sweep is repeated, and a failed reminder is tried again on the next run.</p>
+ *
+ * <p>A reminder missed on its day, because a sweep did not run or failed, is caught up by the following sweeps
+ * until the next reminder takes over: the first reminder covers deadlines up to the day before the last
+ * reminder's, which covers its own day only. Reminders due before the first sweep ran are never caught up, as
+ * they were sent by the scheduled jobs the sweep replaced and were not recorded here.</p>
+ */
+@Service
+public class ResponseReminderService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseReminderService.class);
+
+    enum Outcome {
+        SENT, ALREADY_SENT, FAILED
+    }
+
+    private final CaseSearchApi caseSearchApi;
+    private final UserService userService;
+    private final ResponseNeededNotificationService responseNeededNotificationService;
+    private final ResponseReminderRepository responseReminderRepository;
+    private final Clock clock;
+    private final List<Integer> reminderDays;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final RateLimiter rateLimiter;
+    private final Executor executor;
+
+    @Autowired
+    @SuppressWarnings("squid:S00107")
+    public ResponseReminderService(
+        CaseSearchApi caseSearchApi,
+        UserService userService,
+        ResponseNeededNotificationService responseNeededNotificationService,
+        ResponseReminderRepository responseReminderRepository,
+        Clock clock,
+        @Value("${dateCalculations.firstResponseReminderDay}") int firstReminderDay,
+        @Value("${dateCalculations.lastResponseReminderDay}") int lastReminderDay,
+        @Value("${feature_toggles.reminderEmails}") boolean reminderEmailsEnabled,
+        @Value("${reminders.sweep.enabled:true}") boolean sweepEnabled,
+        @Value("${reminders.sweep.chunk-size:50}") int chunkSize,
+        @Value("${reminders.sweep.emails-per-second:10}") double emailsPerSecond,
+        @Qualifier("responseReminderExecutor") Executor executor
+    ) {
+        this.caseSearchApi = caseSearchApi;
+        this.userService = userService;
+        this.responseNeededNotificationService = responseNeededNotificationService;
+        this.responseReminderRepository = responseReminderRepository;
+        this.clock = clock;
+        this.reminderDays = IntStream.of(firstReminderDay, lastReminderDay).distinct().sorted().boxed()
+            .collect(Collectors.toList());
+        this.enabled = reminderEmailsEnabled && sweepEnabled;
+        this.chunkSize = chunkSize;
+        this.rateLimiter = RateLimiter.create(emailsPerSecond);
+        this.executor = executor;
+    }
+
+    public void sendDueReminders() {
+        if (!enabled) {
+            logger.debug("Reminder email sweep disabled, no reminders sent");
+            return;
+        }
+
+        LocalDate today = LocalDate.now(clock);
+        responseReminderRepository.recordFirstSweep(today);
+        int daysSinceFirstSweep = Optional.ofNullable(responseReminderRepository.getDaysSinceFirstSweep(today))
+            .orElse(0);
+        User anonymousCaseWorker = userService.authenticateAnonymousCaseWorker();
+        for (int i = 0; i < reminderDays.size(); i++) {
+            int daysBeforeDeadline = reminderDays.get(i);
+            int catchUpDays = i == 0 ? 0 : daysBeforeDeadline - reminderDays.get(i - 1) - 1;
+            LocalDate deadlineFrom = today.plusDays(daysBeforeDeadline - Math.min(catchUpDays, daysSinceFirstSweep));
+            LocalDate deadlineTo = today.plusDays(daysBeforeDeadline);
+            List<Claim> claims = caseSearchApi.getClaimsAwaitingResponse(anonymousCaseWorker, deadlineFrom,
+                deadlineTo);
+            Set<String> reminded = new HashSet<>(responseReminderRepository
+                .getRemindedExternalIds(daysBeforeDeadline, deadlineFrom, deadlineTo));
+            List<Claim> due = claims.stream()
+                .filter(claim -> !reminded.contains(claim.getExternalId()))
+                .collect(Collectors.toList());
+
+            Map<Outcome, Long> outcomes = remind(due, daysBeforeDeadline);
+            if (due.size() < claims.size()) {
+                outcomes.put(Outcome.ALREADY_SENT,
+                    outcomes.getOrDefault(Outcome.ALREADY_SENT, 0L) + claims.size() - due.size());
+            }
+            logger.info("Response reminders for deadlines {} to {}: {} claims due, outcomes {}",
+                deadlineFrom, deadlineTo, claims.size(), outcomes);
+        }
+    }
+
+    private Map<Outcome, Long> remind(List<Claim> claims, int daysBeforeDeadline) {
+        List<CompletableFuture<List<Outcome>>> chunks = Lists.partition(claims, chunkSize).stream()
+            .map(chunk -> CompletableFuture.supplyAsync(() -> chunk.stream()
+                .map(claim -> remind(claim, daysBeforeDeadline))
+                .collect(Collectors.toList()), executor))
+            .collect(Collectors.toList());
+
+        return chunks.stream()
+            .map(CompletableFuture::join)
+            .flatMap(List::stream)
+            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    }
+
+    private Outcome remind(Claim claim, int daysBeforeDeadline) {
+        String externalId = claim.getExternalId();
+        LocalDate responseDeadline = claim.getResponseDeadline();
+        if (responseReminderRepository.recordReminder(externalId, responseDeadline, daysBeforeDeadline) == 0) {
+            return Outcome.ALREADY_SENT;
+        }
+
+        rateLimiter.acquire();
+        try {
+            responseNeededNotificationService.sendReminder(claim);
+            return Outcome.SENT;
+        } catch (Exception e) {
+            logger.warn("Response reminder for claim {} not sent, it will be retried on the next sweep",
+                claim.getReferenceNumber(), e);
+            responseReminderRepository.removeReminder(externalId, responseDeadline, daysBeforeDeadline);
+            return Outcome.FAILED;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package uk.gov.hmcts.cmc.claimstore.services.notifications.dispatch;
+
+import com.google.common.util.concurrent.RateLimiter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.cmc.claimstore.appinsights.AppInsights;
+import uk.gov.hmcts.cmc.claimstore.repositories.NotificationQueueRepository;
+import uk.gov.service.notify.NotificationClient;
+import uk.gov.service.notify.NotificationClientException;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static uk.gov.hmcts.cmc.claimstore.appinsights.AppInsights.EMAIL_REFERENCE;
+import static uk.gov.hmcts.cmc.claimstore.appinsights.AppInsightsEvent.NOTIFICATION_FAILURE;
+
+/**
+ * Sends the emails waiting in the {@link NotificationQueue} through GOV.UK Notify.
+ *
+ * <p>Each instance leases a batch of due notifications, sends them from a bounded pool no faster than its share
+ * of the Notify rate limit of 3,000 emails a minute per API key, and removes them once sent. A failed send is
+ * retried with exponential backoff until it runs out of attempts; notifications which Notify rejects outright, or
+ * which run out of attempts, are left in the queue as dead letters for support to inspect.</p>
+ */
+@Component
+public class NotificationDispatcher implements MeterBinder {
+
+    static final String PENDING = "PENDING";
+    static final String DEAD = "DEAD";
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDispatcher.class);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final NotificationQueueRepository repository;
+    private final NotificationClient notificationClient;
+    private final AppInsights appInsights;
+    private final Executor executor;
+    private final RateLimiter rateLimiter;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long leaseSeconds;
+    private final int maxAttempts;
+    private final long initialBackoffSeconds;
+    private final long maxBackoffSeconds;
+
+    private Timer sent;
+    private Timer retried;
+    private Timer deadLettered;
+
+    @SuppressWarnings("squid:S00107") // All parameters are required here
+    @Autowired
+    public NotificationDispatcher(
+        NotificationQueueRepository repository,
+        NotificationClient notificationClient,
+        AppInsights appInsights,
+        @Qualifier("notificationDispatchExecutor") Executor executor,
+        @Value("${notifications.dispatch.enabled:true}") boolean enabled,
+        @Value("${notifications.dispatch.rate-per-second:25}") double ratePerSecond,
+        @Value("${notifications.dispatch.batch-size:50}") int batchSize,
+        @Value("${notifications.dispatch.lease-seconds:300}") long leaseSeconds,
+        @Value("${notifications.dispatch.max-attempts:8}") int maxAttempts,
+        @Value("${notifications.dispatch.initial-backoff-seconds:30}") long initialBackoffSeconds,
+        @Value("${notifications.dispatch.max-backoff-seconds:3600}") long maxBackoffSeconds
+    ) {
+        this.repository = repository;
+        this.notificationClient = notificationClient;
+        this.appInsights = appInsights;
+        this.executor = executor;
+        this.rateLimiter = RateLimiter.create(ratePerSecond);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.leaseSeconds = leaseSeconds;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffSeconds = initialBackoffSeconds;
+        this.maxBackoffSeconds = maxBackoffSeconds;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("notifications.queue.depth", this, dispatcher -> dispatcher.depth(PENDING))
+            .description("Notifications in the queue, by status")
+            .tag("status", "pending")
+            .register(registry);
+        Gauge.builder("notifications.queue.depth", this, dispatcher -> dispatcher.depth(DEAD))
+            .description("Notifications in the queue, by status")
+            .tag("status", "dead")
+            .register(registry);
+        sent = sendTimer(registry, "sent");
+        retried = sendTimer(registry, "retried");
+        deadLettered = sendTimer(registry, "dead-lettered");
+    }
+
+    /**
+     * Sends the notifications due, a batch at a time, until none are left.
+     */
+    @Scheduled(fixedDelayString = "${notifications.dispatch.poll-interval-millis:1000}")
+    public void dispatch() {
+        if (!enabled) {
+            return;
+        }
+
+        List<QueuedNotification> notifications;
+        do {
+            notifications = repository.lease(batchSize, leaseSeconds);
+            for (QueuedNotification notification : notifications) {
+                rateLimiter.acquire();
+                executor.execute(() -> send(notification));
+            }
+        } while (notifications.size() == batchSize);
+    }
+
+    void send(QueuedNotification notification) {
+        long start = System.nanoTime();
+        try {
+            notificationClient.sendEmail(
+                notification.getTemplateId(),
+                notification.getRecipient(),
+                notification.getParameters(),
+                notification.getReference()
+            );
+            repository.remove(notification.getId());
+            record(sent, start);
+        } catch (NotificationClientException e) {
+            failed(notification, e, start);
+        } catch (Exception e) {
+            logger.error("Unable to send notification {}, it will be sent when its lease runs out",
+                notification.getReference(), e);
+        }
+    }
+
+    private void failed(QueuedNotification notification, NotificationClientException exception, long start) {
+        String error = StringUtils.abbreviate(exception.getMessage(), MAX_ERROR_LENGTH);
+
+        if (isRejected(exception) || notification.getAttempts() >= maxAttempts) {
+            repository.deadLetter(notification.getId(), error);
+            record(deadLettered, start);
+            logger.error("Failure: failed to send notification ({}) after {} attempts due to {}",
+                notification.getReference(), notification.getAttempts(), error);
+            appInsights.trackEvent(NOTIFICATION_FAILURE, EMAIL_REFERENCE, notification.getReference());
+            return;
+        }
+
+        long delaySeconds = backoffSeconds(notification.getAttempts());
+        repository.retryLater(notification.getId(), delaySeconds, error);
+        record(retried, start);
+        logger.info("Unable to send notification ({}) due to {}, retrying in {}s",
+            notification.getReference(), error, delaySeconds);
+    }
+
+    long backoffSeconds(int attempts) {
+        int doublings = Math.min(attempts - 1, 30);
+        return Math.min(initialBackoffSeconds << doublings, maxBackoffSeconds);
+    }
+
+    /**
+     * Notify answers 400 for a request it will never accept, such as an unknown template or a missing
+     * personalisation, and 403 for a bad API key. Resending will not help either.
+     */
+    private static boolean isRejected(NotificationClientException exception) {
+        int status = exception.getHttpResult();
+        return status == 400 || status == 403;
+    }
+
+    private double depth(String status) {
+        try {
+            return repository.countByStatus(status);
+        } catch (Exception e) {
+            logger.debug("Unable to count {} notifications", status, e);
+            return Double.NaN;
+        }
+    }
+
+    private static Timer sendTimer(MeterRegistry registry, String outcome) {
+        return Timer.builder("notifications.send")
+            .description("Time taken to send a notification through GOV.UK Notify")
+            .tag("outcome", outcome)
+            .register(registry);
+    }
+
+    private static void record(Timer timer, long start) {
+        if (timer != null) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package uk.gov.hmcts.cmc.claimstore.services.notifications.dispatch;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.cmc.claimstore.processors.JsonMapper;
+import uk.gov.hmcts.cmc.claimstore.repositories.NotificationQueueRepository;
+
+import java.util.Map;
+
+/**
+ * Accepts GOV.UK Notify emails to be sent later by the {@link NotificationDispatcher}, so that callers do not
+ * wait on Notify or its retries.
+ */
+@Component
+public class NotificationQueue {
+
+    private final NotificationQueueRepository repository;
+    private final JsonMapper jsonMapper;
+    private final boolean enabled;
+
+    @Autowired
+    public NotificationQueue(
+        NotificationQueueRepository repository,
+        JsonMapper jsonMapper,
+        @Value("${notifications.dispatch.enabled:true}") boolean enabled
+    ) {
+        this.repository = repository;
+        this.jsonMapper = jsonMapper;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Queues an email, returning false without queuing it when dispatch is disabled and the caller should send
+     * the email itself.
+     */
+    public boolean offer(String templateId, String recipient, Map<String, String> parameters, String reference) {
+        if (!enabled) {
+            return false;
+        }
+        repository.enqueue(templateId, recipient, jsonMapper.toJson(parameters), reference);
+        return true;
+    }
+}
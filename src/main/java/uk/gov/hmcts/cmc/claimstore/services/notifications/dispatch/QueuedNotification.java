@@ -0,0 +1,19 @@
+package uk.gov.hmcts.cmc.claimstore.services.notifications.dispatch;
+
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * A GOV.UK Notify email leased from the notification queue, with the number of attempts made to send it,
+ * including the current one.
+ */
+@Value
+public class QueuedNotification {
+    long id;
+    String templateId;
+    String recipient;
+    Map<String, String> parameters;
+    String reference;
+    int attempts;
+}
@@ -4,32 +4,48 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.cmc.ccd.domain.CCDCase;
 import uk.gov.hmcts.cmc.ccd.mapper.CaseMapper;
+import uk.gov.hmcts.cmc.ccd.mapper.ClaimSummaryMapper;
 import uk.gov.hmcts.cmc.claimstore.processors.JsonMapper;
 import uk.gov.hmcts.cmc.claimstore.services.WorkingDayIndicator;
 import uk.gov.hmcts.cmc.domain.models.Claim;
+import uk.gov.hmcts.cmc.domain.models.ClaimSummary;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static uk.gov.hmcts.cmc.ccd.mapper.ClaimSummaryMapper.APPLICANT_FIELDS;
+import static uk.gov.hmcts.cmc.ccd.mapper.ClaimSummaryMapper.CASE_FIELDS;
+import static uk.gov.hmcts.cmc.ccd.mapper.ClaimSummaryMapper.RESPONDENT_FIELDS;
 
 @Component
 public class CaseDetailsConverter {
 
+    private static final String APPLICANTS = "applicants";
+    private static final String RESPONDENTS = "respondents";
+    private static final String VALUE = "value";
+
     private final CaseMapper caseMapper;
+    private final ClaimSummaryMapper claimSummaryMapper;
     private final JsonMapper jsonMapper;
     private final int intentionToProceedDeadline;
     private final WorkingDayIndicator workingDayIndicator;
 
     public CaseDetailsConverter(
         CaseMapper caseMapper,
+        ClaimSummaryMapper claimSummaryMapper,
         JsonMapper jsonMapper,
         WorkingDayIndicator workingDayIndicator,
         @Value("${intention.to.proceed.deadline:33}") int intentionToProceedDeadline
     ) {
 
         this.caseMapper = caseMapper;
+        this.claimSummaryMapper = claimSummaryMapper;
         this.jsonMapper = jsonMapper;
         this.intentionToProceedDeadline = intentionToProceedDeadline;
         this.workingDayIndicator = workingDayIndicator;
@@ -51,20 +67,63 @@ public class CaseDetailsConverter {
     }
 
     public CCDCase extractCCDCase(CaseDetails caseDetails) {
-        Map<String, Object> tempData = new HashMap<>(caseDetails.getData());
-        tempData.put("id", caseDetails.getId());
-        tempData.put("state", caseDetails.getState());
+        // id and state live outside of the case data, set them on the result rather than copying the data map
+        CCDCase ccdCase = jsonMapper.fromMap(caseDetails.getData(), CCDCase.class);
+        ccdCase.setId(caseDetails.getId());
+        ccdCase.setState(caseDetails.getState());
+
+        return ccdCase;
+    }
+
+    /**
+     * Converts only the case fields read by {@link ClaimSummaryMapper}, leaving out the bulk of the case such as
+     * the response, statement of means and directions questionnaire.
+     */
+    public ClaimSummary extractClaimSummary(CaseDetails caseDetails) {
+        Map<String, Object> data = caseDetails.getData();
+        Map<String, Object> summaryData = new HashMap<>();
+        CASE_FIELDS.stream()
+            .filter(data::containsKey)
+            .forEach(field -> summaryData.put(field, data.get(field)));
+        summaryData.computeIfPresent(APPLICANTS, (field, applicants) -> projectValues(applicants, APPLICANT_FIELDS));
+        summaryData.computeIfPresent(RESPONDENTS, (field, respondents) ->
+            projectValues(respondents, RESPONDENT_FIELDS));
+
+        CCDCase ccdCase = jsonMapper.fromMap(summaryData, CCDCase.class);
+        ccdCase.setId(caseDetails.getId());
+        ccdCase.setState(caseDetails.getState());
 
-        return extractCCDCase(tempData);
+        return claimSummaryMapper.from(ccdCase);
     }
 
-    private CCDCase extractCCDCase(Map<String, Object> mapData) {
-        return jsonMapper.fromMap(mapData, CCDCase.class);
+    @SuppressWarnings("unchecked")
+    private static Object projectValues(Object collection, Set<String> fields) {
+        if (!(collection instanceof List)) {
+            return collection;
+        }
+        return ((List<Object>) collection).stream()
+            .map(element -> element instanceof Map ? projectValue((Map<String, Object>) element, fields) : element)
+            .collect(Collectors.toList());
     }
 
     @SuppressWarnings("unchecked")
+    private static Map<String, Object> projectValue(Map<String, Object> element, Set<String> fields) {
+        if (!(element.get(VALUE) instanceof Map)) {
+            return element;
+        }
+        Map<String, Object> value = (Map<String, Object>) element.get(VALUE);
+        Map<String, Object> projected = new HashMap<>();
+        fields.stream()
+            .filter(value::containsKey)
+            .forEach(field -> projected.put(field, value.get(field)));
+
+        Map<String, Object> projectedElement = new HashMap<>(element);
+        projectedElement.put(VALUE, projected);
+        return projectedElement;
+    }
+
     public Map<String, Object> convertToMap(CCDCase ccdCase) {
-        return (Map<String, Object>) jsonMapper.convertValue(ccdCase, Map.class);
+        return new LazyCaseDataMap(ccdCase, jsonMapper);
     }
 
     private LocalDate calculateIntentionToProceedDeadline(LocalDateTime respondedDate) {
@@ -0,0 +1,87 @@
+package uk.gov.hmcts.cmc.claimstore.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import uk.gov.hmcts.cmc.ccd.domain.CCDCase;
+import uk.gov.hmcts.cmc.claimstore.processors.JsonMapper;
+
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Case data handed back to CCD in callback responses.
+ *
+ * <p>Until someone reads or modifies it as a map, the case is written straight to JSON from the {@link CCDCase},
+ * the same way {@code CoreCaseDataService} submits case data, without building an intermediate
+ * {@code Map<String, Object>} tree. Any map access converts the case once and works on that copy from then on.
+ */
+@JsonSerialize(using = LazyCaseDataMap.Serializer.class)
+class LazyCaseDataMap extends AbstractMap<String, Object> {
+
+    private final CCDCase ccdCase;
+    private final JsonMapper jsonMapper;
+    private Map<String, Object> data;
+
+    LazyCaseDataMap(CCDCase ccdCase, JsonMapper jsonMapper) {
+        this.ccdCase = ccdCase;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return materialise().entrySet();
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        return materialise().put(key, value);
+    }
+
+    @Override
+    public Object get(Object key) {
+        return materialise().get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return materialise().containsKey(key);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        return materialise().remove(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> materialise() {
+        if (data == null) {
+            data = (Map<String, Object>) jsonMapper.convertValue(ccdCase, Map.class);
+        }
+        return data;
+    }
+
+    static class Serializer extends JsonSerializer<LazyCaseDataMap> {
+
+        @Override
+        public void serialize(
+            LazyCaseDataMap value,
+            JsonGenerator generator,
+            SerializerProvider provider
+        ) throws IOException {
+            if (value.data == null) {
+                provider.defaultSerializeValue(value.ccdCase, generator);
+            } else {
+                provider.defaultSerializeValue(value.data, generator);
+            }
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, LazyCaseDataMap value) {
+            return value.data != null && value.data.isEmpty();
+        }
+    }
+}
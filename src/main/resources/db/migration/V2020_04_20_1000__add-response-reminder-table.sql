@@ -0,0 +1,8 @@
+CREATE TABLE response_reminder
+  (
+    EXTERNAL_ID TEXT NOT NULL,
+    RESPONSE_DEADLINE DATE NOT NULL,
+    DAYS_BEFORE_DEADLINE INTEGER NOT NULL,
+    SENT_AT TIMESTAMP NOT NULL DEFAULT now(),
+    PRIMARY KEY (EXTERNAL_ID, RESPONSE_DEADLINE, DAYS_BEFORE_DEADLINE)
+);
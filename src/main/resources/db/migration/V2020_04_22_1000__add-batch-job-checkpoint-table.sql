@@ -0,0 +1,11 @@
+CREATE TABLE batch_job_checkpoint
+  (
+    JOB_NAME TEXT NOT NULL,
+    RUN_KEY TEXT NOT NULL,
+    LAST_KEY TEXT,
+    PROCESSED BIGINT NOT NULL DEFAULT 0,
+    FAILED BIGINT NOT NULL DEFAULT 0,
+    COMPLETED BOOLEAN NOT NULL DEFAULT FALSE,
+    UPDATED_AT TIMESTAMP NOT NULL DEFAULT now(),
+    PRIMARY KEY (JOB_NAME)
+);
@@ -0,0 +1,17 @@
+CREATE TABLE case_event_ledger
+  (
+    ID BIGSERIAL PRIMARY KEY,
+    CASE_ID BIGINT NOT NULL,
+    EVENT_ID TEXT NOT NULL,
+    CREATED_AT TIMESTAMP NOT NULL,
+    RECORDED_AT TIMESTAMP NOT NULL DEFAULT now(),
+    UNIQUE (CASE_ID, EVENT_ID, CREATED_AT)
+);
+
+CREATE INDEX case_event_ledger_case_id_created_at_idx ON case_event_ledger (CASE_ID, CREATED_AT DESC);
+
+CREATE TABLE case_event_ledger_reconciliation
+  (
+    CASE_ID BIGINT PRIMARY KEY,
+    RECONCILED_AT TIMESTAMP NOT NULL DEFAULT now()
+);
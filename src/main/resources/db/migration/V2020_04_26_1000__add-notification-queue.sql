@@ -0,0 +1,16 @@
+CREATE TABLE notification_queue
+  (
+    ID BIGSERIAL PRIMARY KEY,
+    TEMPLATE_ID TEXT NOT NULL,
+    RECIPIENT TEXT NOT NULL,
+    PARAMETERS JSONB NOT NULL,
+    REFERENCE TEXT NOT NULL,
+    STATUS TEXT NOT NULL DEFAULT 'PENDING',
+    ATTEMPTS INTEGER NOT NULL DEFAULT 0,
+    NEXT_ATTEMPT_AT TIMESTAMP NOT NULL DEFAULT now(),
+    LAST_ERROR TEXT,
+    CREATED_AT TIMESTAMP NOT NULL DEFAULT now()
+);
+
+CREATE INDEX notification_queue_next_attempt_at_idx ON notification_queue (NEXT_ATTEMPT_AT)
+  WHERE STATUS IN ('PENDING', 'SENDING');
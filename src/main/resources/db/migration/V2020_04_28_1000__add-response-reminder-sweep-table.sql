@@ -0,0 +1,4 @@
+CREATE TABLE response_reminder_sweep
+  (
+    STARTED_ON DATE NOT NULL
+);
@@ -0,0 +1,66 @@
+package uk.gov.hmcts.cmc.claimstore.config.properties.templates;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import uk.gov.hmcts.cmc.claimstore.utils.ResourceReader;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TemplateRegistryTest {
+
+    private static final String SEALED_CLAIM = "/staff/templates/document/sealedClaim.html";
+    private static final String CLAIM_ISSUED_SUBJECT = "/rpa/templates/email/claimIssued/subject.txt";
+
+    @Rule
+    public TemporaryFolder overrideDirectory = new TemporaryFolder();
+
+    @Test
+    public void shouldLoadClasspathTemplates() {
+        TemplateRegistry templateRegistry = new TemplateRegistry(null, 0);
+
+        assertThat(templateRegistry.getBytes(SEALED_CLAIM)).isEqualTo(ResourceReader.readBytes(SEALED_CLAIM));
+        assertThat(templateRegistry.getString(CLAIM_ISSUED_SUBJECT))
+            .isEqualTo(ResourceReader.readString(CLAIM_ISSUED_SUBJECT));
+        assertThat(templateRegistry.getChecksum(SEALED_CLAIM)).hasSize(64);
+    }
+
+    @Test
+    public void shouldReturnCachedBytesForTemplateString() {
+        TemplateRegistry templateRegistry = new TemplateRegistry(null, 0);
+
+        assertThat(templateRegistry.toBytes(templateRegistry.getString(SEALED_CLAIM)))
+            .isSameAs(templateRegistry.getBytes(SEALED_CLAIM));
+        assertThat(templateRegistry.toBytes("<html></html>"))
+            .isEqualTo("<html></html>".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void shouldThrowForUnknownTemplate() {
+        TemplateRegistry templateRegistry = new TemplateRegistry(null, 0);
+
+        assertThatThrownBy(() -> templateRegistry.getBytes("/staff/templates/document/unknown.html"))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Unable to read resource: /staff/templates/document/unknown.html");
+    }
+
+    @Test
+    public void shouldPreferAndReloadTemplatesFromOverrideDirectory() throws IOException {
+        Path override = overrideDirectory.getRoot().toPath().resolve(CLAIM_ISSUED_SUBJECT.substring(1));
+        Files.createDirectories(override.getParent());
+        Files.write(override, "Overridden subject".getBytes(StandardCharsets.UTF_8));
+
+        TemplateRegistry templateRegistry = new TemplateRegistry(overrideDirectory.getRoot().toString(), 0);
+        assertThat(templateRegistry.getString(CLAIM_ISSUED_SUBJECT)).isEqualTo("Overridden subject");
+
+        Files.write(override, "Reloaded subject".getBytes(StandardCharsets.UTF_8));
+        templateRegistry.reload();
+        assertThat(templateRegistry.getString(CLAIM_ISSUED_SUBJECT)).isEqualTo("Reloaded subject");
+    }
+}
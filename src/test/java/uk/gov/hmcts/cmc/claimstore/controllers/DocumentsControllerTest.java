@@ -5,22 +5,37 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import uk.gov.hmcts.cmc.claimstore.exceptions.DocumentManagementException;
+import uk.gov.hmcts.cmc.claimstore.services.document.DocumentDownload;
 import uk.gov.hmcts.cmc.claimstore.services.document.DocumentsService;
 import uk.gov.hmcts.cmc.domain.models.Claim;
 import uk.gov.hmcts.cmc.domain.models.sampledata.SampleClaim;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.cmc.domain.models.ClaimDocumentType.SEALED_CLAIM;
 
 @ExtendWith(MockitoExtension.class)
 class DocumentsControllerTest {
 
     private static final String AUTHORISATION = "Bearer: let me in";
+    private static final byte[] PDF_BYTES = {1, 2, 3, 4};
+    private static final long TIMEOUT_MILLIS = 5000;
 
     @Mock
     private DocumentsService documentsService;
 
+    private final AsyncTaskExecutor downloadExecutor = new SimpleAsyncTaskExecutor();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
     private DocumentsController documentsController;
 
     private Claim claim;
@@ -28,21 +43,58 @@ class DocumentsControllerTest {
     @BeforeEach
     void setUp() {
         documentsController = new DocumentsController(
-            documentsService
+            documentsService,
+            downloadExecutor,
+            TIMEOUT_MILLIS
         );
         claim = SampleClaim.builder().build();
     }
 
     @Test
     void shouldGenerateDocumentForValidDocumentType() {
-        assertThrows(RuntimeException.class,
-            () -> documentsController.document("sealedClaim", claim.getExternalId(), AUTHORISATION));
-        verify(documentsService).generateDocument(claim.getExternalId(), SEALED_CLAIM, AUTHORISATION);
+        assertThrows(RuntimeException.class, () -> documentsController
+            .document("sealedClaim", claim.getExternalId(), AUTHORISATION, null, null, response));
+        verify(documentsService).downloadDocument(claim.getExternalId(), SEALED_CLAIM, AUTHORISATION, null, null);
     }
 
     @Test
     void shouldThrowIfDocumentTypeIsUnknown() {
         assertThrows(RuntimeException.class,
-            () -> documentsController.document("bla", claim.getExternalId(), AUTHORISATION));
+            () -> documentsController.document("bla", claim.getExternalId(), AUTHORISATION, null, null, response));
+    }
+
+    @Test
+    void shouldStreamDocumentBody() throws Exception {
+        when(documentsService.downloadDocument(claim.getExternalId(), SEALED_CLAIM, AUTHORISATION, null, null))
+            .thenReturn(DocumentDownload.of(PDF_BYTES));
+
+        documentsController.document("sealedClaim", claim.getExternalId(), AUTHORISATION, null, null, response);
+
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertEquals(PDF_BYTES.length, response.getContentLength());
+        assertEquals(MediaType.APPLICATION_PDF_VALUE, response.getContentType());
+        assertArrayEquals(PDF_BYTES, response.getContentAsByteArray());
+    }
+
+    @Test
+    void shouldRethrowFailureToFetchDocument() {
+        when(documentsService.downloadDocument(claim.getExternalId(), SEALED_CLAIM, AUTHORISATION, null, null))
+            .thenThrow(new IllegalArgumentException("Document is not available for download."));
+
+        assertThrows(IllegalArgumentException.class, () -> documentsController
+            .document("sealedClaim", claim.getExternalId(), AUTHORISATION, null, null, response));
+    }
+
+    @Test
+    void shouldGiveUpWhenDocumentIsNotFetchedInTime() {
+        documentsController = new DocumentsController(documentsService, downloadExecutor, 10);
+        when(documentsService.downloadDocument(claim.getExternalId(), SEALED_CLAIM, AUTHORISATION, null, null))
+            .thenAnswer(invocation -> {
+                Thread.sleep(1000);
+                return DocumentDownload.of(PDF_BYTES);
+            });
+
+        assertThrows(DocumentManagementException.class, () -> documentsController
+            .document("sealedClaim", claim.getExternalId(), AUTHORISATION, null, null, response));
     }
 }
@@ -8,6 +8,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.test.util.ReflectionTestUtils;
 import uk.gov.hmcts.cmc.claimstore.appinsights.AppInsights;
+import uk.gov.hmcts.cmc.claimstore.config.properties.templates.TemplateRegistry;
 import uk.gov.hmcts.cmc.claimstore.documents.bulkprint.PrintableTemplate;
 import uk.gov.hmcts.cmc.claimstore.services.staff.BulkPrintStaffNotificationService;
 import uk.gov.hmcts.cmc.domain.models.Claim;
@@ -26,11 +27,15 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.cmc.claimstore.appinsights.AppInsights.REFERENCE_NUMBER;
@@ -51,6 +56,7 @@ public class BulkPrintServiceTest {
     private static final Document defendantLetterDocument = new Document("pinTemplate", pinContents);
     private static final Map<String, Object> claimContents = new HashMap<>();
     private static final Document sealedClaimDocument = new Document("sealedClaimTemplate", claimContents);
+    private static final TemplateRegistry templateRegistry = new TemplateRegistry(null, 0);
 
     @Mock
     private SendLetterApi sendLetterApi;
@@ -90,7 +96,9 @@ public class BulkPrintServiceTest {
             authTokenGenerator,
             bulkPrintStaffNotificationService,
             appInsights,
-            pdfServiceClient
+            pdfServiceClient,
+            templateRegistry,
+            Runnable::run
         );
 
         //when
@@ -122,7 +130,9 @@ public class BulkPrintServiceTest {
             authTokenGenerator,
             bulkPrintStaffNotificationService,
             appInsights,
-            pdfServiceClient
+            pdfServiceClient,
+            templateRegistry,
+            Runnable::run
         );
         //when
         bulkPrintService.printPdf(CLAIM, ImmutableList.of(
@@ -146,7 +156,9 @@ public class BulkPrintServiceTest {
             authTokenGenerator,
             bulkPrintStaffNotificationService,
             appInsights,
-            pdfServiceClient
+            pdfServiceClient,
+            templateRegistry,
+            Runnable::run
         );
         //when
         bulkPrintService.printPdf(CLAIM, ImmutableList.of(
@@ -156,6 +168,43 @@ public class BulkPrintServiceTest {
         verify(sendLetterApi).sendLetter(eq(AUTH_VALUE), any(LetterWithPdfsRequest.class));
     }
 
+    @Test
+    public void shouldRethrowRenderFailureWithoutSendingLetter() {
+        //given
+        when(pdfServiceClient.generateFromHtml(any(byte[].class), anyMap()))
+            .thenThrow(new IllegalStateException("pdf service unavailable"));
+
+        Map<String, Object> coverContents = new HashMap<>();
+        coverContents.put("item", "value");
+        Document coversheetForClaimant = new Document("coversheetForClaimant", coverContents);
+
+        ExecutorService renderExecutor = Executors.newFixedThreadPool(2);
+        bulkPrintService = new BulkPrintService(
+            sendLetterApi,
+            authTokenGenerator,
+            bulkPrintStaffNotificationService,
+            appInsights,
+            pdfServiceClient,
+            templateRegistry,
+            renderExecutor
+        );
+
+        //when
+        try {
+            assertThatThrownBy(() -> bulkPrintService.printPdf(CLAIM, ImmutableList.of(
+                new PrintableTemplate(coversheetForClaimant, "filename"),
+                new PrintableTemplate(coversheetForClaimant, "filename")
+            ), "general-letter"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("pdf service unavailable");
+        } finally {
+            renderExecutor.shutdownNow();
+        }
+
+        //then
+        verify(sendLetterApi, never()).sendLetter(any(), any(LetterWithPdfsRequest.class));
+    }
+
     @Test(expected = RuntimeException.class)
     public void shouldNotifyStaffOnPrintFailure() {
         //given
@@ -169,7 +218,9 @@ public class BulkPrintServiceTest {
             authTokenGenerator,
             bulkPrintStaffNotificationService,
             appInsights,
-            pdfServiceClient
+            pdfServiceClient,
+            templateRegistry,
+            Runnable::run
         );
         try {
             bulkPrintService.print(
@@ -195,7 +246,9 @@ public class BulkPrintServiceTest {
             authTokenGenerator,
             bulkPrintStaffNotificationService,
             appInsights,
-            pdfServiceClient
+            pdfServiceClient,
+            templateRegistry,
+            Runnable::run
         );
         ReflectionTestUtils.setField(bulkPrintService,
             "feature_toggles.async_event_operations_enabled",
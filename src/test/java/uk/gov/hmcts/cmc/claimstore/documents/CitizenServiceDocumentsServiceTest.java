@@ -21,7 +21,7 @@ import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public class CitizenServiceDocumentsServiceTest {
-    private static final byte[] PDF_BYTES = new byte[]{1, 2, 3, 4};
+    private static final String TEMPLATE = "<html>template</html>";
 
     private CitizenServiceDocumentsService citizenServiceDocumentsService;
     @Mock
@@ -40,7 +40,7 @@ public class CitizenServiceDocumentsServiceTest {
     @Test
     public void shouldReturnSealedClaimDocument() {
         //given
-        when(documentTemplates.getSealedClaim()).thenReturn(PDF_BYTES);
+        when(documentTemplates.getSealedClaimHtml()).thenReturn(TEMPLATE);
 
         Claim claim = SampleClaim.getDefault();
         Map<String, Object> documentContent = new HashMap<>();
@@ -49,17 +49,17 @@ public class CitizenServiceDocumentsServiceTest {
         //when
         Document result = citizenServiceDocumentsService.sealedClaimDocument(claim);
         //then
-        assertThat(result.template).isEqualTo(new String(PDF_BYTES));
+        assertThat(result.template).isEqualTo(TEMPLATE);
 
         //verify
         verify(claimContentProvider).createContent(eq(claim));
-        verify(documentTemplates).getSealedClaim();
+        verify(documentTemplates).getSealedClaimHtml();
     }
 
     @Test
     public void shouldReturnPinLetterDocument() {
         //given
-        when(documentTemplates.getDefendantPinLetter()).thenReturn(PDF_BYTES);
+        when(documentTemplates.getDefendantPinLetterHtml()).thenReturn(TEMPLATE);
 
         Claim claim = SampleClaim.getDefault();
         Map<String, Object> documentContent = new HashMap<>();
@@ -69,10 +69,10 @@ public class CitizenServiceDocumentsServiceTest {
         //when
         Document result = citizenServiceDocumentsService.pinLetterDocument(claim, defendantPin);
         //then
-        assertThat(result.template).isEqualTo(new String(PDF_BYTES));
+        assertThat(result.template).isEqualTo(TEMPLATE);
 
         //verify
         verify(letterContentProvider).createContent(eq(claim), eq(defendantPin));
-        verify(documentTemplates).getDefendantPinLetter();
+        verify(documentTemplates).getDefendantPinLetterHtml();
     }
 }
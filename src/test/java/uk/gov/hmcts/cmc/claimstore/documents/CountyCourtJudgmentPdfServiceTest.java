@@ -5,7 +5,10 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import uk.gov.hmcts.cmc.claimstore.config.JacksonConfiguration;
 import uk.gov.hmcts.cmc.claimstore.config.properties.pdf.DocumentTemplates;
+import uk.gov.hmcts.cmc.claimstore.services.UserService;
+import uk.gov.hmcts.cmc.claimstore.services.document.DocumentManagementService;
 import uk.gov.hmcts.cmc.claimstore.services.staff.content.countycourtjudgment.ContentProvider;
 import uk.gov.hmcts.cmc.domain.models.sampledata.SampleClaim;
 import uk.gov.hmcts.reform.pdf.service.client.PDFServiceClient;
@@ -24,14 +27,21 @@ public class CountyCourtJudgmentPdfServiceTest {
     @Mock
     private ContentProvider contentProvider;
 
+    @Mock
+    private DocumentManagementService documentManagementService;
+
+    @Mock
+    private UserService userService;
+
     private CountyCourtJudgmentPdfService countyCourtJudgmentPdfService;
 
     @Before
     public void beforeTest() {
         countyCourtJudgmentPdfService = new CountyCourtJudgmentPdfService(
             documentTemplates,
-            pdfServiceClient,
-            contentProvider
+            new PdfCache(pdfServiceClient, new JacksonConfiguration().objectMapper(), false, 0, 0, null),
+            contentProvider,
+            new GeneratedDocumentMemo(documentManagementService, userService, false)
         );
     }
 
@@ -7,9 +7,12 @@ import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import uk.gov.hmcts.cmc.claimstore.config.JacksonConfiguration;
 import uk.gov.hmcts.cmc.claimstore.config.properties.pdf.DocumentTemplates;
 import uk.gov.hmcts.cmc.claimstore.documents.content.DefendantResponseContentProvider;
 import uk.gov.hmcts.cmc.claimstore.exceptions.NotFoundException;
+import uk.gov.hmcts.cmc.claimstore.services.UserService;
+import uk.gov.hmcts.cmc.claimstore.services.document.DocumentManagementService;
 import uk.gov.hmcts.cmc.domain.models.Claim;
 import uk.gov.hmcts.cmc.domain.models.sampledata.SampleClaim;
 import uk.gov.hmcts.reform.pdf.service.client.PDFServiceClient;
@@ -25,6 +28,10 @@ public class DefendantResponseReceiptServiceTest {
     private DocumentTemplates documentTemplates;
     @Mock
     private PDFServiceClient pdfServiceClient;
+    @Mock
+    private DocumentManagementService documentManagementService;
+    @Mock
+    private UserService userService;
 
     private DefendantResponseReceiptService defendantResponseReceiptService;
 
@@ -33,7 +40,8 @@ public class DefendantResponseReceiptServiceTest {
         defendantResponseReceiptService = new DefendantResponseReceiptService(
             contentProvider,
             documentTemplates,
-            pdfServiceClient
+            new PdfCache(pdfServiceClient, new JacksonConfiguration().objectMapper(), false, 0, 0, null),
+            new GeneratedDocumentMemo(documentManagementService, userService, false)
         );
     }
 
@@ -0,0 +1,155 @@
+package uk.gov.hmcts.cmc.claimstore.documents;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import uk.gov.hmcts.cmc.claimstore.documents.output.PDF;
+import uk.gov.hmcts.cmc.claimstore.exceptions.DocumentManagementException;
+import uk.gov.hmcts.cmc.claimstore.idam.models.User;
+import uk.gov.hmcts.cmc.claimstore.services.UserService;
+import uk.gov.hmcts.cmc.claimstore.services.document.DocumentManagementService;
+import uk.gov.hmcts.cmc.domain.models.Claim;
+import uk.gov.hmcts.cmc.domain.models.ClaimDocument;
+import uk.gov.hmcts.cmc.domain.models.sampledata.SampleClaim;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.cmc.domain.models.ClaimDocumentType.CCJ_REQUEST;
+import static uk.gov.hmcts.cmc.domain.models.ClaimDocumentType.CLAIM_ISSUE_RECEIPT;
+import static uk.gov.hmcts.cmc.domain.models.ClaimDocumentType.SEALED_CLAIM;
+import static uk.gov.hmcts.cmc.domain.models.ClaimDocumentType.SETTLEMENT_AGREEMENT;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GeneratedDocumentMemoTest {
+
+    private static final String AUTHORISATION = "Bearer caseworker";
+    private static final byte[] PDF_BYTES = "%PDF-1.4".getBytes();
+
+    @Mock
+    private DocumentManagementService documentManagementService;
+    @Mock
+    private UserService userService;
+
+    private final AtomicInteger renders = new AtomicInteger();
+
+    @Test
+    public void shouldRenderDocumentNotYetStoredAgainstTheClaim() {
+        GeneratedDocumentMemo memo = memo();
+        Claim claim = SampleClaim.getDefault();
+
+        memo.getOrGenerate(claim, SEALED_CLAIM, render());
+        memo.getOrGenerate(claim, SEALED_CLAIM, render());
+
+        assertThat(renders).hasValue(2);
+        assertThat(memo.rendersAvoided()).isZero();
+        verifyNoInteractions(documentManagementService, userService);
+    }
+
+    @Test
+    public void shouldReuseDocumentStoredAgainstTheClaim() {
+        when(userService.authenticateAnonymousCaseWorker()).thenReturn(new User(AUTHORISATION, null));
+        when(documentManagementService.downloadDocument(anyString(), any(ClaimDocument.class)))
+            .thenReturn(PDF_BYTES);
+        GeneratedDocumentMemo memo = memo();
+
+        PDF pdf = memo.getOrGenerate(SampleClaim.getWithSealedClaimDocument(), SEALED_CLAIM, render());
+
+        assertThat(pdf.getBytes()).isEqualTo(PDF_BYTES);
+        assertThat(pdf.getFilename()).isEqualTo("001CLAIM-FORM.pdf");
+        assertThat(renders).hasValue(0);
+        assertThat(memo.rendersAvoided()).isEqualTo(1);
+        verify(documentManagementService).downloadDocument(anyString(), any(ClaimDocument.class));
+    }
+
+    @Test
+    public void shouldAuthenticateOnceForSeveralStoredDocuments() {
+        when(userService.authenticateAnonymousCaseWorker()).thenReturn(new User(AUTHORISATION, null));
+        when(documentManagementService.downloadDocument(anyString(), any(ClaimDocument.class)))
+            .thenReturn(PDF_BYTES);
+        GeneratedDocumentMemo memo = memo();
+
+        memo.getOrGenerate(SampleClaim.getWithSealedClaimDocument(), SEALED_CLAIM, render());
+        memo.getOrGenerate(SampleClaim.getWithClaimIssueReceiptDocument(), CLAIM_ISSUE_RECEIPT, render());
+
+        assertThat(renders).hasValue(0);
+        verify(userService).authenticateAnonymousCaseWorker();
+    }
+
+    @Test
+    public void shouldReuseStoredDocumentCreatedSinceTheClaimLastChangedIt() {
+        when(userService.authenticateAnonymousCaseWorker()).thenReturn(new User(AUTHORISATION, null));
+        when(documentManagementService.downloadDocument(anyString(), any(ClaimDocument.class)))
+            .thenReturn(PDF_BYTES);
+        GeneratedDocumentMemo memo = memo();
+
+        PDF pdf = memo.getOrGenerate(SampleClaim.getWithCCJRequestDocument(), CCJ_REQUEST, render());
+
+        assertThat(pdf.getBytes()).isEqualTo(PDF_BYTES);
+        assertThat(renders).hasValue(0);
+    }
+
+    @Test
+    public void shouldNotReuseStoredDocumentCreatedBeforeTheClaimLastChangedIt() {
+        GeneratedDocumentMemo memo = memo();
+        Claim redetermined = SampleClaim.getWithCCJRequestDocument().toBuilder()
+            .reDeterminationRequestedAt(LocalDateTime.now().plusDays(1))
+            .build();
+
+        memo.getOrGenerate(redetermined, CCJ_REQUEST, render());
+
+        assertThat(renders).hasValue(1);
+        verifyNoInteractions(documentManagementService, userService);
+    }
+
+    @Test
+    public void shouldNotReuseStoredSettlementAgreementBeforeSettlementIsReached() {
+        GeneratedDocumentMemo memo = memo();
+
+        memo.getOrGenerate(SampleClaim.getWithSettlementAgreementDocument(), SETTLEMENT_AGREEMENT, render());
+
+        assertThat(renders).hasValue(1);
+        verifyNoInteractions(documentManagementService, userService);
+    }
+
+    @Test
+    public void shouldRenderWhenStoredDocumentCannotBeDownloaded() {
+        when(userService.authenticateAnonymousCaseWorker()).thenReturn(new User(AUTHORISATION, null));
+        when(documentManagementService.downloadDocument(anyString(), any(ClaimDocument.class)))
+            .thenThrow(new DocumentManagementException("unavailable"));
+        GeneratedDocumentMemo memo = memo();
+
+        memo.getOrGenerate(SampleClaim.getWithSealedClaimDocument(), SEALED_CLAIM, render());
+
+        assertThat(renders).hasValue(1);
+    }
+
+    @Test
+    public void shouldNotLookForStoredDocumentWhenDisabled() {
+        GeneratedDocumentMemo memo = new GeneratedDocumentMemo(documentManagementService, userService, false);
+
+        memo.getOrGenerate(SampleClaim.getWithSealedClaimDocument(), SEALED_CLAIM, render());
+
+        assertThat(renders).hasValue(1);
+        verifyNoInteractions(documentManagementService, userService);
+    }
+
+    private GeneratedDocumentMemo memo() {
+        return new GeneratedDocumentMemo(documentManagementService, userService, true);
+    }
+
+    private Supplier<PDF> render() {
+        return () -> {
+            renders.incrementAndGet();
+            return new PDF("000MC001-claim-form", PDF_BYTES, SEALED_CLAIM);
+        };
+    }
+}
@@ -0,0 +1,134 @@
+package uk.gov.hmcts.cmc.claimstore.documents;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import uk.gov.hmcts.cmc.claimstore.config.JacksonConfiguration;
+import uk.gov.hmcts.reform.pdf.service.client.PDFServiceClient;
+
+import java.io.File;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.cmc.domain.models.ClaimDocumentType.CLAIM_ISSUE_RECEIPT;
+import static uk.gov.hmcts.cmc.domain.models.ClaimDocumentType.SEALED_CLAIM;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PdfCacheTest {
+
+    private static final byte[] TEMPLATE = "<html>{{ referenceNumber }}</html>".getBytes();
+    private static final byte[] PDF = "%PDF-1.4".getBytes();
+
+    @Rule
+    public TemporaryFolder directory = new TemporaryFolder();
+
+    @Mock
+    private PDFServiceClient pdfServiceClient;
+
+    @Test
+    public void shouldServeRepeatRequestsWithoutCallingPdfService() {
+        when(pdfServiceClient.generateFromHtml(any(byte[].class), anyMap())).thenReturn(PDF);
+        PdfCache pdfCache = pdfCache(1024, 0);
+
+        assertThat(pdfCache.generateFromHtml(SEALED_CLAIM, TEMPLATE, content("000MC001"))).isEqualTo(PDF);
+        assertThat(pdfCache.generateFromHtml(SEALED_CLAIM, TEMPLATE, content("000MC001"))).isEqualTo(PDF);
+
+        verify(pdfServiceClient).generateFromHtml(any(byte[].class), anyMap());
+        assertThat(pdfCache.hitRatio()).isEqualTo(0.5);
+        assertThat(pdfCache.getBytesSaved()).isEqualTo(PDF.length);
+    }
+
+    @Test
+    public void shouldRenderAgainWhenTypeTemplateOrContentDiffers() {
+        when(pdfServiceClient.generateFromHtml(any(byte[].class), anyMap())).thenReturn(PDF);
+        PdfCache pdfCache = pdfCache(1024, 0);
+
+        pdfCache.generateFromHtml(SEALED_CLAIM, TEMPLATE, content("000MC001"));
+        pdfCache.generateFromHtml(CLAIM_ISSUE_RECEIPT, TEMPLATE, content("000MC001"));
+        pdfCache.generateFromHtml(SEALED_CLAIM, "<html>updated</html>".getBytes(), content("000MC001"));
+        pdfCache.generateFromHtml(SEALED_CLAIM, TEMPLATE, content("000MC002"));
+
+        verify(pdfServiceClient, times(4)).generateFromHtml(any(byte[].class), anyMap());
+        assertThat(pdfCache.hitRatio()).isZero();
+    }
+
+    @Test
+    public void shouldSpillEvictedPdfsToDisk() {
+        when(pdfServiceClient.generateFromHtml(any(byte[].class), anyMap())).thenReturn(PDF);
+        PdfCache pdfCache = pdfCache(PDF.length, 1024);
+
+        pdfCache.generateFromHtml(SEALED_CLAIM, TEMPLATE, content("000MC001"));
+        pdfCache.generateFromHtml(SEALED_CLAIM, TEMPLATE, content("000MC002"));
+
+        assertThat(pdfCache.diskBytes()).isEqualTo(PDF.length);
+        assertThat(directory.getRoot().listFiles()).hasSize(1);
+
+        assertThat(pdfCache.generateFromHtml(SEALED_CLAIM, TEMPLATE, content("000MC001"))).isEqualTo(PDF);
+        verify(pdfServiceClient, times(2)).generateFromHtml(any(byte[].class), anyMap());
+    }
+
+    @Test
+    public void shouldRenderAgainWhenSpilledPdfCannotBeRead() {
+        when(pdfServiceClient.generateFromHtml(any(byte[].class), anyMap())).thenReturn(PDF);
+        PdfCache pdfCache = pdfCache(PDF.length, 1024);
+
+        pdfCache.generateFromHtml(SEALED_CLAIM, TEMPLATE, content("000MC001"));
+        pdfCache.generateFromHtml(SEALED_CLAIM, TEMPLATE, content("000MC002"));
+        for (File file : directory.getRoot().listFiles()) {
+            assertThat(file.delete()).isTrue();
+        }
+
+        assertThat(pdfCache.generateFromHtml(SEALED_CLAIM, TEMPLATE, content("000MC001"))).isEqualTo(PDF);
+        verify(pdfServiceClient, times(3)).generateFromHtml(any(byte[].class), anyMap());
+    }
+
+    @Test
+    public void shouldDropLeastRecentlyUsedPdfsFromDisk() {
+        when(pdfServiceClient.generateFromHtml(any(byte[].class), anyMap())).thenReturn(PDF);
+        PdfCache pdfCache = pdfCache(PDF.length, PDF.length);
+
+        pdfCache.generateFromHtml(SEALED_CLAIM, TEMPLATE, content("000MC001"));
+        pdfCache.generateFromHtml(SEALED_CLAIM, TEMPLATE, content("000MC002"));
+        pdfCache.generateFromHtml(SEALED_CLAIM, TEMPLATE, content("000MC003"));
+
+        assertThat(pdfCache.diskBytes()).isEqualTo(PDF.length);
+        assertThat(directory.getRoot().listFiles()).hasSize(1);
+
+        pdfCache.generateFromHtml(SEALED_CLAIM, TEMPLATE, content("000MC001"));
+        verify(pdfServiceClient, times(4)).generateFromHtml(any(byte[].class), anyMap());
+    }
+
+    @Test
+    public void shouldRenderEveryRequestWhenDisabled() {
+        when(pdfServiceClient.generateFromHtml(any(byte[].class), anyMap())).thenReturn(PDF);
+        PdfCache pdfCache = new PdfCache(pdfServiceClient, new JacksonConfiguration().objectMapper(), false,
+            0, 0, null);
+
+        pdfCache.generateFromHtml(SEALED_CLAIM, TEMPLATE, content("000MC001"));
+        pdfCache.generateFromHtml(SEALED_CLAIM, TEMPLATE, content("000MC001"));
+
+        verify(pdfServiceClient, times(2)).generateFromHtml(any(byte[].class), anyMap());
+    }
+
+    private PdfCache pdfCache(long maxMemoryBytes, long maxDiskBytes) {
+        return new PdfCache(pdfServiceClient, new JacksonConfiguration().objectMapper(), true,
+            maxMemoryBytes, maxDiskBytes, directory.getRoot().toString());
+    }
+
+    private static Map<String, Object> content(String referenceNumber) {
+        return ImmutableMap.of(
+            "referenceNumber", referenceNumber,
+            "issuedOn", LocalDate.of(2020, 1, 1)
+        );
+    }
+}
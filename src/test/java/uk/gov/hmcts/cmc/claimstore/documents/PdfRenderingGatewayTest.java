@@ -0,0 +1,176 @@
+package uk.gov.hmcts.cmc.claimstore.documents;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PdfRenderingGatewayTest {
+
+    private static final URI RENDER_URI = URI.create("http://pdf-service/pdfs");
+    private static final byte[] PDF = "%PDF-1.4".getBytes();
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(4);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger renders = new AtomicInteger();
+    private final AtomicInteger concurrentRenders = new AtomicInteger();
+    private final AtomicInteger maxConcurrentRenders = new AtomicInteger();
+
+    @After
+    public void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    public void shouldRenderIdenticalConcurrentRequestsOnce() throws Exception {
+        PdfRenderingGateway gateway = new PdfRenderingGateway(8, 5000);
+
+        Future<byte[]> first = callers.submit(() -> render(gateway, "claim"));
+        awaitRenders(1);
+        Future<byte[]> second = callers.submit(() -> render(gateway, "claim"));
+        awaitCoalesced(gateway, 1);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(PDF);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(PDF);
+        assertThat(renders).hasValue(1);
+    }
+
+    @Test
+    public void shouldRenderAgainOnceTheIdenticalRequestHasCompleted() throws Exception {
+        PdfRenderingGateway gateway = new PdfRenderingGateway(8, 5000);
+        release.countDown();
+
+        render(gateway, "claim");
+        render(gateway, "claim");
+
+        assertThat(renders).hasValue(2);
+        assertThat(gateway.coalescedRequests()).isZero();
+    }
+
+    @Test
+    public void shouldLimitRendersInFlight() throws Exception {
+        PdfRenderingGateway gateway = new PdfRenderingGateway(1, 5000);
+
+        Future<byte[]> first = callers.submit(() -> render(gateway, "claim"));
+        Future<byte[]> second = callers.submit(() -> render(gateway, "response"));
+        awaitRenders(1);
+        release.countDown();
+
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        assertThat(renders).hasValue(2);
+        assertThat(maxConcurrentRenders).hasValue(1);
+    }
+
+    @Test
+    public void shouldGiveUpWhenNoSlotIsFreeInTime() throws Exception {
+        PdfRenderingGateway gateway = new PdfRenderingGateway(1, 10);
+
+        Future<byte[]> first = callers.submit(() -> render(gateway, "claim"));
+        awaitRenders(1);
+
+        assertThatThrownBy(() -> render(gateway, "response"))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("No free slot");
+        assertThat(gateway.rejectedRequests()).isEqualTo(1);
+
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        assertThat(renders).hasValue(1);
+    }
+
+    @Test
+    public void shouldShareRenderFailureWithCoalescedRequests() throws Exception {
+        PdfRenderingGateway gateway = new PdfRenderingGateway(8, 5000);
+        ClientHttpRequestExecution failing = (request, body) -> {
+            renders.incrementAndGet();
+            await();
+            throw new IOException("PDF service unavailable");
+        };
+
+        Future<byte[]> first = callers.submit(() -> render(gateway, "claim", failing));
+        awaitRenders(1);
+        Future<byte[]> second = callers.submit(() -> render(gateway, "claim", failing));
+        awaitCoalesced(gateway, 1);
+        release.countDown();
+
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasRootCauseInstanceOf(IOException.class);
+        assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS)).hasRootCauseInstanceOf(IOException.class);
+        assertThat(renders).hasValue(1);
+    }
+
+    @Test
+    public void shouldPassThroughRequestsOtherThanRenders() throws Exception {
+        PdfRenderingGateway gateway = new PdfRenderingGateway(0, 5000);
+        URI healthUri = URI.create("http://pdf-service/health");
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, healthUri);
+
+        ClientHttpResponse response = gateway.intercept(request, new byte[0],
+            (req, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    private byte[] render(PdfRenderingGateway gateway, String content) throws IOException {
+        return render(gateway, content, (request, body) -> {
+            renders.incrementAndGet();
+            maxConcurrentRenders.accumulateAndGet(concurrentRenders.incrementAndGet(), Math::max);
+            try {
+                await();
+                return new MockClientHttpResponse(PDF, HttpStatus.OK);
+            } finally {
+                concurrentRenders.decrementAndGet();
+            }
+        });
+    }
+
+    private byte[] render(
+        PdfRenderingGateway gateway,
+        String content,
+        ClientHttpRequestExecution execution
+    ) throws IOException {
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.POST, RENDER_URI);
+        try (ClientHttpResponse response = gateway.intercept(request, content.getBytes(), execution)) {
+            return StreamUtils.copyToByteArray(response.getBody());
+        }
+    }
+
+    private void await() throws IOException {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException(ex);
+        }
+    }
+
+    private void awaitRenders(int expected) throws InterruptedException {
+        for (int i = 0; i < 500 && renders.get() < expected; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static void awaitCoalesced(PdfRenderingGateway gateway, long expected) throws InterruptedException {
+        for (int i = 0; i < 500 && gateway.coalescedRequests() < expected; i++) {
+            Thread.sleep(10);
+        }
+    }
+}
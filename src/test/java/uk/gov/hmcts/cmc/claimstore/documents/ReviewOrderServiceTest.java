@@ -6,6 +6,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import uk.gov.hmcts.cmc.claimstore.config.JacksonConfiguration;
 import uk.gov.hmcts.cmc.claimstore.config.properties.pdf.DocumentTemplates;
 import uk.gov.hmcts.cmc.claimstore.documents.content.ReviewOrderContentProvider;
 import uk.gov.hmcts.cmc.claimstore.documents.output.PDF;
@@ -37,7 +38,7 @@ public class ReviewOrderServiceTest {
     public void setUp() {
         reviewOrderService = new ReviewOrderService(
             documentTemplates,
-            pdfServiceClient,
+            new PdfCache(pdfServiceClient, new JacksonConfiguration().objectMapper(), false, 0, 0, null),
             contentProvider
         );
     }
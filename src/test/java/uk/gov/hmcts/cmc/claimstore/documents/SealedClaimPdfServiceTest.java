@@ -1,12 +1,16 @@
 package uk.gov.hmcts.cmc.claimstore.documents;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import uk.gov.hmcts.cmc.claimstore.config.JacksonConfiguration;
 import uk.gov.hmcts.cmc.claimstore.config.properties.pdf.DocumentTemplates;
 import uk.gov.hmcts.cmc.claimstore.documents.content.LegalSealedClaimContentProvider;
+import uk.gov.hmcts.cmc.claimstore.services.UserService;
+import uk.gov.hmcts.cmc.claimstore.services.document.DocumentManagementService;
 import uk.gov.hmcts.cmc.domain.models.sampledata.SampleClaim;
 import uk.gov.hmcts.reform.pdf.service.client.PDFServiceClient;
 
@@ -23,12 +27,24 @@ public class SealedClaimPdfServiceTest {
     private PDFServiceClient pdfServiceClient;
     @Mock
     private CitizenServiceDocumentsService documentsService;
+    @Mock
+    private DocumentManagementService documentManagementService;
+    @Mock
+    private UserService userService;
+
+    private final ObjectMapper objectMapper = new JacksonConfiguration().objectMapper();
 
     private SealedClaimPdfService service;
 
     @Before
     public void beforeEachTest() {
-        service = new SealedClaimPdfService(documentTemplates, pdfServiceClient, contentProvider, documentsService);
+        service = new SealedClaimPdfService(
+            documentTemplates,
+            new PdfCache(pdfServiceClient, objectMapper, false, 0, 0, null),
+            contentProvider,
+            documentsService,
+            new GeneratedDocumentMemo(documentManagementService, userService, false)
+        );
     }
 
     @Test(expected = NullPointerException.class)
@@ -7,9 +7,12 @@ import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import uk.gov.hmcts.cmc.claimstore.config.JacksonConfiguration;
 import uk.gov.hmcts.cmc.claimstore.config.properties.pdf.DocumentTemplates;
 import uk.gov.hmcts.cmc.claimstore.documents.content.settlementagreement.SettlementAgreementPDFContentProvider;
 import uk.gov.hmcts.cmc.claimstore.exceptions.NotFoundException;
+import uk.gov.hmcts.cmc.claimstore.services.UserService;
+import uk.gov.hmcts.cmc.claimstore.services.document.DocumentManagementService;
 import uk.gov.hmcts.cmc.domain.models.Claim;
 import uk.gov.hmcts.cmc.domain.models.sampledata.SampleClaim;
 import uk.gov.hmcts.reform.pdf.service.client.PDFServiceClient;
@@ -24,6 +27,10 @@ public class SettlementAgreementCopyServiceTest {
     private DocumentTemplates documentTemplates;
     @Mock
     private PDFServiceClient pdfServiceClient;
+    @Mock
+    private DocumentManagementService documentManagementService;
+    @Mock
+    private UserService userService;
 
     private SettlementAgreementCopyService settlementAgreementCopyService;
 
@@ -32,7 +39,8 @@ public class SettlementAgreementCopyServiceTest {
         settlementAgreementCopyService = new SettlementAgreementCopyService(
             contentProvider,
             documentTemplates,
-            pdfServiceClient
+            new PdfCache(pdfServiceClient, new JacksonConfiguration().objectMapper(), false, 0, 0, null),
+            new GeneratedDocumentMemo(documentManagementService, userService, false)
         );
     }
 
@@ -5,6 +5,7 @@ import org.junit.Before;
 import org.junit.Test;
 import uk.gov.hmcts.cmc.claimstore.config.PebbleConfiguration;
 import uk.gov.hmcts.cmc.claimstore.config.properties.emails.StaffEmailTemplates;
+import uk.gov.hmcts.cmc.claimstore.config.properties.templates.TemplateRegistry;
 import uk.gov.hmcts.cmc.claimstore.services.TemplateService;
 import uk.gov.hmcts.cmc.claimstore.services.staff.models.EmailContent;
 import uk.gov.hmcts.cmc.domain.models.Claim;
@@ -24,10 +25,12 @@ import static uk.gov.hmcts.cmc.claimstore.services.notifications.content.Notific
 public class SettlementCountersignedEmailContentProviderTest {
 
     private final TemplateService templateService = new TemplateService(
-        new PebbleConfiguration().pebbleEngine()
+        new PebbleConfiguration().pebbleEngine(),
+        new TemplateRegistry(null, 0),
+        100
     );
 
-    private final StaffEmailTemplates templates = new StaffEmailTemplates();
+    private final StaffEmailTemplates templates = new StaffEmailTemplates(new TemplateRegistry(null, 0));
 
     private Claim claimWithSettlement;
 
@@ -6,7 +6,10 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
+import uk.gov.hmcts.cmc.claimstore.config.JacksonConfiguration;
 import uk.gov.hmcts.cmc.claimstore.config.properties.pdf.DocumentTemplates;
+import uk.gov.hmcts.cmc.claimstore.config.properties.templates.TemplateRegistry;
+import uk.gov.hmcts.cmc.claimstore.documents.PdfCache;
 import uk.gov.hmcts.cmc.claimstore.documents.content.directionsquestionnaire.ClaimantDirectionsQuestionnaireContentProvider;
 import uk.gov.hmcts.cmc.domain.models.sampledata.SampleClaim;
 import uk.gov.hmcts.cmc.domain.models.sampledata.SampleClaimantResponse;
@@ -28,8 +31,8 @@ public class ClaimantDirectionsQuestionnairePdfServiceTest {
     @Before
     public void setUp() {
         claimantDirectionsQuestionnairePdfService = new ClaimantDirectionsQuestionnairePdfService(
-            new DocumentTemplates(),
-            pdfServiceClient,
+            new DocumentTemplates(new TemplateRegistry(null, 0)),
+            new PdfCache(pdfServiceClient, new JacksonConfiguration().objectMapper(), false, 0, 0, null),
             claimantDirectionsQuestionnaireContentProvider
         );
     }
@@ -6,6 +6,7 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import uk.gov.hmcts.cmc.claimstore.documents.ClaimIssueReceiptService;
@@ -38,6 +39,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -88,7 +90,8 @@ public class DocumentUploadHandlerTest {
 
     private DocumentUploadHandler documentUploadHandler;
 
-    private final ArgumentCaptor<PDF> argumentCaptor = ArgumentCaptor.forClass(PDF.class);
+    @Captor
+    private ArgumentCaptor<List<PDF>> argumentCaptor;
     private final DefendantResponseEvent defendantResponseEvent = new DefendantResponseEvent(
         SampleClaimIssuedEvent.CLAIM_WITH_RESPONSE,
         AUTHORISATION
@@ -141,9 +144,10 @@ public class DocumentUploadHandlerTest {
 
         documentUploadHandler.uploadCitizenClaimDocument(event);
 
-        verify(documentService, times(2))
-            .uploadToDocumentManagement(argumentCaptor.capture(), anyString(), any());
-        List<PDF> capturedDocuments = argumentCaptor.getAllValues();
+        verify(documentService)
+            .uploadAllToDocumentManagement(argumentCaptor.capture(), anyString(), any());
+        List<PDF> capturedDocuments = argumentCaptor.getValue();
+        assertEquals(2, capturedDocuments.size());
         List<ClaimDocumentType> expectedClaimDocumentTypes = Arrays.asList(SEALED_CLAIM,
             CLAIM_ISSUE_RECEIPT);
 
@@ -300,8 +304,8 @@ public class DocumentUploadHandlerTest {
 
     private void assertCommon(ClaimDocumentType claimDocumentType) {
         verify(documentService, times(1))
-            .uploadToDocumentManagement(argumentCaptor.capture(), anyString(), any(Claim.class));
-        assertSame(argumentCaptor.getValue().getClaimDocumentType(), claimDocumentType);
+            .uploadAllToDocumentManagement(argumentCaptor.capture(), anyString(), any(Claim.class));
+        assertSame(argumentCaptor.getValue().get(0).getClaimDocumentType(), claimDocumentType);
     }
 
     @Test
@@ -77,6 +77,7 @@ public class DocumentGeneratorTest {
                 SEALED_CLAIM
             ));
 
+        when(citizenDocumentService.templateBytes(defendantLetterDocument)).thenReturn(pinTemplate.getBytes());
         when(pdfServiceClient.generateFromHtml(pinTemplate.getBytes(), defendantLetterDocument.values))
             .thenReturn(PDF_CONTENT);
 
@@ -5,13 +5,17 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import uk.gov.hmcts.cmc.claimstore.config.JacksonConfiguration;
 import uk.gov.hmcts.cmc.claimstore.documents.CitizenServiceDocumentsService;
 import uk.gov.hmcts.cmc.claimstore.documents.ClaimIssueReceiptService;
+import uk.gov.hmcts.cmc.claimstore.documents.GeneratedDocumentMemo;
+import uk.gov.hmcts.cmc.claimstore.documents.PdfCache;
 import uk.gov.hmcts.cmc.claimstore.documents.SealedClaimPdfService;
 import uk.gov.hmcts.cmc.claimstore.documents.output.PDF;
 import uk.gov.hmcts.cmc.claimstore.idam.models.GeneratePinResponse;
 import uk.gov.hmcts.cmc.claimstore.services.ClaimService;
 import uk.gov.hmcts.cmc.claimstore.services.UserService;
+import uk.gov.hmcts.cmc.claimstore.services.document.DocumentManagementService;
 import uk.gov.hmcts.cmc.domain.models.Claim;
 import uk.gov.hmcts.cmc.domain.models.ClaimDocumentType;
 import uk.gov.hmcts.cmc.domain.models.sampledata.SampleClaim;
@@ -57,6 +61,8 @@ public class DocumentOrchestrationServiceTest {
     private ClaimService claimService;
     @Mock
     private UserService userService;
+    @Mock
+    private DocumentManagementService documentManagementService;
     private DocumentOrchestrationService documentOrchestrationService;
 
     @Before
@@ -67,7 +73,9 @@ public class DocumentOrchestrationServiceTest {
             pdfServiceClient,
             claimIssueReceiptService,
             claimService,
-            userService
+            userService,
+            new GeneratedDocumentMemo(documentManagementService, userService, false),
+            new PdfCache(pdfServiceClient, new JacksonConfiguration().objectMapper(), false, 0, 0, null)
         );
 
         given(citizenServiceDocumentsService.sealedClaimDocument(eq(CLAIM))).willReturn(sealedClaimLetterDocument);
@@ -16,6 +16,7 @@ import uk.gov.hmcts.cmc.claimstore.documents.content.settlementagreement.Settlem
 import uk.gov.hmcts.cmc.claimstore.events.settlement.CountersignSettlementAgreementActionsHandler;
 import uk.gov.hmcts.cmc.claimstore.events.settlement.CountersignSettlementAgreementEvent;
 import uk.gov.hmcts.cmc.claimstore.services.notifications.NotificationService;
+import uk.gov.hmcts.cmc.claimstore.services.notifications.dispatch.NotificationQueue;
 import uk.gov.hmcts.cmc.claimstore.services.staff.models.EmailContent;
 import uk.gov.hmcts.cmc.domain.models.Claim;
 import uk.gov.hmcts.cmc.domain.models.offers.Settlement;
@@ -81,7 +82,8 @@ public class CountersignSettlementAgreementActionsHandlerTest {
             .createContent(anyMap())).thenReturn(new EmailContent(SETTLEMENT_SIGNED_TO_STAFF_SUBJECT,
             SETTLEMENT_SIGNED_TO_STAFF_BODY));
 
-        notificationService = new NotificationService(notificationClient, appInsights);
+        notificationService = new NotificationService(notificationClient, appInsights,
+            new NotificationQueue(null, null, false));
 
         handler = new CountersignSettlementAgreementActionsHandler(notificationService, notificationsProperties,
             staffEmailProperties, emailService, settlementCountersignedEmailContentProvider, true);
@@ -0,0 +1,63 @@
+package uk.gov.hmcts.cmc.claimstore.jobs;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReminderJobMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private ReminderJobMetrics metrics;
+
+    @Before
+    public void setUp() {
+        metrics = new ReminderJobMetrics(120);
+        metrics.bindTo(registry);
+    }
+
+    @Test
+    public void shouldRecordWhereInTheWindowJobFired() {
+        metrics.fired(Date.from(Instant.parse("2020-04-28T08:45:00Z")));
+
+        assertThat(registry.get("reminders.jobs.fired").counter().count()).isEqualTo(1);
+        assertThat(registry.get("reminders.jobs.fire.offset").timer().totalTime(TimeUnit.MINUTES))
+            .isEqualTo(45);
+    }
+
+    @Test
+    public void shouldRecordJobFiredBeforeTheWindowAtItsStart() {
+        metrics.fired(Date.from(Instant.parse("2020-04-28T07:59:00Z")));
+
+        assertThat(registry.get("reminders.jobs.fire.offset").timer().count()).isEqualTo(1);
+        assertThat(registry.get("reminders.jobs.fire.offset").timer().totalTime(TimeUnit.SECONDS)).isZero();
+    }
+
+    @Test
+    public void shouldRecordJobDurationByOutcome() {
+        metrics.completed(System.nanoTime(), true);
+        metrics.completed(System.nanoTime(), false);
+        metrics.completed(System.nanoTime(), false);
+
+        assertThat(registry.get("reminders.jobs.duration").tag("outcome", "queued").timer().count())
+            .isEqualTo(1);
+        assertThat(registry.get("reminders.jobs.duration").tag("outcome", "failed").timer().count())
+            .isEqualTo(2);
+    }
+
+    @Test
+    public void shouldIgnoreJobsBeforeMetricsAreBound() {
+        ReminderJobMetrics unbound = new ReminderJobMetrics(120);
+
+        unbound.fired(new Date());
+        unbound.completed(System.nanoTime(), true);
+
+        assertThat(registry.get("reminders.jobs.fired").counter().count()).isZero();
+    }
+}
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.cmc.claimstore.jobs.cron;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -11,12 +12,18 @@ import uk.gov.hmcts.cmc.claimstore.repositories.CaseSearchApi;
 import uk.gov.hmcts.cmc.claimstore.services.UserService;
 import uk.gov.hmcts.cmc.claimstore.services.notifications.CCJNotificationService;
 import uk.gov.hmcts.cmc.claimstore.services.notifications.fixtures.SampleUserDetails;
-import uk.gov.hmcts.cmc.domain.models.Claim;
-import uk.gov.hmcts.cmc.domain.models.sampledata.SampleClaim;
+import uk.gov.hmcts.cmc.domain.exceptions.NotificationException;
+import uk.gov.hmcts.cmc.domain.models.ClaimSummary;
+import uk.gov.hmcts.cmc.scheduler.batch.BatchCheckpointRepository;
+import uk.gov.hmcts.cmc.scheduler.batch.BatchJobRunner;
 
+import java.util.Arrays;
 import java.util.Collections;
 
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -33,6 +40,9 @@ public class NotifyClaimantDefaultCCJJobTest {
     @Mock
     private CCJNotificationService ccjNotificationService;
 
+    @Mock
+    private BatchCheckpointRepository checkpointRepository;
+
     private NotifyClaimantDefaultCCJJob notifyClaimantDefaultCCJJob;
 
     private static final String AUTHORISATION = "Auth";
@@ -45,17 +55,33 @@ public class NotifyClaimantDefaultCCJJobTest {
         notifyClaimantDefaultCCJJob.setCaseSearchApi(caseSearchApi);
         notifyClaimantDefaultCCJJob.setUserService(userService);
         notifyClaimantDefaultCCJJob.setCcjNotificationService(ccjNotificationService);
+        notifyClaimantDefaultCCJJob.setBatchJobRunner(
+            new BatchJobRunner(checkpointRepository, new SimpleMeterRegistry(), Runnable::run));
 
         when(userService.authenticateAnonymousCaseWorker()).thenReturn(USER);
     }
 
     @Test
     public void executeShouldNotifyClaimant() throws Exception {
-        Claim singleClaim = SampleClaim.getCitizenClaim();
-        when(caseSearchApi.getClaimsWithDefaultCCJ(eq(USER), ArgumentMatchers.any()))
+        ClaimSummary singleClaim = ClaimSummary.builder().id(1L).referenceNumber("000MC001").build();
+        when(caseSearchApi.getClaimSummariesWithDefaultCCJAfter(eq(USER), ArgumentMatchers.any(), isNull(), anyInt()))
             .thenReturn(Collections.singletonList(singleClaim));
         notifyClaimantDefaultCCJJob.execute(null);
 
         verify(ccjNotificationService, times(1)).notifyClaimantAboutCCJReminder(singleClaim);
     }
+
+    @Test
+    public void executeShouldCarryOnNotifyingWhenOneClaimantFails() throws Exception {
+        ClaimSummary failingClaim = ClaimSummary.builder().id(1L).referenceNumber("000MC001").build();
+        ClaimSummary nextClaim = ClaimSummary.builder().id(2L).referenceNumber("000MC002").build();
+        when(caseSearchApi.getClaimSummariesWithDefaultCCJAfter(eq(USER), ArgumentMatchers.any(), isNull(), anyInt()))
+            .thenReturn(Arrays.asList(failingClaim, nextClaim));
+        doThrow(new NotificationException("unavailable"))
+            .when(ccjNotificationService).notifyClaimantAboutCCJReminder(failingClaim);
+
+        notifyClaimantDefaultCCJJob.execute(null);
+
+        verify(ccjNotificationService).notifyClaimantAboutCCJReminder(nextClaim);
+    }
 }
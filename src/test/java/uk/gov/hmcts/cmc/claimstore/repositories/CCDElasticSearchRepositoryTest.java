@@ -13,13 +13,21 @@ import uk.gov.hmcts.cmc.claimstore.repositories.elastic.SampleQueryConstants;
 import uk.gov.hmcts.cmc.claimstore.services.UserService;
 import uk.gov.hmcts.cmc.claimstore.utils.CaseDetailsConverter;
 import uk.gov.hmcts.cmc.claimstore.utils.ResourceLoader;
+import uk.gov.hmcts.cmc.domain.models.Claim;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.ccd.client.CoreCaseDataApi;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalMatchers.and;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -85,7 +93,7 @@ public class CCDElasticSearchRepositoryTest {
     @Test
     public void ccjCasesWithDefaultCcjTenDaysPriorQueriesElastic() {
         User user = new User(AUTHORISATION, null);
-        ccdElasticSearchRepository.getClaimsWithDefaultCCJ(user,
+        ccdElasticSearchRepository.getClaimSummariesWithDefaultCCJ(user,
             LocalDate.of(2020, 1, 10));
         verify(coreCaseDataApi).searchCases(
             AUTHORISATION,
@@ -94,4 +102,51 @@ public class CCDElasticSearchRepositoryTest {
             SampleQueryConstants.defaultCCJCases10DaysBefore);
     }
 
+    @Test
+    public void claimsAwaitingResponseShouldStopAfterLastPage() {
+        User user = new User(AUTHORISATION, null);
+        ccdElasticSearchRepository.getClaimsAwaitingResponse(user, LocalDate.of(2020, 4, 22),
+            LocalDate.of(2020, 4, 25));
+        verify(coreCaseDataApi, times(1)).searchCases(
+            eq(AUTHORISATION),
+            eq(SERVICE_AUTH),
+            eq(CASE_TYPE_ID),
+            and(contains("\"from\" : \"2020-04-22\""), contains("\"to\" : \"2020-04-25\""))
+        );
+    }
+
+    @Test
+    public void claimsAwaitingResponseShouldReadNextPageAfterLastCaseOfPreviousPage() {
+        List<CaseDetails> fullPage = LongStream.rangeClosed(1, 500)
+            .mapToObj(id -> CaseDetails.builder().id(id).build())
+            .collect(Collectors.toList());
+        when(coreCaseDataApi.searchCases(anyString(), anyString(), eq(CASE_TYPE_ID), anyString()))
+            .thenReturn(SearchResult.builder().cases(fullPage).total(501).build())
+            .thenReturn(SearchResult.builder().cases(ResourceLoader.listOfCaseDetails()).total(501).build());
+
+        User user = new User(AUTHORISATION, null);
+        List<Claim> claims = ccdElasticSearchRepository.getClaimsAwaitingResponse(user, LocalDate.of(2020, 4, 22),
+            LocalDate.of(2020, 4, 25));
+
+        assertThat(claims).hasSize(500 + ResourceLoader.listOfCaseDetails().size());
+        verify(coreCaseDataApi).searchCases(
+            eq(AUTHORISATION),
+            eq(SERVICE_AUTH),
+            eq(CASE_TYPE_ID),
+            and(contains("\"sort\": [{\"reference\": \"asc\"}]"), contains("\"from\" : 500,"))
+        );
+    }
+
+    @Test
+    public void getCaseIdsAfterShouldSortByCaseIdAndStartAfterGivenCaseWithoutFetchingCaseData() {
+        User user = new User(AUTHORISATION, null);
+        ccdElasticSearchRepository.getCaseIdsAfter(user, QueryBuilders.boolQuery(), 1520L, 50);
+        verify(coreCaseDataApi).searchCases(
+            eq(AUTHORISATION),
+            eq(SERVICE_AUTH),
+            eq(CASE_TYPE_ID),
+            and(contains("\"sort\": [{\"reference\": \"asc\"}]"),
+                and(contains("\"_source\": [\"reference\"]"), contains("\"from\" : 1520")))
+        );
+    }
 }
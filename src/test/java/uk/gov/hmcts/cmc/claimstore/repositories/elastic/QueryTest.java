@@ -4,6 +4,9 @@ import org.assertj.core.api.Assertions;
 import org.elasticsearch.index.query.QueryBuilders;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import static org.junit.Assert.assertEquals;
 
 public class QueryTest {
@@ -34,4 +37,49 @@ public class QueryTest {
         assertEquals(matchAllQueryString, matchAll.toString());
     }
 
+    @Test
+    public void queryToStringShouldIncludeSourceFilter() {
+        final String sourceFilteredQueryString = "{"
+            + "\"size\": 10,"
+            + "\"_source\": [\"reference\",\"data.externalId\"],"
+            + "\"query\": {\n"
+            + "  \"match_all\" : {\n"
+            + "    \"boost\" : 1.0\n"
+            + "  }\n"
+            + "}}";
+
+        Query sourceFiltered = new Query(QueryBuilders.matchAllQuery(), 10,
+            Arrays.asList("reference", "data.externalId"));
+        assertEquals(sourceFilteredQueryString, sourceFiltered.toString());
+    }
+
+    @Test
+    public void queryToStringShouldIncludeStartIndexOfLaterPages() {
+        final String secondPageQueryString = "{"
+            + "\"size\": 10,"
+            + "\"from\": 10,"
+            + "\"query\": {\n"
+            + "  \"match_all\" : {\n"
+            + "    \"boost\" : 1.0\n"
+            + "  }\n"
+            + "}}";
+
+        Query secondPage = new Query(QueryBuilders.matchAllQuery(), 10, Collections.emptyList(), 10);
+        assertEquals(secondPageQueryString, secondPage.toString());
+    }
+
+    @Test
+    public void queryToStringShouldIncludeSortField() {
+        final String sortedQueryString = "{"
+            + "\"size\": 10,"
+            + "\"sort\": [{\"reference\": \"asc\"}],"
+            + "\"query\": {\n"
+            + "  \"match_all\" : {\n"
+            + "    \"boost\" : 1.0\n"
+            + "  }\n"
+            + "}}";
+
+        Query sorted = new Query(QueryBuilders.matchAllQuery(), 10, Collections.emptyList(), 0, "reference");
+        assertEquals(sortedQueryString, sorted.toString());
+    }
 }
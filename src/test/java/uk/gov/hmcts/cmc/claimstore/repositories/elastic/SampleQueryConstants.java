@@ -120,7 +120,15 @@ public interface SampleQueryConstants {
         + "  }\n"
         + "}";
 
-    String defaultCCJCases10DaysBefore = "{\"size\": 1000,\"query\": {\n"
+    String defaultCCJCases10DaysBefore = "{\"size\": 1000,"
+        + "\"_source\": [\"reference\",\"state\",\"data.submitterId\",\"data.externalId\","
+        + "\"data.previousServiceCaseReference\",\"data.submittedOn\",\"data.issuedOn\",\"data.submitterEmail\","
+        + "\"data.applicants.value.partyName\","
+        + "\"data.respondents.value.claimantProvidedPartyName\",\"data.respondents.value.letterHolderId\","
+        + "\"data.respondents.value.defendantId\",\"data.respondents.value.responseDeadline\","
+        + "\"data.respondents.value.partyDetail\",\"data.respondents.value.responseMoreTimeNeededOption\","
+        + "\"data.respondents.value.responseSubmittedOn\",\"data.respondents.value.countyCourtJudgmentRequest\"],"
+        + "\"query\": {\n"
         + "  \"bool\" : {\n"
         + "    \"must\" : [\n"
         + "      {\n"
@@ -0,0 +1,92 @@
+package uk.gov.hmcts.cmc.claimstore.rpa;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import uk.gov.hmcts.cmc.claimstore.events.ccj.CountyCourtJudgmentEvent;
+import uk.gov.hmcts.cmc.claimstore.events.claimantresponse.ClaimantResponseEvent;
+import uk.gov.hmcts.cmc.claimstore.events.paidinfull.PaidInFullEvent;
+import uk.gov.hmcts.cmc.claimstore.events.response.DefendantResponseEvent;
+import uk.gov.hmcts.cmc.claimstore.events.response.MoreTimeRequestedEvent;
+import uk.gov.hmcts.cmc.domain.models.Claim;
+import uk.gov.hmcts.cmc.domain.models.sampledata.SampleClaim;
+
+import java.time.LocalDate;
+
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RpaEventNotificationHandlerTest {
+
+    private static final String AUTHORISATION = "Bearer Token";
+
+    @Mock
+    private MoreTimeRequestedNotificationService moreTimeRequestedNotificationService;
+    @Mock
+    private DefenceResponseNotificationService defenceResponseNotificationService;
+    @Mock
+    private RequestForJudgmentNotificationService requestForJudgmentNotificationService;
+    @Mock
+    private PaidInFullNotificationService paidInFullNotificationService;
+
+    private final Claim claim = SampleClaim.getDefault();
+
+    private RpaEventNotificationHandler handler;
+
+    @Before
+    public void setUp() {
+        handler = new RpaEventNotificationHandler(
+            moreTimeRequestedNotificationService,
+            defenceResponseNotificationService,
+            requestForJudgmentNotificationService,
+            paidInFullNotificationService
+        );
+    }
+
+    @Test
+    public void shouldNotifyRoboticsOfMoreTimeRequested() {
+        MoreTimeRequestedEvent event = new MoreTimeRequestedEvent(claim, LocalDate.now(), "defendant@example.com");
+
+        handler.onMoreTimeRequested(event);
+
+        verify(moreTimeRequestedNotificationService).notifyRobotics(event);
+    }
+
+    @Test
+    public void shouldNotifyRoboticsOfDefendantResponse() {
+        DefendantResponseEvent event = new DefendantResponseEvent(claim, AUTHORISATION);
+
+        handler.onDefendantResponse(event);
+
+        verify(defenceResponseNotificationService).notifyRobotics(event);
+    }
+
+    @Test
+    public void shouldNotifyRoboticsOfCountyCourtJudgment() {
+        CountyCourtJudgmentEvent event = new CountyCourtJudgmentEvent(claim, AUTHORISATION);
+
+        handler.onCountyCourtJudgment(event);
+
+        verify(requestForJudgmentNotificationService).notifyRobotics(event);
+    }
+
+    @Test
+    public void shouldNotifyRoboticsOfPaidInFull() {
+        PaidInFullEvent event = new PaidInFullEvent(claim);
+
+        handler.onPaidInFull(event);
+
+        verify(paidInFullNotificationService).notifyRobotics(event);
+    }
+
+    @Test
+    public void shouldPassClaimantResponseToPaidInFullNotifications() {
+        ClaimantResponseEvent event = new ClaimantResponseEvent(claim, AUTHORISATION);
+
+        handler.onClaimantResponse(event);
+
+        verify(paidInFullNotificationService).notifyRobotics(event);
+    }
+}
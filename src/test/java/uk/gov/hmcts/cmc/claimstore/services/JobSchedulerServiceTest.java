@@ -9,15 +9,24 @@ import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import uk.gov.hmcts.cmc.domain.models.Claim;
 import uk.gov.hmcts.cmc.domain.models.sampledata.SampleClaim;
+import uk.gov.hmcts.cmc.scheduler.model.BatchJobResult;
 import uk.gov.hmcts.cmc.scheduler.model.JobData;
+import uk.gov.hmcts.cmc.scheduler.services.BatchJobService;
 import uk.gov.hmcts.cmc.scheduler.services.JobService;
 
 import java.time.LocalDate;
 import java.time.ZoneOffset;
+import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public class JobSchedulerServiceTest {
@@ -32,6 +41,8 @@ public class JobSchedulerServiceTest {
 
     @Mock
     private JobService jobService;
+    @Mock
+    private BatchJobService batchJobService;
 
     @Captor
     private ArgumentCaptor<JobData> jobDataCaptor;
@@ -40,29 +51,110 @@ public class JobSchedulerServiceTest {
 
     @Test
     public void whenEnabledShouldScheduleFirstReminder() {
-        service = new JobSchedulerService(jobService, FIRST_REMINDER_DAY, LAST_REMINDER_DAY, true);
+        service = jobSchedulerService(true, false, 0);
         service.scheduleEmailNotificationsForDefendantResponse(CLAIM);
         Mockito.verify(jobService).scheduleJob(jobDataCaptor.capture(), eq(EXPECTED_FIRST_REMINDER));
     }
 
     @Test
     public void whenEnabledShouldScheduleLastReminder() {
-        service = new JobSchedulerService(jobService, FIRST_REMINDER_DAY, LAST_REMINDER_DAY, true);
+        service = jobSchedulerService(true, false, 0);
         service.scheduleEmailNotificationsForDefendantResponse(CLAIM);
         Mockito.verify(jobService).scheduleJob(jobDataCaptor.capture(), eq(EXPECTED_LAST_REMINDER));
     }
 
     @Test
     public void whenDisabledShouldNotScheduleFirstReminder() {
-        service = new JobSchedulerService(jobService, FIRST_REMINDER_DAY, LAST_REMINDER_DAY, false);
+        service = jobSchedulerService(false, false, 0);
         service.scheduleEmailNotificationsForDefendantResponse(CLAIM);
         Mockito.verify(jobService, never()).scheduleJob(jobDataCaptor.capture(), eq(EXPECTED_FIRST_REMINDER));
     }
 
     @Test
     public void whenDisabledShouldNotScheduleLastReminder() {
-        service = new JobSchedulerService(jobService, FIRST_REMINDER_DAY, LAST_REMINDER_DAY, false);
+        service = jobSchedulerService(false, false, 0);
         service.scheduleEmailNotificationsForDefendantResponse(CLAIM);
         Mockito.verify(jobService, never()).scheduleJob(jobDataCaptor.capture(), eq(EXPECTED_LAST_REMINDER));
     }
+
+    @Test
+    public void whenSweepEnabledShouldNotScheduleReminderJobs() {
+        service = jobSchedulerService(true, true, 0);
+        service.scheduleEmailNotificationsForDefendantResponse(CLAIM);
+        service.rescheduleEmailNotificationsForDefendantResponse(CLAIM, RESPONSE_DEADLINE.plusDays(14));
+        Mockito.verifyNoInteractions(jobService);
+    }
+
+    @Test
+    public void shouldSpreadRemindersOverWindowAfterEight() {
+        service = jobSchedulerService(true, false, 120);
+        service.scheduleEmailNotificationsForDefendantResponse(CLAIM);
+
+        ArgumentCaptor<ZonedDateTime> reminderCaptor = ArgumentCaptor.forClass(ZonedDateTime.class);
+        Mockito.verify(jobService, Mockito.times(2))
+            .scheduleJob(any(JobData.class), reminderCaptor.capture());
+        List<ZonedDateTime> reminders = reminderCaptor.getAllValues();
+
+        assertThat(reminders.get(0)).isBetween(EXPECTED_FIRST_REMINDER, EXPECTED_FIRST_REMINDER.plusHours(2));
+        assertThat(reminders.get(1)).isBetween(EXPECTED_LAST_REMINDER, EXPECTED_LAST_REMINDER.plusHours(2));
+        assertThat(reminders.get(0).toLocalTime()).isEqualTo(reminders.get(1).toLocalTime());
+    }
+
+    @Test
+    public void shouldKeepSameReminderTimeWhenRescheduled() {
+        service = jobSchedulerService(true, false, 120);
+        service.scheduleEmailNotificationsForDefendantResponse(CLAIM);
+        service.rescheduleEmailNotificationsForDefendantResponse(CLAIM, RESPONSE_DEADLINE);
+
+        ArgumentCaptor<ZonedDateTime> scheduled = ArgumentCaptor.forClass(ZonedDateTime.class);
+        ArgumentCaptor<ZonedDateTime> rescheduled = ArgumentCaptor.forClass(ZonedDateTime.class);
+        Mockito.verify(jobService, Mockito.times(2))
+            .scheduleJob(any(JobData.class), scheduled.capture());
+        Mockito.verify(jobService, Mockito.times(2))
+            .rescheduleJob(any(JobData.class), rescheduled.capture());
+
+        assertThat(rescheduled.getAllValues()).isEqualTo(scheduled.getAllValues());
+    }
+
+    @Test
+    public void shouldNotScheduleEveryClaimAtSameTime() {
+        service = jobSchedulerService(true, false, 120);
+        for (int i = 0; i < 20; i++) {
+            service.scheduleEmailNotificationsForDefendantResponse(
+                SampleClaim.builder()
+                    .withExternalId("external-id-" + i)
+                    .withResponseDeadline(RESPONSE_DEADLINE)
+                    .build()
+            );
+        }
+
+        ArgumentCaptor<ZonedDateTime> reminderCaptor = ArgumentCaptor.forClass(ZonedDateTime.class);
+        Mockito.verify(jobService, Mockito.times(40))
+            .scheduleJob(any(JobData.class), reminderCaptor.capture());
+
+        assertThat(reminderCaptor.getAllValues().stream().map(ZonedDateTime::toLocalTime).distinct().count())
+            .isGreaterThan(15);
+    }
+
+    @Test
+    public void whenSweepEnabledShouldRemoveReminderJobsOnStartup() {
+        when(batchJobService.deleteGroup("Reminders"))
+            .thenReturn(new BatchJobResult(Collections.emptyMap(), Duration.ZERO));
+
+        jobSchedulerService(true, true, 0).removeReminderJobsReplacedBySweep();
+
+        Mockito.verify(batchJobService).deleteGroup("Reminders");
+    }
+
+    @Test
+    public void whenSweepDisabledShouldKeepReminderJobsOnStartup() {
+        jobSchedulerService(true, false, 0).removeReminderJobsReplacedBySweep();
+
+        verifyNoInteractions(batchJobService);
+    }
+
+    private JobSchedulerService jobSchedulerService(boolean enabled, boolean sweepEnabled, int spreadMinutes) {
+        return new JobSchedulerService(jobService, batchJobService, FIRST_REMINDER_DAY, LAST_REMINDER_DAY,
+            enabled, sweepEnabled, spreadMinutes);
+    }
 }
@@ -1,6 +1,7 @@
 package uk.gov.hmcts.cmc.claimstore.services;
 
 import groovy.lang.IntRange;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
 import org.junit.Before;
@@ -19,17 +20,24 @@ import uk.gov.hmcts.cmc.claimstore.config.properties.emails.StaffEmailProperties
 import uk.gov.hmcts.cmc.claimstore.documents.content.ScheduledStateTransitionContentProvider;
 import uk.gov.hmcts.cmc.claimstore.idam.models.User;
 import uk.gov.hmcts.cmc.claimstore.idam.models.UserDetails;
+import uk.gov.hmcts.cmc.claimstore.repositories.CaseEventLedgerRepository;
 import uk.gov.hmcts.cmc.claimstore.repositories.CaseRepository;
 import uk.gov.hmcts.cmc.claimstore.repositories.CaseSearchApi;
+import uk.gov.hmcts.cmc.claimstore.services.ccd.CaseEventLedger;
 import uk.gov.hmcts.cmc.claimstore.services.staff.models.EmailContent;
 import uk.gov.hmcts.cmc.claimstore.services.statetransition.StateTransition;
+import uk.gov.hmcts.cmc.claimstore.utils.CaseDetailsConverter;
 import uk.gov.hmcts.cmc.domain.models.Claim;
 import uk.gov.hmcts.cmc.domain.models.sampledata.SampleClaim;
 import uk.gov.hmcts.cmc.email.EmailService;
+import uk.gov.hmcts.cmc.scheduler.batch.BatchCheckpointRepository;
+import uk.gov.hmcts.cmc.scheduler.batch.BatchJobRunner;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.ccd.client.CaseEventsApi;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.ccd.client.model.CaseEventDetail;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Month;
@@ -37,9 +45,13 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -50,6 +62,8 @@ import static uk.gov.hmcts.cmc.claimstore.utils.VerificationModeUtils.once;
 @RunWith(MockitoJUnitRunner.class)
 public class ScheduledStateTransitionServiceTest {
 
+    private static final LocalDateTime LAST_MODIFIED = LocalDateTime.of(2019, Month.OCTOBER, 14, 9, 30);
+
     private ScheduledStateTransitionService scheduledStateTransitionService;
 
     @Mock
@@ -58,6 +72,9 @@ public class ScheduledStateTransitionServiceTest {
     @Mock
     private CaseSearchApi caseSearchApi;
 
+    @Mock
+    private CaseDetailsConverter caseDetailsConverter;
+
     @Mock
     private UserService userService;
 
@@ -88,6 +105,14 @@ public class ScheduledStateTransitionServiceTest {
     @Mock
     private StateTransition stateTransition;
 
+    @Mock
+    private BatchCheckpointRepository checkpointRepository;
+
+    @Mock
+    private CaseEventLedgerRepository caseEventLedgerRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private final User user = new User("", new UserDetails(null, null, null, null, null));
 
     private final CaseEvent caseEvent = CaseEvent.values()[0];
@@ -110,6 +135,7 @@ public class ScheduledStateTransitionServiceTest {
         scheduledStateTransitionService = new ScheduledStateTransitionService(
             workingDayIndicator,
             caseSearchApi,
+            caseDetailsConverter,
             userService,
             appInsights,
             caseRepository,
@@ -117,8 +143,13 @@ public class ScheduledStateTransitionServiceTest {
             emailService,
             emailProperties,
             environment,
-            caseEventsApi,
-            authTokenGenerator
+            new CaseEventLedger(caseEventLedgerRepository, caseEventsApi, authTokenGenerator, Clock.systemUTC()),
+            new BatchJobRunner(checkpointRepository, new SimpleMeterRegistry(), Runnable::run),
+            100,
+            4,
+            Runnable::run,
+            2,
+            meterRegistry
         );
     }
 
@@ -131,7 +162,7 @@ public class ScheduledStateTransitionServiceTest {
 
         LocalDate returnDate = tuesdayAfter4pm.toLocalDate().minusDays(deadline);
         QueryBuilder expected = stateTransition.getQuery().apply(returnDate);
-        verify(caseSearchApi, once()).getClaims(eq(user), eq(expected));
+        verify(caseSearchApi, once()).getCasesAfter(eq(user), eq(expected), isNull(), anyInt());
     }
 
     @Test
@@ -140,7 +171,7 @@ public class ScheduledStateTransitionServiceTest {
             new IntRange(1, 3).stream()
                 .map(id -> Claim.builder().id(id.longValue()).ccdCaseId(id.longValue()).build())
                 .collect(Collectors.toList());
-        when(caseSearchApi.getClaims(any(), any())).thenReturn(claims);
+        givenCases(claims);
         when(workingDayIndicator.getPreviousWorkingDay(any())).thenReturn(LocalDate.now());
 
         scheduledStateTransitionService.transitionClaims(LocalDateTime.now(), user, stateTransition);
@@ -155,7 +186,7 @@ public class ScheduledStateTransitionServiceTest {
                 .map(id -> Claim.builder().id(id.longValue()).ccdCaseId(id.longValue()).build())
                 .collect(Collectors.toList());
         when(caseRepository.saveCaseEvent(any(), any(), any())).thenThrow(RuntimeException.class);
-        when(caseSearchApi.getClaims(any(), any())).thenReturn(claims);
+        givenCases(claims);
         when(emailContentProvider.createContent(any(), eq(caseEvent))).thenReturn(new EmailContent("", ""));
         when(workingDayIndicator.getPreviousWorkingDay(any())).thenReturn(LocalDate.now());
 
@@ -192,7 +223,7 @@ public class ScheduledStateTransitionServiceTest {
     public void saveCaseEventShouldBeTriggeredForFoundCases() {
         Claim sampleClaim1 = SampleClaim.builder().withClaimId(1L).withCcdCaseId(1L).build();
         Claim sampleClaim2 = SampleClaim.builder().withClaimId(2L).withCcdCaseId(2L).build();
-        when(caseSearchApi.getClaims(any(), any())).thenReturn(ImmutableList.of(sampleClaim1, sampleClaim2));
+        givenCases(ImmutableList.of(sampleClaim1, sampleClaim2));
         when(workingDayIndicator.getPreviousWorkingDay(any())).thenReturn(dateTime.toLocalDate());
 
         scheduledStateTransitionService.transitionClaims(dateTime, user, stateTransition);
@@ -204,7 +235,7 @@ public class ScheduledStateTransitionServiceTest {
     public void appInsightsEventShouldBeRaisedForFoundCases() {
         Claim sampleClaim1 = SampleClaim.builder().withClaimId(1L).withCcdCaseId(1L).build();
         Claim sampleClaim2 = SampleClaim.builder().withClaimId(2L).withCcdCaseId(2L).build();
-        when(caseSearchApi.getClaims(any(), any())).thenReturn(ImmutableList.of(sampleClaim1, sampleClaim2));
+        givenCases(ImmutableList.of(sampleClaim1, sampleClaim2));
         when(workingDayIndicator.getPreviousWorkingDay(any())).thenReturn(dateTime.toLocalDate());
 
         scheduledStateTransitionService.transitionClaims(dateTime, user, stateTransition);
@@ -215,7 +246,7 @@ public class ScheduledStateTransitionServiceTest {
     @Test
     public void triggerEventsShouldTransitionEventIfLastEvent() {
         Claim sampleClaim1 = SampleClaim.builder().withClaimId(1L).withCcdCaseId(1L).build();
-        when(caseSearchApi.getClaims(any(), any())).thenReturn(ImmutableList.of(sampleClaim1));
+        givenCases(ImmutableList.of(sampleClaim1));
         when(stateTransition.getTriggerEvents()).thenReturn(ImmutableSet.of(caseEvent));
         when(workingDayIndicator.getPreviousWorkingDay(any())).thenReturn(dateTime.toLocalDate());
 
@@ -235,7 +266,7 @@ public class ScheduledStateTransitionServiceTest {
     public void triggerEventsShouldNotTransitionEventIfNotLastEvent() {
 
         Claim sampleClaim1 = SampleClaim.builder().withClaimId(1L).withCcdCaseId(1L).build();
-        when(caseSearchApi.getClaims(any(), any())).thenReturn(ImmutableList.of(sampleClaim1));
+        givenCases(ImmutableList.of(sampleClaim1));
         when(stateTransition.getTriggerEvents()).thenReturn(ImmutableSet.of(caseEvent));
         when(workingDayIndicator.getPreviousWorkingDay(any())).thenReturn(dateTime.toLocalDate());
 
@@ -256,7 +287,7 @@ public class ScheduledStateTransitionServiceTest {
         CaseEvent ignoreEvent = CaseEvent.values()[1];
 
         Claim sampleClaim1 = SampleClaim.builder().withClaimId(1L).withCcdCaseId(1L).build();
-        when(caseSearchApi.getClaims(any(), any())).thenReturn(ImmutableList.of(sampleClaim1));
+        givenCases(ImmutableList.of(sampleClaim1));
         when(stateTransition.getTriggerEvents()).thenReturn(ImmutableSet.of(caseEvent));
         when(stateTransition.getIgnoredEvents()).thenReturn(ImmutableSet.of(ignoreEvent));
         when(workingDayIndicator.getPreviousWorkingDay(any())).thenReturn(dateTime.toLocalDate());
@@ -276,10 +307,71 @@ public class ScheduledStateTransitionServiceTest {
 
     }
 
+    @Test
+    public void triggerEventsShouldBeReadFromLedgerOnceCaseIsReconciled() {
+        Claim sampleClaim1 = SampleClaim.builder().withClaimId(1L).withCcdCaseId(1L).build();
+        givenCases(ImmutableList.of(sampleClaim1));
+        when(stateTransition.getTriggerEvents()).thenReturn(ImmutableSet.of(caseEvent));
+        when(workingDayIndicator.getPreviousWorkingDay(any())).thenReturn(dateTime.toLocalDate());
+        when(caseEventLedgerRepository.getReconciledEventIds(1L, LAST_MODIFIED))
+            .thenReturn(ImmutableList.of(caseEvent.getValue()));
+
+        scheduledStateTransitionService.transitionClaims(dateTime, user, stateTransition);
+
+        verify(caseRepository, once()).saveCaseEvent(any(), any(), eq(caseEvent));
+        verify(caseEventsApi, never()).findEventDetailsForCase(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void triggerEventsShouldBeReadFromCcdWhenCaseChangedSinceLedgerWasReconciled() {
+        Claim sampleClaim1 = SampleClaim.builder().withClaimId(1L).withCcdCaseId(1L).build();
+        givenCases(ImmutableList.of(sampleClaim1));
+        when(stateTransition.getTriggerEvents()).thenReturn(ImmutableSet.of(caseEvent));
+        when(workingDayIndicator.getPreviousWorkingDay(any())).thenReturn(dateTime.toLocalDate());
+        when(caseEventLedgerRepository.getReconciledEventIds(1L, LAST_MODIFIED)).thenReturn(ImmutableList.of());
+        when(caseEventsApi.findEventDetailsForCase(any(), any(), any(), any(), any(), any()))
+            .thenReturn(new ArrayList<>(ImmutableList.of(buildCaseEventDetail(CaseEvent.values()[1], LAST_MODIFIED))));
+
+        scheduledStateTransitionService.transitionClaims(dateTime, user, stateTransition);
+
+        verify(caseEventsApi, once()).findEventDetailsForCase(any(), any(), any(), any(), any(), any());
+        verify(caseRepository, never()).saveCaseEvent(any(), any(), eq(caseEvent));
+    }
+
+    private void givenCases(List<Claim> claims) {
+        List<CaseDetails> cases = new ArrayList<>();
+        for (Claim claim : claims) {
+            CaseDetails caseDetails = CaseDetails.builder()
+                .id(claim.getCcdCaseId())
+                .lastModified(LAST_MODIFIED)
+                .build();
+            lenient().when(caseDetailsConverter.extractClaim(caseDetails)).thenReturn(claim);
+            cases.add(caseDetails);
+        }
+        when(caseSearchApi.getCasesAfter(any(), any(), any(), anyInt())).thenReturn(cases);
+    }
+
     private CaseEventDetail buildCaseEventDetail(CaseEvent value, LocalDateTime createdDate) {
         return CaseEventDetail.builder()
             .id(value.getValue())
             .createdDate(createdDate)
             .build();
     }
+
+    @Test
+    public void runShouldCountClaimsByOutcome() {
+        Claim stayed = SampleClaim.builder().withClaimId(1L).withCcdCaseId(1L).build();
+        Claim failed = SampleClaim.builder().withClaimId(2L).withCcdCaseId(2L).build();
+        givenCases(ImmutableList.of(stayed, failed));
+        when(caseRepository.saveCaseEvent(any(), eq(failed), any())).thenThrow(RuntimeException.class);
+        when(emailContentProvider.createContent(any(), eq(caseEvent))).thenReturn(new EmailContent("", ""));
+        when(workingDayIndicator.getPreviousWorkingDay(any())).thenReturn(dateTime.toLocalDate());
+
+        scheduledStateTransitionService.transitionClaims(dateTime, user, stateTransition);
+
+        assertThat(meterRegistry.get("state.transition.claims")
+            .tags("transition", "STATE_TRANSITION", "outcome", "transitioned").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("state.transition.claims")
+            .tags("transition", "STATE_TRANSITION", "outcome", "failed").counter().count()).isEqualTo(1);
+    }
 }
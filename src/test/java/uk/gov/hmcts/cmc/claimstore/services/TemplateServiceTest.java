@@ -3,6 +3,7 @@ package uk.gov.hmcts.cmc.claimstore.services;
 import com.mitchellbosecke.pebble.PebbleEngine;
 import org.junit.Test;
 import uk.gov.hmcts.cmc.claimstore.config.PebbleConfiguration;
+import uk.gov.hmcts.cmc.claimstore.config.properties.templates.TemplateRegistry;
 import uk.gov.hmcts.cmc.claimstore.exceptions.TemplateException;
 
 import java.util.HashMap;
@@ -11,16 +12,22 @@ import java.util.Map;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class TemplateServiceTest {
 
     private final PebbleEngine pebble = new PebbleConfiguration().pebbleEngine();
 
+    private final TemplateRegistry templateRegistry = new TemplateRegistry(null, 0);
+
     private TemplateService service;
 
     @Test
     public void shouldCorrectlyProcessTemplateWithVariables() {
-        service = new TemplateService(pebble);
+        service = new TemplateService(pebble, templateRegistry, 100);
         Map<String, Object> variables = singletonMap("key", "Hello, World!");
 
         String processed = service.evaluate("{{ key }}", variables);
@@ -30,7 +37,7 @@ public class TemplateServiceTest {
 
     @Test(expected = TemplateException.class)
     public void shouldThrowTemplateExceptionOnEmptyObject() {
-        service = new TemplateService(pebble);
+        service = new TemplateService(pebble, templateRegistry, 100);
         Map<String, Object> variables = new HashMap<>();
 
         service.evaluate("{{ person }}", variables);
@@ -38,23 +45,51 @@ public class TemplateServiceTest {
 
     @Test(expected = TemplateException.class)
     public void shouldThrowTemplateExceptionWhenPebbleExceptionIsThrown() {
-        service = new TemplateService(pebble);
+        service = new TemplateService(pebble, templateRegistry, 100);
 
         service.evaluate("block {{", emptyMap());
     }
 
     @Test(expected = NullPointerException.class)
     public void shouldThrowNullPointerWhenGivenNullTemplateToMapEvaluate() {
-        service = new TemplateService(pebble);
+        service = new TemplateService(pebble, templateRegistry, 100);
 
         service.evaluate(null, emptyMap());
     }
 
     @Test(expected = NullPointerException.class)
     public void shouldThrowNullPointerWhenGivenNullValuesToMapEvaluate() {
-        service = new TemplateService(pebble);
+        service = new TemplateService(pebble, templateRegistry, 100);
 
         service.evaluate("content doesn't matter", null);
     }
 
+    @Test
+    public void shouldCompileTemplateOnlyOnce() throws Exception {
+        PebbleEngine pebbleSpy = spy(pebble);
+        service = new TemplateService(pebbleSpy, templateRegistry, 100);
+
+        assertThat(service.evaluate("{{ key }}", singletonMap("key", "first"))).isEqualTo("first");
+        assertThat(service.evaluate("{{ key }}", singletonMap("key", "second"))).isEqualTo("second");
+
+        verify(pebbleSpy, times(1)).getTemplate("{{ key }}");
+    }
+
+    @Test
+    public void shouldPrecompileEmailTemplates() throws Exception {
+        PebbleEngine pebbleSpy = spy(pebble);
+        service = new TemplateService(pebbleSpy, templateRegistry, 100);
+
+        service.precompile();
+        long emailTemplates = templateRegistry.getLocations().stream()
+            .filter(location -> location.contains("/templates/email/"))
+            .map(templateRegistry::getString)
+            .filter(template -> !template.isEmpty())
+            .distinct()
+            .count();
+        verify(pebbleSpy, times((int) emailTemplates)).getTemplate(anyString());
+
+        service.evaluate(templateRegistry.getString("/rpa/templates/email/claimIssued/body.txt"), emptyMap());
+        verify(pebbleSpy, times((int) emailTemplates)).getTemplate(anyString());
+    }
 }
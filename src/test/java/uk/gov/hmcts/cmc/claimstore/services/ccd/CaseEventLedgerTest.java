@@ -0,0 +1,135 @@
+package uk.gov.hmcts.cmc.claimstore.services.ccd;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import uk.gov.hmcts.cmc.claimstore.idam.models.User;
+import uk.gov.hmcts.cmc.claimstore.idam.models.UserDetails;
+import uk.gov.hmcts.cmc.claimstore.repositories.CaseEventLedgerRepository;
+import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.ccd.client.CaseEventsApi;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.ccd.client.model.CaseEventDetail;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CaseEventLedgerTest {
+
+    private static final Long CASE_ID = 1L;
+    private static final LocalDateTime NOW = LocalDateTime.of(2020, 4, 24, 10, 0);
+
+    @Mock
+    private CaseEventLedgerRepository repository;
+    @Mock
+    private CaseEventsApi caseEventsApi;
+    @Mock
+    private AuthTokenGenerator authTokenGenerator;
+    @Captor
+    private ArgumentCaptor<List<CaseEventDetail>> eventsCaptor;
+
+    private final User user = new User("Bearer user", new UserDetails("10", null, null, null, null));
+
+    private CaseEventLedger caseEventLedger;
+
+    @Before
+    public void setUp() {
+        Clock clock = Clock.fixed(Instant.from(NOW.atZone(ZoneOffset.UTC)), ZoneOffset.UTC);
+        caseEventLedger = new CaseEventLedger(repository, caseEventsApi, authTokenGenerator, clock);
+    }
+
+    @Test
+    public void recordShouldUseLastModifiedOfCase() {
+        LocalDateTime lastModified = NOW.minusMinutes(5);
+        LocalDateTime previousLastModified = NOW.minusMinutes(10);
+
+        caseEventLedger.record(CaseDetails.builder().id(CASE_ID).lastModified(lastModified).build(), "event",
+            previousLastModified);
+
+        verify(repository).recordLatestEvent(CASE_ID, "event", lastModified, previousLastModified);
+    }
+
+    @Test
+    public void recordShouldNotFailCallerWhenLedgerIsUnavailable() {
+        doThrow(new RuntimeException("unavailable")).when(repository)
+            .recordLatestEvent(anyLong(), anyString(), any(), any());
+
+        caseEventLedger.record(CaseDetails.builder().id(CASE_ID).build(), "event", null);
+
+        verify(repository).recordLatestEvent(CASE_ID, "event", NOW, null);
+    }
+
+    @Test
+    public void shouldReadEventsOfReconciledCaseFromLedger() {
+        when(repository.getReconciledEventIds(CASE_ID, NOW)).thenReturn(ImmutableList.of("second", "first"));
+
+        assertThat(caseEventLedger.getEventIdsLatestFirst(user, CASE_ID, NOW)).containsExactly("second", "first");
+
+        verifyNoInteractions(caseEventsApi);
+    }
+
+    @Test
+    public void shouldReconcileCaseFromCcdWhenLedgerIsOlderThanCase() {
+        when(repository.getReconciledEventIds(CASE_ID, NOW)).thenReturn(ImmutableList.of());
+        when(caseEventsApi.findEventDetailsForCase(any(), any(), any(), any(), any(), eq(CASE_ID.toString())))
+            .thenReturn(ImmutableList.of(event("first", NOW.minusDays(1)), event("second", NOW)));
+
+        assertThat(caseEventLedger.getEventIdsLatestFirst(user, CASE_ID, NOW)).containsExactly("second", "first");
+
+        verify(repository).replaceCase(eq(CASE_ID), any(), eq(NOW));
+    }
+
+    @Test
+    public void shouldReconcileCaseFromCcdWhenLastModifiedIsUnknown() {
+        when(caseEventsApi.findEventDetailsForCase(any(), any(), any(), any(), any(), eq(CASE_ID.toString())))
+            .thenReturn(ImmutableList.of(event("first", NOW)));
+
+        assertThat(caseEventLedger.getEventIdsLatestFirst(user, CASE_ID, null)).containsExactly("first");
+
+        verify(repository, never()).getReconciledEventIds(any(), any());
+    }
+
+    @Test
+    public void shouldReconcileCaseFromCcdWhenNotInLedger() {
+        when(caseEventsApi.findEventDetailsForCase(any(), any(), any(), any(), any(), eq(CASE_ID.toString())))
+            .thenReturn(ImmutableList.of(event("first", NOW.minusDays(1)), event("second", NOW)));
+
+        assertThat(caseEventLedger.getEventIdsLatestFirst(user, CASE_ID, NOW)).containsExactly("second", "first");
+
+        verify(repository).replaceCase(eq(CASE_ID), eventsCaptor.capture(), eq(NOW));
+        assertThat(eventsCaptor.getValue()).extracting(CaseEventDetail::getId).containsExactly("second", "first");
+    }
+
+    @Test
+    public void shouldReturnEventsFromCcdWhenLedgerCannotBeReplaced() {
+        when(caseEventsApi.findEventDetailsForCase(any(), any(), any(), any(), any(), any()))
+            .thenReturn(ImmutableList.of(event("first", NOW)));
+        doThrow(new RuntimeException("unavailable")).when(repository).replaceCase(any(), any(), any());
+
+        assertThat(caseEventLedger.reconcile(user, CASE_ID)).containsExactly("first");
+    }
+
+    private static CaseEventDetail event(String id, LocalDateTime createdDate) {
+        return CaseEventDetail.builder().id(id).createdDate(createdDate).build();
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.ApplicationEventPublisher;
 import uk.gov.hmcts.cmc.ccd.domain.CCDCase;
 import uk.gov.hmcts.cmc.ccd.domain.CaseEvent;
 import uk.gov.hmcts.cmc.ccd.mapper.CaseMapper;
@@ -97,6 +98,10 @@ public class CoreCaseDataServiceFailureTest {
     private feign.Request request;
     @Mock
     private DirectionsQuestionnaireService directionsQuestionnaireService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private CaseEventLedger caseEventLedger;
 
     private CoreCaseDataService service;
 
@@ -143,7 +148,9 @@ public class CoreCaseDataServiceFailureTest {
             caseDetailsConverter,
             intentionToProceedDeadlineDays,
             workingDayIndicator,
-            directionsQuestionnaireService
+            directionsQuestionnaireService,
+            eventPublisher,
+            caseEventLedger
         );
     }
 
@@ -9,6 +9,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.ApplicationEventPublisher;
 import uk.gov.hmcts.cmc.ccd.domain.CCDCase;
 import uk.gov.hmcts.cmc.ccd.domain.CaseEvent;
 import uk.gov.hmcts.cmc.ccd.mapper.CaseMapper;
@@ -111,6 +112,10 @@ public class CoreCaseDataServiceTest {
     private feign.Request request;
     @Mock
     private DirectionsQuestionnaireService directionsQuestionnaireService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private CaseEventLedger caseEventLedger;
     @Captor
     private ArgumentCaptor<Claim> claimArgumentCaptor;
 
@@ -164,7 +169,9 @@ public class CoreCaseDataServiceTest {
             caseDetailsConverter,
             intentionToProceedDeadlineDays,
             workingDayIndicator,
-            directionsQuestionnaireService
+            directionsQuestionnaireService,
+            eventPublisher,
+            caseEventLedger
         );
     }
 
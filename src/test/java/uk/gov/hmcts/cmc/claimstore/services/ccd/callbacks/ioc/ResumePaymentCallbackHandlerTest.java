@@ -10,6 +10,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import uk.gov.hmcts.cmc.ccd.domain.CCDCase;
 import uk.gov.hmcts.cmc.ccd.mapper.CaseMapper;
+import uk.gov.hmcts.cmc.ccd.mapper.ClaimSummaryMapper;
 import uk.gov.hmcts.cmc.ccd.sample.data.SampleData;
 import uk.gov.hmcts.cmc.claimstore.config.JacksonConfiguration;
 import uk.gov.hmcts.cmc.claimstore.processors.JsonMapper;
@@ -81,7 +82,7 @@ public class ResumePaymentCallbackHandlerTest {
         when(caseMapper.to(any(Claim.class))).thenReturn(ccdCase);
         JsonMapper jsonMapper = new JsonMapper(new JacksonConfiguration().objectMapper());
         caseDetailsConverter
-            = new CaseDetailsConverter(caseMapper, jsonMapper, workingDayIndicator, 12);
+            = new CaseDetailsConverter(caseMapper, new ClaimSummaryMapper(), jsonMapper, workingDayIndicator, 12);
         handler = new ResumePaymentCallbackHandler(
             paymentsService,
             caseDetailsConverter,
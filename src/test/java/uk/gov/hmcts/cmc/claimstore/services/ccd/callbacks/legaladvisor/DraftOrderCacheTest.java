@@ -0,0 +1,106 @@
+package uk.gov.hmcts.cmc.claimstore.services.ccd.callbacks.legaladvisor;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+import uk.gov.hmcts.cmc.ccd.domain.CCDCase;
+import uk.gov.hmcts.cmc.ccd.domain.CCDDocument;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.cmc.ccd.domain.CCDYesNoOption.NO;
+import static uk.gov.hmcts.cmc.ccd.domain.CCDYesNoOption.YES;
+
+public class DraftOrderCacheTest {
+
+    private static final String AUTHORISATION = "Bearer legal-advisor";
+    private static final String VARIANT = "LA:false";
+    private static final LocalDateTime LAST_MODIFIED = LocalDateTime.of(2020, 4, 1, 10, 30);
+    private static final Map<String, Object> DATA = ImmutableMap.of("paperDetermination", "NO");
+    private static final CCDDocument DRAFT_ORDER = CCDDocument.builder().documentUrl("http://doc-assembly/1").build();
+
+    private final Clock clock = Clock.fixed(Instant.parse("2020-04-01T12:00:00Z"), ZoneOffset.UTC);
+    private final DraftOrderCache cache = new DraftOrderCache(clock, true, 10, 24);
+
+    @Test
+    public void shouldReturnPrepopulatedDataForTheSameCaseVersion() {
+        cache.putPrepopulated(caseDetails(LAST_MODIFIED), VARIANT, DATA);
+
+        assertThat(cache.getPrepopulated(caseDetails(LAST_MODIFIED), VARIANT)).contains(DATA);
+        assertThat(cache.getPrepopulated(caseDetails(LAST_MODIFIED), "LA:true")).isEmpty();
+    }
+
+    @Test
+    public void shouldDiscardEverythingCachedWhenTheCaseIsModified() {
+        CCDCase ccdCase = CCDCase.builder().id(1L).build();
+        cache.putPrepopulated(caseDetails(LAST_MODIFIED), VARIANT, DATA);
+        cache.putDraftOrder(caseDetails(LAST_MODIFIED), ccdCase, AUTHORISATION, DRAFT_ORDER);
+
+        CaseDetails modified = caseDetails(LAST_MODIFIED.plusMinutes(1));
+
+        assertThat(cache.getPrepopulated(modified, VARIANT)).isEmpty();
+        assertThat(cache.getDraftOrder(modified, ccdCase, AUTHORISATION)).isEmpty();
+        assertThat(cache.getPrepopulated(caseDetails(LAST_MODIFIED), VARIANT)).isEmpty();
+    }
+
+    @Test
+    public void shouldNotReturnPrepopulatedDataComputedOnAnotherDay() {
+        Clock changingClock = mock(Clock.class);
+        when(changingClock.getZone()).thenReturn(ZoneOffset.UTC);
+        when(changingClock.instant()).thenReturn(
+            Instant.parse("2020-04-01T23:59:00Z"),
+            Instant.parse("2020-04-02T00:01:00Z")
+        );
+        DraftOrderCache overnight = new DraftOrderCache(changingClock, true, 10, 24);
+        overnight.putPrepopulated(caseDetails(LAST_MODIFIED), VARIANT, DATA);
+
+        assertThat(overnight.getPrepopulated(caseDetails(LAST_MODIFIED), VARIANT)).isEmpty();
+    }
+
+    @Test
+    public void shouldNotReuseDraftOrderRenderedOnAnotherDay() {
+        Clock changingClock = mock(Clock.class);
+        when(changingClock.getZone()).thenReturn(ZoneOffset.UTC);
+        when(changingClock.instant()).thenReturn(
+            Instant.parse("2020-04-01T23:59:00Z"),
+            Instant.parse("2020-04-02T00:01:00Z")
+        );
+        DraftOrderCache overnight = new DraftOrderCache(changingClock, true, 10, 24);
+        CCDCase ccdCase = CCDCase.builder().id(1L).build();
+        overnight.putDraftOrder(caseDetails(LAST_MODIFIED), ccdCase, AUTHORISATION, DRAFT_ORDER);
+
+        assertThat(overnight.getDraftOrder(caseDetails(LAST_MODIFIED), ccdCase, AUTHORISATION)).isEmpty();
+    }
+
+    @Test
+    public void shouldReuseDraftOrderOnlyForTheSameOrderFieldsAndUser() {
+        CCDCase ccdCase = CCDCase.builder().id(1L).paperDetermination(NO).build();
+        cache.putDraftOrder(caseDetails(LAST_MODIFIED), ccdCase, AUTHORISATION, DRAFT_ORDER);
+
+        assertThat(cache.getDraftOrder(caseDetails(LAST_MODIFIED), ccdCase.toBuilder().build(), AUTHORISATION))
+            .contains(DRAFT_ORDER);
+        assertThat(cache.getDraftOrder(caseDetails(LAST_MODIFIED), ccdCase, "Bearer judge")).isEmpty();
+        assertThat(cache.getDraftOrder(caseDetails(LAST_MODIFIED),
+            ccdCase.toBuilder().paperDetermination(YES).build(),
+            AUTHORISATION)).isEmpty();
+    }
+
+    @Test
+    public void shouldCacheNothingWhenDisabled() {
+        DraftOrderCache disabled = new DraftOrderCache(clock, false, 0, 0);
+        disabled.putPrepopulated(caseDetails(LAST_MODIFIED), VARIANT, DATA);
+
+        assertThat(disabled.getPrepopulated(caseDetails(LAST_MODIFIED), VARIANT)).isEmpty();
+    }
+
+    private static CaseDetails caseDetails(LocalDateTime lastModified) {
+        return CaseDetails.builder().id(1L).lastModified(lastModified).build();
+    }
+}
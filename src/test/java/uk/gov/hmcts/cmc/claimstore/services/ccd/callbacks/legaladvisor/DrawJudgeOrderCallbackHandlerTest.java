@@ -130,7 +130,8 @@ class DrawJudgeOrderCallbackHandlerTest {
     @BeforeEach
     void setUp() {
         OrderCreator orderCreator = new OrderCreator(legalOrderGenerationDeadlinesCalculator, caseDetailsConverter,
-            docAssemblyService, new GenerateOrderRule(), directionsQuestionnaireService, pilotCourtService);
+            docAssemblyService, new GenerateOrderRule(), directionsQuestionnaireService, pilotCourtService,
+            new DraftOrderCache(Clock.systemDefaultZone(), false, 0, 0));
 
         OrderPostProcessor orderPostProcessor = new OrderPostProcessor(clock, orderDrawnNotificationService,
             caseDetailsConverter, legalOrderService, appInsights, directionOrderService);
@@ -112,7 +112,7 @@ public class GenerateOrderCallbackHandlerTest {
     void setUp() {
         OrderCreator orderCreator = new OrderCreator(legalOrderGenerationDeadlinesCalculator, caseDetailsConverter,
             docAssemblyService, new GenerateOrderRule(), directionsQuestionnaireService,
-            pilotCourtService);
+            pilotCourtService, new DraftOrderCache(Clock.systemDefaultZone(), false, 0, 0));
 
         OrderPostProcessor orderPostProcessor = new OrderPostProcessor(clock, orderDrawnNotificationService,
             caseDetailsConverter, legalOrderService, appInsights, directionOrderService);
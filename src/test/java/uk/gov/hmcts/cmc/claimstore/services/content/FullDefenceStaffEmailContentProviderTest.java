@@ -4,6 +4,7 @@ import org.junit.Before;
 import org.junit.Test;
 import uk.gov.hmcts.cmc.claimstore.config.PebbleConfiguration;
 import uk.gov.hmcts.cmc.claimstore.config.properties.emails.StaffEmailTemplates;
+import uk.gov.hmcts.cmc.claimstore.config.properties.templates.TemplateRegistry;
 import uk.gov.hmcts.cmc.claimstore.services.TemplateService;
 import uk.gov.hmcts.cmc.claimstore.services.staff.content.FullDefenceStaffEmailContentProvider;
 import uk.gov.hmcts.cmc.claimstore.services.staff.models.EmailContent;
@@ -23,10 +24,12 @@ public class FullDefenceStaffEmailContentProviderTest {
     private static final String DEFENDANT_EMAIL = "defendant@mail.com";
 
     private final TemplateService templateService = new TemplateService(
-        new PebbleConfiguration().pebbleEngine()
+        new PebbleConfiguration().pebbleEngine(),
+        new TemplateRegistry(null, 0),
+        100
     );
 
-    private final StaffEmailTemplates templates = new StaffEmailTemplates();
+    private final StaffEmailTemplates templates = new StaffEmailTemplates(new TemplateRegistry(null, 0));
 
     private FullDefenceStaffEmailContentProvider service;
 
@@ -0,0 +1,52 @@
+package uk.gov.hmcts.cmc.claimstore.services.document;
+
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DocumentDownloadTest {
+
+    private static final byte[] BODY = {1, 2, 3, 4};
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private final ByteArrayInputStream body = new ByteArrayInputStream(BODY) {
+        @Override
+        public void close() {
+            closed.set(true);
+        }
+    };
+
+    @Test
+    public void shouldReleaseBodyWhenClosedWithoutWritingIt() throws IOException {
+        DocumentDownload download = DocumentDownload.stream(HttpStatus.OK, (long) BODY.length, null, body);
+
+        download.close();
+
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    public void shouldLeaveBodyOpenUntilClosed() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try (DocumentDownload download = DocumentDownload.stream(HttpStatus.OK, (long) BODY.length, null, body)) {
+            download.writeTo(outputStream);
+            assertThat(closed).isFalse();
+        }
+
+        assertThat(outputStream.toByteArray()).isEqualTo(BODY);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    public void shouldCloseDownloadWithoutBody() throws IOException {
+        DocumentDownload.notModified("\"etag\"").close();
+    }
+}
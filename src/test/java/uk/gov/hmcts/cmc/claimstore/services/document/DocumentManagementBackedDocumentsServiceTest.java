@@ -5,6 +5,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.HttpStatus;
 import uk.gov.hmcts.cmc.claimstore.documents.ClaimIssueReceiptService;
 import uk.gov.hmcts.cmc.claimstore.documents.DefendantResponseReceiptService;
 import uk.gov.hmcts.cmc.claimstore.documents.ReviewOrderService;
@@ -12,6 +13,7 @@ import uk.gov.hmcts.cmc.claimstore.documents.SealedClaimPdfService;
 import uk.gov.hmcts.cmc.claimstore.documents.SettlementAgreementCopyService;
 import uk.gov.hmcts.cmc.claimstore.documents.output.PDF;
 import uk.gov.hmcts.cmc.claimstore.documents.questionnaire.ClaimantDirectionsQuestionnairePdfService;
+import uk.gov.hmcts.cmc.claimstore.exceptions.DocumentManagementException;
 import uk.gov.hmcts.cmc.claimstore.exceptions.ForbiddenActionException;
 import uk.gov.hmcts.cmc.claimstore.idam.models.User;
 import uk.gov.hmcts.cmc.claimstore.services.ClaimService;
@@ -25,11 +27,20 @@ import uk.gov.hmcts.cmc.domain.models.offers.Settlement;
 import uk.gov.hmcts.cmc.domain.models.sampledata.SampleClaim;
 import uk.gov.hmcts.cmc.domain.models.sampledata.SampleReviewOrder;
 
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -50,6 +61,8 @@ public class DocumentManagementBackedDocumentsServiceTest {
 
     private static final String AUTHORISATION = "Bearer: aaa";
     private static final byte[] PDF_BYTES = new byte[]{1, 2, 3, 4};
+    private static final String DOCUMENT_ID = "85d97996-22a5-40d7-882e-3a382c8ae1b4";
+    private static final String ETAG = "\"" + DOCUMENT_ID + "\"";
     private static final User DEFENDANT = SampleUser.getDefaultDefendant();
     private static final User CLAIMANT = SampleUser.getDefaultClaimant();
 
@@ -87,7 +100,7 @@ public class DocumentManagementBackedDocumentsServiceTest {
             claimantDirectionsQuestionnairePdfService,
             userService
         );
-        when(userService.getUser(AUTHORISATION)).thenReturn(CLAIMANT);
+        lenient().when(userService.getUser(AUTHORISATION)).thenReturn(CLAIMANT);
     }
 
     @Test
@@ -300,6 +313,118 @@ public class DocumentManagementBackedDocumentsServiceTest {
         verify(documentManagementService, once()).downloadDocument(any(), any());
     }
 
+    @Test
+    public void shouldStreamStoredDocumentWithETag() {
+        ClaimDocument claimDocument = storedDocument(CLAIM_ISSUE_RECEIPT);
+        Claim claim = claimWith(claimDocument);
+        when(claimService.getClaimByExternalId(eq(claim.getExternalId()), eq(CLAIMANT))).thenReturn(claim);
+        when(documentManagementService.streamDocument(AUTHORISATION, claimDocument, "bytes=0-1"))
+            .thenReturn(DocumentDownload.of(PDF_BYTES));
+
+        DocumentDownload download = documentManagementBackedDocumentsService.downloadDocument(
+            claim.getExternalId(),
+            CLAIM_ISSUE_RECEIPT,
+            AUTHORISATION,
+            "bytes=0-1",
+            null
+        );
+
+        assertEquals(Optional.of(ETAG), download.getETag());
+        verify(claimIssueReceiptService, never()).createPdf(any());
+    }
+
+    @Test
+    public void shouldAnswerNotModifiedWithoutDownloadingWhenETagMatches() {
+        ClaimDocument claimDocument = storedDocument(ORDER_DIRECTIONS);
+        Claim claim = claimWith(claimDocument);
+        when(claimService.getClaimByExternalId(eq(claim.getExternalId()), eq(CLAIMANT))).thenReturn(claim);
+
+        DocumentDownload download = documentManagementBackedDocumentsService.downloadDocument(
+            claim.getExternalId(),
+            ORDER_DIRECTIONS,
+            AUTHORISATION,
+            null,
+            "W/" + ETAG
+        );
+
+        assertEquals(HttpStatus.NOT_MODIFIED, download.getStatus());
+        assertFalse(download.hasBody());
+        verify(documentManagementService, never()).streamDocument(any(), any(), any());
+    }
+
+    @Test
+    public void shouldGenerateDocumentWhenStreamingFails() {
+        ClaimDocument claimDocument = storedDocument(CLAIM_ISSUE_RECEIPT);
+        Claim claim = claimWith(claimDocument);
+        when(claimService.getClaimByExternalId(eq(claim.getExternalId()), eq(CLAIMANT))).thenReturn(claim);
+        when(documentManagementService.streamDocument(AUTHORISATION, claimDocument, null))
+            .thenThrow(new DocumentManagementException("unavailable"));
+        when(claimIssueReceiptService.createPdf(claim))
+            .thenReturn(new PDF("claimIssueReceipt", PDF_BYTES, CLAIM_ISSUE_RECEIPT));
+
+        DocumentDownload download = documentManagementBackedDocumentsService.downloadDocument(
+            claim.getExternalId(),
+            CLAIM_ISSUE_RECEIPT,
+            AUTHORISATION,
+            null,
+            null
+        );
+
+        assertEquals(HttpStatus.OK, download.getStatus());
+        assertEquals(Optional.of((long) PDF_BYTES.length), download.getContentLength());
+        assertFalse(download.getETag().isPresent());
+    }
+
+    @Test
+    public void shouldSaveUploadedDocumentsInOrderAndSkipFailedUploads() {
+        PDF sealedClaim = new PDF("sealedClaim", PDF_BYTES, SEALED_CLAIM);
+        PDF claimIssueReceipt = new PDF("claimIssueReceipt", PDF_BYTES, CLAIM_ISSUE_RECEIPT);
+        PDF defendantResponseReceipt = new PDF("defendantResponseReceipt", PDF_BYTES, DEFENDANT_RESPONSE_RECEIPT);
+        ClaimDocument sealedClaimDocument = storedDocument(SEALED_CLAIM);
+        ClaimDocument responseReceiptDocument = storedDocument(DEFENDANT_RESPONSE_RECEIPT);
+        CompletableFuture<ClaimDocument> failedUpload = new CompletableFuture<>();
+        failedUpload.completeExceptionally(new DocumentManagementException("unavailable"));
+
+        Claim claim = SampleClaim.getDefault();
+        Claim claimWithSealedClaim = SampleClaim.getWithSealedClaimDocument();
+        Claim claimWithBoth = SampleClaim.getWithSealedClaimDocument();
+        when(documentManagementService.uploadDocuments(AUTHORISATION,
+            Arrays.asList(sealedClaim, claimIssueReceipt, defendantResponseReceipt)))
+            .thenReturn(Arrays.asList(
+                CompletableFuture.completedFuture(sealedClaimDocument),
+                failedUpload,
+                CompletableFuture.completedFuture(responseReceiptDocument)));
+        when(claimService.saveClaimDocuments(eq(AUTHORISATION), eq(claim.getId()),
+            any(ClaimDocumentCollection.class), eq(SEALED_CLAIM))).thenReturn(claimWithSealedClaim);
+        when(claimService.saveClaimDocuments(eq(AUTHORISATION), eq(claimWithSealedClaim.getId()),
+            any(ClaimDocumentCollection.class), eq(DEFENDANT_RESPONSE_RECEIPT))).thenReturn(claimWithBoth);
+
+        Claim updatedClaim = documentManagementBackedDocumentsService.uploadAllToDocumentManagement(
+            Arrays.asList(sealedClaim, claimIssueReceipt, defendantResponseReceipt), AUTHORISATION, claim);
+
+        assertSame(claimWithBoth, updatedClaim);
+        verify(claimService, never()).saveClaimDocuments(anyString(), any(),
+            any(ClaimDocumentCollection.class), eq(CLAIM_ISSUE_RECEIPT));
+    }
+
+    private static ClaimDocument storedDocument(ClaimDocumentType documentType) {
+        return ClaimDocument.builder()
+            .documentManagementUrl(URI.create("http://dm-store/documents/" + DOCUMENT_ID))
+            .documentName("document")
+            .documentType(documentType)
+            .build();
+    }
+
+    private static Claim claimWith(ClaimDocument claimDocument) {
+        ClaimDocumentCollection claimDocumentCollection = new ClaimDocumentCollection();
+        claimDocumentCollection.addClaimDocument(claimDocument);
+        return Claim.builder()
+            .externalId("externalID")
+            .submitterId(CLAIMANT.getUserDetails().getId())
+            .claimDocumentCollection(claimDocumentCollection)
+            .build();
+    }
+
     private void verifyCommon(byte[] pdf) {
         assertArrayEquals(PDF_BYTES, pdf);
         verify(documentManagementService).uploadDocument(anyString(), any(PDF.class));
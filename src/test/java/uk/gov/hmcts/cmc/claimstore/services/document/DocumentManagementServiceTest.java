@@ -1,5 +1,9 @@
 package uk.gov.hmcts.cmc.claimstore.services.document;
 
+import com.google.common.collect.ImmutableMap;
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -8,6 +12,7 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.testcontainers.shaded.com.google.common.collect.ImmutableList;
@@ -20,24 +25,37 @@ import uk.gov.hmcts.cmc.domain.models.ClaimDocument;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.document.DocumentDownloadClientApi;
 import uk.gov.hmcts.reform.document.DocumentMetadataDownloadClientApi;
-import uk.gov.hmcts.reform.document.DocumentUploadClientApi;
 import uk.gov.hmcts.reform.document.domain.Classification;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.cmc.claimstore.appinsights.AppInsights.DOCUMENT_NAME;
+import static uk.gov.hmcts.cmc.claimstore.appinsights.AppInsightsEvent.DOCUMENT_MANAGEMENT_UPLOAD_FAILURE;
 import static uk.gov.hmcts.cmc.claimstore.utils.ResourceLoader.successfulDocumentManagementDownloadResponse;
 import static uk.gov.hmcts.cmc.claimstore.utils.ResourceLoader.successfulDocumentManagementUploadResponse;
 import static uk.gov.hmcts.cmc.claimstore.utils.ResourceLoader.unsuccessfulDocumentManagementUploadResponse;
+import static uk.gov.hmcts.cmc.domain.models.ClaimDocumentType.CLAIM_ISSUE_RECEIPT;
 import static uk.gov.hmcts.cmc.domain.models.ClaimDocumentType.SEALED_CLAIM;
 
 @RunWith(SpringJUnit4ClassRunner.class)
@@ -45,13 +63,17 @@ public class DocumentManagementServiceTest {
 
     private static final ImmutableList<String> USER_ROLES = ImmutableList.of("caseworker-cmc", "citizen");
     private static final String USER_ROLES_JOINED = "caseworker-cmc,citizen";
+    private static final String STORED_BINARY_PATH = "/documents/stored/binary";
+    private static final String METADATA_BINARY_PATH = "/documents/85d97996-22a5-40d7-882e-3a382c8ae1b4/binary";
 
     @Mock
     private DocumentMetadataDownloadClientApi documentMetadataDownloadClient;
     @Mock
     private DocumentDownloadClientApi documentDownloadClient;
     @Mock
-    private DocumentUploadClientApi documentUploadClient;
+    private DocumentUploadClient documentUploadClient;
+    @Mock
+    private DocumentBinaryApi documentBinaryApi;
     @Mock
     private AuthTokenGenerator authTokenGenerator;
     @Mock
@@ -74,10 +96,12 @@ public class DocumentManagementServiceTest {
             documentMetadataDownloadClient,
             documentDownloadClient,
             documentUploadClient,
+            documentBinaryApi,
             authTokenGenerator,
             userService,
             appInsights,
-            USER_ROLES
+            USER_ROLES,
+            Runnable::run
         );
     }
 
@@ -88,7 +112,7 @@ public class DocumentManagementServiceTest {
         when(userService.getUserDetails(anyString())).thenReturn(userDetails);
 
         when(documentUploadClient
-            .upload(anyString(), anyString(), anyString(), eq(USER_ROLES), any(Classification.class), anyList())
+            .upload(anyString(), anyString(), anyString(), eq(USER_ROLES), any(Classification.class), any(PDF.class))
         ).thenReturn(successfulDocumentManagementUploadResponse());
 
         URI documentSelfPath = documentManagementService
@@ -97,7 +121,7 @@ public class DocumentManagementServiceTest {
         assertEquals("/documents/85d97996-22a5-40d7-882e-3a382c8ae1b4", documentSelfPath.getPath());
 
         verify(documentUploadClient)
-            .upload(anyString(), anyString(), anyString(), eq(USER_ROLES), any(Classification.class), anyList());
+            .upload(anyString(), anyString(), anyString(), eq(USER_ROLES), any(Classification.class), any(PDF.class));
     }
 
     @Test
@@ -112,12 +136,79 @@ public class DocumentManagementServiceTest {
         when(userService.getUserDetails(eq(authorisation))).thenReturn(userDetails);
 
         when(documentUploadClient
-            .upload(anyString(), anyString(), anyString(), eq(USER_ROLES), any(Classification.class), anyList()))
+            .upload(anyString(), anyString(), anyString(), eq(USER_ROLES), any(Classification.class), any(PDF.class)))
             .thenReturn(unsuccessfulDocumentManagementUploadResponse());
 
         documentManagementService.uploadDocument(authorisation, document);
     }
 
+    @Test
+    public void shouldUploadEachDocumentWithItsOwnRetries() {
+        UserDetails userDetails = new UserDetails("id", "mail@mail.com",
+            "userFirstName", "userLastName", Collections.singletonList("role"));
+        when(userService.getUserDetails(anyString())).thenReturn(userDetails);
+
+        PDF receipt = new PDF("0000-claim-receipt", "receipt".getBytes(), CLAIM_ISSUE_RECEIPT);
+        when(documentUploadClient
+            .upload(anyString(), anyString(), anyString(), eq(USER_ROLES), any(Classification.class), eq(document))
+        ).thenReturn(successfulDocumentManagementUploadResponse());
+        when(documentUploadClient
+            .upload(anyString(), anyString(), anyString(), eq(USER_ROLES), any(Classification.class), eq(receipt))
+        ).thenReturn(unsuccessfulDocumentManagementUploadResponse());
+
+        List<CompletableFuture<ClaimDocument>> uploads = documentManagementService
+            .uploadDocuments("authString", Arrays.asList(document, receipt));
+
+        assertEquals("/documents/85d97996-22a5-40d7-882e-3a382c8ae1b4",
+            uploads.get(0).join().getDocumentManagementUrl().getPath());
+        assertTrue(uploads.get(1).isCompletedExceptionally());
+
+        verify(documentUploadClient)
+            .upload(anyString(), anyString(), anyString(), eq(USER_ROLES), any(Classification.class), eq(document));
+        verify(documentUploadClient, times(3))
+            .upload(anyString(), anyString(), anyString(), eq(USER_ROLES), any(Classification.class), eq(receipt));
+        verify(appInsights).trackEvent(DOCUMENT_MANAGEMENT_UPLOAD_FAILURE, DOCUMENT_NAME, receipt.getFilename());
+        verify(authTokenGenerator, times(1)).generate();
+    }
+
+    @Test
+    public void shouldFailEachUploadWhenCredentialsCannotBeObtained() {
+        when(userService.getUserDetails(anyString())).thenThrow(new RuntimeException("IDAM unavailable"));
+
+        List<CompletableFuture<ClaimDocument>> uploads = documentManagementService
+            .uploadDocuments("authString", Arrays.asList(document, document));
+
+        assertEquals(2, uploads.size());
+        assertTrue(uploads.stream().allMatch(CompletableFuture::isCompletedExceptionally));
+        verify(documentUploadClient, never())
+            .upload(anyString(), anyString(), anyString(), eq(USER_ROLES), any(Classification.class), any(PDF.class));
+    }
+
+    @Test
+    public void shouldFailUploadWhenExecutorRejectsIt() {
+        UserDetails userDetails = new UserDetails("id", "mail@mail.com",
+            "userFirstName", "userLastName", Collections.singletonList("role"));
+        when(userService.getUserDetails(anyString())).thenReturn(userDetails);
+        DocumentManagementService rejectingService = new DocumentManagementService(
+            documentMetadataDownloadClient,
+            documentDownloadClient,
+            documentUploadClient,
+            documentBinaryApi,
+            authTokenGenerator,
+            userService,
+            appInsights,
+            USER_ROLES,
+            command -> {
+                throw new RejectedExecutionException("full");
+            }
+        );
+
+        List<CompletableFuture<ClaimDocument>> uploads = rejectingService
+            .uploadDocuments("authString", Collections.singletonList(document));
+
+        assertTrue(uploads.get(0).isCompletedExceptionally());
+    }
+
     @Test
     public void shouldDownloadDocumentFromDocumentManagement() {
         URI docUri = URI.create("http://localhost:8085/documents/85d97996-22a5-40d7-882e-3a382c8ae1b4");
@@ -149,6 +240,51 @@ public class DocumentManagementServiceTest {
             .downloadBinary(anyString(), anyString(), eq(USER_ROLES_JOINED), anyString(), anyString());
     }
 
+    @Test
+    public void shouldDownloadDocumentFromStoredBinaryUrlWithoutMetadataLookup() {
+        UserDetails userDetails = new UserDetails("id", "mail@mail.com",
+            "userFirstName", "userLastName", Collections.singletonList("role"));
+        when(userService.getUserDetails(anyString())).thenReturn(userDetails);
+        when(responseEntity.getBody()).thenReturn(new ByteArrayResource("test".getBytes()));
+
+        when(documentDownloadClient
+            .downloadBinary(anyString(), anyString(), eq(USER_ROLES_JOINED), anyString(), eq(STORED_BINARY_PATH))
+        ).thenReturn(responseEntity);
+
+        byte[] pdf = documentManagementService.downloadDocument("auth string", storedClaimDocument());
+        assertArrayEquals("test".getBytes(), pdf);
+
+        verify(documentMetadataDownloadClient, never())
+            .getDocumentMetadata(anyString(), anyString(), anyString(), anyString(), anyString());
+        verify(authTokenGenerator, times(1)).generate();
+    }
+
+    @Test
+    public void shouldLookUpBinaryUrlWhenStoredBinaryUrlIsNotFound() {
+        when(documentMetadataDownloadClient
+            .getDocumentMetadata(anyString(), anyString(), eq(USER_ROLES_JOINED), anyString(), anyString())
+        ).thenReturn(successfulDocumentManagementDownloadResponse());
+
+        UserDetails userDetails = new UserDetails("id", "mail@mail.com",
+            "userFirstName", "userLastName", Collections.singletonList("role"));
+        when(userService.getUserDetails(anyString())).thenReturn(userDetails);
+        when(responseEntity.getBody()).thenReturn(new ByteArrayResource("test".getBytes()));
+
+        when(documentDownloadClient
+            .downloadBinary(anyString(), anyString(), eq(USER_ROLES_JOINED), anyString(), eq(STORED_BINARY_PATH))
+        ).thenThrow(FeignException.NotFound.class);
+        when(documentDownloadClient
+            .downloadBinary(anyString(), anyString(), eq(USER_ROLES_JOINED), anyString(), eq(METADATA_BINARY_PATH))
+        ).thenReturn(responseEntity);
+
+        byte[] pdf = documentManagementService.downloadDocument("auth string", storedClaimDocument());
+        assertArrayEquals("test".getBytes(), pdf);
+
+        verify(documentMetadataDownloadClient)
+            .getDocumentMetadata(anyString(), anyString(), eq(USER_ROLES_JOINED), anyString(), anyString());
+        verify(authTokenGenerator, times(1)).generate();
+    }
+
     @Test
     public void downloadDocumentFromDocumentManagementThrowException() {
         expectedException.expect(DocumentManagementException.class);
@@ -169,4 +305,82 @@ public class DocumentManagementServiceTest {
             .build();
         documentManagementService.downloadDocument("auth string", claimDocument);
     }
+
+    @Test
+    public void shouldStreamRequestedRangeFromDocumentManagement() throws IOException {
+        URI docUri = URI.create("http://localhost:8085/documents/85d97996-22a5-40d7-882e-3a382c8ae1b4");
+
+        when(documentMetadataDownloadClient
+            .getDocumentMetadata(anyString(), anyString(), eq(USER_ROLES_JOINED), anyString(), anyString())
+        ).thenReturn(successfulDocumentManagementDownloadResponse());
+
+        UserDetails userDetails = new UserDetails("id", "mail@mail.com",
+            "userFirstName", "userLastName", Collections.singletonList("role"));
+        when(userService.getUserDetails(anyString())).thenReturn(userDetails);
+
+        Response response = Response.builder()
+            .status(206)
+            .headers(ImmutableMap.<String, Collection<String>>of(
+                "Content-Length", Collections.singletonList("2"),
+                "Content-Range", Collections.singletonList("bytes 0-1/4")
+            ))
+            .body("te".getBytes())
+            .request(Request.create(Request.HttpMethod.GET, docUri.toString(), Collections.emptyMap(), null,
+                StandardCharsets.UTF_8, null))
+            .build();
+        when(documentBinaryApi
+            .downloadBinary(anyString(), anyString(), eq(USER_ROLES_JOINED), anyString(), eq("bytes=0-1"), anyString())
+        ).thenReturn(response);
+
+        ClaimDocument claimDocument = ClaimDocument.builder()
+            .documentManagementUrl(docUri)
+            .documentName("0000-claim")
+            .build();
+        DocumentDownload download = documentManagementService.streamDocument("auth string", claimDocument, "bytes=0-1");
+
+        assertEquals(HttpStatus.PARTIAL_CONTENT, download.getStatus());
+        assertEquals(Optional.of(2L), download.getContentLength());
+        assertEquals(Optional.of("bytes 0-1/4"), download.getContentRange());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        download.writeTo(outputStream);
+        assertArrayEquals("te".getBytes(), outputStream.toByteArray());
+    }
+
+    @Test
+    public void streamDocumentFromDocumentManagementThrowsExceptionOnErrorStatus() {
+        expectedException.expect(DocumentManagementException.class);
+        expectedException.expectMessage("Unable to download document 0000-claim from document management");
+        URI docUri = URI.create("http://localhost:8085/documents/85d97996-22a5-40d7-882e-3a382c8ae1b4");
+
+        when(documentMetadataDownloadClient
+            .getDocumentMetadata(anyString(), anyString(), eq(USER_ROLES_JOINED), anyString(), anyString())
+        ).thenReturn(successfulDocumentManagementDownloadResponse());
+
+        UserDetails userDetails = new UserDetails("id", "mail@mail.com",
+            "userFirstName", "userLastName", Collections.singletonList("role"));
+        when(userService.getUserDetails(anyString())).thenReturn(userDetails);
+
+        when(documentBinaryApi.downloadBinary(anyString(), anyString(), anyString(), anyString(), any(), anyString()))
+            .thenReturn(Response.builder()
+                .status(500)
+                .headers(Collections.emptyMap())
+                .request(Request.create(Request.HttpMethod.GET, docUri.toString(), Collections.emptyMap(), null,
+                    StandardCharsets.UTF_8, null))
+                .build());
+
+        ClaimDocument claimDocument = ClaimDocument.builder()
+            .documentManagementUrl(docUri)
+            .documentName("0000-claim")
+            .build();
+        documentManagementService.streamDocument("auth string", claimDocument, null);
+    }
+
+    private static ClaimDocument storedClaimDocument() {
+        return ClaimDocument.builder()
+            .documentManagementUrl(URI.create("http://dm-store/documents/stored"))
+            .documentManagementBinaryUrl(URI.create("http://dm-store" + STORED_BINARY_PATH))
+            .documentName("0000-claim")
+            .build();
+    }
 }
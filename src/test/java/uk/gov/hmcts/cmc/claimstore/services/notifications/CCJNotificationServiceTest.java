@@ -6,8 +6,10 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import uk.gov.hmcts.cmc.claimstore.appinsights.AppInsights;
+import uk.gov.hmcts.cmc.claimstore.services.notifications.dispatch.NotificationQueue;
 import uk.gov.hmcts.cmc.domain.exceptions.NotificationException;
 import uk.gov.hmcts.cmc.domain.models.Claim;
+import uk.gov.hmcts.cmc.domain.models.ClaimSummary;
 import uk.gov.hmcts.cmc.domain.models.sampledata.SampleClaim;
 import uk.gov.hmcts.cmc.domain.models.sampledata.SampleResponse;
 import uk.gov.service.notify.NotificationClient;
@@ -37,7 +39,7 @@ public class CCJNotificationServiceTest extends BaseNotificationServiceTest {
     @Before
     public void setup() {
         ccjNotificationService = new CCJNotificationService(
-            new NotificationService(notificationClient, appInsights),
+            new NotificationService(notificationClient, appInsights, new NotificationQueue(null, null, false)),
             properties
         );
 
@@ -133,8 +135,12 @@ public class CCJNotificationServiceTest extends BaseNotificationServiceTest {
     public void remindClaimantForCCJShouldCallNotify() throws Exception {
         when(emailTemplates.getClaimantCCJReminder()).thenReturn(CLAIMANT_CCJ_REMINDER_TEMPLATE);
 
-        Claim claim = SampleClaim.builder()
-            .withCountyCourtJudgmentRequestedAt(LocalDateTime.now())
+        ClaimSummary claim = ClaimSummary.builder()
+            .referenceNumber("000MC001")
+            .submitterEmail("claimant@example.com")
+            .claimantName("John Rambo")
+            .defendantName("Dr. John Smith")
+            .countyCourtJudgmentRequestedAt(LocalDateTime.now())
             .build();
 
         ccjNotificationService.notifyClaimantAboutCCJReminder(claim);
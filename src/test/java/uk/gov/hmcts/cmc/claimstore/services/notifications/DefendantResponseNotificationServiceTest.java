@@ -7,6 +7,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.testcontainers.shaded.com.google.common.collect.ImmutableList;
 import uk.gov.hmcts.cmc.claimstore.services.FreeMediationDecisionDateCalculator;
 import uk.gov.hmcts.cmc.claimstore.services.notifications.content.NotificationTemplateParameters;
+import uk.gov.hmcts.cmc.claimstore.services.notifications.dispatch.NotificationQueue;
 import uk.gov.hmcts.cmc.domain.exceptions.NotificationException;
 import uk.gov.hmcts.cmc.domain.models.Claim;
 import uk.gov.hmcts.cmc.domain.models.sampledata.SampleClaim;
@@ -37,7 +38,7 @@ public class DefendantResponseNotificationServiceTest extends BaseNotificationSe
     @Before
     public void beforeEachTest() {
         service = new DefendantResponseNotificationService(
-            new NotificationService(notificationClient, appInsights),
+            new NotificationService(notificationClient, appInsights, new NotificationQueue(null, null, false)),
             new FreeMediationDecisionDateCalculator(28),
             properties
         );
@@ -7,6 +7,7 @@ import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.testcontainers.shaded.com.google.common.collect.ImmutableMap;
+import uk.gov.hmcts.cmc.claimstore.services.notifications.dispatch.NotificationQueue;
 import uk.gov.hmcts.cmc.domain.exceptions.NotificationException;
 import uk.gov.service.notify.NotificationClientException;
 
@@ -18,6 +19,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.cmc.claimstore.services.notifications.content.NotificationTemplateParameters.CLAIM_REFERENCE_NUMBER;
 
@@ -35,7 +37,7 @@ public class NotificationServiceTest extends BaseNotificationServiceTest {
 
     @Before
     public void beforeEachTest() {
-        service = new NotificationService(notificationClient, appInsights);
+        service = new NotificationService(notificationClient, appInsights, new NotificationQueue(null, null, false));
     }
 
     @Test(expected = NotificationException.class)
@@ -57,6 +59,17 @@ public class NotificationServiceTest extends BaseNotificationServiceTest {
         verify(notificationClient).sendEmail(eq(TEMPLATE_ID), eq(USER_EMAIL), eq(PARAMETERS), eq(REFERENCE));
     }
 
+    @Test
+    public void shouldQueueEmailWhenDispatchIsEnabled() {
+        NotificationQueue notificationQueue = mock(NotificationQueue.class);
+        when(notificationQueue.offer(TEMPLATE_ID, USER_EMAIL, PARAMETERS, REFERENCE)).thenReturn(true);
+
+        new NotificationService(notificationClient, appInsights, notificationQueue)
+            .sendMail(USER_EMAIL, TEMPLATE_ID, PARAMETERS, REFERENCE);
+
+        verifyNoInteractions(notificationClient);
+    }
+
     @Test
     public void recoveryShouldNotLogPII() {
         expectedException.expect(NotificationException.class);
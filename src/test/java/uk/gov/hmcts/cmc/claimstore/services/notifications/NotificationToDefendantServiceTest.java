@@ -4,6 +4,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
+import uk.gov.hmcts.cmc.claimstore.services.notifications.dispatch.NotificationQueue;
 import uk.gov.hmcts.cmc.domain.exceptions.NotificationException;
 import uk.gov.hmcts.cmc.domain.models.Claim;
 import uk.gov.hmcts.cmc.domain.models.sampledata.SampleClaim;
@@ -37,7 +38,7 @@ public class NotificationToDefendantServiceTest extends BaseNotificationServiceT
     @Before
     public void beforeEachTest() {
         service = new NotificationToDefendantService(
-            new NotificationService(notificationClient, appInsights),
+            new NotificationService(notificationClient, appInsights, new NotificationQueue(null, null, false)),
             properties
         );
 
@@ -10,6 +10,7 @@ import org.quartz.JobDataMap;
 import org.quartz.JobDetail;
 import uk.gov.hmcts.cmc.claimstore.appinsights.AppInsights;
 import uk.gov.hmcts.cmc.claimstore.services.ClaimService;
+import uk.gov.hmcts.cmc.claimstore.services.notifications.dispatch.NotificationQueue;
 import uk.gov.hmcts.cmc.domain.exceptions.NotificationException;
 import uk.gov.hmcts.cmc.domain.models.Claim;
 import uk.gov.hmcts.cmc.domain.models.PaymentOption;
@@ -39,7 +40,8 @@ public class ResponseNeededNotificationServiceTest extends BaseNotificationServi
 
     @Before
     public void before() {
-        responseNeededNotificationService = new ResponseNeededNotificationService(notificationClient,
+        responseNeededNotificationService = new ResponseNeededNotificationService(
+            new NotificationService(notificationClient, appInsights, new NotificationQueue(null, null, false)),
             properties,
             appInsights,
             claimService);
@@ -79,6 +81,21 @@ public class ResponseNeededNotificationServiceTest extends BaseNotificationServi
             eq(claim.getReferenceNumber()));
     }
 
+    @Test
+    public void sendReminderShouldMailToDefendant() throws NotificationClientException {
+        Claim claim = SampleClaim.builder()
+            .withClaimData(SampleClaimData.submittedByClaimant())
+            .withDefendantEmail(DEFENDANT_EMAIL)
+            .build();
+
+        responseNeededNotificationService.sendReminder(claim);
+
+        verify(notificationClient).sendEmail(eq(EMAIL_TEMPLATE_ID),
+            eq(claim.getDefendantEmail()),
+            anyMap(),
+            eq(claim.getReferenceNumber()));
+    }
+
     @Test
     public void recoveryShouldNotLogPII() {
         JobDetail mockJobDetail = mock(JobDetail.class);
@@ -0,0 +1,185 @@
+package uk.gov.hmcts.cmc.claimstore.services.notifications;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import uk.gov.hmcts.cmc.claimstore.idam.models.User;
+import uk.gov.hmcts.cmc.claimstore.repositories.CaseSearchApi;
+import uk.gov.hmcts.cmc.claimstore.repositories.ResponseReminderRepository;
+import uk.gov.hmcts.cmc.claimstore.services.UserService;
+import uk.gov.hmcts.cmc.claimstore.services.notifications.fixtures.SampleUserDetails;
+import uk.gov.hmcts.cmc.domain.exceptions.NotificationException;
+import uk.gov.hmcts.cmc.domain.models.Claim;
+import uk.gov.hmcts.cmc.domain.models.sampledata.SampleClaim;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ResponseReminderServiceTest {
+
+    private static final int FIRST_REMINDER_DAY = 5;
+    private static final int LAST_REMINDER_DAY = 1;
+    private static final LocalDate TODAY = LocalDate.of(2020, 4, 20);
+    private static final LocalDate FIRST_DEADLINE = TODAY.plusDays(FIRST_REMINDER_DAY);
+    private static final LocalDate LAST_DEADLINE = TODAY.plusDays(LAST_REMINDER_DAY);
+    private static final LocalDate FIRST_WINDOW_START = LAST_DEADLINE.plusDays(1);
+    private static final User USER = new User("Bearer caseworker", SampleUserDetails.builder().build());
+
+    @Mock
+    private CaseSearchApi caseSearchApi;
+    @Mock
+    private UserService userService;
+    @Mock
+    private ResponseNeededNotificationService responseNeededNotificationService;
+    @Mock
+    private ResponseReminderRepository responseReminderRepository;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2020-04-20T08:00:00Z"), ZoneOffset.UTC);
+
+    private final Claim firstClaim = SampleClaim.builder().withExternalId("external-1")
+        .withResponseDeadline(FIRST_DEADLINE).build();
+    private final Claim secondClaim = SampleClaim.builder().withExternalId("external-2")
+        .withResponseDeadline(FIRST_DEADLINE).build();
+
+    @Before
+    public void setUp() {
+        when(userService.authenticateAnonymousCaseWorker()).thenReturn(USER);
+        when(caseSearchApi.getClaimsAwaitingResponse(USER, LAST_DEADLINE, LAST_DEADLINE))
+            .thenReturn(Collections.emptyList());
+        lenient().when(responseReminderRepository.getDaysSinceFirstSweep(TODAY)).thenReturn(30);
+    }
+
+    @Test
+    public void shouldRemindEveryClaimDueOnceAndRecordIt() {
+        when(caseSearchApi.getClaimsAwaitingResponse(USER, FIRST_WINDOW_START, FIRST_DEADLINE))
+            .thenReturn(Arrays.asList(firstClaim, secondClaim));
+        when(responseReminderRepository.recordReminder(anyString(), eq(FIRST_DEADLINE), eq(FIRST_REMINDER_DAY)))
+            .thenReturn(1);
+
+        service(true).sendDueReminders();
+
+        verify(responseNeededNotificationService).sendReminder(firstClaim);
+        verify(responseNeededNotificationService).sendReminder(secondClaim);
+        verify(responseReminderRepository).recordReminder("external-1", FIRST_DEADLINE, FIRST_REMINDER_DAY);
+        verify(responseReminderRepository).recordReminder("external-2", FIRST_DEADLINE, FIRST_REMINDER_DAY);
+    }
+
+    @Test
+    public void shouldNotRemindClaimsAlreadyReminded() {
+        when(caseSearchApi.getClaimsAwaitingResponse(USER, FIRST_WINDOW_START, FIRST_DEADLINE))
+            .thenReturn(Arrays.asList(firstClaim, secondClaim));
+        when(responseReminderRepository.recordReminder("external-1", FIRST_DEADLINE, FIRST_REMINDER_DAY))
+            .thenReturn(0);
+        when(responseReminderRepository.recordReminder("external-2", FIRST_DEADLINE, FIRST_REMINDER_DAY))
+            .thenReturn(1);
+
+        service(true).sendDueReminders();
+
+        verify(responseNeededNotificationService, never()).sendReminder(firstClaim);
+        verify(responseNeededNotificationService).sendReminder(secondClaim);
+    }
+
+    @Test
+    public void shouldRemoveRecordOfFailedReminderAndCarryOn() {
+        when(caseSearchApi.getClaimsAwaitingResponse(USER, FIRST_WINDOW_START, FIRST_DEADLINE))
+            .thenReturn(Arrays.asList(firstClaim, secondClaim));
+        when(responseReminderRepository.recordReminder(anyString(), eq(FIRST_DEADLINE), eq(FIRST_REMINDER_DAY)))
+            .thenReturn(1);
+        doThrow(new NotificationException("notify unavailable"))
+            .when(responseNeededNotificationService).sendReminder(firstClaim);
+
+        service(true).sendDueReminders();
+
+        verify(responseReminderRepository).removeReminder("external-1", FIRST_DEADLINE, FIRST_REMINDER_DAY);
+        verify(responseReminderRepository, never()).removeReminder(eq("external-2"), any(), anyInt());
+        verify(responseNeededNotificationService).sendReminder(secondClaim);
+    }
+
+    @Test
+    public void shouldCatchUpReminderMissedOnItsDay() {
+        Claim missedYesterday = SampleClaim.builder().withExternalId("external-3")
+            .withResponseDeadline(FIRST_DEADLINE.minusDays(1)).build();
+        when(caseSearchApi.getClaimsAwaitingResponse(USER, FIRST_WINDOW_START, FIRST_DEADLINE))
+            .thenReturn(Collections.singletonList(missedYesterday));
+        when(responseReminderRepository.recordReminder("external-3", FIRST_DEADLINE.minusDays(1),
+            FIRST_REMINDER_DAY)).thenReturn(1);
+
+        service(true).sendDueReminders();
+
+        verify(responseNeededNotificationService).sendReminder(missedYesterday);
+    }
+
+    @Test
+    public void shouldNotCatchUpRemindersDueBeforeTheFirstSweep() {
+        when(responseReminderRepository.getDaysSinceFirstSweep(TODAY)).thenReturn(1);
+        when(caseSearchApi.getClaimsAwaitingResponse(USER, FIRST_DEADLINE.minusDays(1), FIRST_DEADLINE))
+            .thenReturn(Collections.emptyList());
+
+        service(true).sendDueReminders();
+
+        verify(responseReminderRepository).recordFirstSweep(TODAY);
+        verify(caseSearchApi).getClaimsAwaitingResponse(USER, FIRST_DEADLINE.minusDays(1), FIRST_DEADLINE);
+        verify(caseSearchApi).getClaimsAwaitingResponse(USER, LAST_DEADLINE, LAST_DEADLINE);
+    }
+
+    @Test
+    public void shouldOnlyRemindDeadlinesDueTodayOnTheFirstSweep() {
+        when(responseReminderRepository.getDaysSinceFirstSweep(TODAY)).thenReturn(0);
+        when(caseSearchApi.getClaimsAwaitingResponse(USER, FIRST_DEADLINE, FIRST_DEADLINE))
+            .thenReturn(Collections.singletonList(firstClaim));
+        when(responseReminderRepository.recordReminder("external-1", FIRST_DEADLINE, FIRST_REMINDER_DAY))
+            .thenReturn(1);
+
+        service(true).sendDueReminders();
+
+        verify(caseSearchApi, never()).getClaimsAwaitingResponse(USER, FIRST_WINDOW_START, FIRST_DEADLINE);
+        verify(responseNeededNotificationService).sendReminder(firstClaim);
+    }
+
+    @Test
+    public void shouldSkipClaimsAlreadyRemindedInTheCatchUpWindow() {
+        when(caseSearchApi.getClaimsAwaitingResponse(USER, FIRST_WINDOW_START, FIRST_DEADLINE))
+            .thenReturn(Arrays.asList(firstClaim, secondClaim));
+        when(responseReminderRepository.getRemindedExternalIds(FIRST_REMINDER_DAY, FIRST_WINDOW_START,
+            FIRST_DEADLINE)).thenReturn(Collections.singletonList("external-1"));
+        when(responseReminderRepository.recordReminder("external-2", FIRST_DEADLINE, FIRST_REMINDER_DAY))
+            .thenReturn(1);
+
+        service(true).sendDueReminders();
+
+        verify(responseReminderRepository, never()).recordReminder(eq("external-1"), any(), anyInt());
+        verify(responseNeededNotificationService, never()).sendReminder(firstClaim);
+        verify(responseNeededNotificationService).sendReminder(secondClaim);
+    }
+
+    @Test
+    public void shouldNotSweepWhenReminderEmailsDisabled() {
+        service(false).sendDueReminders();
+
+        verifyNoInteractions(caseSearchApi, responseNeededNotificationService, responseReminderRepository);
+    }
+
+    private ResponseReminderService service(boolean reminderEmailsEnabled) {
+        return new ResponseReminderService(caseSearchApi, userService, responseNeededNotificationService,
+            responseReminderRepository, clock, FIRST_REMINDER_DAY, LAST_REMINDER_DAY, reminderEmailsEnabled,
+            true, 1, 1000, Runnable::run);
+    }
+}
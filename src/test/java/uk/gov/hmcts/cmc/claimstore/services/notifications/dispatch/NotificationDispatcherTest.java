@@ -0,0 +1,134 @@
+package uk.gov.hmcts.cmc.claimstore.services.notifications.dispatch;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import uk.gov.hmcts.cmc.claimstore.appinsights.AppInsights;
+import uk.gov.hmcts.cmc.claimstore.repositories.NotificationQueueRepository;
+import uk.gov.service.notify.NotificationClient;
+import uk.gov.service.notify.NotificationClientException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.cmc.claimstore.appinsights.AppInsights.EMAIL_REFERENCE;
+import static uk.gov.hmcts.cmc.claimstore.appinsights.AppInsightsEvent.NOTIFICATION_FAILURE;
+
+@RunWith(MockitoJUnitRunner.class)
+public class NotificationDispatcherTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private NotificationQueueRepository repository;
+    @Mock
+    private NotificationClient notificationClient;
+    @Mock
+    private AppInsights appInsights;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private NotificationDispatcher dispatcher;
+
+    @Before
+    public void setUp() {
+        dispatcher = dispatcher(true);
+        dispatcher.bindTo(meterRegistry);
+    }
+
+    @Test
+    public void shouldSendLeasedNotificationsUntilQueueIsDrained() throws Exception {
+        when(repository.lease(BATCH_SIZE, 300))
+            .thenReturn(ImmutableList.of(notification(1, 1), notification(2, 1)))
+            .thenReturn(ImmutableList.of(notification(3, 1)));
+
+        dispatcher.dispatch();
+
+        verify(notificationClient).sendEmail("template", "user@example.com", ImmutableMap.of("key", "value"), "ref-3");
+        verify(repository).remove(1);
+        verify(repository).remove(2);
+        verify(repository).remove(3);
+        assertThat(meterRegistry.get("notifications.send").tag("outcome", "sent").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldNotLeaseWhenDisabled() {
+        dispatcher(false).dispatch();
+
+        verifyNoInteractions(repository, notificationClient);
+    }
+
+    @Test
+    public void shouldRetryLaterWithExponentialBackoff() throws Exception {
+        givenNotifyFailsWith(500);
+
+        dispatcher.send(notification(1, 3));
+
+        verify(repository).retryLater(eq(1L), eq(120L), any());
+        verify(repository, never()).remove(anyLong());
+    }
+
+    @Test
+    public void shouldDeadLetterNotificationsNotifyRejects() throws Exception {
+        givenNotifyFailsWith(400);
+
+        dispatcher.send(notification(1, 1));
+
+        verify(repository).deadLetter(eq(1L), any());
+        verify(appInsights).trackEvent(NOTIFICATION_FAILURE, EMAIL_REFERENCE, "ref-1");
+    }
+
+    @Test
+    public void shouldDeadLetterNotificationsOutOfAttempts() throws Exception {
+        givenNotifyFailsWith(500);
+
+        dispatcher.send(notification(1, 8));
+
+        verify(repository).deadLetter(eq(1L), any());
+        verify(repository, never()).retryLater(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    public void backoffShouldDoubleUpToMaximum() {
+        assertThat(dispatcher.backoffSeconds(1)).isEqualTo(30);
+        assertThat(dispatcher.backoffSeconds(2)).isEqualTo(60);
+        assertThat(dispatcher.backoffSeconds(8)).isEqualTo(3600);
+    }
+
+    @Test
+    public void shouldReportQueueDepth() {
+        when(repository.countByStatus(NotificationDispatcher.PENDING)).thenReturn(5L);
+
+        assertThat(meterRegistry.get("notifications.queue.depth").tag("status", "pending").gauge().value())
+            .isEqualTo(5);
+    }
+
+    private void givenNotifyFailsWith(int status) throws NotificationClientException {
+        NotificationClientException exception = mock(NotificationClientException.class);
+        when(exception.getHttpResult()).thenReturn(status);
+        when(notificationClient.sendEmail(anyString(), anyString(), eq(ImmutableMap.of("key", "value")),
+            anyString())).thenThrow(exception);
+    }
+
+    private NotificationDispatcher dispatcher(boolean enabled) {
+        return new NotificationDispatcher(repository, notificationClient, appInsights, Runnable::run, enabled,
+            1000, BATCH_SIZE, 300, 8, 30, 3600);
+    }
+
+    private static QueuedNotification notification(long id, int attempts) {
+        return new QueuedNotification(id, "template", "user@example.com", ImmutableMap.of("key", "value"),
+            "ref-" + id, attempts);
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.Before;
 import org.junit.Test;
 import uk.gov.hmcts.cmc.claimstore.config.PebbleConfiguration;
 import uk.gov.hmcts.cmc.claimstore.config.properties.emails.StaffEmailTemplates;
+import uk.gov.hmcts.cmc.claimstore.config.properties.templates.TemplateRegistry;
 import uk.gov.hmcts.cmc.claimstore.services.TemplateService;
 import uk.gov.hmcts.cmc.claimstore.services.staff.models.EmailContent;
 import uk.gov.hmcts.cmc.domain.models.Claim;
@@ -27,8 +28,8 @@ public class StatesPaidEmailContentProviderTest {
     @Before
     public void beforeEachTest() {
         service = new StatesPaidEmailContentProvider(
-            new TemplateService(new PebbleConfiguration().pebbleEngine()),
-            new StaffEmailTemplates()
+            new TemplateService(new PebbleConfiguration().pebbleEngine(), new TemplateRegistry(null, 0), 100),
+            new StaffEmailTemplates(new TemplateRegistry(null, 0))
         );
     }
 
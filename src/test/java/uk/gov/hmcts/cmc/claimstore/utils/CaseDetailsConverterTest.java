@@ -11,13 +11,19 @@ import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import uk.gov.hmcts.cmc.ccd.config.CCDMapperConfig;
 import uk.gov.hmcts.cmc.ccd.domain.CCDCase;
 import uk.gov.hmcts.cmc.ccd.mapper.CaseMapper;
+import uk.gov.hmcts.cmc.ccd.mapper.ClaimSummaryMapper;
+import uk.gov.hmcts.cmc.ccd.sample.data.SampleData;
+import uk.gov.hmcts.cmc.claimstore.processors.JsonMapper;
 import uk.gov.hmcts.cmc.claimstore.repositories.mapping.JsonMapperFactory;
 import uk.gov.hmcts.cmc.claimstore.services.WorkingDayIndicator;
 import uk.gov.hmcts.cmc.claimstore.services.bankholidays.NonWorkingDaysCollection;
 import uk.gov.hmcts.cmc.claimstore.services.bankholidays.PublicHolidaysCollection;
 import uk.gov.hmcts.cmc.domain.models.Claim;
+import uk.gov.hmcts.cmc.domain.models.ClaimSummary;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static uk.gov.hmcts.cmc.claimstore.utils.ResourceLoader.successfulCoreCaseDataStoreSubmitResponse;
 
@@ -26,11 +32,16 @@ import static uk.gov.hmcts.cmc.claimstore.utils.ResourceLoader.successfulCoreCas
 @RunWith(SpringJUnit4ClassRunner.class)
 public class CaseDetailsConverterTest {
 
+    private final JsonMapper jsonMapper = JsonMapperFactory.create();
+
     private CaseDetailsConverter caseDetailsConverter;
 
     @Autowired
     private CaseMapper caseMapper;
 
+    @Autowired
+    private ClaimSummaryMapper claimSummaryMapper;
+
     @Mock
     private PublicHolidaysCollection publicHolidaysCollection;
 
@@ -40,7 +51,8 @@ public class CaseDetailsConverterTest {
     @Before
     public void setup() {
         caseDetailsConverter = new CaseDetailsConverter(caseMapper,
-            JsonMapperFactory.create(),
+            claimSummaryMapper,
+            jsonMapper,
             new WorkingDayIndicator(publicHolidaysCollection, nonWorkingDaysCollection),
             33);
     }
@@ -67,4 +79,36 @@ public class CaseDetailsConverterTest {
         Claim claim = caseDetailsConverter.extractClaim(caseDetails);
         assertThat(claim.getIntentionToProceedDeadline()).isNotNull();
     }
+
+    @Test
+    public void convertsCaseDetailsToClaimSummary() {
+        CaseDetails caseDetails = successfulCoreCaseDataStoreSubmitResponse();
+        Claim claim = caseDetailsConverter.extractClaim(caseDetails);
+        ClaimSummary claimSummary = caseDetailsConverter.extractClaimSummary(caseDetails);
+
+        assertThat(claimSummary.getId()).isEqualTo(caseDetails.getId());
+        assertThat(claimSummary.getState()).isEqualTo(claim.getState());
+        assertThat(claimSummary.getExternalId()).isEqualTo(claim.getExternalId());
+        assertThat(claimSummary.getReferenceNumber()).isEqualTo(claim.getReferenceNumber());
+        assertThat(claimSummary.getClaimantName()).isEqualTo(claim.getClaimData().getClaimant().getName());
+        assertThat(claimSummary.getDefendantName()).isEqualTo(claim.getClaimData().getDefendant().getName());
+        assertThat(claimSummary.getResponseDeadline()).isEqualTo(claim.getResponseDeadline());
+    }
+
+    @Test
+    public void convertsCCDCaseToMap() {
+        CCDCase ccdCase = SampleData.getCCDLegalCase();
+        Map<String, Object> data = caseDetailsConverter.convertToMap(ccdCase);
+        assertThat(data).containsEntry("externalId", ccdCase.getExternalId());
+
+        data.put("state", "settled");
+        assertThat(data).containsEntry("state", "settled");
+    }
+
+    @Test
+    public void serializesUnmodifiedMapStraightFromCCDCase() {
+        CCDCase ccdCase = SampleData.getCCDLegalCase();
+        Map<String, Object> data = caseDetailsConverter.convertToMap(ccdCase);
+        assertThat(jsonMapper.toJson(data)).isEqualTo(jsonMapper.toJson(ccdCase));
+    }
 }